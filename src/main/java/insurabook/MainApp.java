@@ -10,6 +10,7 @@ import insurabook.commons.core.LogsCenter;
 import insurabook.commons.core.Version;
 import insurabook.commons.exceptions.DataLoadingException;
 import insurabook.commons.util.ConfigUtil;
+import insurabook.commons.util.FileUtil;
 import insurabook.commons.util.StringUtil;
 import insurabook.logic.Logic;
 import insurabook.logic.LogicManager;
@@ -20,9 +21,15 @@ import insurabook.model.ReadOnlyInsuraBook;
 import insurabook.model.ReadOnlyUserPrefs;
 import insurabook.model.UserPrefs;
 import insurabook.model.util.SampleDataUtil;
+import insurabook.storage.AsyncInsuraBookStorage;
+import insurabook.storage.BinaryInsuraBookStorage;
 import insurabook.storage.InsuraBookStorage;
+import insurabook.storage.JournaledInsuraBookStorage;
 import insurabook.storage.JsonInsuraBookStorage;
 import insurabook.storage.JsonUserPrefsStorage;
+import insurabook.storage.PagedInsuraBookStorage;
+import insurabook.storage.SegmentedInsuraBookStorage;
+import insurabook.storage.SqlInsuraBookStorage;
 import insurabook.storage.Storage;
 import insurabook.storage.StorageManager;
 import insurabook.storage.UserPrefsStorage;
@@ -59,8 +66,8 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        InsuraBookStorage insuraBookStorage = new JsonInsuraBookStorage(userPrefs.getInsuraBookFilePath());
-        storage = new StorageManager(insuraBookStorage, userPrefsStorage);
+        InsuraBookStorage insuraBookStorage = createInsuraBookStorage(config, userPrefs.getInsuraBookFilePath());
+        storage = new StorageManager(new AsyncInsuraBookStorage(insuraBookStorage), userPrefsStorage);
 
         model = initModelManager(storage, userPrefs);
 
@@ -71,6 +78,30 @@ public class MainApp extends Application {
         Font.loadFont(getClass().getResourceAsStream("/fonts/RobotoMono-Regular.ttf"), 12);
     }
 
+    /**
+     * Returns the storage for the data format chosen in {@code config}, keeping its data next to
+     * {@code dataFilePath}. The data files of the other formats are left alone.
+     */
+    private InsuraBookStorage createInsuraBookStorage(Config config, Path dataFilePath) {
+        if (config.isSqlStorageEnabled()) {
+            return new SqlInsuraBookStorage(SqlInsuraBookStorage.getSqlFilePath(dataFilePath));
+        } else if (config.isPagedStorageEnabled()) {
+            return new PagedInsuraBookStorage(PagedInsuraBookStorage.getPagedFilePath(dataFilePath),
+                    Math.max(1, config.getPageCacheSize()));
+        } else if (config.isSegmentedStorageEnabled()) {
+            return new SegmentedInsuraBookStorage(SegmentedInsuraBookStorage.getSegmentedDirectoryPath(dataFilePath),
+                    Math.max(1, config.getSegmentCount()));
+        } else if (config.isBinaryStorageEnabled()) {
+            return new BinaryInsuraBookStorage(BinaryInsuraBookStorage.getBinaryFilePath(dataFilePath));
+        }
+
+        Path jsonFilePath = config.isCompressionEnabled() ? FileUtil.getCompressedFilePath(dataFilePath) : dataFilePath;
+        return config.isJournalEnabled()
+                ? new JournaledInsuraBookStorage(jsonFilePath,
+                        config.getJournalCompactionThreshold(), config.isCompactJsonEnabled())
+                : new JsonInsuraBookStorage(jsonFilePath, config.isCompactJsonEnabled());
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s insurabook and {@code userPrefs}. <br>
      * The data from the sample insurabook will be used instead if {@code storage}'s insurabook is not found,
@@ -190,6 +221,11 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping InsuraBook ] =============================");
+        try {
+            storage.flushInsuraBook();
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -17,6 +17,16 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private boolean isJournalEnabled = false;
+    private long journalCompactionThreshold = 1024 * 1024;
+    private boolean isCompactJsonEnabled = false;
+    private boolean isBinaryStorageEnabled = false;
+    private boolean isSegmentedStorageEnabled = false;
+    private int segmentCount = 64;
+    private boolean isCompressionEnabled = false;
+    private boolean isPagedStorageEnabled = false;
+    private int pageCacheSize = 1024;
+    private boolean isSqlStorageEnabled = false;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +44,86 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public boolean isJournalEnabled() {
+        return isJournalEnabled;
+    }
+
+    public void setJournalEnabled(boolean isJournalEnabled) {
+        this.isJournalEnabled = isJournalEnabled;
+    }
+
+    public long getJournalCompactionThreshold() {
+        return journalCompactionThreshold;
+    }
+
+    public void setJournalCompactionThreshold(long journalCompactionThreshold) {
+        this.journalCompactionThreshold = journalCompactionThreshold;
+    }
+
+    public boolean isCompactJsonEnabled() {
+        return isCompactJsonEnabled;
+    }
+
+    public void setCompactJsonEnabled(boolean isCompactJsonEnabled) {
+        this.isCompactJsonEnabled = isCompactJsonEnabled;
+    }
+
+    public boolean isBinaryStorageEnabled() {
+        return isBinaryStorageEnabled;
+    }
+
+    public void setBinaryStorageEnabled(boolean isBinaryStorageEnabled) {
+        this.isBinaryStorageEnabled = isBinaryStorageEnabled;
+    }
+
+    public boolean isSegmentedStorageEnabled() {
+        return isSegmentedStorageEnabled;
+    }
+
+    public void setSegmentedStorageEnabled(boolean isSegmentedStorageEnabled) {
+        this.isSegmentedStorageEnabled = isSegmentedStorageEnabled;
+    }
+
+    public int getSegmentCount() {
+        return segmentCount;
+    }
+
+    public void setSegmentCount(int segmentCount) {
+        this.segmentCount = segmentCount;
+    }
+
+    public boolean isCompressionEnabled() {
+        return isCompressionEnabled;
+    }
+
+    public void setCompressionEnabled(boolean isCompressionEnabled) {
+        this.isCompressionEnabled = isCompressionEnabled;
+    }
+
+    public boolean isPagedStorageEnabled() {
+        return isPagedStorageEnabled;
+    }
+
+    public void setPagedStorageEnabled(boolean isPagedStorageEnabled) {
+        this.isPagedStorageEnabled = isPagedStorageEnabled;
+    }
+
+    public int getPageCacheSize() {
+        return pageCacheSize;
+    }
+
+    public void setPageCacheSize(int pageCacheSize) {
+        this.pageCacheSize = pageCacheSize;
+    }
+
+    public boolean isSqlStorageEnabled() {
+        return isSqlStorageEnabled;
+    }
+
+    public void setSqlStorageEnabled(boolean isSqlStorageEnabled) {
+        this.isSqlStorageEnabled = isSqlStorageEnabled;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +137,24 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && isJournalEnabled == otherConfig.isJournalEnabled
+                && journalCompactionThreshold == otherConfig.journalCompactionThreshold
+                && isCompactJsonEnabled == otherConfig.isCompactJsonEnabled
+                && isBinaryStorageEnabled == otherConfig.isBinaryStorageEnabled
+                && isSegmentedStorageEnabled == otherConfig.isSegmentedStorageEnabled
+                && segmentCount == otherConfig.segmentCount
+                && isCompressionEnabled == otherConfig.isCompressionEnabled
+                && isPagedStorageEnabled == otherConfig.isPagedStorageEnabled
+                && pageCacheSize == otherConfig.pageCacheSize
+                && isSqlStorageEnabled == otherConfig.isSqlStorageEnabled;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, isJournalEnabled, journalCompactionThreshold,
+                isCompactJsonEnabled, isBinaryStorageEnabled, isSegmentedStorageEnabled, segmentCount,
+                isCompressionEnabled, isPagedStorageEnabled, pageCacheSize, isSqlStorageEnabled);
     }
 
     @Override
@@ -60,6 +162,16 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("isJournalEnabled", isJournalEnabled)
+                .add("journalCompactionThreshold", journalCompactionThreshold)
+                .add("isCompactJsonEnabled", isCompactJsonEnabled)
+                .add("isBinaryStorageEnabled", isBinaryStorageEnabled)
+                .add("isSegmentedStorageEnabled", isSegmentedStorageEnabled)
+                .add("segmentCount", segmentCount)
+                .add("isCompressionEnabled", isCompressionEnabled)
+                .add("isPagedStorageEnabled", isPagedStorageEnabled)
+                .add("pageCacheSize", pageCacheSize)
+                .add("isSqlStorageEnabled", isSqlStorageEnabled)
                 .toString();
     }
 
@@ -1,17 +1,29 @@
 package insurabook.commons.util;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * Writes and reads files
  */
 public class FileUtil {
 
+    public static final String COMPRESSED_FILE_EXTENSION = ".gz";
+
     private static final String CHARSET = "UTF-8";
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -31,6 +43,31 @@ public class FileUtil {
         return true;
     }
 
+    /**
+     * Returns the name of {@code file} without its extension, e.g. {@code insurabook} for
+     * {@code data/insurabook.json}.
+     */
+    public static String getBaseName(Path file) {
+        String fileName = file.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        return extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+    }
+
+    /**
+     * Returns true if the content of {@code file} is stored gzip compressed, going by its extension.
+     */
+    public static boolean isCompressed(Path file) {
+        return file.getFileName().toString().endsWith(COMPRESSED_FILE_EXTENSION);
+    }
+
+    /**
+     * Returns the path of the compressed file kept in place of {@code file}, e.g. {@code data/insurabook.json.gz}
+     * for {@code data/insurabook.json}.
+     */
+    public static Path getCompressedFilePath(Path file) {
+        return isCompressed(file) ? file : file.resolveSibling(file.getFileName() + COMPRESSED_FILE_EXTENSION);
+    }
+
     /**
      * Creates a file if it does not exist along with its missing parent directories.
      * @throws IOException if the file or directory cannot be created.
@@ -72,6 +109,23 @@ public class FileUtil {
         return new String(Files.readAllBytes(file), CHARSET);
     }
 
+    /**
+     * Opens a buffered stream reading the content of {@code file}. Content stored gzip compressed is
+     * decompressed as it is read, whatever the extension of the file, so the whole of it is never held in memory.
+     */
+    public static InputStream openContentStream(Path file) throws IOException {
+        InputStream in = new BufferedInputStream(Files.newInputStream(file), READ_BUFFER_SIZE);
+        try {
+            in.mark(2);
+            int magic = in.read() | (in.read() << 8);
+            in.reset();
+            return magic == GZIPInputStream.GZIP_MAGIC ? new GZIPInputStream(in, READ_BUFFER_SIZE) : in;
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
+    }
+
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
@@ -80,4 +134,54 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * Writes given string to a file by writing it to a temporary file next to it first and renaming that
+     * over the file, so that the file never holds partly written content.
+     * Will create the file if it does not exist yet.
+     */
+    public static void writeToFileAtomically(Path file, String content) throws IOException {
+        writeToFileAtomically(file, out -> out.write(content.getBytes(CHARSET)));
+    }
+
+    /**
+     * Similar to {@link #writeToFileAtomically(Path, String)}, but has {@code contentWriter} write the content
+     * straight to a buffered stream over the temporary file, so the content never has to be held in memory whole.
+     * The content is gzip compressed on its way to the file if {@link #isCompressed(Path) the file is compressed}.
+     */
+    public static void writeToFileAtomically(Path file, ContentWriter contentWriter) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        Path tempFile = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try {
+            OutputStream fileOut = Files.newOutputStream(tempFile);
+            if (isCompressed(file)) {
+                fileOut = new GZIPOutputStream(fileOut, WRITE_BUFFER_SIZE);
+            }
+            try (OutputStream out = new BufferedOutputStream(fileOut, WRITE_BUFFER_SIZE)) {
+                contentWriter.writeTo(out);
+            }
+            moveAtomically(tempFile, file);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Moves {@code source} over {@code target} in one step where the file system allows it.
+     */
+    public static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Writes content to an output stream.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
+
 }
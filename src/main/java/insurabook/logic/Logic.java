@@ -2,6 +2,7 @@ package insurabook.logic;
 
 import java.nio.file.Path;
 import java.util.List;
+import java.util.function.Consumer;
 
 import insurabook.commons.core.GuiSettings;
 import insurabook.logic.commands.CommandResult;
@@ -28,6 +29,12 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Sets the handler to be given the error message of any save that fails after the command that made it
+     * has returned. The handler may be called on any thread.
+     */
+    void setSaveFailureHandler(Consumer<String> saveFailureHandler);
+
     /**
      * Returns the InsuraBook.
      *
@@ -1,9 +1,12 @@
 package insurabook.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import insurabook.commons.core.GuiSettings;
@@ -13,6 +16,7 @@ import insurabook.logic.commands.CommandResult;
 import insurabook.logic.commands.exceptions.CommandException;
 import insurabook.logic.parser.InsuraBookParser;
 import insurabook.logic.parser.exceptions.ParseException;
+import insurabook.model.InsuraBook;
 import insurabook.model.Model;
 import insurabook.model.ReadOnlyInsuraBook;
 import insurabook.model.client.Client;
@@ -35,6 +39,7 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final InsuraBookParser insuraBookParser;
+    private volatile Consumer<String> saveFailureHandler = message -> { };
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
@@ -43,6 +48,7 @@ public class LogicManager implements Logic {
         this.model = model;
         this.storage = storage;
         insuraBookParser = new InsuraBookParser();
+        storage.setSaveFailureHandler(this::reportSaveFailure);
     }
 
     @Override
@@ -53,25 +59,45 @@ public class LogicManager implements Logic {
         Command command = insuraBookParser.parseCommand(commandText);
 
         try {
-            commandResult = command.execute(model);
+            commandResult = command.execute(model, storage);
         } catch (RuntimeException e) {
             throw new CommandException(String.format(e.getMessage()), e);
         }
 
+        List<InsuraBook.Change> changes = model.takeUnsavedChanges();
+        if (changes.isEmpty()) {
+            logger.info("Command executed successfully, no data changed.");
+            return commandResult;
+        }
+
         try {
-            storage.saveInsuraBook(model.getInsuraBook());
+            storage.saveInsuraBookChanges(model.getInsuraBook(), changes);
             logger.info("Command executed successfully, data saved.");
-        } catch (AccessDeniedException e) {
-            logger.warning("Permission denied when attempting to save data: " + e.getMessage());
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
-            logger.warning("Unable to save data (IOException occurred): " + ioe.getMessage());
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            logger.warning("Unable to save data: " + ioe.getMessage());
+            throw new CommandException(getSaveErrorMessage(ioe), ioe);
         }
 
         return commandResult;
     }
 
+    @Override
+    public void setSaveFailureHandler(Consumer<String> saveFailureHandler) {
+        requireNonNull(saveFailureHandler);
+        this.saveFailureHandler = saveFailureHandler;
+    }
+
+    private void reportSaveFailure(IOException ioe) {
+        saveFailureHandler.accept(getSaveErrorMessage(ioe));
+    }
+
+    private static String getSaveErrorMessage(IOException ioe) {
+        if (ioe instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage());
+    }
+
     @Override
     public ReadOnlyInsuraBook getInsuraBook() {
         return model.getInsuraBook();
@@ -1,6 +1,8 @@
 package insurabook.logic;
 
+import java.util.List;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -24,6 +26,7 @@ public class Messages {
     public static final String MESSAGE_INVALID_CLAIM = "This claim does not exist.";
     public static final String MESSAGE_INVALID_BIRTHDAY = "Input birthday cannot be in the future!";
     public static final String MESSAGE_OLD_BIRTHDAY = "Birthday might be too old!";
+    public static final String MESSAGE_MORE_RESULTS = "... and %1$d more";
 
     /**
      * Returns an error message indicating the duplicate prefixes.
@@ -37,6 +40,21 @@ public class Messages {
         return MESSAGE_DUPLICATE_FIELDS + String.join(" ", duplicateFields);
     }
 
+    /**
+     * Formats the first {@code limit} of {@code items} for display to the user with {@code formatter}, one per
+     * line, followed by a line counting the items left out if there are more.
+     */
+    public static <T> String formatPreview(List<T> items, Function<? super T, String> formatter, int limit) {
+        String preview = items.stream()
+                .limit(limit)
+                .map(formatter)
+                .collect(Collectors.joining("\n"));
+        if (items.size() > limit) {
+            preview += "\n" + String.format(MESSAGE_MORE_RESULTS, items.size() - limit);
+        }
+        return preview;
+    }
+
     /**
      * Formats the {@code person} for display to the user.
      */
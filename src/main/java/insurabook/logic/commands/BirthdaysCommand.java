@@ -0,0 +1,89 @@
+package insurabook.logic.commands;
+
+import static insurabook.logic.parser.CliSyntax.PREFIX_DAYS;
+import static insurabook.logic.parser.CliSyntax.PREFIX_MONTH;
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import insurabook.logic.Messages;
+import insurabook.model.Model;
+import insurabook.model.client.Client;
+import insurabook.ui.enums.View;
+
+/**
+ * Lists the clients whose birthday is today, within a given number of days from today, or in the current month.
+ */
+public class BirthdaysCommand extends Command {
+
+    public static final String COMMAND_WORD = "birthdays";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the clients whose birthday is today, "
+            + "within the given number of days from today, or in the current month. "
+            + "Parameters: "
+            + "[" + PREFIX_DAYS + " DAYS | " + PREFIX_MONTH + "]\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_DAYS + " 7";
+    public static final String MESSAGE_SUCCESS_TODAY = "%1$d clients with birthdays today";
+    public static final String MESSAGE_SUCCESS_DAYS = "%1$d clients with birthdays in the next %2$d days";
+    public static final String MESSAGE_SUCCESS_MONTH = "%1$d clients with birthdays this month";
+
+    private final int days;
+    private final boolean isThisMonth;
+
+    /**
+     * Creates a BirthdaysCommand to list the clients whose birthday is within {@code days} days from today,
+     * or in the current month if {@code isThisMonth} is true.
+     */
+    public BirthdaysCommand(int days, boolean isThisMonth) {
+        assert days >= 0 : "Number of days should not be negative";
+        this.days = days;
+        this.isThisMonth = isThisMonth;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<Client> birthdayClients;
+        String message;
+        if (isThisMonth) {
+            birthdayClients = model.getBirthdayClientsThisMonth();
+            message = String.format(MESSAGE_SUCCESS_MONTH, birthdayClients.size());
+        } else if (days == 0) {
+            birthdayClients = model.getBirthdayClients();
+            message = String.format(MESSAGE_SUCCESS_TODAY, birthdayClients.size());
+        } else {
+            birthdayClients = model.getUpcomingBirthdayClients(days);
+            message = String.format(MESSAGE_SUCCESS_DAYS, birthdayClients.size(), days);
+        }
+
+        // Client#equals only compares client ids, so filter by identity
+        Set<Client> toShow = Collections.newSetFromMap(new IdentityHashMap<>());
+        toShow.addAll(birthdayClients);
+        model.updateFilteredClientList(toShow::contains);
+
+        String worklist = birthdayClients.stream()
+                .map(Messages::formatBirthdayClients)
+                .collect(Collectors.joining("\n"));
+        CommandResult res = new CommandResult(message + (worklist.isEmpty() ? "" : "\n" + worklist));
+        res.setView(View.CLIENT_VIEW);
+        return res;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof BirthdaysCommand)) {
+            return false;
+        }
+        BirthdaysCommand otherCommand = (BirthdaysCommand) other;
+        return days == otherCommand.days
+                && isThisMonth == otherCommand.isThisMonth;
+    }
+}
@@ -0,0 +1,108 @@
+package insurabook.logic.commands;
+
+import static insurabook.commons.util.CollectionUtil.requireAllNonNull;
+import static insurabook.logic.parser.CliSyntax.PREFIX_CLAIM_AMOUNT;
+import static java.util.Objects.requireNonNull;
+
+import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.List;
+import java.util.logging.Logger;
+
+import insurabook.commons.core.LogsCenter;
+import insurabook.commons.exceptions.DataLoadingException;
+import insurabook.logic.Messages;
+import insurabook.model.Model;
+import insurabook.model.claims.Claim;
+import insurabook.model.claims.ClaimAmount;
+import insurabook.storage.Storage;
+
+/**
+ * Lists the claims of more than a given amount, largest first: how many there are, and the first
+ * {@link #PREVIEW_SIZE} of them. The claims are only listed in the result, so looking them up in a database never
+ * has to load their policies into the displayed policy list.
+ */
+public class ClaimsCommand extends Command {
+
+    public static final String COMMAND_WORD = "claims";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the claims of more than the given amount, "
+            + "largest first. "
+            + "Parameters: "
+            + PREFIX_CLAIM_AMOUNT + " AMOUNT\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_CLAIM_AMOUNT + " 1000";
+    public static final String MESSAGE_SUCCESS = "%1$d claims of more than $%2$s";
+    public static final int PREVIEW_SIZE = 20;
+
+    private static final Logger logger = LogsCenter.getLogger(ClaimsCommand.class);
+
+    private final ClaimAmount amount;
+
+    /**
+     * Creates a ClaimsCommand to list the claims of more than {@code amount}.
+     */
+    public ClaimsCommand(ClaimAmount amount) {
+        requireNonNull(amount);
+        this.amount = amount;
+    }
+
+    /**
+     * Looks the claims up in the book held by {@code model}.
+     */
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        return showClaims(findClaims(model));
+    }
+
+    /**
+     * Looks the claims up in {@code storage} if it can do so without reading the whole book, such as a database
+     * with an index on the claim amounts, and in the book held by {@code model} otherwise.
+     */
+    @Override
+    public CommandResult execute(Model model, Storage storage) {
+        requireAllNonNull(model, storage);
+        List<Claim> claims;
+        try {
+            claims = storage.readClaimsOver(toBigDecimal(amount)).orElseGet(() -> findClaims(model));
+        } catch (DataLoadingException e) {
+            logger.warning("Could not look up claims in storage, looking them up in memory: " + e.getMessage());
+            claims = findClaims(model);
+        }
+        return showClaims(claims);
+    }
+
+    private List<Claim> findClaims(Model model) {
+        BigDecimal threshold = toBigDecimal(amount);
+        return model.getInsuraBook().getClientList().stream()
+                .flatMap(client -> client.getPolicies().stream())
+                .flatMap(policy -> policy.getClaims().stream())
+                .filter(claim -> toBigDecimal(claim.getAmount()).compareTo(threshold) > 0)
+                .sorted(Comparator.comparing((Claim claim) -> toBigDecimal(claim.getAmount())).reversed()
+                        .thenComparing(claim -> claim.getClaimId().toString()))
+                .toList();
+    }
+
+    private CommandResult showClaims(List<Claim> claims) {
+        String preview = Messages.formatPreview(claims, claim -> Messages.format(claim, 0), PREVIEW_SIZE);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, claims.size(), amount)
+                + (preview.isEmpty() ? "" : "\n" + preview));
+    }
+
+    private static BigDecimal toBigDecimal(ClaimAmount amount) {
+        return new BigDecimal(amount.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof ClaimsCommand)) {
+            return false;
+        }
+        ClaimsCommand otherCommand = (ClaimsCommand) other;
+        return amount.equals(otherCommand.amount);
+    }
+}
@@ -2,6 +2,7 @@ package insurabook.logic.commands;
 
 import insurabook.logic.commands.exceptions.CommandException;
 import insurabook.model.Model;
+import insurabook.storage.Storage;
 
 /**
  * Represents a command with hidden internal logic and the ability to be executed.
@@ -17,4 +18,17 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Executes the command with access to {@code storage}, for commands that can look data up in the storage
+     * instead of the book held by the model. Other commands only use the model.
+     *
+     * @param model {@code Model} which the command should operate on.
+     * @param storage {@code Storage} holding the data of {@code model} as last saved.
+     * @return feedback message of the operation result for display
+     * @throws CommandException If an error occurs during command execution.
+     */
+    public CommandResult execute(Model model, Storage storage) throws CommandException {
+        return execute(model);
+    }
+
 }
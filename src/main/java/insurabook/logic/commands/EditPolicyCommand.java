@@ -5,6 +5,7 @@ import static insurabook.logic.parser.CliSyntax.PREFIX_EXPIRY_DATE;
 import static insurabook.logic.parser.CliSyntax.PREFIX_POLICY_ID;
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -87,7 +88,7 @@ public class EditPolicyCommand extends Command {
         PolicyId policyId = policyToEdit.getPolicyId();
         ClientId clientId = policyToEdit.getClientId();
         PolicyTypeId policyTypeId = policyToEdit.getPolicyTypeId();
-        List<Claim> claims = policyToEdit.getClaims();
+        Collection<Claim> claims = policyToEdit.getClaims();
 
         return new Policy(policyId, clientId, policyTypeId, updatedExpiryDate, claims);
     }
@@ -3,16 +3,23 @@ package insurabook.logic.commands;
 import static insurabook.ui.enums.View.CLIENT_VIEW;
 import static java.util.Objects.requireNonNull;
 
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import insurabook.commons.util.ToStringBuilder;
 import insurabook.logic.Messages;
 import insurabook.model.Model;
 import insurabook.model.client.Client;
+import insurabook.model.client.ClientId;
+import insurabook.model.client.IdContainsKeywordsPredicate;
+import insurabook.model.client.NameContainsKeywordsPredicate;
+import insurabook.model.client.NameSimilarToKeywordsPredicate;
 
 /**
  * Finds and lists all persons in address book whose name or id contains any of the argument keywords.
- * Keyword matching is case-insensitive.
+ * Keyword matching is case-insensitive. A fuzzy name search lists the closest matches first.
  */
 public class FindCommand extends Command {
 
@@ -22,7 +29,9 @@ public class FindCommand extends Command {
             + "the specified keywords (case-insensitive) and displays them as a list.\n"
             + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
             + "Example: " + COMMAND_WORD + " -n alice bob charlie\n"
-            + "\tor " + COMMAND_WORD + " -c_id 123 456";
+            + "\tor " + COMMAND_WORD + " -c_id 123 456\n"
+            + "\tor " + COMMAND_WORD + " -c_id 12* (ids starting with 12)\n"
+            + "\tor " + COMMAND_WORD + " -fuzzy alise pauln (names within a few typos)";
 
     private final Predicate<Client> predicate;
 
@@ -38,13 +47,36 @@ public class FindCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredClientList(predicate);
+        if (predicate instanceof NameSimilarToKeywordsPredicate) {
+            NameSimilarToKeywordsPredicate similarNames = (NameSimilarToKeywordsPredicate) predicate;
+            Map<ClientId, Integer> distances = model.getClientIdsWithSimilarNameWords(similarNames.getKeywords());
+            model.updateFilteredClientList(client -> distances.containsKey(client.getClientId()),
+                    Comparator.comparingInt(client -> distances.get(client.getClientId())));
+        } else {
+            model.updateFilteredClientList(resolve(model));
+        }
         CommandResult res = new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredClientList().size()));
         res.setView(CLIENT_VIEW);
         return res;
     }
 
+    /**
+     * Returns the filter to apply to the client list. Name and id searches are answered up front by the model's
+     * indexes, so that the filter only has to look up each client's id instead of matching it against every keyword.
+     */
+    private Predicate<Client> resolve(Model model) {
+        Set<ClientId> matchingIds;
+        if (predicate instanceof NameContainsKeywordsPredicate) {
+            matchingIds = model.getClientIdsWithNameWords(((NameContainsKeywordsPredicate) predicate).getKeywords());
+        } else if (predicate instanceof IdContainsKeywordsPredicate) {
+            matchingIds = model.getClientIdsWithIdKeywords(((IdContainsKeywordsPredicate) predicate).getKeywords());
+        } else {
+            return predicate;
+        }
+        return client -> matchingIds.contains(client.getClientId());
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
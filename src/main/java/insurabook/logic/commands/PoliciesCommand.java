@@ -0,0 +1,94 @@
+package insurabook.logic.commands;
+
+import static insurabook.commons.util.CollectionUtil.requireAllNonNull;
+import static insurabook.logic.parser.CliSyntax.PREFIX_POLICY_TYPE_ID;
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.logging.Logger;
+
+import insurabook.commons.core.LogsCenter;
+import insurabook.commons.exceptions.DataLoadingException;
+import insurabook.logic.Messages;
+import insurabook.model.Model;
+import insurabook.model.policies.Policy;
+import insurabook.model.policytype.PolicyTypeId;
+import insurabook.storage.Storage;
+
+/**
+ * Lists the policies of a given policy type: how many there are, and the first {@link #PREVIEW_SIZE} of them.
+ * The policies are only listed in the result, so looking them up in a database never has to load them all into
+ * the displayed policy list.
+ */
+public class PoliciesCommand extends Command {
+
+    public static final String COMMAND_WORD = "policies";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the policies of the given policy type. "
+            + "Parameters: "
+            + PREFIX_POLICY_TYPE_ID + " POLICY_TYPE_ID\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_POLICY_TYPE_ID + " PT1";
+    public static final String MESSAGE_SUCCESS = "%1$d policies of policy type %2$s";
+    public static final int PREVIEW_SIZE = 20;
+
+    private static final Logger logger = LogsCenter.getLogger(PoliciesCommand.class);
+
+    private final PolicyTypeId policyTypeId;
+
+    /**
+     * Creates a PoliciesCommand to list the policies of the policy type with {@code policyTypeId}.
+     */
+    public PoliciesCommand(PolicyTypeId policyTypeId) {
+        requireNonNull(policyTypeId);
+        this.policyTypeId = policyTypeId;
+    }
+
+    /**
+     * Looks the policies up in the book held by {@code model}.
+     */
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        return showPolicies(findPolicies(model));
+    }
+
+    /**
+     * Looks the policies up in {@code storage} if it can do so without reading the whole book, such as a database
+     * with an index on the policy types of the policies, and in the book held by {@code model} otherwise.
+     */
+    @Override
+    public CommandResult execute(Model model, Storage storage) {
+        requireAllNonNull(model, storage);
+        List<Policy> policies;
+        try {
+            policies = storage.readPoliciesOfType(policyTypeId).orElseGet(() -> findPolicies(model));
+        } catch (DataLoadingException e) {
+            logger.warning("Could not look up policies in storage, looking them up in memory: " + e.getMessage());
+            policies = findPolicies(model);
+        }
+        return showPolicies(policies);
+    }
+
+    private List<Policy> findPolicies(Model model) {
+        return model.getPoliciesOfType(policyTypeId);
+    }
+
+    private CommandResult showPolicies(List<Policy> policies) {
+        String preview = Messages.formatPreview(policies, policy -> Messages.format(policy, 0), PREVIEW_SIZE);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, policies.size(), policyTypeId)
+                + (preview.isEmpty() ? "" : "\n" + preview));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof PoliciesCommand)) {
+            return false;
+        }
+        PoliciesCommand otherCommand = (PoliciesCommand) other;
+        return policyTypeId.equals(otherCommand.policyTypeId);
+    }
+}
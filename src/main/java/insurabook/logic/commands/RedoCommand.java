@@ -0,0 +1,68 @@
+package insurabook.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import insurabook.logic.commands.exceptions.CommandException;
+import insurabook.model.Model;
+
+/**
+ * Redo the last undone command, or a number of undone commands, if no other command has modified InsuraBook since
+ */
+public class RedoCommand extends Command {
+
+    public static final String COMMAND_WORD = "redo";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Redoes the last command reverted by undo, "
+            + "or the given number of such commands.\n"
+            + "Parameters: [STEPS] (must be a positive integer)\n"
+            + "Example: " + COMMAND_WORD + ", " + COMMAND_WORD + " 3";
+
+    public static final String MESSAGE_SUCCESS = "Redo successful! Last undone command has been reapplied.";
+    public static final String MESSAGE_SUCCESS_MULTIPLE = "Redo successful! %1$d undone commands have been reapplied.";
+    public static final String MESSAGE_NO_HISTORY = "No commands to redo.";
+
+    private final int steps;
+
+    /**
+     * Creates a RedoCommand to redo the last undone command.
+     */
+    public RedoCommand() {
+        this(1);
+    }
+
+    /**
+     * Creates a RedoCommand to redo up to {@code steps} undone commands.
+     */
+    public RedoCommand(int steps) {
+        assert steps > 0;
+        this.steps = steps;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (!model.canRedoInsuraBook()) {
+            throw new CommandException(MESSAGE_NO_HISTORY);
+        }
+
+        int redone = 0;
+        while (redone < steps && model.canRedoInsuraBook()) {
+            model.redoInsuraBook();
+            redone++;
+        }
+        return new CommandResult(redone == 1 ? MESSAGE_SUCCESS : String.format(MESSAGE_SUCCESS_MULTIPLE, redone));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof RedoCommand)) {
+            return false;
+        }
+        RedoCommand otherCommand = (RedoCommand) other;
+        return steps == otherCommand.steps;
+    }
+}
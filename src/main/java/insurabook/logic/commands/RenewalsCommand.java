@@ -0,0 +1,75 @@
+package insurabook.logic.commands;
+
+import static insurabook.logic.parser.CliSyntax.PREFIX_DAYS;
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import insurabook.logic.Messages;
+import insurabook.model.Model;
+import insurabook.model.claims.InsuraDate;
+import insurabook.model.policies.Policy;
+import insurabook.ui.enums.View;
+
+/**
+ * Lists the policies due for renewal, i.e. those expiring from today up to a given number of days from today.
+ */
+public class RenewalsCommand extends Command {
+
+    public static final String COMMAND_WORD = "renewals";
+    public static final int DEFAULT_DAYS = 30;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the policies expiring from today up to "
+            + "the given number of days from today, ordered by expiry date. "
+            + "Parameters: "
+            + "[" + PREFIX_DAYS + " DAYS]\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_DAYS + " 14";
+    public static final String MESSAGE_SUCCESS = "%1$d policies due for renewal in the next %2$d days";
+
+    private final int days;
+
+    /**
+     * Creates a RenewalsCommand to list the policies expiring within {@code days} days from today.
+     */
+    public RenewalsCommand(int days) {
+        assert days >= 0 : "Number of days should not be negative";
+        this.days = days;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        InsuraDate today = InsuraDate.today();
+        List<Policy> dueForRenewal = model.getPoliciesExpiringBetween(today, today.plusDays(days));
+
+        // Policy#equals only compares policy ids, so filter by identity
+        Set<Policy> toShow = Collections.newSetFromMap(new IdentityHashMap<>());
+        toShow.addAll(dueForRenewal);
+        model.updateClientPolicyList(toShow::contains);
+
+        String worklist = dueForRenewal.stream()
+                .map(Messages::formatExpiringPolicies)
+                .collect(Collectors.joining("\n"));
+        CommandResult res = new CommandResult(String.format(MESSAGE_SUCCESS, dueForRenewal.size(), days)
+                + (worklist.isEmpty() ? "" : "\n" + worklist));
+        res.setView(View.POLICY_VIEW);
+        return res;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof RenewalsCommand)) {
+            return false;
+        }
+        RenewalsCommand otherCommand = (RenewalsCommand) other;
+        return days == otherCommand.days;
+    }
+}
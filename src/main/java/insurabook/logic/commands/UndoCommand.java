@@ -6,18 +6,38 @@ import insurabook.logic.commands.exceptions.CommandException;
 import insurabook.model.Model;
 
 /**
- * Undo the previous command if it modified the state of InsuraBook
+ * Undo the previous command, or a number of previous commands, if they modified the state of InsuraBook
  */
 public class UndoCommand extends Command {
 
     public static final String COMMAND_WORD = "undo";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Undoes the previous command that had modified data.\n"
-            + "Example: " + COMMAND_WORD;
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Undoes the previous command that had modified data, "
+            + "or the given number of such commands.\n"
+            + "Parameters: [STEPS] (must be a positive integer)\n"
+            + "Example: " + COMMAND_WORD + ", " + COMMAND_WORD + " 3";
 
     public static final String MESSAGE_SUCCESS = "Undo successful! Previous command has been reverted.";
+    public static final String MESSAGE_SUCCESS_MULTIPLE = "Undo successful! %1$d previous commands have been reverted.";
     public static final String MESSAGE_NO_HISTORY = "No commands to undo.";
 
+    private final int steps;
+
+    /**
+     * Creates an UndoCommand to undo the previous command.
+     */
+    public UndoCommand() {
+        this(1);
+    }
+
+    /**
+     * Creates an UndoCommand to undo up to {@code steps} previous commands.
+     */
+    public UndoCommand(int steps) {
+        assert steps > 0;
+        this.steps = steps;
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
@@ -26,12 +46,23 @@ public class UndoCommand extends Command {
             throw new CommandException(MESSAGE_NO_HISTORY);
         }
 
-        model.undoInsuraBook();
-        return new CommandResult(MESSAGE_SUCCESS);
+        int undone = 0;
+        while (undone < steps && model.canUndoInsuraBook()) {
+            model.undoInsuraBook();
+            undone++;
+        }
+        return new CommandResult(undone == 1 ? MESSAGE_SUCCESS : String.format(MESSAGE_SUCCESS_MULTIPLE, undone));
     }
 
     @Override
     public boolean equals(Object other) {
-        return other instanceof UndoCommand;
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof UndoCommand)) {
+            return false;
+        }
+        UndoCommand otherCommand = (UndoCommand) other;
+        return steps == otherCommand.steps;
     }
 }
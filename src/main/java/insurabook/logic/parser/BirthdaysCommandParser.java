@@ -0,0 +1,33 @@
+package insurabook.logic.parser;
+
+import static insurabook.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static insurabook.logic.parser.CliSyntax.PREFIX_DAYS;
+import static insurabook.logic.parser.CliSyntax.PREFIX_MONTH;
+
+import java.util.Optional;
+
+import insurabook.logic.commands.BirthdaysCommand;
+import insurabook.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new BirthdaysCommand object
+ */
+public class BirthdaysCommandParser implements Parser<BirthdaysCommand> {
+    @Override
+    public BirthdaysCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_DAYS, PREFIX_MONTH);
+
+        Optional<String> days = argMultimap.getValue(PREFIX_DAYS);
+        Optional<String> month = argMultimap.getValue(PREFIX_MONTH);
+        if (!argMultimap.getPreamble().isEmpty() || (days.isPresent() && month.isPresent())
+                || month.filter(value -> !value.isEmpty()).isPresent()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, BirthdaysCommand.MESSAGE_USAGE));
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_DAYS, PREFIX_MONTH);
+        if (month.isPresent()) {
+            return new BirthdaysCommand(0, true);
+        }
+        return new BirthdaysCommand(days.isPresent() ? ParserUtil.parseDays(days.get()) : 0, false);
+    }
+}
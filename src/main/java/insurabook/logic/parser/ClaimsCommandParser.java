@@ -0,0 +1,26 @@
+package insurabook.logic.parser;
+
+import static insurabook.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static insurabook.logic.parser.CliSyntax.PREFIX_CLAIM_AMOUNT;
+
+import insurabook.logic.commands.ClaimsCommand;
+import insurabook.logic.parser.exceptions.ParseException;
+import insurabook.model.claims.ClaimAmount;
+
+/**
+ * Parses input arguments and creates a new ClaimsCommand object
+ */
+public class ClaimsCommandParser implements Parser<ClaimsCommand> {
+    @Override
+    public ClaimsCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_CLAIM_AMOUNT);
+
+        if (argMultimap.getValue(PREFIX_CLAIM_AMOUNT).isEmpty() || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ClaimsCommand.MESSAGE_USAGE));
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_CLAIM_AMOUNT);
+        ClaimAmount amount = ParserUtil.parseClaimAmount(argMultimap.getValue(PREFIX_CLAIM_AMOUNT).get());
+        return new ClaimsCommand(amount);
+    }
+}
@@ -15,6 +15,7 @@ public class CliSyntax {
     public static final Prefix PREFIX_POLICY_ID = new Prefix("-p_id");
     public static final Prefix PREFIX_CLIENT_ID = new Prefix("-c_id");
     public static final Prefix PREFIX_CLIENT_NAME = new Prefix("-n");
+    public static final Prefix PREFIX_FUZZY_NAME = new Prefix("-fuzzy");
     public static final Prefix PREFIX_DESCRIPTION = new Prefix("-desc");
     public static final Prefix PREFIX_POLICY_TYPE = new Prefix("-pt_n");
     public static final Prefix PREFIX_POLICY_TYPE_ID = new Prefix("-pt_id");
@@ -27,4 +28,6 @@ public class CliSyntax {
     public static final Prefix PREFIX_POLICY_VIEW = new Prefix("-policy");
     public static final Prefix PREFIX_CLIENT_VIEW = new Prefix("-client");
     public static final Prefix PREFIX_BIRTHDAY = new Prefix("-b");
+    public static final Prefix PREFIX_DAYS = new Prefix("-days");
+    public static final Prefix PREFIX_MONTH = new Prefix("-month");
 }
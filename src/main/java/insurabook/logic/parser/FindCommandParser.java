@@ -3,6 +3,7 @@ package insurabook.logic.parser;
 import static insurabook.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static insurabook.logic.parser.CliSyntax.PREFIX_CLIENT_ID;
 import static insurabook.logic.parser.CliSyntax.PREFIX_CLIENT_NAME;
+import static insurabook.logic.parser.CliSyntax.PREFIX_FUZZY_NAME;
 import static java.util.Objects.requireNonNull;
 
 import java.util.Arrays;
@@ -12,6 +13,7 @@ import insurabook.logic.commands.FindCommand;
 import insurabook.logic.parser.exceptions.ParseException;
 import insurabook.model.client.IdContainsKeywordsPredicate;
 import insurabook.model.client.NameContainsKeywordsPredicate;
+import insurabook.model.client.NameSimilarToKeywordsPredicate;
 
 /**
  * Parses input arguments and creates a new FindCommand object
@@ -26,17 +28,18 @@ public class FindCommandParser implements Parser<FindCommand> {
     public FindCommand parse(String args) throws ParseException {
         requireNonNull(args);
         ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_CLIENT_NAME, PREFIX_CLIENT_ID);
+                ArgumentTokenizer.tokenize(args, PREFIX_CLIENT_NAME, PREFIX_CLIENT_ID, PREFIX_FUZZY_NAME);
 
-        if (!isAnyPrefixPresent(argMultimap, PREFIX_CLIENT_NAME, PREFIX_CLIENT_ID)
+        if (!isAnyPrefixPresent(argMultimap, PREFIX_CLIENT_NAME, PREFIX_CLIENT_ID, PREFIX_FUZZY_NAME)
                 || !argMultimap.getPreamble().isEmpty()) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
-        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_CLIENT_NAME, PREFIX_CLIENT_ID);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_CLIENT_NAME, PREFIX_CLIENT_ID, PREFIX_FUZZY_NAME);
 
         String trimmedNames = argMultimap.getValue(PREFIX_CLIENT_NAME).orElse("").trim();
         String trimmedIds = argMultimap.getValue(PREFIX_CLIENT_ID).orElse("").trim();
+        String trimmedFuzzyNames = argMultimap.getValue(PREFIX_FUZZY_NAME).orElse("").trim();
 
         if (!trimmedNames.isEmpty()) {
             String[] nameKeywords = trimmedNames.split("\\s+");
@@ -44,6 +47,9 @@ public class FindCommandParser implements Parser<FindCommand> {
         } else if (!trimmedIds.isEmpty()) {
             String[] idKeywords = trimmedIds.split("\\s+");
             return new FindCommand(new IdContainsKeywordsPredicate(Arrays.asList(idKeywords)));
+        } else if (!trimmedFuzzyNames.isEmpty()) {
+            String[] fuzzyNameKeywords = trimmedFuzzyNames.split("\\s+");
+            return new FindCommand(new NameSimilarToKeywordsPredicate(Arrays.asList(fuzzyNameKeywords)));
         } else {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
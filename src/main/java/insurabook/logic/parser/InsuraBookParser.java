@@ -12,6 +12,8 @@ import insurabook.logic.commands.AddClaimCommand;
 import insurabook.logic.commands.AddClientCommand;
 import insurabook.logic.commands.AddPolicyCommand;
 import insurabook.logic.commands.AddPolicyTypeCommand;
+import insurabook.logic.commands.BirthdaysCommand;
+import insurabook.logic.commands.ClaimsCommand;
 import insurabook.logic.commands.ClearCommand;
 import insurabook.logic.commands.Command;
 import insurabook.logic.commands.DeleteClaimCommand;
@@ -26,6 +28,9 @@ import insurabook.logic.commands.ExitCommand;
 import insurabook.logic.commands.FindCommand;
 import insurabook.logic.commands.HelpCommand;
 import insurabook.logic.commands.ListCommand;
+import insurabook.logic.commands.PoliciesCommand;
+import insurabook.logic.commands.RedoCommand;
+import insurabook.logic.commands.RenewalsCommand;
 import insurabook.logic.commands.UndoCommand;
 import insurabook.logic.commands.ViewCommand;
 import insurabook.logic.parser.exceptions.ParseException;
@@ -120,7 +125,22 @@ public class InsuraBookParser {
             return new EditPolicyCommandParser().parse(arguments);
 
         case UndoCommand.COMMAND_WORD:
-            return new UndoCommandParser().parse("");
+            return new UndoCommandParser().parse(arguments.trim());
+
+        case RedoCommand.COMMAND_WORD:
+            return new RedoCommandParser().parse(arguments.trim());
+
+        case RenewalsCommand.COMMAND_WORD:
+            return new RenewalsCommandParser().parse(arguments);
+
+        case BirthdaysCommand.COMMAND_WORD:
+            return new BirthdaysCommandParser().parse(arguments);
+
+        case ClaimsCommand.COMMAND_WORD:
+            return new ClaimsCommandParser().parse(arguments);
+
+        case PoliciesCommand.COMMAND_WORD:
+            return new PoliciesCommandParser().parse(arguments);
 
         default:
             logger.finer("This user input caused a ParseException: " + userInput);
@@ -31,6 +31,9 @@ import insurabook.model.tag.Tag;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final int MAX_DAYS = 3650;
+    public static final String MESSAGE_INVALID_DAYS = "Number of days should be a whole number from 0 to " + MAX_DAYS
+            + ".";
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -45,6 +48,19 @@ public class ParserUtil {
         return Index.fromOneBased(Integer.parseInt(trimmedIndex));
     }
 
+    /**
+     * Parses {@code days} into a number of days and returns it. Leading and trailing whitespaces will be trimmed.
+     * @throws ParseException if the specified number of days is not a whole number from 0 to {@code MAX_DAYS}.
+     */
+    public static int parseDays(String days) throws ParseException {
+        requireNonNull(days);
+        String trimmedDays = days.trim();
+        if (!trimmedDays.matches("\\d{1,4}") || Integer.parseInt(trimmedDays) > MAX_DAYS) {
+            throw new ParseException(MESSAGE_INVALID_DAYS);
+        }
+        return Integer.parseInt(trimmedDays);
+    }
+
     /**
      * Parses a {@code String name} into a {@code Name}.
      * Leading and trailing whitespaces will be trimmed.
@@ -0,0 +1,26 @@
+package insurabook.logic.parser;
+
+import static insurabook.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static insurabook.logic.parser.CliSyntax.PREFIX_POLICY_TYPE_ID;
+
+import insurabook.logic.commands.PoliciesCommand;
+import insurabook.logic.parser.exceptions.ParseException;
+import insurabook.model.policytype.PolicyTypeId;
+
+/**
+ * Parses input arguments and creates a new PoliciesCommand object
+ */
+public class PoliciesCommandParser implements Parser<PoliciesCommand> {
+    @Override
+    public PoliciesCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_POLICY_TYPE_ID);
+
+        if (argMultimap.getValue(PREFIX_POLICY_TYPE_ID).isEmpty() || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, PoliciesCommand.MESSAGE_USAGE));
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_POLICY_TYPE_ID);
+        PolicyTypeId policyTypeId = ParserUtil.parsePtId(argMultimap.getValue(PREFIX_POLICY_TYPE_ID).get());
+        return new PoliciesCommand(policyTypeId);
+    }
+}
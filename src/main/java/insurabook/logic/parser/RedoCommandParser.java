@@ -0,0 +1,29 @@
+package insurabook.logic.parser;
+
+import static insurabook.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import insurabook.commons.util.StringUtil;
+import insurabook.logic.commands.RedoCommand;
+import insurabook.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new RedoCommand object
+ */
+public class RedoCommandParser implements Parser<RedoCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments, which is either empty or a number of steps,
+     * and returns a RedoCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public RedoCommand parse(String args) throws ParseException {
+        if (args.isEmpty()) {
+            return new RedoCommand();
+        }
+        if (!StringUtil.isNonZeroUnsignedInteger(args)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RedoCommand.MESSAGE_USAGE));
+        }
+        return new RedoCommand(Integer.parseInt(args));
+    }
+
+}
@@ -0,0 +1,30 @@
+package insurabook.logic.parser;
+
+import static insurabook.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static insurabook.logic.parser.CliSyntax.PREFIX_DAYS;
+
+import java.util.Optional;
+
+import insurabook.logic.commands.RenewalsCommand;
+import insurabook.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new RenewalsCommand object
+ */
+public class RenewalsCommandParser implements Parser<RenewalsCommand> {
+    @Override
+    public RenewalsCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_DAYS);
+
+        if (!argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RenewalsCommand.MESSAGE_USAGE));
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_DAYS);
+        Optional<String> days = argMultimap.getValue(PREFIX_DAYS);
+        if (days.isEmpty()) {
+            return new RenewalsCommand(RenewalsCommand.DEFAULT_DAYS);
+        }
+        return new RenewalsCommand(ParserUtil.parseDays(days.get()));
+    }
+}
@@ -2,24 +2,28 @@ package insurabook.logic.parser;
 
 import static insurabook.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
+import insurabook.commons.util.StringUtil;
 import insurabook.logic.commands.UndoCommand;
 import insurabook.logic.parser.exceptions.ParseException;
 
 /**
- * Parses empty arguments and creates a new UndoCommand object
+ * Parses input arguments and creates a new UndoCommand object
  */
 public class UndoCommandParser implements Parser<UndoCommand> {
 
     /**
-     * Parses the given {@code String} of arguments and checks it is empty
+     * Parses the given {@code String} of arguments, which is either empty or a number of steps,
      * and returns a UndoCommand object for execution.
      * @throws ParseException if the user input does not conform the expected format
      */
     public UndoCommand parse(String args) throws ParseException {
-        if (!args.isEmpty()) {
+        if (args.isEmpty()) {
+            return new UndoCommand();
+        }
+        if (!StringUtil.isNonZeroUnsignedInteger(args)) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, UndoCommand.MESSAGE_USAGE));
         }
-        return new UndoCommand();
+        return new UndoCommand(Integer.parseInt(args));
     }
 
 }
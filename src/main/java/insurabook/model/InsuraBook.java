@@ -1,9 +1,18 @@
 package insurabook.model;
 
+import static insurabook.commons.util.CollectionUtil.requireAllNonNull;
 import static java.util.Objects.requireNonNull;
 
+import java.time.Month;
+import java.time.MonthDay;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import insurabook.commons.util.ToStringBuilder;
@@ -15,22 +24,33 @@ import insurabook.model.claims.InsuraDate;
 import insurabook.model.claims.UniqueClaimIdCounter;
 import insurabook.model.client.Client;
 import insurabook.model.client.ClientId;
+import insurabook.model.client.IdContainsKeywordsPredicate;
 import insurabook.model.client.UniqueClientList;
+import insurabook.model.client.exceptions.ClientDuplicateException;
 import insurabook.model.policies.Policy;
 import insurabook.model.policies.PolicyId;
 import insurabook.model.policies.UniquePolicyList;
-import insurabook.model.policies.exceptions.PolicyNotFoundException;
 import insurabook.model.policytype.PolicyType;
 import insurabook.model.policytype.PolicyTypeId;
 import insurabook.model.policytype.PolicyTypeName;
 import insurabook.model.policytype.UniquePolicyTypeList;
 import insurabook.model.policytype.exceptions.PolicyTypeDuplicateException;
 import insurabook.model.policytype.exceptions.PolicyTypeMissingException;
+import insurabook.model.util.PersistentList;
 import javafx.collections.ObservableList;
 
 /**
  * Wraps all data at the insurabook level
  * Duplicates are not allowed (by .isSameClient comparison)
+ *
+ * Clients and their policies are never modified in place once they are in the book. A change to a client's policies
+ * or claims replaces that client with a copy that shares all of its unchanged policies, so that a recorded
+ * {@link Change} can keep referring to the clients of an earlier state instead of copying them.
+ *
+ * Known limitation: undoing a change that replaced every client, such as a clear or a load, takes the earlier client
+ * list back without copying it, but the client indexes, the policy list and the claim index are not persistent and
+ * are rebuilt from the restored clients in time linear in the size of the book. Undoing any other change only
+ * updates the entries of the clients it touched.
  */
 public class InsuraBook implements ReadOnlyInsuraBook {
     private final UniqueClientList clients;
@@ -38,6 +58,15 @@ public class InsuraBook implements ReadOnlyInsuraBook {
     private final UniquePolicyList clientPolicies;
     private final UniqueClaimIdCounter claimIdCounter = new UniqueClaimIdCounter(1);
 
+    // Book-wide claim index. Each claim records its client and policy ids,
+    // so its owners can be resolved in constant time from here.
+    private final Map<ClaimId, Claim> claimsById = new HashMap<>();
+
+    // Changes made since the last call to takeRecordedChanges(), oldest first
+    private List<Change> recordedChanges = new ArrayList<>();
+    // Changes made since the last call to takeUnsavedChanges(), oldest first, including those made by revert()
+    private List<Change> unsavedChanges = new ArrayList<>();
+
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
      * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
@@ -60,6 +89,48 @@ public class InsuraBook implements ReadOnlyInsuraBook {
         this();
         resetData(toBeCopied);
         syncClaimIdCounter();
+        recordedChanges.clear(); // a copy starts with nothing to revert or save
+        unsavedChanges.clear();
+    }
+
+    //// change log operations
+
+    /**
+     * Returns the changes made to this book since the last call, oldest first, and starts a new record.
+     */
+    public List<Change> takeRecordedChanges() {
+        List<Change> changes = recordedChanges;
+        recordedChanges = new ArrayList<>();
+        return changes;
+    }
+
+    /**
+     * Returns the changes made to this book since the last call, oldest first, and starts a new record.
+     * Unlike {@link #takeRecordedChanges()}, this covers every change made to the book, including those made by
+     * {@link #revert(List)}, so replaying them in order over an earlier copy of the book brings it up to date.
+     */
+    public List<Change> takeUnsavedChanges() {
+        List<Change> changes = unsavedChanges;
+        unsavedChanges = new ArrayList<>();
+        return changes;
+    }
+
+    /**
+     * Reverts {@code changes}, given oldest first, which must be the latest changes made to this book.
+     * Each change is reverted in time proportional to the number of entries it touched, not to the size of the book.
+     * Returns the changes made in doing so, oldest first, which in turn revert the revert.
+     * The claim ID counter is left as is, so claim ids handed out since are not reused.
+     */
+    public List<Change> revert(List<Change> changes) {
+        requireNonNull(changes);
+        List<Change> outerChanges = recordedChanges;
+        recordedChanges = new ArrayList<>();
+        for (int i = changes.size() - 1; i >= 0; i--) {
+            revertChange(changes.get(i));
+        }
+        List<Change> revertingChanges = recordedChanges;
+        recordedChanges = outerChanges;
+        return revertingChanges;
     }
 
     //// list overwrite operations
@@ -69,14 +140,19 @@ public class InsuraBook implements ReadOnlyInsuraBook {
      * {@code clients} must not contain duplicate clients.
      */
     public void setClients(List<Client> clients) {
+        PersistentList<Client> previousClients = this.clients.asPersistentList();
         this.clients.setClients(clients);
+        reindexClaims();
+        record(Change.clientsReplaced(previousClients, this::getCurrentVersion));
     }
 
     /**
      * Replaces the contents of the policy types list with {@code policy types}.
      */
     public void setPolicyTypes(List<PolicyType> policyTypes) {
+        List<PolicyType> previousPolicyTypes = List.copyOf(this.policyTypes.asUnmodifiableObservableList());
         this.policyTypes.setPolicyTypes(policyTypes);
+        record(Change.policyTypesReplaced(previousPolicyTypes));
     }
 
     /**
@@ -89,14 +165,12 @@ public class InsuraBook implements ReadOnlyInsuraBook {
 
     /**
      * Resets the existing data of this {@code InsuraBook} with {@code newData}.
+     * Clients are never modified in place, so the clients of {@code newData} are shared rather than copied.
      */
     public void resetData(ReadOnlyInsuraBook newData) {
         requireNonNull(newData);
 
-        List<Client> deepCopiedClients = newData.getClientList().stream()
-                        .map(Client::new)
-                        .collect(Collectors.toList());
-        setClients(deepCopiedClients);
+        setClients(List.copyOf(newData.getClientList()));
         setPolicyTypes(newData.getPolicyTypeList());
         if (this.clients != null) {
             List<Policy> allPolicies = this.clients.asUnmodifiableObservableList().stream()
@@ -108,16 +182,45 @@ public class InsuraBook implements ReadOnlyInsuraBook {
         }
     }
 
+    /**
+     * Replaces all data in this {@code InsuraBook} with {@code policyTypes} and {@code clients} in bulk.
+     * Policies and claims are taken from the clients' portfolios. Uniqueness is checked in a single pass
+     * and each list is replaced with a single change, so loading scales linearly with the data size.
+     *
+     * @throws PolicyTypeDuplicateException if {@code policyTypes} contains duplicate policy types
+     * @throws ClientDuplicateException if {@code clients} contains duplicate clients
+     */
+    public void loadData(List<PolicyType> policyTypes, List<Client> clients) {
+        requireAllNonNull(policyTypes, clients);
+
+        setPolicyTypes(policyTypes);
+        setClients(clients);
+        setClientPolicies(clients.stream()
+                .flatMap(client -> client.getPolicies().stream())
+                .toList());
+        syncClaimIdCounter();
+    }
+
+    /**
+     * Rebuilds the claim index from the claims held by every client.
+     * This method should be called after claims have been added to clients directly,
+     * e.g. when loading data from storage.
+     */
+    public void reindexClaims() {
+        claimsById.clear();
+        for (Client client : clients) {
+            indexClaims(client);
+        }
+    }
+
     /**
      * Synchronizes the claim ID counter with the highest existing claim ID in the insurabook.
      * This method should be called after loading data from storage to ensure that new claims
      * receive unique IDs.
      */
     public void syncClaimIdCounter() {
-        int maxId = clients.asUnmodifiableObservableList().stream()
-                .flatMap(client -> client.getPolicies().stream())
-                .flatMap(policy -> policy.getClaims().stream())
-                .map(claim -> claim.getClaimId().toString().substring(2))
+        int maxId = claimsById.keySet().stream()
+                .map(claimId -> claimId.toString().substring(2))
                 .mapToInt(Integer::parseInt)
                 .max()
                 .orElse(0);
@@ -135,11 +238,22 @@ public class InsuraBook implements ReadOnlyInsuraBook {
     }
 
     /**
-     * Adds a client to the address book.
+     * Adds {@code client} along with its policies to the end of the address book.
+     * The client must not already exist in the address book.
+     */
+    public void addClient(Client client) {
+        addClient(clients.asUnmodifiableObservableList().size(), client);
+    }
+
+    /**
+     * Adds {@code client} along with its policies to the address book, placing it at {@code position}.
      * The client must not already exist in the address book.
      */
-    public void addClient(Client p) {
-        clients.add(p);
+    public void addClient(int position, Client client) {
+        clients.add(position, client);
+        indexClaims(client);
+        client.getPolicies().forEach(clientPolicies::add);
+        record(Change.clientAdded(position, client));
     }
 
     /**
@@ -151,6 +265,11 @@ public class InsuraBook implements ReadOnlyInsuraBook {
         requireNonNull(editedclient);
 
         clients.setClient(target, editedclient);
+        unindexClaims(target);
+        indexClaims(editedclient);
+        removeClientPolicies(target);
+        editedclient.getPolicies().forEach(clientPolicies::add);
+        record(Change.clientReplaced(target, editedclient));
     }
 
     /**
@@ -158,7 +277,10 @@ public class InsuraBook implements ReadOnlyInsuraBook {
      * {@code key} must exist in the address book.
      */
     public void removeClient(Client key) {
-        clients.remove(key);
+        int position = clients.remove(key);
+        unindexClaims(key);
+        removeClientPolicies(key);
+        record(Change.clientRemoved(position, key));
     }
 
     /**
@@ -184,6 +306,16 @@ public class InsuraBook implements ReadOnlyInsuraBook {
     public void addPolicyType(PolicyType pt) throws PolicyTypeDuplicateException {
         requireNonNull(pt);
         policyTypes.add(pt);
+        record(Change.policyTypeAdded(policyTypes.asUnmodifiableObservableList().size() - 1, pt));
+    }
+
+    /**
+     * Adds {@code policyType} to the policy type list at {@code position}.
+     * Policy type must not already exist in the list.
+     */
+    public void addPolicyType(int position, PolicyType policyType) throws PolicyTypeDuplicateException {
+        policyTypes.add(position, policyType);
+        record(Change.policyTypeAdded(position, policyType));
     }
 
     /**
@@ -198,17 +330,15 @@ public class InsuraBook implements ReadOnlyInsuraBook {
      * @throws PolicyTypeMissingException if no PolicyTypes found
      */
     public List<Integer> deletePolicyType(PolicyTypeName name, PolicyTypeId id) throws PolicyTypeMissingException {
+        PolicyType toDelete = policyTypes.containsId(id) ? policyTypes.getPolicyType(id) : null;
+        int position = toDelete == null ? -1 : policyTypes.indexOf(toDelete);
         List<Integer> indices = policyTypes.remove(name, id);
 
         List<Policy> policiesToRemove = new ArrayList<>(); // policies matching id to remove
         if (indices == null) {
             // successful deletion, delete policy type from all clients policies
-            for (Policy policy : clientPolicies) {
-                if (policy.getPolicyTypeId().equals(id)) {
-                    // delete this policy
-                    policiesToRemove.add(policy);
-                }
-            }
+            record(Change.policyTypeRemoved(position, toDelete));
+            policiesToRemove.addAll(clientPolicies.getPolicies(id));
         }
 
         for (Policy toRemove : policiesToRemove) {
@@ -229,6 +359,7 @@ public class InsuraBook implements ReadOnlyInsuraBook {
 
         policyTypes.setPolicyType(target, editedPolicyType);
         clientPolicies.setPolicyType(target, editedPolicyType);
+        record(Change.policyTypeReplaced(target, editedPolicyType));
     }
 
     /**
@@ -247,7 +378,9 @@ public class InsuraBook implements ReadOnlyInsuraBook {
         Client client = this.getClient(clientId);
         this.getPolicyType(policyTypeId); // Validate that policy type exists
         Policy policy = new Policy(policyId, clientId, policyTypeId, expiryDate);
-        client.addPolicy(policy);
+        Client updatedClient = copyWithSharedPolicies(client);
+        updatedClient.addPolicy(policy);
+        replaceClient(client, updatedClient);
         this.clientPolicies.add(policy);
         return policy;
     }
@@ -258,9 +391,12 @@ public class InsuraBook implements ReadOnlyInsuraBook {
      */
     public Policy removePolicy(ClientId clientId, PolicyId policyId) {
         Client client = this.getClient(clientId);
-        Policy policy = client.removePolicy(policyId);
+        Client updatedClient = copyWithSharedPolicies(client);
+        Policy policy = updatedClient.removePolicy(policyId);
+        replaceClient(client, updatedClient);
         if (policy != null) {
             this.clientPolicies.remove(policy);
+            policy.getClaims().forEach(claim -> claimsById.remove(claim.getClaimId()));
         }
         return policy;
     }
@@ -273,8 +409,10 @@ public class InsuraBook implements ReadOnlyInsuraBook {
     public void setPolicy(Policy target, Policy editedPolicy) {
         requireNonNull(editedPolicy);
         Client client = this.getClient(target.getClientId());
-        client.setPolicy(target, editedPolicy);
+        replaceClientPolicy(client, target, editedPolicy);
         this.clientPolicies.setPolicy(target, editedPolicy);
+        target.getClaims().forEach(claim -> claimsById.remove(claim.getClaimId()));
+        editedPolicy.getClaims().forEach(claim -> claimsById.put(claim.getClaimId(), claim));
     }
 
     /**
@@ -286,13 +424,12 @@ public class InsuraBook implements ReadOnlyInsuraBook {
         Client client = this.getClient(clientId);
         ClaimId claimId = new ClaimId(claimIdCounter.getNextClaimId());
         Claim claim = new Claim(claimId, clientId, policyId, claimAmount, claimDate, claimDescription);
-        client.addClaim(claim);
-
-        Policy policyEdited = client.getPolicies().stream()
-                .filter(p -> p.getPolicyId().equals(policyId))
-                .findFirst()
-                .orElseThrow(PolicyNotFoundException::new);
-        this.clientPolicies.refreshPolicy(policyEdited);
+        Policy policy = client.getPortfolio().getPolicies().getPolicy(policyId);
+        Policy updatedPolicy = new Policy(policy);
+        updatedPolicy.addClaim(claim);
+        replaceClientPolicy(client, policy, updatedPolicy);
+        claimsById.put(claimId, claim);
+        this.clientPolicies.refreshPolicy(updatedPolicy);
 
         return claim;
     }
@@ -303,11 +440,14 @@ public class InsuraBook implements ReadOnlyInsuraBook {
      */
     public Claim removeClaim(ClientId clientId, PolicyId policyId, ClaimId claimId) {
         Client client = this.getClient(clientId);
-        Claim claimRemoved = client.removeClaim(policyId, claimId);
+        Policy policy = client.getPortfolio().getPolicies().getPolicy(policyId);
+        Policy updatedPolicy = new Policy(policy);
+        Claim claimRemoved = updatedPolicy.removeClaim(claimId);
 
-        Policy policyEdited = client.getPortfolio().getPolicies().getPolicy(policyId);
         if (claimRemoved != null) {
-            this.clientPolicies.refreshPolicy(policyEdited);
+            replaceClientPolicy(client, policy, updatedPolicy);
+            claimsById.remove(claimId);
+            this.clientPolicies.refreshPolicy(updatedPolicy);
         }
 
         return claimRemoved;
@@ -321,21 +461,288 @@ public class InsuraBook implements ReadOnlyInsuraBook {
     public void setClaim(Claim target, Claim editedClaim) {
         requireNonNull(editedClaim);
         Client client = this.getClient(target.getClientId());
-        client.setClaim(target, editedClaim);
-
-        Policy policyEdited = client.getPortfolio().getPolicies().getPolicy(target.getPolicyId());
-        this.clientPolicies.refreshPolicy(policyEdited);
+        Policy policy = client.getPortfolio().getPolicies().getPolicy(target.getPolicyId());
+        Policy updatedPolicy = new Policy(policy);
+        updatedPolicy.setClaim(target, editedClaim);
+        replaceClientPolicy(client, policy, updatedPolicy);
+        claimsById.remove(target.getClaimId());
+        claimsById.put(editedClaim.getClaimId(), editedClaim);
+        this.clientPolicies.refreshPolicy(updatedPolicy);
     }
 
     /**
      * Returns the claim based on clientId, policyId and claimId.
      */
     public Claim getClaim(ClientId clientId, PolicyId policyId, ClaimId claimId) {
+        Claim claim = claimsById.get(claimId);
+        if (claim != null && claim.getClientId().equals(clientId) && claim.getPolicyId().equals(policyId)) {
+            return claim;
+        }
+
+        // not indexed under this client and policy; walk the path to throw the matching exception
         Client client = this.getClient(clientId);
         Policy policy = client.getPortfolio().getPolicies().getPolicy(policyId);
         return policy.getClaim(claimId);
     }
 
+    /**
+     * Replaces {@code policy} in the portfolio of {@code client} with {@code updatedPolicy},
+     * leaving the original client and policy untouched.
+     */
+    private void replaceClientPolicy(Client client, Policy policy, Policy updatedPolicy) {
+        Client updatedClient = copyWithSharedPolicies(client);
+        updatedClient.setPolicy(policy, updatedPolicy);
+        replaceClient(client, updatedClient);
+    }
+
+    /**
+     * Replaces {@code client} in the client list with {@code updatedClient}, a copy that differs only in its
+     * policies or claims. The claim index and the policy list are left to the caller.
+     */
+    private void replaceClient(Client client, Client updatedClient) {
+        clients.setClient(client, updatedClient);
+        record(Change.clientReplaced(client, updatedClient));
+    }
+
+    private void record(Change change) {
+        recordedChanges.add(change);
+        unsavedChanges.add(change);
+    }
+
+    private void revertChange(Change change) {
+        PersistentList<Client> changedClients = change.getClients();
+        List<PolicyType> changedPolicyTypes = change.getPolicyTypes();
+        switch (change.getKind()) {
+        case CLIENT_ADDED:
+            removeClient(changedClients.get(0));
+            break;
+        case CLIENT_REMOVED:
+            addClient(change.getPosition(), changedClients.get(0));
+            break;
+        case CLIENT_REPLACED:
+            setClient(changedClients.get(1), changedClients.get(0));
+            break;
+        case CLIENTS_REPLACED:
+            restoreClients(changedClients);
+            break;
+        case POLICY_TYPE_ADDED:
+            removePolicyType(changedPolicyTypes.get(0));
+            break;
+        case POLICY_TYPE_REMOVED:
+            addPolicyType(change.getPosition(), changedPolicyTypes.get(0));
+            break;
+        case POLICY_TYPE_REPLACED:
+            setPolicyType(changedPolicyTypes.get(1), changedPolicyTypes.get(0));
+            break;
+        case POLICY_TYPES_REPLACED:
+            setPolicyTypes(changedPolicyTypes);
+            break;
+        default:
+            throw new AssertionError("Unknown kind of change: " + change.getKind());
+        }
+    }
+
+    /**
+     * Replaces all clients with {@code previousClients}, a state captured earlier from the client list.
+     * Takes time linear in the size of the book; see the class comment.
+     */
+    private void restoreClients(PersistentList<Client> previousClients) {
+        PersistentList<Client> replacedClients = clients.asPersistentList();
+        clients.setClients(previousClients);
+        reindexClaims();
+        setClientPolicies(clients.asUnmodifiableObservableList().stream()
+                .flatMap(client -> client.getPolicies().stream())
+                .toList());
+        record(Change.clientsReplaced(replacedClients, this::getCurrentVersion));
+    }
+
+    /**
+     * Returns the client in this book with the same id as {@code client}, or null if there is none.
+     */
+    private Client getCurrentVersion(Client client) {
+        return clients.contains(client) ? clients.getClient(client.getClientId()) : null;
+    }
+
+    /**
+     * Removes {@code policyType} from the policy type list, leaving the policies of that type alone.
+     */
+    private void removePolicyType(PolicyType policyType) {
+        // the given policy type may be an equal copy, e.g. one read back from disk
+        PolicyType existing = policyTypes.getPolicyType(policyType.getPtId());
+        int position = policyTypes.indexOf(existing);
+        policyTypes.remove(existing.getPtName(), existing.getPtId());
+        record(Change.policyTypeRemoved(position, existing));
+    }
+
+    /**
+     * Returns a copy of {@code client} with a portfolio of its own that holds the same, unchanged policies.
+     */
+    private static Client copyWithSharedPolicies(Client client) {
+        return new Client(client.getName(), client.getPhone(), client.getEmail(), client.getBirthday(),
+                client.getClientId(), client.getPolicies());
+    }
+
+    private void removeClientPolicies(Client client) {
+        clientPolicies.getPolicies(client.getClientId()).forEach(clientPolicies::remove);
+    }
+
+    private void indexClaims(Client client) {
+        client.getPolicies().stream()
+                .flatMap(policy -> policy.getClaims().stream())
+                .forEach(claim -> claimsById.put(claim.getClaimId(), claim));
+    }
+
+    private void unindexClaims(Client client) {
+        client.getPolicies().stream()
+                .flatMap(policy -> policy.getClaims().stream())
+                .forEach(claim -> claimsById.remove(claim.getClaimId()));
+    }
+
+    /**
+     * A change made to an {@code InsuraBook}, holding just the entries it touched so that it can be reverted:
+     * the client or policy type that was added or removed along with its position, the entry before and after it
+     * was replaced, or the previous contents of a list that was replaced as a whole.
+     * All but the last kind also hold enough to make the change again over an earlier copy of the book.
+     */
+    public static final class Change {
+        // Rough per-entry footprints, used to estimate how much memory the entries of a change hold on to
+        private static final long ESTIMATED_CLIENT_SIZE = 512;
+        private static final long ESTIMATED_POLICY_SIZE = 256;
+        private static final long ESTIMATED_CLAIM_SIZE = 256;
+        private static final long ESTIMATED_POLICY_TYPE_SIZE = 256;
+        // An entry still in the book only costs the change a reference and a list node
+        private static final long ESTIMATED_SHARED_ENTRY_SIZE = 32;
+
+        /**
+         * The kinds of change, named after what happened to the book.
+         */
+        public enum Kind {
+            CLIENT_ADDED, CLIENT_REMOVED, CLIENT_REPLACED, CLIENTS_REPLACED,
+            POLICY_TYPE_ADDED, POLICY_TYPE_REMOVED, POLICY_TYPE_REPLACED, POLICY_TYPES_REPLACED
+        }
+
+        private final Kind kind;
+        private final int position;
+        private final PersistentList<Client> clients;
+        private final List<PolicyType> policyTypes;
+        private final long estimatedSize;
+
+        /**
+         * Creates a change whose entries are not shared with any book, e.g. one read back from disk.
+         */
+        Change(Kind kind, int position, PersistentList<Client> clients, List<PolicyType> policyTypes) {
+            this(kind, position, clients, policyTypes, client -> null);
+        }
+
+        /**
+         * Creates a change, estimating its size from the entries that are not shared with the book.
+         * {@code currentVersion} returns the client in the book with the same id as the given client, or null.
+         */
+        private Change(Kind kind, int position, PersistentList<Client> clients, List<PolicyType> policyTypes,
+                       Function<Client, Client> currentVersion) {
+            requireAllNonNull(kind, clients, policyTypes);
+            this.kind = kind;
+            this.position = position;
+            this.clients = clients;
+            this.policyTypes = policyTypes;
+            long size = policyTypes.size() * ESTIMATED_POLICY_TYPE_SIZE;
+            for (Client client : clients) {
+                size += estimateUnsharedSize(client, currentVersion.apply(client));
+            }
+            this.estimatedSize = size;
+        }
+
+        static Change clientAdded(int position, Client client) {
+            return new Change(Kind.CLIENT_ADDED, position, PersistentList.of(List.of(client)), List.of(),
+                    added -> added);
+        }
+
+        static Change clientRemoved(int position, Client client) {
+            return new Change(Kind.CLIENT_REMOVED, position, PersistentList.of(List.of(client)), List.of());
+        }
+
+        static Change clientReplaced(Client before, Client after) {
+            return new Change(Kind.CLIENT_REPLACED, -1, PersistentList.of(List.of(before, after)), List.of(),
+                    client -> after);
+        }
+
+        static Change clientsReplaced(PersistentList<Client> previousClients,
+                                      Function<Client, Client> currentVersion) {
+            return new Change(Kind.CLIENTS_REPLACED, -1, previousClients, List.of(), currentVersion);
+        }
+
+        static Change policyTypeAdded(int position, PolicyType policyType) {
+            return new Change(Kind.POLICY_TYPE_ADDED, position, PersistentList.empty(), List.of(policyType));
+        }
+
+        static Change policyTypeRemoved(int position, PolicyType policyType) {
+            return new Change(Kind.POLICY_TYPE_REMOVED, position, PersistentList.empty(), List.of(policyType));
+        }
+
+        static Change policyTypeReplaced(PolicyType before, PolicyType after) {
+            return new Change(Kind.POLICY_TYPE_REPLACED, -1, PersistentList.empty(), List.of(before, after));
+        }
+
+        static Change policyTypesReplaced(List<PolicyType> previousPolicyTypes) {
+            return new Change(Kind.POLICY_TYPES_REPLACED, -1, PersistentList.empty(), previousPolicyTypes);
+        }
+
+        public Kind getKind() {
+            return kind;
+        }
+
+        /**
+         * Returns the position of the added or removed entry, or -1 for other kinds of change.
+         */
+        public int getPosition() {
+            return position;
+        }
+
+        /**
+         * Returns the clients touched by this change. A replaced client comes before its replacement.
+         */
+        public PersistentList<Client> getClients() {
+            return clients;
+        }
+
+        /**
+         * Returns the policy types touched by this change. A replaced policy type comes before its replacement.
+         */
+        public List<PolicyType> getPolicyTypes() {
+            return policyTypes;
+        }
+
+        /**
+         * Returns a rough estimate of the memory held by the entries of this change, in bytes, in constant time.
+         * The estimate is made when the change is recorded, and only counts the clients and policies that were not
+         * shared with the book at that time.
+         */
+        long estimateSize() {
+            return estimatedSize;
+        }
+
+        /**
+         * Returns a rough estimate of the memory held by {@code client} beyond what it shares with {@code current},
+         * the client in the book with the same id, which may be null.
+         */
+        private static long estimateUnsharedSize(Client client, Client current) {
+            if (client == current) {
+                return ESTIMATED_SHARED_ENTRY_SIZE;
+            }
+            Set<Policy> sharedPolicies = Collections.newSetFromMap(new IdentityHashMap<>());
+            if (current != null) {
+                sharedPolicies.addAll(current.getPolicies());
+            }
+            long size = ESTIMATED_CLIENT_SIZE;
+            for (Policy policy : client.getPolicies()) {
+                size += sharedPolicies.contains(policy)
+                        ? ESTIMATED_SHARED_ENTRY_SIZE
+                        : ESTIMATED_POLICY_SIZE + policy.getClaims().size() * ESTIMATED_CLAIM_SIZE;
+            }
+            return size;
+        }
+    }
+
     //// util methods
 
     @Override
@@ -350,6 +757,13 @@ public class InsuraBook implements ReadOnlyInsuraBook {
         return clients.asUnmodifiableObservableList();
     }
 
+    /**
+     * Returns the current clients as an immutable {@code PersistentList}, in constant time.
+     */
+    public PersistentList<Client> getPersistentClientList() {
+        return clients.asPersistentList();
+    }
+
     @Override
     public ObservableList<PolicyType> getPolicyTypeList() {
         return policyTypes.asUnmodifiableObservableList();
@@ -360,17 +774,78 @@ public class InsuraBook implements ReadOnlyInsuraBook {
         return clientPolicies.asUnmodifiableObservableList();
     }
 
+    /**
+     * Returns the ids of the clients with a word in their name that matches any of {@code keywords}, ignoring case.
+     */
+    public Set<ClientId> getClientIdsWithNameWords(List<String> keywords) {
+        return clients.getClientIdsWithNameWords(keywords);
+    }
+
+    /**
+     * Returns the ids of the clients with a name word within a few typos of any of {@code keywords}, ignoring case,
+     * each mapped to its smallest edit distance to the keywords.
+     */
+    public Map<ClientId, Integer> getClientIdsWithSimilarNameWords(List<String> keywords) {
+        return clients.getClientIdsWithSimilarNameWords(keywords);
+    }
+
+    /**
+     * Returns the ids of the clients whose id matches any of {@code keywords}, ignoring case.
+     * A keyword ending with {@value IdContainsKeywordsPredicate#PREFIX_WILDCARD} matches ids by their leading
+     * characters.
+     */
+    public Set<ClientId> getClientIdsWithIdKeywords(List<String> keywords) {
+        return clients.getClientIdsWithIdKeywords(keywords);
+    }
+
+    /**
+     * Returns the clients whose birthday is today.
+     */
     public List<Client> getBirthdayClients() {
-        return clients.asUnmodifiableObservableList().stream()
-                .filter(client -> client.getBirthday().isToday())
-                .toList();
+        return clients.getClientsWithBirthday(InsuraDate.today().getMonthDay());
+    }
+
+    /**
+     * Returns the clients whose birthday falls from today up to {@code days} days from today,
+     * in order of their upcoming birthday. A range of a year or more returns every client.
+     */
+    public List<Client> getUpcomingBirthdayClients(int days) {
+        InsuraDate today = InsuraDate.today();
+        MonthDay start = today.getMonthDay();
+        MonthDay end = days >= 365
+                ? MonthDay.from(start.atYear(2000).minusDays(1)) // the day before, counting 29 February
+                : today.plusDays(days).getMonthDay();
+        return clients.getClientsWithBirthdayBetween(start, end);
     }
 
+    /**
+     * Returns the clients whose birthday falls in the current month, in order of their birthday.
+     */
+    public List<Client> getBirthdayClientsThisMonth() {
+        Month month = InsuraDate.today().getMonthDay().getMonth();
+        return clients.getClientsWithBirthdayBetween(MonthDay.of(month, 1), MonthDay.of(month, month.maxLength()));
+    }
+
+    /**
+     * Returns the policies that are expiring within the next 3 days, including today, ordered by expiry date.
+     */
     public List<Policy> getExpiringPolicies() {
-        return clients.asUnmodifiableObservableList().stream()
-                .flatMap(client -> client.getPolicies().stream())
-                .filter(policy -> policy.getExpiryDate().isExpiringInThreeDays())
-                .toList();
+        InsuraDate today = InsuraDate.today();
+        return getPoliciesExpiringBetween(today, today.plusDays(2));
+    }
+
+    /**
+     * Returns the policies expiring between {@code start} and {@code end} inclusive, ordered by expiry date.
+     */
+    public List<Policy> getPoliciesExpiringBetween(InsuraDate start, InsuraDate end) {
+        return clientPolicies.getPoliciesExpiringBetween(start, end);
+    }
+
+    /**
+     * Returns the policies of the policy type with {@code policyTypeId}.
+     */
+    public List<Policy> getPoliciesOfType(PolicyTypeId policyTypeId) {
+        return clientPolicies.getPolicies(policyTypeId);
     }
 
     @Override
@@ -0,0 +1,92 @@
+package insurabook.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import insurabook.model.client.Client;
+import insurabook.model.policies.Policy;
+import insurabook.model.policytype.PolicyType;
+import insurabook.model.policytype.PolicyTypeId;
+import insurabook.model.policytype.exceptions.PolicyTypeMissingException;
+import insurabook.model.util.PersistentList;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+/**
+ * An unchanging copy of the contents of an insurabook at one point in time.
+ * Clients, policies and policy types are never modified once they are in a book, so the snapshot can be read on
+ * another thread while the book keeps changing.
+ *
+ * The clients of an {@code InsuraBook} are captured from its persistent client list in constant time, and only the
+ * short list of policy types is copied. The lists handed out by the snapshot are built from the captured state on
+ * first use, so that cost falls on the thread that reads the snapshot rather than the one that takes it.
+ */
+public final class InsuraBookSnapshot implements ReadOnlyInsuraBook {
+    private final PersistentList<Client> capturedClients;
+    private final List<PolicyType> capturedPolicyTypes;
+
+    // Built on first use; guarded by this snapshot's lock
+    private ObservableList<Client> clients;
+    private ObservableList<PolicyType> policyTypes;
+    private ObservableList<Policy> clientPolicies;
+
+    private InsuraBookSnapshot(PersistentList<Client> capturedClients, List<PolicyType> capturedPolicyTypes) {
+        this.capturedClients = capturedClients;
+        this.capturedPolicyTypes = capturedPolicyTypes;
+    }
+
+    /**
+     * Returns a snapshot of the current contents of {@code source}.
+     * Must be called on the thread that changes {@code source}.
+     */
+    public static InsuraBookSnapshot of(ReadOnlyInsuraBook source) {
+        requireNonNull(source);
+        if (source instanceof InsuraBookSnapshot) {
+            return (InsuraBookSnapshot) source;
+        }
+        PersistentList<Client> clients = source instanceof InsuraBook
+                ? ((InsuraBook) source).getPersistentClientList()
+                : PersistentList.of(source.getClientList());
+        return new InsuraBookSnapshot(clients, List.copyOf(source.getPolicyTypeList()));
+    }
+
+    @Override
+    public synchronized ObservableList<Client> getClientList() {
+        if (clients == null) {
+            clients = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableArrayList(capturedClients.toList()));
+        }
+        return clients;
+    }
+
+    @Override
+    public synchronized ObservableList<PolicyType> getPolicyTypeList() {
+        if (policyTypes == null) {
+            policyTypes = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableArrayList(capturedPolicyTypes));
+        }
+        return policyTypes;
+    }
+
+    /**
+     * Returns the policies of the captured clients, in client order.
+     */
+    @Override
+    public synchronized ObservableList<Policy> getClientPolicyList() {
+        if (clientPolicies == null) {
+            clientPolicies = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(
+                    getClientList().stream().flatMap(client -> client.getPolicies().stream()).toList()));
+        }
+        return clientPolicies;
+    }
+
+    @Override
+    public PolicyType getPolicyType(PolicyTypeId id) {
+        requireNonNull(id);
+        return capturedPolicyTypes.stream()
+                .filter(policyType -> policyType.getPtId().equals(id))
+                .findFirst()
+                .orElseThrow(() -> new PolicyTypeMissingException(id));
+    }
+}
@@ -1,7 +1,10 @@
 package insurabook.model;
 
 import java.nio.file.Path;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import insurabook.commons.core.GuiSettings;
@@ -98,6 +101,35 @@ public interface Model {
      */
     void updateFilteredClientList(Predicate<Client> predicate);
 
+    /**
+     * Updates the filter of the filtered client list to filter by the given {@code predicate}, and orders the
+     * shown clients by {@code comparator}. The order is cleared by the next
+     * {@link #updateFilteredClientList(Predicate)}.
+     * @throws NullPointerException if {@code predicate} or {@code comparator} is null.
+     */
+    void updateFilteredClientList(Predicate<Client> predicate, Comparator<Client> comparator);
+
+    /**
+     * Returns the ids of the clients with a word in their name that matches any of {@code keywords}, ignoring case.
+     * @throws NullPointerException if {@code keywords} is null.
+     */
+    Set<ClientId> getClientIdsWithNameWords(List<String> keywords);
+
+    /**
+     * Returns the ids of the clients whose id matches any of {@code keywords}, ignoring case.
+     * @throws NullPointerException if {@code keywords} is null.
+     * @see insurabook.model.client.IdContainsKeywordsPredicate
+     */
+    Set<ClientId> getClientIdsWithIdKeywords(List<String> keywords);
+
+    /**
+     * Returns the ids of the clients with a name word within a few typos of any of {@code keywords}, ignoring case,
+     * each mapped to its smallest edit distance to the keywords.
+     * @throws NullPointerException if {@code keywords} is null.
+     * @see insurabook.model.client.NameSimilarToKeywordsPredicate
+     */
+    Map<ClientId, Integer> getClientIdsWithSimilarNameWords(List<String> keywords);
+
     /** Returns an unmodifiable view of the filtered policy types list */
     ObservableList<PolicyType> getFilteredPolicyTypeList();
 
@@ -195,19 +227,76 @@ public interface Model {
     void undoInsuraBook();
 
     /**
-     * Save current state of {@code InsuraBook}
+     * Returns true if an undone change to {@code InsuraBook} can be redone
+     * @return boolean, if {@code InsuraBook} can be redone
+     */
+    boolean canRedoInsuraBook();
+
+    /**
+     * Restores {@code InsuraBook} to the state before the last undo
+     */
+    void redoInsuraBook();
+
+    /**
+     * Marks the changes made to {@code InsuraBook} since the last commit as one step that can be undone
      */
     void commitInsuraBook();
 
+    /**
+     * Returns the number of steps of {@code InsuraBook} that can be undone, whether kept in memory or spilled to disk
+     */
+    int getUndoHistorySize();
+
+    /**
+     * Returns the number of undoable steps currently spilled to disk
+     */
+    int getUndoHistorySpilledSize();
+
+    /**
+     * Returns the number of times an undoable step has been spilled to disk so far
+     */
+    int getUndoHistorySpillCount();
+
+    /**
+     * Returns the estimated memory held by the undoable steps kept in memory, in bytes
+     */
+    long getUndoHistoryMemoryUsage();
+
+    /**
+     * Returns the changes made to {@code InsuraBook} since the last call, oldest first, for storage to save
+     */
+    List<InsuraBook.Change> takeUnsavedChanges();
+
     /**
      * Returns a list of clients whose birthday is today.
      * @return list of clients whose birthday is today
      */
     List<Client> getBirthdayClients();
 
+    /**
+     * Returns a list of clients whose birthday falls from today up to {@code days} days from today,
+     * in order of their upcoming birthday.
+     */
+    List<Client> getUpcomingBirthdayClients(int days);
+
+    /**
+     * Returns a list of clients whose birthday falls in the current month, in order of their birthday.
+     */
+    List<Client> getBirthdayClientsThisMonth();
+
     /**
      * Returns a list of policies that are expiring within the next 3 days.
      */
     List<Policy> getExpiringPolicies();
 
+    /**
+     * Returns a list of policies expiring between {@code start} and {@code end} inclusive, ordered by expiry date.
+     */
+    List<Policy> getPoliciesExpiringBetween(InsuraDate start, InsuraDate end);
+
+    /**
+     * Returns a list of the policies of the policy type with {@code policyTypeId}.
+     */
+    List<Policy> getPoliciesOfType(PolicyTypeId policyTypeId);
+
 }
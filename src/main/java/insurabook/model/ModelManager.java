@@ -4,8 +4,10 @@ import static insurabook.commons.util.CollectionUtil.requireAllNonNull;
 import static java.util.Objects.requireNonNull;
 
 import java.nio.file.Path;
-import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -26,6 +28,7 @@ import insurabook.model.policytype.PolicyTypeName;
 import insurabook.model.policytype.exceptions.PolicyTypeMissingException;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 
 /**
  * Represents the in-memory model of the insurabook data.
@@ -37,10 +40,10 @@ public class ModelManager implements Model {
     private final InsuraBook insuraBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Client> filteredClients;
+    private final SortedList<Client> sortedClients;
     private final FilteredList<PolicyType> filteredPolicyTypes;
     private final FilteredList<Policy> filteredClientPolicies;
-    private final List<ReadOnlyInsuraBook> insuraBookStateList;
-    private int currentStatePointer;
+    private final UndoHistory undoHistory;
 
     /**
      * Initializes a ModelManager with the given insurabook and userPrefs.
@@ -53,12 +56,11 @@ public class ModelManager implements Model {
         this.insuraBook = new InsuraBook(insuraBook);
         this.userPrefs = new UserPrefs(userPrefs);
         this.filteredClients = new FilteredList<>(this.insuraBook.getClientList());
+        this.sortedClients = new SortedList<>(this.filteredClients);
         this.filteredPolicyTypes = new FilteredList<>(this.insuraBook.getPolicyTypeList());
         this.filteredClientPolicies = new FilteredList<>(this.insuraBook.getClientPolicyList());
         updateFilteredPolicyTypeList(PREDICATE_SHOW_ALL_POLICY_TYPES);
-        this.insuraBookStateList = new ArrayList<>();
-        this.insuraBookStateList.add(new InsuraBook(this.insuraBook));
-        this.currentStatePointer = 0;
+        this.undoHistory = new UndoHistory(this.insuraBook, this.userPrefs.getUndoHistoryBudget());
     }
 
     public ModelManager() {
@@ -71,6 +73,7 @@ public class ModelManager implements Model {
     public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
         requireNonNull(userPrefs);
         this.userPrefs.resetData(userPrefs);
+        undoHistory.setMemoryBudget(this.userPrefs.getUndoHistoryBudget());
     }
 
     @Override
@@ -108,15 +111,41 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Client> getFilteredClientList() {
-        return filteredClients;
+        return sortedClients;
     }
 
     @Override
     public void updateFilteredClientList(Predicate<Client> predicate) {
         requireNonNull(predicate);
+        sortedClients.setComparator(null);
         filteredClients.setPredicate(predicate);
     }
 
+    @Override
+    public void updateFilteredClientList(Predicate<Client> predicate, Comparator<Client> comparator) {
+        requireAllNonNull(predicate, comparator);
+        filteredClients.setPredicate(predicate);
+        sortedClients.setComparator(comparator);
+    }
+
+    @Override
+    public Set<ClientId> getClientIdsWithNameWords(List<String> keywords) {
+        requireNonNull(keywords);
+        return insuraBook.getClientIdsWithNameWords(keywords);
+    }
+
+    @Override
+    public Set<ClientId> getClientIdsWithIdKeywords(List<String> keywords) {
+        requireNonNull(keywords);
+        return insuraBook.getClientIdsWithIdKeywords(keywords);
+    }
+
+    @Override
+    public Map<ClientId, Integer> getClientIdsWithSimilarNameWords(List<String> keywords) {
+        requireNonNull(keywords);
+        return insuraBook.getClientIdsWithSimilarNameWords(keywords);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -257,24 +286,60 @@ public class ModelManager implements Model {
         return insuraBook.containsPolicyTypeName(name);
     }
 
+    @Override
     public boolean canUndoInsuraBook() {
-        return currentStatePointer > 0;
+        return undoHistory.canUndo();
     }
 
+    /**
+     * Reverts the changes of the last committed command, along with any changes made since that were not committed.
+     */
     @Override
     public void undoInsuraBook() {
-        if (!canUndoInsuraBook()) {
-            return;
-        }
-        currentStatePointer--;
-        insuraBook.resetData(insuraBookStateList.get(currentStatePointer));
+        undoHistory.undo();
+    }
+
+    @Override
+    public boolean canRedoInsuraBook() {
+        return undoHistory.canRedo();
+    }
+
+    @Override
+    public void redoInsuraBook() {
+        undoHistory.redo();
     }
 
     @Override
     public void commitInsuraBook() {
-        insuraBookStateList.subList(currentStatePointer + 1, insuraBookStateList.size()).clear();
-        insuraBookStateList.add(new InsuraBook(insuraBook));
-        currentStatePointer++;
+        undoHistory.commit();
+        logger.fine("Undo history: " + getUndoHistorySize() + " steps, " + getUndoHistorySpilledSize()
+                + " of them spilled to disk (" + getUndoHistorySpillCount() + " spills so far), using about "
+                + getUndoHistoryMemoryUsage() + " bytes of memory");
+    }
+
+    @Override
+    public List<InsuraBook.Change> takeUnsavedChanges() {
+        return insuraBook.takeUnsavedChanges();
+    }
+
+    @Override
+    public int getUndoHistorySize() {
+        return undoHistory.size();
+    }
+
+    @Override
+    public int getUndoHistorySpilledSize() {
+        return undoHistory.getSpilledSize();
+    }
+
+    @Override
+    public int getUndoHistorySpillCount() {
+        return undoHistory.getSpillCount();
+    }
+
+    @Override
+    public long getUndoHistoryMemoryUsage() {
+        return undoHistory.getMemoryUsage();
     }
 
     /**
@@ -285,6 +350,16 @@ public class ModelManager implements Model {
         return insuraBook.getBirthdayClients();
     }
 
+    @Override
+    public List<Client> getUpcomingBirthdayClients(int days) {
+        return insuraBook.getUpcomingBirthdayClients(days);
+    }
+
+    @Override
+    public List<Client> getBirthdayClientsThisMonth() {
+        return insuraBook.getBirthdayClientsThisMonth();
+    }
+
     /**
      * Returns a list of policies that are expiring within 3 days.
      */
@@ -293,4 +368,16 @@ public class ModelManager implements Model {
         return insuraBook.getExpiringPolicies();
     }
 
+    @Override
+    public List<Policy> getPoliciesExpiringBetween(InsuraDate start, InsuraDate end) {
+        requireAllNonNull(start, end);
+        return insuraBook.getPoliciesExpiringBetween(start, end);
+    }
+
+    @Override
+    public List<Policy> getPoliciesOfType(PolicyTypeId policyTypeId) {
+        requireNonNull(policyTypeId);
+        return insuraBook.getPoliciesOfType(policyTypeId);
+    }
+
 }
@@ -0,0 +1,185 @@
+package insurabook.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import insurabook.commons.core.LogsCenter;
+
+/**
+ * The undo and redo history of an {@code InsuraBook}, kept as the changes made by each committed command.
+ *
+ * The undo history is kept within a memory budget. Once the estimated size of the steps held in memory exceeds
+ * the budget, the oldest steps are compressed and spilled to a temporary file, and are only read back in when
+ * undoing reaches them. The most recent step always stays in memory, and so do redo steps.
+ */
+public class UndoHistory {
+    private static final Logger logger = LogsCenter.getLogger(UndoHistory.class);
+
+    private final InsuraBook insuraBook;
+    // In-memory undo steps, oldest first. Older steps than these are in the spill file.
+    private final List<Step> undoSteps = new ArrayList<>();
+    // Redo steps, most recently undone last
+    private final List<Step> redoSteps = new ArrayList<>();
+    private long memoryBudget;
+    private long memoryUsage;
+    private UndoSpillFile spillFile;
+    private int spillCount;
+
+    /**
+     * Creates an empty history of the changes made to {@code insuraBook}, holding at most about
+     * {@code memoryBudget} bytes of undo steps in memory.
+     */
+    public UndoHistory(InsuraBook insuraBook, long memoryBudget) {
+        requireNonNull(insuraBook);
+        this.insuraBook = insuraBook;
+        this.memoryBudget = memoryBudget;
+    }
+
+    /**
+     * Sets the memory budget of the undo history, spilling steps right away if it is already exceeded.
+     */
+    public void setMemoryBudget(long memoryBudget) {
+        this.memoryBudget = memoryBudget;
+        spillOverBudget();
+    }
+
+    /**
+     * Records the changes made to the book since the last commit as one step that can be undone,
+     * and forgets the steps that could be redone.
+     */
+    public void commit() {
+        redoSteps.clear();
+        pushUndoStep(new Step(insuraBook.takeRecordedChanges()));
+    }
+
+    public boolean canUndo() {
+        return !undoSteps.isEmpty();
+    }
+
+    public boolean canRedo() {
+        return !redoSteps.isEmpty();
+    }
+
+    /**
+     * Reverts the last step, along with any changes made since that were not committed.
+     */
+    public void undo() {
+        if (!canUndo()) {
+            return;
+        }
+        insuraBook.revert(insuraBook.takeRecordedChanges());
+        Step step = undoSteps.remove(undoSteps.size() - 1);
+        memoryUsage -= step.size;
+        redoSteps.add(new Step(insuraBook.revert(step.changes)));
+        if (undoSteps.isEmpty()) {
+            pageInSpilledStep();
+        }
+    }
+
+    /**
+     * Reapplies the last undone step by reverting its undo.
+     */
+    public void redo() {
+        if (!canRedo()) {
+            return;
+        }
+        insuraBook.revert(insuraBook.takeRecordedChanges());
+        Step step = redoSteps.remove(redoSteps.size() - 1);
+        pushUndoStep(new Step(insuraBook.revert(step.changes)));
+    }
+
+    /**
+     * Returns the number of steps that can be undone, whether in memory or spilled.
+     */
+    public int size() {
+        return undoSteps.size() + getSpilledSize();
+    }
+
+    /**
+     * Returns the number of steps currently spilled to disk.
+     */
+    public int getSpilledSize() {
+        return spillFile == null ? 0 : spillFile.size();
+    }
+
+    /**
+     * Returns the number of times a step has been spilled to disk so far.
+     */
+    public int getSpillCount() {
+        return spillCount;
+    }
+
+    /**
+     * Returns the estimated memory held by the undo steps kept in memory, in bytes.
+     */
+    public long getMemoryUsage() {
+        return memoryUsage;
+    }
+
+    private void pushUndoStep(Step step) {
+        undoSteps.add(step);
+        memoryUsage += step.size;
+        spillOverBudget();
+    }
+
+    /**
+     * Spills the oldest in-memory steps until the rest fit in the budget. If the spill file cannot be written,
+     * the steps are kept in memory instead.
+     */
+    private void spillOverBudget() {
+        while (memoryUsage > memoryBudget && undoSteps.size() > 1) {
+            Step oldest = undoSteps.get(0);
+            try {
+                if (spillFile == null) {
+                    Path path = Files.createTempFile("insurabook-undo", ".spill");
+                    path.toFile().deleteOnExit();
+                    spillFile = new UndoSpillFile(path);
+                }
+                spillFile.push(oldest.changes);
+            } catch (IOException e) {
+                logger.warning("Could not spill undo history to disk, keeping it in memory: " + e.getMessage());
+                return;
+            }
+            undoSteps.remove(0);
+            memoryUsage -= oldest.size;
+            spillCount++;
+        }
+    }
+
+    /**
+     * Reads the most recently spilled step back into memory. If it cannot be read, the spilled steps are dropped,
+     * since none of them can be undone without it.
+     */
+    private void pageInSpilledStep() {
+        if (getSpilledSize() == 0) {
+            return;
+        }
+        try {
+            Step step = new Step(spillFile.pop());
+            undoSteps.add(step);
+            memoryUsage += step.size;
+        } catch (IOException e) {
+            logger.warning("Could not read spilled undo history, discarding it: " + e.getMessage());
+            spillFile = null; // the file is deleted on exit
+        }
+    }
+
+    /**
+     * The changes made by one command, along with their estimated memory footprint.
+     */
+    private static class Step {
+        private final List<InsuraBook.Change> changes;
+        private final long size;
+
+        Step(List<InsuraBook.Change> changes) {
+            this.changes = changes;
+            this.size = changes.stream().mapToLong(InsuraBook.Change::estimateSize).sum();
+        }
+    }
+}
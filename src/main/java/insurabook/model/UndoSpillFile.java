@@ -0,0 +1,230 @@
+package insurabook.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import insurabook.model.claims.Claim;
+import insurabook.model.claims.ClaimAmount;
+import insurabook.model.claims.ClaimId;
+import insurabook.model.claims.ClaimMessage;
+import insurabook.model.claims.InsuraDate;
+import insurabook.model.client.Client;
+import insurabook.model.client.ClientId;
+import insurabook.model.client.Email;
+import insurabook.model.client.Name;
+import insurabook.model.client.Phone;
+import insurabook.model.policies.Policy;
+import insurabook.model.policies.PolicyId;
+import insurabook.model.policytype.PolicyType;
+import insurabook.model.policytype.PolicyTypeDescription;
+import insurabook.model.policytype.PolicyTypeId;
+import insurabook.model.policytype.PolicyTypeName;
+import insurabook.model.policytype.PolicyTypePremium;
+import insurabook.model.util.PersistentList;
+
+/**
+ * A stack of undo steps kept in a file instead of in memory.
+ * Each step is written as one compressed record appended to the end of the file, and popping a step reads the last
+ * record back and truncates the file before it, so the file only ever holds the steps still on the stack.
+ */
+class UndoSpillFile {
+
+    private final Path path;
+    private final List<Long> recordOffsets = new ArrayList<>();
+
+    UndoSpillFile(Path path) {
+        requireNonNull(path);
+        this.path = path;
+    }
+
+    /**
+     * Returns the number of steps in the file.
+     */
+    int size() {
+        return recordOffsets.size();
+    }
+
+    /**
+     * Appends the step made up of {@code changes} to the file.
+     */
+    void push(List<InsuraBook.Change> changes) throws IOException {
+        byte[] record = encode(changes);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            long offset = channel.size();
+            channel.write(ByteBuffer.wrap(record), offset);
+            recordOffsets.add(offset);
+        }
+    }
+
+    /**
+     * Removes the last step appended to the file and returns its changes.
+     */
+    List<InsuraBook.Change> pop() throws IOException {
+        assert !recordOffsets.isEmpty();
+        long offset = recordOffsets.get(recordOffsets.size() - 1);
+        ByteBuffer record;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            record = ByteBuffer.allocate((int) (channel.size() - offset));
+            channel.position(offset);
+            while (record.hasRemaining()) {
+                if (channel.read(record) < 0) {
+                    throw new EOFException("Undo spill file " + path + " ended before its last record");
+                }
+            }
+            channel.truncate(offset);
+        }
+        recordOffsets.remove(recordOffsets.size() - 1);
+        return decode(record.array());
+    }
+
+    private static byte[] encode(List<InsuraBook.Change> changes) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(bytes))) {
+            out.writeInt(changes.size());
+            for (InsuraBook.Change change : changes) {
+                out.writeByte(change.getKind().ordinal());
+                out.writeInt(change.getPosition());
+                out.writeInt(change.getClients().size());
+                for (Client client : change.getClients()) {
+                    writeClient(out, client);
+                }
+                out.writeInt(change.getPolicyTypes().size());
+                for (PolicyType policyType : change.getPolicyTypes()) {
+                    writePolicyType(out, policyType);
+                }
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    private static List<InsuraBook.Change> decode(byte[] record) throws IOException {
+        try (DataInputStream in = new DataInputStream(new InflaterInputStream(new ByteArrayInputStream(record)))) {
+            int changeCount = in.readInt();
+            List<InsuraBook.Change> changes = new ArrayList<>(changeCount);
+            for (int i = 0; i < changeCount; i++) {
+                InsuraBook.Change.Kind kind = InsuraBook.Change.Kind.values()[in.readByte()];
+                int position = in.readInt();
+                int clientCount = in.readInt();
+                List<Client> clients = new ArrayList<>(clientCount);
+                for (int j = 0; j < clientCount; j++) {
+                    clients.add(readClient(in));
+                }
+                int policyTypeCount = in.readInt();
+                List<PolicyType> policyTypes = new ArrayList<>(policyTypeCount);
+                for (int j = 0; j < policyTypeCount; j++) {
+                    policyTypes.add(readPolicyType(in));
+                }
+                changes.add(new InsuraBook.Change(kind, position, PersistentList.of(clients), policyTypes));
+            }
+            return changes;
+        }
+    }
+
+    private static void writeClient(DataOutputStream out, Client client) throws IOException {
+        writeString(out, client.getName().toString());
+        writeString(out, client.getPhone() == null ? null : client.getPhone().toString());
+        writeString(out, client.getEmail() == null ? null : client.getEmail().toString());
+        writeString(out, client.getBirthday().toString());
+        writeString(out, client.getClientId().toString());
+        List<Policy> policies = client.getPolicies();
+        out.writeInt(policies.size());
+        for (Policy policy : policies) {
+            writeString(out, policy.getPolicyId().toString());
+            writeString(out, policy.getClientId().toString());
+            writeString(out, policy.getPolicyTypeId().toString());
+            writeString(out, policy.getExpiryDate().toString());
+            Collection<Claim> claims = policy.getClaims();
+            out.writeInt(claims.size());
+            for (Claim claim : claims) {
+                writeString(out, claim.getClaimId().toString());
+                writeString(out, claim.getClientId().toString());
+                writeString(out, claim.getPolicyId().toString());
+                writeString(out, claim.getAmount().toString());
+                writeString(out, claim.getDate().toString());
+                writeString(out, claim.getDescription().toString());
+            }
+        }
+    }
+
+    private static Client readClient(DataInputStream in) throws IOException {
+        Name name = new Name(readString(in));
+        String phone = readString(in);
+        String email = readString(in);
+        InsuraDate birthday = new InsuraDate(readString(in));
+        ClientId clientId = new ClientId(readString(in));
+        int policyCount = in.readInt();
+        List<Policy> policies = new ArrayList<>(policyCount);
+        for (int i = 0; i < policyCount; i++) {
+            PolicyId policyId = new PolicyId(readString(in));
+            ClientId policyClientId = new ClientId(readString(in));
+            PolicyTypeId policyTypeId = new PolicyTypeId(readString(in));
+            InsuraDate expiryDate = new InsuraDate(readString(in));
+            int claimCount = in.readInt();
+            List<Claim> claims = new ArrayList<>(claimCount);
+            for (int j = 0; j < claimCount; j++) {
+                claims.add(new Claim(new ClaimId(readString(in)), new ClientId(readString(in)),
+                        new PolicyId(readString(in)), new ClaimAmount(readString(in)),
+                        new InsuraDate(readString(in)), new ClaimMessage(readString(in))));
+            }
+            policies.add(new Policy(policyId, policyClientId, policyTypeId, expiryDate, claims));
+        }
+        return new Client(name, phone == null ? null : new Phone(phone), email == null ? null : new Email(email),
+                birthday, clientId, policies);
+    }
+
+    private static void writePolicyType(DataOutputStream out, PolicyType policyType) throws IOException {
+        writeString(out, policyType.getPtName().toString());
+        writeString(out, policyType.getPtId().toString());
+        PolicyTypeDescription description = policyType.getPtDescription();
+        writeString(out, description.isEmpty ? null : description.toString());
+        PolicyTypePremium premium = policyType.getPtPremium();
+        writeString(out, premium.isEmpty ? null : premium.toString());
+    }
+
+    private static PolicyType readPolicyType(DataInputStream in) throws IOException {
+        PolicyTypeName name = new PolicyTypeName(readString(in));
+        PolicyTypeId id = new PolicyTypeId(readString(in));
+        String description = readString(in);
+        String premium = readString(in);
+        return new PolicyType(name, id,
+                description == null ? new PolicyTypeDescription() : new PolicyTypeDescription(description),
+                premium == null ? new PolicyTypePremium() : new PolicyTypePremium(premium));
+    }
+
+    /**
+     * Writes {@code value}, which may be null, as its length in UTF-8 bytes followed by those bytes.
+     */
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        return new String(in.readNBytes(length), StandardCharsets.UTF_8);
+    }
+}
@@ -1,5 +1,6 @@
 package insurabook.model;
 
+import static insurabook.commons.util.AppUtil.checkArgument;
 import static java.util.Objects.requireNonNull;
 
 import java.nio.file.Path;
@@ -13,8 +14,11 @@ import insurabook.commons.core.GuiSettings;
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final long DEFAULT_UNDO_HISTORY_BUDGET = 64L * 1024 * 1024;
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path insuraBookFilePath = Paths.get("data" , "insurabook.json");
+    private long undoHistoryBudget = DEFAULT_UNDO_HISTORY_BUDGET;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +40,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setInsuraBookFilePath(newUserPrefs.getInsuraBookFilePath());
+        setUndoHistoryBudget(newUserPrefs.getUndoHistoryBudget());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +61,18 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.insuraBookFilePath = insuraBookFilePath;
     }
 
+    public long getUndoHistoryBudget() {
+        return undoHistoryBudget;
+    }
+
+    /**
+     * Sets the estimated number of bytes of undo history to keep in memory before older steps are spilled to disk.
+     */
+    public void setUndoHistoryBudget(long undoHistoryBudget) {
+        checkArgument(undoHistoryBudget >= 0, "Undo history budget cannot be negative.");
+        this.undoHistoryBudget = undoHistoryBudget;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +86,13 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && insuraBookFilePath.equals(otherUserPrefs.insuraBookFilePath);
+                && insuraBookFilePath.equals(otherUserPrefs.insuraBookFilePath)
+                && undoHistoryBudget == otherUserPrefs.undoHistoryBudget;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, insuraBookFilePath);
+        return Objects.hash(guiSettings, insuraBookFilePath, undoHistoryBudget);
     }
 
     @Override
@@ -82,6 +100,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nInsuraBook data file location : " + insuraBookFilePath);
+        sb.append("\nUndo history memory budget : " + undoHistoryBudget + " bytes");
         return sb.toString();
     }
 
@@ -10,10 +10,12 @@ import static java.util.Objects.requireNonNull;
 public class ClaimId {
 
     public static final String MESSAGE_CONSTRAINTS =
-            "Id should be in the format of CLxxx where x is a digit (0-9).";
+            "Id should be in the format of CLxxx where x is a digit (0-9). Ids past CL999 have up to 9 digits "
+            + "and do not start with 0.";
 
-    // The format of the claim ID must start with 'CL' followed by one or more digits.
-    public static final String VALIDATION_REGEX = "CL[0-9]{3}";
+    // 'CL' followed by exactly 3 digits, or by 4 to 9 digits without a leading zero, so that every claim number
+    // fits an int and has exactly one id
+    public static final String VALIDATION_REGEX = "CL([0-9]{3}|[1-9][0-9]{3,8})";
 
     private final String claimId;
 
@@ -5,6 +5,7 @@ import static java.util.Objects.requireNonNull;
 
 import java.text.SimpleDateFormat;
 import java.time.LocalDate;
+import java.time.MonthDay;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
@@ -16,10 +17,11 @@ import java.util.Date;
  * Represents a Claim Date in the insurance management system.
  * Guarantees: details are present and not null, field values are validated, immutable.
  */
-public class InsuraDate {
+public class InsuraDate implements Comparable<InsuraDate> {
     public static final String MESSAGE_CONSTRAINTS = "Date should be valid calendar date and in the format YYYY-MM-DD";
     public static final String VALIDATION_PATTERN = "uuuu-MM-dd";
     public static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private static final ZoneId SG_ZONE = ZoneId.of("Asia/Singapore");
     private final LocalDate date;
 
     /**
@@ -33,6 +35,24 @@ public class InsuraDate {
         this.date = LocalDate.parse(date);
     }
 
+    private InsuraDate(LocalDate date) {
+        this.date = date;
+    }
+
+    /**
+     * Returns the date that is {@code epochDay} days after 1970-01-01, or before it if negative.
+     */
+    public static InsuraDate ofEpochDay(long epochDay) {
+        return new InsuraDate(LocalDate.ofEpochDay(epochDay));
+    }
+
+    /**
+     * Returns today's date in Singapore timezone.
+     */
+    public static InsuraDate today() {
+        return new InsuraDate(ZonedDateTime.now(SG_ZONE).toLocalDate());
+    }
+
     /**
      * Returns true if a given string is a valid date.
      */
@@ -53,8 +73,7 @@ public class InsuraDate {
      * Returns true if the date is today in Singapore timezone.
      */
     public boolean isToday() {
-        ZoneId sgZone = ZoneId.of("Asia/Singapore");
-        LocalDate now = ZonedDateTime.now(sgZone).toLocalDate();
+        LocalDate now = ZonedDateTime.now(SG_ZONE).toLocalDate();
         int month = this.date.getMonthValue();
         int day = this.date.getDayOfMonth();
         return (now.getMonthValue() == month) && (now.getDayOfMonth() == day);
@@ -89,13 +108,33 @@ public class InsuraDate {
      * Returns true if the date is in three days' time in Singapore timezone.
      */
     public boolean isExpiringInThreeDays() {
-        ZoneId sgZone = ZoneId.of("Asia/Singapore");
-        LocalDate today = ZonedDateTime.now(sgZone).toLocalDate();
+        LocalDate today = ZonedDateTime.now(SG_ZONE).toLocalDate();
         LocalDate expiryDate = this.date;
         LocalDate threeDaysLater = today.plusDays(3);
         return (!expiryDate.isBefore(today)) && (expiryDate.isBefore(threeDaysLater));
     }
 
+    /**
+     * Returns the month and day of this date.
+     */
+    public MonthDay getMonthDay() {
+        return MonthDay.from(date);
+    }
+
+    /**
+     * Returns the date {@code days} days after this date.
+     */
+    public InsuraDate plusDays(long days) {
+        return new InsuraDate(date.plusDays(days));
+    }
+
+    /**
+     * Returns the number of days from 1970-01-01 to this date, which is negative for earlier dates.
+     */
+    public long toEpochDay() {
+        return date.toEpochDay();
+    }
+
     /**
      * Returns a formatted date string for UI display.
      */
@@ -147,10 +186,9 @@ public class InsuraDate {
      * @return A negative integer, zero, or a positive integer as this date
      *         is before, equal to, or after the specified date.
      */
+    @Override
     public int compareTo(InsuraDate claimDate) {
         requireNonNull(claimDate);
-        Date thisDate = Date.from(this.date.atStartOfDay(ZoneId.systemDefault()).toInstant());
-        Date otherDate = Date.from(claimDate.date.atStartOfDay(ZoneId.systemDefault()).toInstant());
-        return thisDate.compareTo(otherDate);
+        return this.date.compareTo(claimDate.date);
     }
 }
@@ -0,0 +1,11 @@
+package insurabook.model.claims.exceptions;
+
+/**
+ * Signals that the operation will result in duplicate claims (claims are considered duplicates if they have the
+ * same claim id).
+ */
+public class DuplicateClaimException extends RuntimeException {
+    public DuplicateClaimException() {
+        super("Duplicate claim found. A claim with the same claim id is already under this policy");
+    }
+}
@@ -8,18 +8,41 @@ import insurabook.commons.util.ToStringBuilder;
 
 /**
  * Tests that a {@code Client}'s {@code ClientId} matches any of the keywords given.
+ * A keyword ending with {@value #PREFIX_WILDCARD} matches every id that starts with the rest of the keyword.
  */
 public class IdContainsKeywordsPredicate implements Predicate<Client> {
+    public static final String PREFIX_WILDCARD = "*";
+
     private final List<String> keywords;
 
     public IdContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
     }
 
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    /**
+     * Returns true if {@code keyword} asks for the ids starting with {@link #prefixOf(String)}.
+     */
+    public static boolean isPrefixKeyword(String keyword) {
+        return keyword.endsWith(PREFIX_WILDCARD);
+    }
+
+    /**
+     * Returns {@code keyword} without its trailing {@value #PREFIX_WILDCARD}.
+     */
+    public static String prefixOf(String keyword) {
+        return keyword.substring(0, keyword.length() - PREFIX_WILDCARD.length());
+    }
+
     @Override
     public boolean test(Client client) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(client.getClientId().toString(), keyword));
+        String clientId = client.getClientId().toString();
+        return keywords.stream().anyMatch(keyword -> isPrefixKeyword(keyword)
+                ? clientId.regionMatches(true, 0, prefixOf(keyword), 0, prefixOf(keyword).length())
+                : StringUtil.containsWordIgnoreCase(clientId, keyword));
     }
 
     @Override
@@ -16,6 +16,10 @@ public class NameContainsKeywordsPredicate implements Predicate<Client> {
         this.keywords = keywords;
     }
 
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
     @Override
     public boolean test(Client client) {
         return keywords.stream()
@@ -0,0 +1,71 @@
+package insurabook.model.client;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Predicate;
+
+import insurabook.commons.util.StringUtil;
+import insurabook.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a word in a {@code Client}'s {@code Name} is within a few typos of any of the keywords given,
+ * ignoring case. Short keywords must match exactly, so that they do not match most of the book.
+ */
+public class NameSimilarToKeywordsPredicate implements Predicate<Client> {
+    private final List<String> keywords;
+
+    public NameSimilarToKeywordsPredicate(List<String> keywords) {
+        this.keywords = keywords;
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
+    /**
+     * Returns the largest edit distance at which a name word still matches {@code keyword}.
+     */
+    public static int getTypoAllowance(String keyword) {
+        int length = keyword.trim().length();
+        if (length < 3) {
+            return 0;
+        }
+        return length < 6 ? 1 : 2;
+    }
+
+    @Override
+    public boolean test(Client client) {
+        String[] nameWords = client.getName().toString().toLowerCase(Locale.ROOT).split("\\s+");
+        return keywords.stream().anyMatch(keyword -> {
+            String foldedKeyword = keyword.trim().toLowerCase(Locale.ROOT);
+            return !foldedKeyword.isEmpty() && Arrays.stream(nameWords).anyMatch(word ->
+                    StringUtil.editDistance(word, foldedKeyword) <= getTypoAllowance(foldedKeyword));
+        });
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NameSimilarToKeywordsPredicate)) {
+            return false;
+        }
+
+        NameSimilarToKeywordsPredicate otherNameSimilarToKeywordsPredicate = (NameSimilarToKeywordsPredicate) other;
+        return keywords.equals(otherNameSimilarToKeywordsPredicate.keywords);
+    }
+
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("keywords", keywords).toString();
+    }
+}
@@ -3,11 +3,25 @@ package insurabook.model.client;
 import static insurabook.commons.util.CollectionUtil.requireAllNonNull;
 import static java.util.Objects.requireNonNull;
 
+import java.time.MonthDay;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
 
+import insurabook.commons.util.StringUtil;
 import insurabook.model.client.exceptions.ClientDuplicateException;
 import insurabook.model.client.exceptions.ClientMissingException;
+import insurabook.model.util.PersistentList;
+import insurabook.model.util.PositionIndex;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 
@@ -20,20 +34,55 @@ import javafx.collections.ObservableList;
  *
  * Supports a minimal set of list operations.
  *
+ * Clients are also indexed by {@code ClientId}, so that lookups and duplicate checks do not need to scan the list,
+ * positioned by {@code ClientId}, so that replacing or removing a client does not need to search the list for it,
+ * ordered by their case-folded id, so that id searches by whole id or by leading characters are logarithmic,
+ * bucketed by the month and day of their birthday, so that birthday queries only visit matching clients, and
+ * indexed by the case-folded words of their name, so that name searches only visit the posting lists of the keywords.
+ * The distinct name words are in turn indexed by their trigrams, so that a typo-tolerant search only computes the edit
+ * distance to words that share enough trigrams with the keyword.
+ * The indexes are kept consistent with the list by every mutating operation.
+ *
+ * The contents are also mirrored in a {@code PersistentList}, so that the current state can be captured in constant
+ * time and restored later without copying any client.
+ * Only the clients are shared that way. Restoring a captured state with {@link #setClients(PersistentList)} still
+ * refills the JavaFX list and rebuilds every index above, in time linear in the number of clients.
+ *
  * @see Client#isSameClient(Client)
  */
 public class UniqueClientList implements Iterable<Client> {
 
+    // One birthday bucket per day of a leap year, so that 29 February has a bucket of its own
+    private static final int BIRTHDAY_BUCKETS = 366;
+    private static final int TRIGRAM_LENGTH = 3;
+    private static final String TRIGRAM_PADDING = "$$";
+
     private final ObservableList<Client> internalList = FXCollections.observableArrayList();
     private final ObservableList<Client> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private PersistentList<Client> persistentClients = PersistentList.empty();
+    private final Map<ClientId, Client> clientsById = new HashMap<>();
+    private final PositionIndex<ClientId> positions = PositionIndex.byEquality();
+    private final List<Map<ClientId, Client>> clientsByBirthday = new ArrayList<>(BIRTHDAY_BUCKETS);
+    private final Map<String, Set<ClientId>> clientIdsByNameToken = new HashMap<>();
+    private final Map<String, Set<String>> nameTokensByTrigram = new HashMap<>();
+    private final NavigableMap<String, Set<ClientId>> clientIdsByFoldedId = new TreeMap<>();
+
+    /**
+     * Creates an empty UniqueClientList.
+     */
+    public UniqueClientList() {
+        for (int i = 0; i < BIRTHDAY_BUCKETS; i++) {
+            clientsByBirthday.add(new LinkedHashMap<>());
+        }
+    }
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Client toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameClient);
+        return clientsById.containsKey(toCheck.getClientId());
     }
 
     /**
@@ -46,6 +95,24 @@ public class UniqueClientList implements Iterable<Client> {
             throw new ClientDuplicateException();
         }
         internalList.add(toAdd);
+        persistentClients = persistentClients.add(toAdd);
+        positions.add(toAdd.getClientId());
+        index(toAdd);
+    }
+
+    /**
+     * Inserts a person into the list at {@code position}, shifting the persons from there on back by one.
+     * The person must not already exist in the list.
+     */
+    public void add(int position, Client toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new ClientDuplicateException();
+        }
+        internalList.add(position, toAdd);
+        persistentClients = persistentClients.add(position, toAdd);
+        positions.add(position, toAdd.getClientId());
+        index(toAdd);
     }
 
     /**
@@ -56,8 +123,7 @@ public class UniqueClientList implements Iterable<Client> {
     public void setClient(Client target, Client editedClient) {
         requireAllNonNull(target, editedClient);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        if (!clientsById.containsKey(target.getClientId())) {
             throw new ClientMissingException();
         }
 
@@ -65,23 +131,39 @@ public class UniqueClientList implements Iterable<Client> {
             throw new ClientDuplicateException();
         }
 
+        int index = positions.positionOf(target.getClientId());
         internalList.set(index, editedClient);
+        persistentClients = persistentClients.set(index, editedClient);
+        positions.replace(target.getClientId(), editedClient.getClientId());
+        unindex(target.getClientId());
+        index(editedClient);
     }
 
     /**
-     * Removes the equivalent person from the list.
+     * Removes the equivalent person from the list and returns the position it was removed from.
      * The person must exist in the list.
      */
-    public void remove(Client toRemove) {
+    public int remove(Client toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = positions.positionOf(toRemove.getClientId());
+        if (index == -1 || !internalList.get(index).equals(toRemove)) {
             throw new ClientMissingException();
         }
+        internalList.remove(index);
+        persistentClients = persistentClients.remove(index);
+        positions.remove(toRemove.getClientId());
+        unindex(toRemove.getClientId());
+        return index;
     }
 
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}.
+     */
     public void setClients(UniqueClientList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        persistentClients = replacement.persistentClients;
+        rebuildIndexes();
     }
 
     /**
@@ -95,6 +177,26 @@ public class UniqueClientList implements Iterable<Client> {
         }
 
         internalList.setAll(clients);
+        persistentClients = PersistentList.of(clients);
+        rebuildIndexes();
+    }
+
+    /**
+     * Replaces the contents of this list with {@code clients}, a state captured earlier by
+     * {@link #asPersistentList()}. The clients are known to be unique, so they are not checked again.
+     */
+    public void setClients(PersistentList<Client> clients) {
+        requireNonNull(clients);
+        internalList.setAll(clients.toList());
+        persistentClients = clients;
+        rebuildIndexes();
+    }
+
+    /**
+     * Returns the current contents of this list as an immutable {@code PersistentList}, in constant time.
+     */
+    public PersistentList<Client> asPersistentList() {
+        return persistentClients;
     }
 
     /**
@@ -106,7 +208,7 @@ public class UniqueClientList implements Iterable<Client> {
 
     @Override
     public Iterator<Client> iterator() {
-        return internalList.iterator();
+        return internalUnmodifiableList.iterator();
     }
 
     @Override
@@ -138,11 +240,11 @@ public class UniqueClientList implements Iterable<Client> {
      * Returns true if {@code persons} contains only unique persons.
      */
     private boolean personsAreUnique(List<Client> clients) {
-        for (int i = 0; i < clients.size() - 1; i++) {
-            for (int j = i + 1; j < clients.size(); j++) {
-                if (clients.get(i).isSameClient(clients.get(j))) {
-                    return false;
-                }
+        // isSameClient compares client ids only, so a set of ids detects every duplicate in one pass
+        Set<ClientId> seenIds = new HashSet<>();
+        for (Client client : clients) {
+            if (!seenIds.add(client.getClientId())) {
+                return false;
             }
         }
         return true;
@@ -154,9 +256,216 @@ public class UniqueClientList implements Iterable<Client> {
      */
     public Client getClient(ClientId clientId) {
         requireNonNull(clientId);
-        return internalList.stream()
-                .filter(client -> client.getClientId().equals(clientId))
-                .findFirst()
-                .orElseThrow(ClientMissingException::new);
+        Client client = clientsById.get(clientId);
+        if (client == null) {
+            throw new ClientMissingException();
+        }
+        return client;
+    }
+
+    /**
+     * Returns the clients whose birthday falls on {@code monthDay}.
+     */
+    public List<Client> getClientsWithBirthday(MonthDay monthDay) {
+        requireNonNull(monthDay);
+        return List.copyOf(clientsByBirthday.get(bucketOf(monthDay)).values());
+    }
+
+    /**
+     * Returns the clients whose birthday falls from {@code start} to {@code end} inclusive, in calendar order
+     * starting from {@code start}. The range wraps around the end of the year if {@code end} comes before
+     * {@code start}, and covers the whole year if {@code end} is the day before {@code start}.
+     */
+    public List<Client> getClientsWithBirthdayBetween(MonthDay start, MonthDay end) {
+        requireAllNonNull(start, end);
+        int bucket = bucketOf(start);
+        int last = bucketOf(end);
+        List<Client> result = new ArrayList<>(clientsByBirthday.get(bucket).values());
+        while (bucket != last) {
+            bucket = (bucket + 1) % BIRTHDAY_BUCKETS;
+            result.addAll(clientsByBirthday.get(bucket).values());
+        }
+        return result;
+    }
+
+    /**
+     * Returns the ids of the clients with a word in their name that matches any of {@code keywords}, ignoring case.
+     * Blank keywords match no client.
+     */
+    public Set<ClientId> getClientIdsWithNameWords(Collection<String> keywords) {
+        requireAllNonNull(keywords);
+        Set<ClientId> result = new HashSet<>();
+        for (String keyword : keywords) {
+            result.addAll(clientIdsByNameToken.getOrDefault(foldToken(keyword.trim()), Set.of()));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the ids of the clients with a word in their name within the typo allowance of any of {@code keywords},
+     * ignoring case, each mapped to the smallest edit distance between its name words and the keywords.
+     *
+     * @see NameSimilarToKeywordsPredicate#getTypoAllowance(String)
+     */
+    public Map<ClientId, Integer> getClientIdsWithSimilarNameWords(Collection<String> keywords) {
+        requireAllNonNull(keywords);
+        Map<ClientId, Integer> result = new HashMap<>();
+        for (String keyword : keywords) {
+            String foldedKeyword = foldToken(keyword.trim());
+            if (foldedKeyword.isEmpty()) {
+                continue;
+            }
+            int allowance = NameSimilarToKeywordsPredicate.getTypoAllowance(foldedKeyword);
+            for (String word : getSimilarNameTokenCandidates(foldedKeyword, allowance)) {
+                int distance = StringUtil.editDistance(word, foldedKeyword);
+                if (distance <= allowance) {
+                    clientIdsByNameToken.get(word).forEach(clientId -> result.merge(clientId, distance, Math::min));
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the ids of the clients whose id matches any of {@code keywords}, ignoring case.
+     * A keyword matches either a whole id, or the ids starting with it if it ends with
+     * {@value IdContainsKeywordsPredicate#PREFIX_WILDCARD}.
+     */
+    public Set<ClientId> getClientIdsWithIdKeywords(Collection<String> keywords) {
+        requireAllNonNull(keywords);
+        Set<ClientId> result = new HashSet<>();
+        for (String keyword : keywords) {
+            if (IdContainsKeywordsPredicate.isPrefixKeyword(keyword)) {
+                String prefix = foldToken(IdContainsKeywordsPredicate.prefixOf(keyword));
+                // ids are alphanumeric, so every id starting with the prefix sorts before prefix + MAX_VALUE
+                clientIdsByFoldedId.subMap(prefix, true, prefix + Character.MAX_VALUE, false)
+                        .values().forEach(result::addAll);
+            } else {
+                result.addAll(clientIdsByFoldedId.getOrDefault(foldToken(keyword), Set.of()));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the name words that could be within {@code allowance} edits of {@code foldedKeyword}.
+     * Each edit changes at most {@value TRIGRAM_LENGTH} of the keyword's distinct trigrams, so a word within
+     * {@code allowance} edits shares all but {@code allowance * TRIGRAM_LENGTH} of them.
+     */
+    private Set<String> getSimilarNameTokenCandidates(String foldedKeyword, int allowance) {
+        if (allowance == 0) {
+            return clientIdsByNameToken.containsKey(foldedKeyword) ? Set.of(foldedKeyword) : Set.of();
+        }
+        Set<String> keywordTrigrams = trigramsOf(foldedKeyword);
+        Map<String, Integer> sharedTrigrams = new HashMap<>();
+        for (String trigram : keywordTrigrams) {
+            for (String word : nameTokensByTrigram.getOrDefault(trigram, Set.of())) {
+                if (Math.abs(word.length() - foldedKeyword.length()) <= allowance) {
+                    sharedTrigrams.merge(word, 1, Integer::sum);
+                }
+            }
+        }
+        int minShared = Math.max(1, keywordTrigrams.size() - allowance * TRIGRAM_LENGTH);
+        Set<String> candidates = new HashSet<>();
+        sharedTrigrams.forEach((word, shared) -> {
+            if (shared >= minShared) {
+                candidates.add(word);
+            }
+        });
+        return candidates;
+    }
+
+    private void index(Client client) {
+        clientsById.put(client.getClientId(), client);
+        clientsByBirthday.get(bucketOf(client.getBirthday().getMonthDay())).put(client.getClientId(), client);
+        for (String token : nameTokensOf(client)) {
+            clientIdsByNameToken.computeIfAbsent(token, newToken -> {
+                trigramsOf(newToken).forEach(trigram ->
+                        nameTokensByTrigram.computeIfAbsent(trigram, unused -> new HashSet<>()).add(newToken));
+                return new HashSet<>();
+            }).add(client.getClientId());
+        }
+        clientIdsByFoldedId.computeIfAbsent(foldToken(client.getClientId().toString()), unused -> new HashSet<>())
+                .add(client.getClientId());
+    }
+
+    private void unindex(ClientId clientId) {
+        Client removed = clientsById.remove(clientId);
+        if (removed == null) {
+            return;
+        }
+        clientsByBirthday.get(bucketOf(removed.getBirthday().getMonthDay())).remove(clientId);
+        for (String token : nameTokensOf(removed)) {
+            Set<ClientId> postings = clientIdsByNameToken.get(token);
+            postings.remove(clientId);
+            if (postings.isEmpty()) {
+                clientIdsByNameToken.remove(token);
+                unindexTrigrams(token);
+            }
+        }
+        String foldedId = foldToken(clientId.toString());
+        Set<ClientId> sameFoldedId = clientIdsByFoldedId.get(foldedId);
+        sameFoldedId.remove(clientId);
+        if (sameFoldedId.isEmpty()) {
+            clientIdsByFoldedId.remove(foldedId);
+        }
+    }
+
+    private void rebuildIndexes() {
+        clientsById.clear();
+        clientsByBirthday.forEach(Map::clear);
+        clientIdsByNameToken.clear();
+        nameTokensByTrigram.clear();
+        clientIdsByFoldedId.clear();
+        positions.setAll(internalList.stream().map(Client::getClientId).toList());
+        internalList.forEach(this::index);
+    }
+
+    /**
+     * Returns the distinct case-folded words of the client's name, split the same way as
+     * {@code StringUtil#containsWordIgnoreCase}.
+     */
+    private static Set<String> nameTokensOf(Client client) {
+        Set<String> tokens = new HashSet<>();
+        for (String word : client.getName().toString().split("\\s+")) {
+            if (!word.isEmpty()) {
+                tokens.add(foldToken(word));
+            }
+        }
+        return tokens;
+    }
+
+    private void unindexTrigrams(String token) {
+        for (String trigram : trigramsOf(token)) {
+            Set<String> tokens = nameTokensByTrigram.get(trigram);
+            tokens.remove(token);
+            if (tokens.isEmpty()) {
+                nameTokensByTrigram.remove(trigram);
+            }
+        }
+    }
+
+    /**
+     * Returns the distinct trigrams of {@code word}, padded so that its first and last characters each
+     * start or end trigrams of their own.
+     */
+    private static Set<String> trigramsOf(String word) {
+        String padded = TRIGRAM_PADDING + word + TRIGRAM_PADDING;
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + TRIGRAM_LENGTH <= padded.length(); i++) {
+            trigrams.add(padded.substring(i, i + TRIGRAM_LENGTH));
+        }
+        return trigrams;
+    }
+
+    private static String foldToken(String word) {
+        return word.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns the birthday bucket of {@code monthDay}, i.e. its zero-based day of the year in a leap year.
+     */
+    private static int bucketOf(MonthDay monthDay) {
+        return monthDay.atYear(2000).getDayOfYear() - 1;
     }
 }
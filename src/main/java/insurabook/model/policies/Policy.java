@@ -1,12 +1,16 @@
 package insurabook.model.policies;
 
-import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import insurabook.model.claims.Claim;
 import insurabook.model.claims.ClaimId;
 import insurabook.model.claims.InsuraDate;
 import insurabook.model.claims.exceptions.ClaimNotFoundException;
+import insurabook.model.claims.exceptions.DuplicateClaimException;
 import insurabook.model.client.ClientId;
 import insurabook.model.policies.exceptions.ClaimAfterExpiredDateException;
 import insurabook.model.policytype.PolicyTypeId;
@@ -20,7 +24,8 @@ public class Policy {
     private final ClientId clientId;
     private final PolicyTypeId policyTypeId;
     private final InsuraDate expiryDate;
-    private final List<Claim> claim;
+    // claims keyed by id, in insertion order
+    private final Map<ClaimId, Claim> claims;
 
     /**
      * Constructor
@@ -32,7 +37,7 @@ public class Policy {
         this.clientId = clientId;
         this.policyTypeId = policyTypeId;
         this.expiryDate = expiryDate;
-        this.claim = new ArrayList<>();
+        this.claims = new LinkedHashMap<>();
     }
 
     /**
@@ -42,12 +47,13 @@ public class Policy {
      * @param claims list of claims under this policy
      */
     public Policy(PolicyId policyId, ClientId clientId,
-                  PolicyTypeId policyTypeId, InsuraDate expiryDate, List<Claim> claims) {
+                  PolicyTypeId policyTypeId, InsuraDate expiryDate, Collection<Claim> claims) {
         this.policyId = policyId;
         this.clientId = clientId;
         this.policyTypeId = policyTypeId;
         this.expiryDate = expiryDate;
-        this.claim = new ArrayList<>(claims);
+        this.claims = new LinkedHashMap<>();
+        claims.forEach(claim -> this.claims.put(claim.getClaimId(), claim));
     }
 
     /**
@@ -59,7 +65,7 @@ public class Policy {
         this.clientId = toCopy.getClientId();
         this.policyTypeId = toCopy.getPolicyTypeId();
         this.expiryDate = toCopy.getExpiryDate();
-        this.claim = new ArrayList<>(toCopy.getClaims());
+        this.claims = new LinkedHashMap<>(toCopy.claims);
     }
 
     /**
@@ -88,10 +94,10 @@ public class Policy {
 
     /**
      * Getter
-     * @return list of claims under this policy
+     * @return unmodifiable view of the claims under this policy, in the order they were added
      */
-    public List<Claim> getClaims() {
-        return this.claim;
+    public Collection<Claim> getClaims() {
+        return Collections.unmodifiableCollection(this.claims.values());
     }
 
     public PolicyId getPolicyId() {
@@ -140,7 +146,7 @@ public class Policy {
         if (this.expiryDate.isBefore(claim.getDate())) {
             throw new ClaimAfterExpiredDateException();
         }
-        this.claim.add(claim);
+        this.claims.put(claim.getClaimId(), claim);
     }
 
     /**
@@ -150,21 +156,37 @@ public class Policy {
      * @return removed claim
      */
     public Claim removeClaim(ClaimId claimId) throws ClaimNotFoundException {
-        Claim claim = this.claim.stream()
-                .filter(c -> c.getClaimId().equals(claimId))
-                .findFirst()
-                .orElseThrow(ClaimNotFoundException::new);
-        this.claim.remove(claim);
+        Claim claim = this.claims.remove(claimId);
+        if (claim == null) {
+            throw new ClaimNotFoundException();
+        }
         return claim;
     }
 
     /**
-     * Sets claim in policy
+     * Sets claim in policy, keeping its position among the claims.
+     * Changing the claim id rebuilds the order of this policy's claims; no command edits claim ids.
+     *
+     * @throws DuplicateClaimException if {@code editedClaim} has the id of another claim in this policy
      */
     public void setClaim(Claim target, Claim editedClaim) {
-        int index = this.claim.indexOf(target);
-        if (index != -1) {
-            this.claim.set(index, editedClaim);
+        ClaimId targetId = target.getClaimId();
+        ClaimId editedId = editedClaim.getClaimId();
+        if (!target.equals(this.claims.get(targetId))) {
+            return;
+        }
+        if (targetId.equals(editedId)) {
+            this.claims.put(editedId, editedClaim);
+            return;
+        }
+        if (this.claims.containsKey(editedId)) {
+            throw new DuplicateClaimException();
+        }
+        List<Claim> ordered = List.copyOf(this.claims.values());
+        this.claims.clear();
+        for (Claim claim : ordered) {
+            Claim kept = claim.getClaimId().equals(targetId) ? editedClaim : claim;
+            this.claims.put(kept.getClaimId(), kept);
         }
     }
 
@@ -172,10 +194,11 @@ public class Policy {
      * Gets claim in policy
      */
     public Claim getClaim(ClaimId claimId) throws ClaimNotFoundException {
-        return this.claim.stream()
-                .filter(c -> c.getClaimId().equals(claimId))
-                .findFirst()
-                .orElseThrow(ClaimNotFoundException::new);
+        Claim claim = this.claims.get(claimId);
+        if (claim == null) {
+            throw new ClaimNotFoundException();
+        }
+        return claim;
     }
 
     /*
@@ -2,13 +2,24 @@ package insurabook.model.policies;
 
 import static insurabook.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
-import java.util.stream.IntStream;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
 
+import insurabook.model.claims.InsuraDate;
+import insurabook.model.client.ClientId;
 import insurabook.model.policies.exceptions.DuplicatePolicyException;
 import insurabook.model.policies.exceptions.PolicyNotFoundException;
 import insurabook.model.policytype.PolicyType;
+import insurabook.model.policytype.PolicyTypeId;
+import insurabook.model.util.PositionIndex;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 
@@ -21,6 +32,12 @@ import javafx.collections.ObservableList;
  *
  * Supports a minimal set of list operations.
  *
+ * Policies are also indexed by {@code PolicyId}, {@code ClientId}, {@code PolicyTypeId} and by the
+ * (ClientId, PolicyTypeId) pair, so that lookups, duplicate checks and per-client or per-type queries cost time
+ * proportional to the result rather than to the size of the list. An ordered index on expiry dates answers range
+ * queries over expiry dates in logarithmic time plus the size of the result. The position of each policy is tracked
+ * as well, so that replacing or removing a policy does not need to search or renumber the list.
+ *
  * @see Policy#isSamePolicy(Policy)
  */
 public class UniquePolicyList implements Iterable<Policy> {
@@ -28,6 +45,14 @@ public class UniquePolicyList implements Iterable<Policy> {
     private final ObservableList<Policy> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    // Indexes over internalList. Policy#equals only compares policy ids, so buckets hold policies by identity.
+    private final Map<PolicyId, List<Policy>> policiesById = new HashMap<>();
+    private final Map<ClientId, List<Policy>> policiesByClientId = new HashMap<>();
+    private final Map<PolicyTypeId, List<Policy>> policiesByPolicyTypeId = new HashMap<>();
+    private final Map<ClientPolicyTypeKey, Policy> policiesByClientAndType = new HashMap<>();
+    private final NavigableMap<InsuraDate, List<Policy>> policiesByExpiryDate = new TreeMap<>();
+    private final PositionIndex<Policy> positions = PositionIndex.byIdentity();
+
     public UniquePolicyList() {}
 
     /**
@@ -40,7 +65,7 @@ public class UniquePolicyList implements Iterable<Policy> {
         if (!policiesAreUnique(policies)) {
             throw new DuplicatePolicyException();
         }
-        internalList.addAll(policies);
+        setPolicies(policies);
     }
 
     /**
@@ -49,6 +74,7 @@ public class UniquePolicyList implements Iterable<Policy> {
     public void setPolicies(List<Policy> policies) {
         requireAllNonNull(policies);
         internalList.setAll(policies);
+        rebuildIndexes();
     }
 
     /**
@@ -58,7 +84,12 @@ public class UniquePolicyList implements Iterable<Policy> {
      * @return
      */
     public boolean contains(Policy toCheck) {
-        return internalList.stream().anyMatch(toCheck::isSamePolicy);
+        ClientPolicyTypeKey key = new ClientPolicyTypeKey(toCheck.getClientId(), toCheck.getPolicyTypeId());
+        if (policiesByClientAndType.containsKey(key)) {
+            return true;
+        }
+        return policiesById.getOrDefault(toCheck.getPolicyId(), List.of()).stream()
+                .anyMatch(policy -> policy.getClientId().equals(toCheck.getClientId()));
     }
 
     /**
@@ -72,6 +103,8 @@ public class UniquePolicyList implements Iterable<Policy> {
             throw new DuplicatePolicyException();
         }
         internalList.add(toAdd);
+        positions.add(toAdd);
+        index(toAdd);
     }
 
     /**
@@ -81,9 +114,11 @@ public class UniquePolicyList implements Iterable<Policy> {
      * @param toRemove
      */
     public void remove(Policy toRemove) {
-        if (!internalList.remove(toRemove)) {
+        Policy existing = findExisting(toRemove);
+        if (existing == null) {
             throw new PolicyNotFoundException();
         }
+        removeAt(positions.positionOf(existing));
     }
 
     /**
@@ -97,8 +132,8 @@ public class UniquePolicyList implements Iterable<Policy> {
     public void setPolicy(Policy target, Policy editedPolicy) {
         requireAllNonNull(target, editedPolicy);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        Policy existing = findExisting(target);
+        if (existing == null) {
             throw new PolicyNotFoundException();
         }
 
@@ -106,7 +141,7 @@ public class UniquePolicyList implements Iterable<Policy> {
             throw new DuplicatePolicyException();
         }
 
-        internalList.set(index, editedPolicy);
+        replaceAt(positions.positionOf(existing), editedPolicy);
     }
 
     /**
@@ -118,18 +153,15 @@ public class UniquePolicyList implements Iterable<Policy> {
     public void setPolicyType(PolicyType targetType, PolicyType editedType) {
         requireAllNonNull(targetType, editedType);
 
-        for (int i = 0; i < internalList.size(); i++) {
-            Policy policy = internalList.get(i);
-            if (policy.getPolicyTypeId().equals(targetType.getPtId())) {
-                Policy updatedPolicy = new Policy(
-                        policy.getPolicyId(),
-                        policy.getClientId(),
-                        editedType.getPtId(),
-                        policy.getExpiryDate(),
-                        policy.getClaims()
-                );
-                internalList.set(i, updatedPolicy);
-            }
+        for (Policy policy : getPolicies(targetType.getPtId())) {
+            Policy updatedPolicy = new Policy(
+                    policy.getPolicyId(),
+                    policy.getClientId(),
+                    editedType.getPtId(),
+                    policy.getExpiryDate(),
+                    policy.getClaims()
+            );
+            replaceAt(positions.positionOf(policy), updatedPolicy);
         }
     }
 
@@ -139,7 +171,7 @@ public class UniquePolicyList implements Iterable<Policy> {
 
     @Override
     public Iterator<Policy> iterator() {
-        return internalList.iterator();
+        return internalUnmodifiableList.iterator();
     }
 
     @Override
@@ -171,14 +203,19 @@ public class UniquePolicyList implements Iterable<Policy> {
      * Returns true if {@code policies} contains only unique persons.
      */
     private boolean policiesAreUnique(List<Policy> policies) {
-        return IntStream.range(0, policies.size() - 1)
-                .mapToObj(i -> IntStream.range(i + 1, policies.size() - 1)
-                        .mapToObj(policies::get)
-                        .map(policy -> !policies.get(i).isSamePolicy(policy))
-                        .reduce((a, b) -> a && b)
-                        .orElse(true))
-                .reduce((a, b) -> a && b)
-                .orElse(true);
+        // isSamePolicy matches on (client, policy id) or (client, policy type), so track both pairs
+        Map<PolicyId, Set<ClientId>> seenPolicyIds = new HashMap<>();
+        Set<ClientPolicyTypeKey> seenPolicyTypes = new HashSet<>();
+        for (Policy policy : policies) {
+            boolean isNewPolicyId = seenPolicyIds.computeIfAbsent(policy.getPolicyId(), unused -> new HashSet<>())
+                    .add(policy.getClientId());
+            boolean isNewPolicyType = seenPolicyTypes.add(
+                    new ClientPolicyTypeKey(policy.getClientId(), policy.getPolicyTypeId()));
+            if (!isNewPolicyId || !isNewPolicyType) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
@@ -189,24 +226,176 @@ public class UniquePolicyList implements Iterable<Policy> {
      * @throws PolicyNotFoundException if no such policy could be found
      */
     public Policy getPolicy(PolicyId policyId) {
-        return internalList.stream()
-                .filter(policy -> policy.getPolicyId().equals(policyId))
-                .findFirst()
-                .orElseThrow(PolicyNotFoundException::new);
+        List<Policy> matches = policiesById.get(policyId);
+        if (matches == null) {
+            throw new PolicyNotFoundException();
+        }
+        return matches.get(0);
+    }
+
+    /**
+     * Returns the policies in this list that belong to the client with the given {@code clientId}.
+     */
+    public List<Policy> getPolicies(ClientId clientId) {
+        return List.copyOf(policiesByClientId.getOrDefault(clientId, List.of()));
+    }
+
+    /**
+     * Returns the policies in this list that are of the policy type with the given {@code policyTypeId}.
+     */
+    public List<Policy> getPolicies(PolicyTypeId policyTypeId) {
+        return List.copyOf(policiesByPolicyTypeId.getOrDefault(policyTypeId, List.of()));
     }
 
     /**
-     * Forces the list to fire an update notification for a specific policy.
-     * Call this method after you have *mutated* a policy object already in the list.
+     * Returns the policies in this list expiring between {@code start} and {@code end} inclusive,
+     * ordered by expiry date.
+     */
+    public List<Policy> getPoliciesExpiringBetween(InsuraDate start, InsuraDate end) {
+        requireAllNonNull(start, end);
+        if (start.compareTo(end) > 0) {
+            return List.of();
+        }
+
+        List<Policy> result = new ArrayList<>();
+        for (List<Policy> bucket : policiesByExpiryDate.subMap(start, true, end, true).values()) {
+            result.addAll(bucket);
+        }
+        return result;
+    }
+
+    /**
+     * Replaces the policy in the list that {@code policyToRefresh} is an updated copy of, in place,
+     * so that the list fires an update notification for it. The policy is added if it is not in the list yet.
      *
-     * @param policyToRefresh The Policy that was modified.
+     * @param policyToRefresh The updated policy.
      */
     public void refreshPolicy(Policy policyToRefresh) {
         if (policyToRefresh == null) {
             return;
         }
 
-        internalList.removeIf(policy -> policy.getPolicyId().equals(policyToRefresh.getPolicyId()));
-        internalList.add(0, policyToRefresh);
+        Policy existing = findExisting(policyToRefresh);
+        if (existing == null) {
+            internalList.add(policyToRefresh);
+            positions.add(policyToRefresh);
+            index(policyToRefresh);
+        } else {
+            replaceAt(positions.positionOf(existing), policyToRefresh);
+        }
+    }
+
+    /**
+     * Returns the policy in this list that {@code target} refers to, or null if there is none.
+     * The same instance is preferred; otherwise a policy with the same policy id and client id is returned.
+     */
+    private Policy findExisting(Policy target) {
+        List<Policy> matches = policiesById.getOrDefault(target.getPolicyId(), List.of());
+        for (Policy policy : matches) {
+            if (policy == target) {
+                return policy;
+            }
+        }
+        for (Policy policy : matches) {
+            if (Objects.equals(policy.getClientId(), target.getClientId())) {
+                return policy;
+            }
+        }
+        return null;
+    }
+
+    private void removeAt(int index) {
+        Policy removed = internalList.remove(index);
+        unindex(removed);
+        positions.remove(removed);
+    }
+
+    private void replaceAt(int index, Policy replacement) {
+        Policy replaced = internalList.set(index, replacement);
+        unindex(replaced);
+        positions.replace(replaced, replacement);
+        index(replacement);
+    }
+
+    private void rebuildIndexes() {
+        policiesById.clear();
+        policiesByClientId.clear();
+        policiesByPolicyTypeId.clear();
+        policiesByClientAndType.clear();
+        policiesByExpiryDate.clear();
+        positions.setAll(internalList);
+        for (Policy policy : internalList) {
+            index(policy);
+        }
+    }
+
+    private void index(Policy policy) {
+        addToBucket(policiesById, policy.getPolicyId(), policy);
+        addToBucket(policiesByClientId, policy.getClientId(), policy);
+        addToBucket(policiesByPolicyTypeId, policy.getPolicyTypeId(), policy);
+        addToBucket(policiesByExpiryDate, policy.getExpiryDate(), policy);
+        policiesByClientAndType.putIfAbsent(
+                new ClientPolicyTypeKey(policy.getClientId(), policy.getPolicyTypeId()), policy);
+    }
+
+    private void unindex(Policy policy) {
+        removeFromBucket(policiesById, policy.getPolicyId(), policy);
+        removeFromBucket(policiesByClientId, policy.getClientId(), policy);
+        removeFromBucket(policiesByPolicyTypeId, policy.getPolicyTypeId(), policy);
+        removeFromBucket(policiesByExpiryDate, policy.getExpiryDate(), policy);
+
+        ClientPolicyTypeKey key = new ClientPolicyTypeKey(policy.getClientId(), policy.getPolicyTypeId());
+        if (policiesByClientAndType.get(key) == policy) {
+            policiesByClientAndType.remove(key);
+        }
+    }
+
+    private static <K> void addToBucket(Map<K, List<Policy>> index, K key, Policy policy) {
+        index.computeIfAbsent(key, unused -> new ArrayList<>()).add(policy);
+    }
+
+    private static <K> void removeFromBucket(Map<K, List<Policy>> index, K key, Policy policy) {
+        List<Policy> bucket = index.get(key);
+        if (bucket == null) {
+            return;
+        }
+        bucket.removeIf(p -> p == policy);
+        if (bucket.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    /**
+     * Key for the duplicate rule in {@link Policy#isSamePolicy(Policy)}:
+     * a client may hold at most one policy of each policy type.
+     */
+    private static class ClientPolicyTypeKey {
+        private final ClientId clientId;
+        private final PolicyTypeId policyTypeId;
+
+        ClientPolicyTypeKey(ClientId clientId, PolicyTypeId policyTypeId) {
+            this.clientId = clientId;
+            this.policyTypeId = policyTypeId;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            if (!(other instanceof ClientPolicyTypeKey)) {
+                return false;
+            }
+
+            ClientPolicyTypeKey otherKey = (ClientPolicyTypeKey) other;
+            return Objects.equals(clientId, otherKey.clientId)
+                    && Objects.equals(policyTypeId, otherKey.policyTypeId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(clientId, policyTypeId);
+        }
     }
 }
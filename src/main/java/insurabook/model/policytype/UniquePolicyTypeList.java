@@ -4,11 +4,13 @@ import static insurabook.commons.util.CollectionUtil.requireAllNonNull;
 import static java.util.Objects.requireNonNull;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import insurabook.commons.exceptions.IllegalValueException;
-import insurabook.model.policytype.enums.PolicyTypeEquality;
 import insurabook.model.policytype.exceptions.PolicyTypeDuplicateException;
 import insurabook.model.policytype.exceptions.PolicyTypeMissingException;
 import javafx.collections.FXCollections;
@@ -22,12 +24,20 @@ import javafx.collections.ObservableList;
  * unique in terms of identity in the UniquePolicyTypeList.
  *
  * Supports a minimal set of list operations.
+ *
+ * Policy types are also indexed by {@code PolicyTypeName} and by {@code PolicyTypeId}, so that lookups, duplicate
+ * checks and the detection of half-matching policy types cost constant time.
  */
 public class UniquePolicyTypeList implements Iterable<PolicyType> {
     private final ObservableList<PolicyType> internalList = FXCollections.observableArrayList();
     private final ObservableList<PolicyType> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    // Indexes over internalList. PolicyType#equals matches on name or id, so positions are kept by identity.
+    private final Map<PolicyTypeName, PolicyType> policyTypesByName = new HashMap<>();
+    private final Map<PolicyTypeId, PolicyType> policyTypesById = new HashMap<>();
+    private final Map<PolicyType, Integer> positions = new IdentityHashMap<>();
+
     /**
      * Returns size of list.
      */
@@ -42,10 +52,10 @@ public class UniquePolicyTypeList implements Iterable<PolicyType> {
      * @throws PolicyTypeDuplicateException if duplicate is found
      */
     public void checkDuplicate(PolicyType toCheck) throws PolicyTypeDuplicateException {
-        for (PolicyType pt: internalList) {
-            if (pt.equals(toCheck)) {
-                throw new PolicyTypeDuplicateException(pt);
-            }
+        PolicyType existing = firstOf(policyTypesByName.get(toCheck.getPtName()),
+                policyTypesById.get(toCheck.getPtId()));
+        if (existing != null) {
+            throw new PolicyTypeDuplicateException(existing);
         }
     }
 
@@ -59,6 +69,23 @@ public class UniquePolicyTypeList implements Iterable<PolicyType> {
         requireNonNull(toAdd);
         checkDuplicate(toAdd);
         internalList.add(toAdd);
+        index(toAdd);
+        positions.put(toAdd, internalList.size() - 1);
+    }
+
+    /**
+     * Inserts a policy type into the list at {@code index}, shifting the policy types from there on back by one.
+     *
+     * @param index list index to insert at (0-indexed)
+     * @param toAdd policy type to add
+     * @throws PolicyTypeDuplicateException if policy already exists in list
+     */
+    public void add(int index, PolicyType toAdd) throws PolicyTypeDuplicateException {
+        requireNonNull(toAdd);
+        checkDuplicate(toAdd);
+        internalList.add(index, toAdd);
+        index(toAdd);
+        updatePositionsFrom(index);
     }
 
     /**
@@ -69,7 +96,7 @@ public class UniquePolicyTypeList implements Iterable<PolicyType> {
      */
     public void remove(int index) throws IllegalValueException {
         checkWithinRange(index);
-        internalList.remove(index);
+        removeAt(index);
     }
 
     /**
@@ -84,47 +111,39 @@ public class UniquePolicyTypeList implements Iterable<PolicyType> {
      * @throws PolicyTypeMissingException if no PolicyTypes found
      */
     public List<Integer> remove(PolicyTypeName name, PolicyTypeId id) throws PolicyTypeMissingException {
-        List<Integer> halfMatchings = new ArrayList<>();
-        boolean hasRemoved = false;
-        for (int i = 0; i < internalList.size() && !hasRemoved; i++) {
-            PolicyType pt = internalList.get(i);
-            PolicyTypeEquality equality = pt.policyTypeEquals(name, id);
-
-            switch (equality) {
-            case BOTH_EQUAL:
-                internalList.remove(i);
-                hasRemoved = true; // break the for loop
-                break;
-
-            case NAME_EQUAL:
-            case ID_EQUAL:
-                halfMatchings.add(i);
-                break;
-
-            default:
-                // do nothing
-            }
-        }
+        PolicyType nameMatch = policyTypesByName.get(name);
+        PolicyType idMatch = policyTypesById.get(id);
 
-        if (hasRemoved) {
+        if (nameMatch != null && nameMatch == idMatch) {
+            removeAt(positions.get(nameMatch));
             return null;
-        } else if (!halfMatchings.isEmpty()) {
-            return halfMatchings;
-        } else {
+        }
+
+        List<Integer> halfMatchings = positionsOf(nameMatch, idMatch);
+        if (halfMatchings.isEmpty()) {
             throw new PolicyTypeMissingException(name, id);
         }
+        return halfMatchings;
     }
+
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}.
+     */
     public void setPolicyTypes(UniquePolicyTypeList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        rebuildIndexes();
     }
 
     /**
      * Replaces the contents of this list with {@code policyTypes}.
+     * {@code policyTypes} must not contain duplicate policy types.
      */
     public void setPolicyTypes(List<PolicyType> policyTypes) {
         requireAllNonNull(policyTypes);
+        checkUnique(policyTypes);
         internalList.setAll(policyTypes);
+        rebuildIndexes();
     }
 
     /**
@@ -135,22 +154,27 @@ public class UniquePolicyTypeList implements Iterable<PolicyType> {
     public void setPolicyType(PolicyType target, PolicyType editedPolicyType) {
         requireAllNonNull(target, editedPolicyType);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        PolicyType existing = firstOf(policyTypesByName.get(target.getPtName()),
+                policyTypesById.get(target.getPtId()));
+        if (existing == null) {
             throw new PolicyTypeMissingException(target.getPtName(), target.getPtId());
         }
 
-        boolean hasExistingName = containsName(editedPolicyType.getPtName());
-        boolean hasExistingId = containsId(editedPolicyType.getPtId());
-        if (!target.equals(editedPolicyType) && (hasExistingId || hasExistingName)) {
-            throw new PolicyTypeDuplicateException(
-                    hasExistingId
-                            ? getPolicyType(editedPolicyType.getPtId())
-                            : getPolicyType(editedPolicyType.getPtName())
-            );
+        // only policy types other than the one being replaced can clash with the edited one
+        PolicyType sameName = policyTypesByName.get(editedPolicyType.getPtName());
+        PolicyType sameId = policyTypesById.get(editedPolicyType.getPtId());
+        boolean hasExistingName = sameName != null && sameName != existing;
+        boolean hasExistingId = sameId != null && sameId != existing;
+        if (hasExistingId || hasExistingName) {
+            throw new PolicyTypeDuplicateException(hasExistingId ? sameId : sameName);
         }
 
+        int index = positions.get(existing);
         internalList.set(index, editedPolicyType);
+        unindex(existing);
+        positions.remove(existing);
+        index(editedPolicyType);
+        positions.put(editedPolicyType, index);
     }
 
 
@@ -166,6 +190,14 @@ public class UniquePolicyTypeList implements Iterable<PolicyType> {
         return internalList.get(index);
     }
 
+    /**
+     * Returns the list index of {@code policyType}, or -1 if that policy type is not in the list.
+     */
+    public int indexOf(PolicyType policyType) {
+        requireNonNull(policyType);
+        return positions.getOrDefault(policyType, -1);
+    }
+
     /**
      * Finds PolicyTypes from search name and ID.
      * PolicyTypes are selected if they match either given name or ID exactly.
@@ -176,15 +208,7 @@ public class UniquePolicyTypeList implements Iterable<PolicyType> {
      */
     public List<Integer> findMatching(PolicyTypeName name, PolicyTypeId id) {
         requireAllNonNull(name, id);
-        List<Integer> result = new ArrayList<>();
-        for (int i = 0; i < internalList.size(); i++) {
-            PolicyType pt = internalList.get(i);
-
-            if (pt.policyTypeEquals(name, id) != PolicyTypeEquality.NEITHER_EQUAL) {
-                result.add(i);
-            }
-        }
-        return result;
+        return positionsOf(policyTypesByName.get(name), policyTypesById.get(id));
     }
 
     /**
@@ -192,12 +216,7 @@ public class UniquePolicyTypeList implements Iterable<PolicyType> {
      */
     public boolean containsName(PolicyTypeName name) {
         requireNonNull(name);
-        for (PolicyType pt: this) {
-            if (pt.getPtName().equals(name)) {
-                return true;
-            }
-        }
-        return false;
+        return policyTypesByName.containsKey(name);
     }
 
     /**
@@ -205,12 +224,7 @@ public class UniquePolicyTypeList implements Iterable<PolicyType> {
      */
     public boolean containsId(PolicyTypeId id) {
         requireNonNull(id);
-        for (PolicyType pt: this) {
-            if (pt.getPtId().equals(id)) {
-                return true;
-            }
-        }
-        return false;
+        return policyTypesById.containsKey(id);
     }
 
     /**
@@ -225,7 +239,7 @@ public class UniquePolicyTypeList implements Iterable<PolicyType> {
      */
     @Override
     public Iterator<PolicyType> iterator() {
-        return internalList.iterator();
+        return internalUnmodifiableList.iterator();
     }
 
     /**
@@ -258,17 +272,22 @@ public class UniquePolicyTypeList implements Iterable<PolicyType> {
     }
 
     /**
-     * Returns true if {@code policyTypes} contains only unique policy types.
+     * Checks that no two policy types in {@code policyTypes} share a name or an ID.
+     *
+     * @throws PolicyTypeDuplicateException with the earlier of the clashing policy types
      */
-    private boolean policyTypesAreUnique(List<PolicyType> policyTypes) {
-        for (int i = 0; i < policyTypes.size() - 1; i++) {
-            for (int j = i + 1; j < policyTypes.size(); j++) {
-                if (policyTypes.get(i).equals(policyTypes.get(j))) {
-                    return false;
-                }
+    private void checkUnique(List<PolicyType> policyTypes) throws PolicyTypeDuplicateException {
+        Map<PolicyTypeName, PolicyType> seenNames = new HashMap<>();
+        Map<PolicyTypeId, PolicyType> seenIds = new HashMap<>();
+        for (PolicyType policyType : policyTypes) {
+            PolicyType clash = seenNames.putIfAbsent(policyType.getPtName(), policyType);
+            if (clash == null) {
+                clash = seenIds.putIfAbsent(policyType.getPtId(), policyType);
+            }
+            if (clash != null) {
+                throw new PolicyTypeDuplicateException(clash);
             }
         }
-        return true;
     }
 
     /**
@@ -283,6 +302,62 @@ public class UniquePolicyTypeList implements Iterable<PolicyType> {
         }
     }
 
+    private void removeAt(int index) {
+        PolicyType removed = internalList.remove(index);
+        unindex(removed);
+        positions.remove(removed);
+        updatePositionsFrom(index);
+    }
+
+    private void updatePositionsFrom(int start) {
+        for (int i = start; i < internalList.size(); i++) {
+            positions.put(internalList.get(i), i);
+        }
+    }
+
+    private void rebuildIndexes() {
+        policyTypesByName.clear();
+        policyTypesById.clear();
+        positions.clear();
+        for (PolicyType policyType : internalList) {
+            index(policyType);
+        }
+        updatePositionsFrom(0);
+    }
+
+    private void index(PolicyType policyType) {
+        policyTypesByName.put(policyType.getPtName(), policyType);
+        policyTypesById.put(policyType.getPtId(), policyType);
+    }
+
+    private void unindex(PolicyType policyType) {
+        policyTypesByName.remove(policyType.getPtName(), policyType);
+        policyTypesById.remove(policyType.getPtId(), policyType);
+    }
+
+    /**
+     * Returns whichever of the given indexed policy types comes first in the list, or null if both are null.
+     */
+    private PolicyType firstOf(PolicyType first, PolicyType second) {
+        List<Integer> matchPositions = positionsOf(first, second);
+        return matchPositions.isEmpty() ? null : internalList.get(matchPositions.get(0));
+    }
+
+    /**
+     * Returns the list positions of the given indexed policy types in ascending order, skipping nulls and repeats.
+     */
+    private List<Integer> positionsOf(PolicyType first, PolicyType second) {
+        List<Integer> result = new ArrayList<>();
+        if (first != null) {
+            result.add(positions.get(first));
+        }
+        if (second != null && second != first) {
+            result.add(positions.get(second));
+        }
+        result.sort(null);
+        return result;
+    }
+
     /**
      * Gets a PolicyType from the list using its PolicyTypeName.
      *
@@ -290,10 +365,11 @@ public class UniquePolicyTypeList implements Iterable<PolicyType> {
      */
     public PolicyType getPolicyType(PolicyTypeName policyTypeName) {
         requireNonNull(policyTypeName);
-        return internalList.stream()
-                .filter(policyType -> policyType.getPtName().equals(policyTypeName))
-                .findFirst()
-                .orElseThrow(() -> new PolicyTypeMissingException(policyTypeName));
+        PolicyType policyType = policyTypesByName.get(policyTypeName);
+        if (policyType == null) {
+            throw new PolicyTypeMissingException(policyTypeName);
+        }
+        return policyType;
     }
 
     /**
@@ -303,10 +379,11 @@ public class UniquePolicyTypeList implements Iterable<PolicyType> {
      */
     public PolicyType getPolicyType(PolicyTypeId policyTypeId) {
         requireNonNull(policyTypeId);
-        return internalList.stream()
-                .filter(policyType -> policyType.getPtId().equals(policyTypeId))
-                .findFirst()
-                .orElseThrow(() -> new PolicyTypeMissingException(policyTypeId));
+        PolicyType policyType = policyTypesById.get(policyTypeId);
+        if (policyType == null) {
+            throw new PolicyTypeMissingException(policyTypeId);
+        }
+        return policyType;
     }
 
 }
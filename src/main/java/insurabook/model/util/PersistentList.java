@@ -0,0 +1,283 @@
+package insurabook.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * An immutable list whose updates return a new list that shares all unchanged structure with the old one.
+ * Holding on to an old version is therefore as cheap as keeping a reference to it, and each update only
+ * allocates the O(log n) nodes on the path to the changed position.
+ *
+ * The list is stored as a treap ordered by position: a binary tree that is kept balanced in expectation by
+ * giving every node a random priority and keeping parents at a higher priority than their children.
+ * Does not allow nulls.
+ */
+public final class PersistentList<E> implements Iterable<E> {
+
+    private static final PersistentList<?> EMPTY = new PersistentList<>(null);
+
+    private final Node<E> root;
+
+    private PersistentList(Node<E> root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns the empty list.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentList<E> empty() {
+        return (PersistentList<E>) EMPTY;
+    }
+
+    /**
+     * Returns a list holding the elements of {@code elements} in order, built without any rebalancing.
+     */
+    public static <E> PersistentList<E> of(List<? extends E> elements) {
+        requireNonNull(elements);
+        elements.forEach(Objects::requireNonNull);
+
+        int size = elements.size();
+        int[] depths = new int[size];
+        fillDepths(depths, 0, size, 0);
+
+        // Hand out random priorities from the highest down, shallowest positions first,
+        // so that every parent outranks its children.
+        int[] priorities = ThreadLocalRandom.current().ints(size).sorted().toArray();
+        int[] priorityAt = new int[size];
+        int next = size - 1;
+        for (int depth = 0; next >= 0; depth++) {
+            for (int i = 0; i < size; i++) {
+                if (depths[i] == depth) {
+                    priorityAt[i] = priorities[next--];
+                }
+            }
+        }
+        return new PersistentList<>(build(elements, 0, size, priorityAt));
+    }
+
+    public int size() {
+        return Node.sizeOf(root);
+    }
+
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Returns the element at {@code index}.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not within the list.
+     */
+    public E get(int index) {
+        checkIndex(index, size());
+        Node<E> node = root;
+        while (true) {
+            int leftSize = Node.sizeOf(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index == leftSize) {
+                return node.element;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    /**
+     * Returns a list with the element at {@code index} replaced by {@code element}.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not within the list.
+     */
+    public PersistentList<E> set(int index, E element) {
+        requireNonNull(element);
+        checkIndex(index, size());
+        return new PersistentList<>(setInTree(root, index, element));
+    }
+
+    /**
+     * Returns a list with {@code element} appended to the end.
+     */
+    public PersistentList<E> add(E element) {
+        requireNonNull(element);
+        return new PersistentList<>(merge(root, new Node<>(element)));
+    }
+
+    /**
+     * Returns a list with {@code element} inserted at {@code index}, before the element previously there.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is negative or greater than the size of the list.
+     */
+    public PersistentList<E> add(int index, E element) {
+        requireNonNull(element);
+        checkIndex(index, size() + 1);
+        Split<E> beforeAndAfter = split(root, index);
+        return new PersistentList<>(merge(merge(beforeAndAfter.before(), new Node<>(element)),
+                beforeAndAfter.after()));
+    }
+
+    /**
+     * Returns a list without the element at {@code index}.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not within the list.
+     */
+    public PersistentList<E> remove(int index) {
+        checkIndex(index, size());
+        Split<E> beforeAndRest = split(root, index);
+        Split<E> removedAndAfter = split(beforeAndRest.after(), 1);
+        return new PersistentList<>(merge(beforeAndRest.before(), removedAndAfter.after()));
+    }
+
+    /**
+     * Returns a mutable copy of this list.
+     */
+    public List<E> toList() {
+        List<E> result = new ArrayList<>(size());
+        forEach(result::add);
+        return result;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private final List<Node<E>> path = new ArrayList<>();
+            private Node<E> next = root;
+
+            @Override
+            public boolean hasNext() {
+                return next != null || !path.isEmpty();
+            }
+
+            @Override
+            public E next() {
+                while (next != null) {
+                    path.add(next);
+                    next = next.left;
+                }
+                Node<E> current = path.remove(path.size() - 1);
+                next = current.right;
+                return current.element;
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        return toList().toString();
+    }
+
+    private static void checkIndex(int index, int size) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    /**
+     * Records in {@code depths} the depth of each position in the balanced tree over {@code from} to {@code to}.
+     */
+    private static void fillDepths(int[] depths, int from, int to, int depth) {
+        if (from >= to) {
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        depths[mid] = depth;
+        fillDepths(depths, from, mid, depth + 1);
+        fillDepths(depths, mid + 1, to, depth + 1);
+    }
+
+    private static <E> Node<E> build(List<? extends E> elements, int from, int to, int[] priorityAt) {
+        if (from >= to) {
+            return null;
+        }
+        int mid = (from + to) >>> 1;
+        return new Node<>(elements.get(mid), priorityAt[mid],
+                build(elements, from, mid, priorityAt), build(elements, mid + 1, to, priorityAt));
+    }
+
+    private static <E> Node<E> setInTree(Node<E> node, int index, E element) {
+        int leftSize = Node.sizeOf(node.left);
+        if (index < leftSize) {
+            return node.with(setInTree(node.left, index, element), node.right);
+        } else if (index == leftSize) {
+            return new Node<>(element, node.priority, node.left, node.right);
+        } else {
+            return node.with(node.left, setInTree(node.right, index - leftSize - 1, element));
+        }
+    }
+
+    /**
+     * Returns the trees holding the first {@code count} elements of {@code node} and the remaining elements.
+     */
+    private static <E> Split<E> split(Node<E> node, int count) {
+        if (node == null) {
+            return new Split<>(null, null);
+        }
+        int leftSize = Node.sizeOf(node.left);
+        if (count <= leftSize) {
+            Split<E> parts = split(node.left, count);
+            return new Split<>(parts.before(), node.with(parts.after(), node.right));
+        } else {
+            Split<E> parts = split(node.right, count - leftSize - 1);
+            return new Split<>(node.with(node.left, parts.before()), parts.after());
+        }
+    }
+
+    /**
+     * Returns the tree holding the elements of {@code first} followed by those of {@code second}.
+     */
+    private static <E> Node<E> merge(Node<E> first, Node<E> second) {
+        if (first == null) {
+            return second;
+        }
+        if (second == null) {
+            return first;
+        }
+        if (first.priority >= second.priority) {
+            return first.with(first.left, merge(first.right, second));
+        } else {
+            return second.with(merge(first, second.left), second.right);
+        }
+    }
+
+    /**
+     * The trees holding the elements before and after the point where a tree was split.
+     */
+    private record Split<E>(Node<E> before, Node<E> after) {}
+
+    /**
+     * An immutable tree node that caches the size of its subtree.
+     */
+    private static final class Node<E> {
+        private final E element;
+        private final int priority;
+        private final Node<E> left;
+        private final Node<E> right;
+        private final int size;
+
+        Node(E element) {
+            this(element, ThreadLocalRandom.current().nextInt(), null, null);
+        }
+
+        Node(E element, int priority, Node<E> left, Node<E> right) {
+            this.element = element;
+            this.priority = priority;
+            this.left = left;
+            this.right = right;
+            this.size = sizeOf(left) + sizeOf(right) + 1;
+        }
+
+        static int sizeOf(Node<?> node) {
+            return node == null ? 0 : node.size;
+        }
+
+        Node<E> with(Node<E> newLeft, Node<E> newRight) {
+            return new Node<>(element, priority, newLeft, newRight);
+        }
+    }
+}
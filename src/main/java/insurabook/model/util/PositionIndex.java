@@ -0,0 +1,231 @@
+package insurabook.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Tracks the positions of the distinct elements of a list, so that the position of an element can be looked up,
+ * and elements inserted or removed at any position, in logarithmic time instead of by scanning or renumbering.
+ *
+ * Like {@link PersistentList}, the positions are stored as a treap ordered by position. Its nodes are mutable and
+ * link back to their parents, so the position of an element is found by walking from its node up to the root.
+ * Does not allow nulls.
+ */
+public final class PositionIndex<E> {
+
+    private final Map<E, Node<E>> nodes;
+    private Node<E> root;
+
+    private PositionIndex(Map<E, Node<E>> nodes) {
+        this.nodes = nodes;
+    }
+
+    /**
+     * Returns an empty index that tells elements apart by {@code equals}.
+     */
+    public static <E> PositionIndex<E> byEquality() {
+        return new PositionIndex<>(new HashMap<>());
+    }
+
+    /**
+     * Returns an empty index that tells elements apart by identity.
+     */
+    public static <E> PositionIndex<E> byIdentity() {
+        return new PositionIndex<>(new IdentityHashMap<>());
+    }
+
+    public int size() {
+        return Node.sizeOf(root);
+    }
+
+    public boolean contains(E element) {
+        return nodes.containsKey(element);
+    }
+
+    /**
+     * Returns the position of {@code element}, or -1 if it is not in the index.
+     */
+    public int positionOf(E element) {
+        Node<E> node = nodes.get(element);
+        if (node == null) {
+            return -1;
+        }
+        int position = Node.sizeOf(node.left);
+        for (; node.parent != null; node = node.parent) {
+            if (node == node.parent.right) {
+                position += Node.sizeOf(node.parent.left) + 1;
+            }
+        }
+        return position;
+    }
+
+    /**
+     * Returns the element at {@code position}.
+     *
+     * @throws IndexOutOfBoundsException if {@code position} is negative or not less than the size of the index.
+     */
+    public E get(int position) {
+        if (position < 0 || position >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + position + ", Size: " + size());
+        }
+        Node<E> node = root;
+        while (position != Node.sizeOf(node.left)) {
+            if (position < Node.sizeOf(node.left)) {
+                node = node.left;
+            } else {
+                position -= Node.sizeOf(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return node.element;
+    }
+
+    /**
+     * Appends {@code element}, which must not already be in the index.
+     */
+    public void add(E element) {
+        add(size(), element);
+    }
+
+    /**
+     * Inserts {@code element} at {@code position}, shifting the elements from there on back by one.
+     * {@code element} must not already be in the index.
+     *
+     * @throws IndexOutOfBoundsException if {@code position} is negative or greater than the size of the index.
+     */
+    public void add(int position, E element) {
+        requireNonNull(element);
+        if (position < 0 || position > size()) {
+            throw new IndexOutOfBoundsException("Index: " + position + ", Size: " + size());
+        }
+        assert !nodes.containsKey(element);
+        Node<E> node = new Node<>(element);
+        nodes.put(element, node);
+        Split<E> beforeAndAfter = split(root, position);
+        setRoot(merge(merge(beforeAndAfter.before(), node), beforeAndAfter.after()));
+    }
+
+    /**
+     * Removes {@code element} and returns the position it was at, or -1 if it is not in the index.
+     */
+    public int remove(E element) {
+        int position = positionOf(element);
+        if (position == -1) {
+            return -1;
+        }
+        nodes.remove(element);
+        Split<E> beforeAndRest = split(root, position);
+        Split<E> removedAndAfter = split(beforeAndRest.after(), 1);
+        setRoot(merge(beforeAndRest.before(), removedAndAfter.after()));
+        return position;
+    }
+
+    /**
+     * Puts {@code replacement} at the position of {@code target}, in constant time.
+     * {@code target} must be in the index, and {@code replacement} must not be unless it is {@code target}.
+     */
+    public void replace(E target, E replacement) {
+        requireNonNull(replacement);
+        Node<E> node = nodes.remove(target);
+        assert node != null;
+        node.element = replacement;
+        nodes.put(replacement, node);
+    }
+
+    /**
+     * Replaces the contents of this index with {@code elements}, which must be distinct.
+     */
+    public void setAll(List<? extends E> elements) {
+        nodes.clear();
+        root = null;
+        elements.forEach(this::add);
+    }
+
+    private void setRoot(Node<E> newRoot) {
+        root = newRoot;
+        if (root != null) {
+            root.parent = null;
+        }
+    }
+
+    /**
+     * Splits {@code node} into the trees holding its first {@code count} elements and the remaining elements.
+     */
+    private static <E> Split<E> split(Node<E> node, int count) {
+        if (node == null) {
+            return new Split<>(null, null);
+        }
+        int leftSize = Node.sizeOf(node.left);
+        if (count <= leftSize) {
+            Split<E> parts = split(node.left, count);
+            node.link(parts.after(), node.right);
+            return new Split<>(parts.before(), node);
+        } else {
+            Split<E> parts = split(node.right, count - leftSize - 1);
+            node.link(node.left, parts.before());
+            return new Split<>(node, parts.after());
+        }
+    }
+
+    /**
+     * Joins {@code first} and {@code second} into the tree holding the elements of {@code first} followed by
+     * those of {@code second}.
+     */
+    private static <E> Node<E> merge(Node<E> first, Node<E> second) {
+        if (first == null) {
+            return second;
+        }
+        if (second == null) {
+            return first;
+        }
+        if (first.priority >= second.priority) {
+            first.link(first.left, merge(first.right, second));
+            return first;
+        } else {
+            second.link(merge(first, second.left), second.right);
+            return second;
+        }
+    }
+
+    /**
+     * The trees holding the elements before and after the point where a tree was split.
+     */
+    private record Split<E>(Node<E> before, Node<E> after) {}
+
+    /**
+     * A mutable tree node that caches the size of its subtree.
+     */
+    private static final class Node<E> {
+        private final int priority = ThreadLocalRandom.current().nextInt();
+        private E element;
+        private Node<E> parent;
+        private Node<E> left;
+        private Node<E> right;
+        private int size = 1;
+
+        Node(E element) {
+            this.element = element;
+        }
+
+        static int sizeOf(Node<?> node) {
+            return node == null ? 0 : node.size;
+        }
+
+        void link(Node<E> newLeft, Node<E> newRight) {
+            left = newLeft;
+            right = newRight;
+            size = sizeOf(left) + sizeOf(right) + 1;
+            if (left != null) {
+                left.parent = this;
+            }
+            if (right != null) {
+                right.parent = this;
+            }
+        }
+    }
+}
@@ -0,0 +1,257 @@
+package insurabook.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import insurabook.commons.core.LogsCenter;
+import insurabook.commons.exceptions.DataLoadingException;
+import insurabook.model.InsuraBook;
+import insurabook.model.InsuraBookSnapshot;
+import insurabook.model.ReadOnlyInsuraBook;
+import insurabook.model.claims.Claim;
+import insurabook.model.policies.Policy;
+import insurabook.model.policytype.PolicyTypeId;
+
+/**
+ * An {@code InsuraBookStorage} that saves through another one on a dedicated storage thread, so that saving
+ * does not hold up the caller.
+ *
+ * Saves made in quick succession are coalesced into one write: the write happens once no further save has been
+ * made for the debounce delay, but no later than the maximum delay after the first save it covers. Failures are
+ * reported to the save failure handler from the storage thread, and the book is saved in full on the next write.
+ * {@link #flushInsuraBook()} waits for all pending saves to be written, as do the queries answered by the other
+ * storage, so that they see every save made before them.
+ */
+public class AsyncInsuraBookStorage implements InsuraBookStorage {
+
+    public static final long DEFAULT_DEBOUNCE_DELAY_MILLIS = 200;
+    public static final long DEFAULT_MAX_DELAY_MILLIS = 2000;
+
+    private static final Logger logger = LogsCenter.getLogger(AsyncInsuraBookStorage.class);
+
+    private final InsuraBookStorage storage;
+    private final long debounceDelayMillis;
+    private final long maxDelayMillis;
+    private final ScheduledExecutorService saver = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "insurabook-storage");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile Consumer<IOException> saveFailureHandler = e -> { };
+
+    // The fields below are guarded by this storage's lock
+    // The latest snapshot of the book waiting to be saved, or null if there is nothing to save
+    private ReadOnlyInsuraBook pendingInsuraBook;
+    private List<InsuraBook.Change> pendingChanges = new ArrayList<>();
+    private boolean isFullSavePending;
+    private long firstPendingNanos;
+    private ScheduledFuture<?> scheduledSave;
+
+    /**
+     * Creates a storage that saves through {@code storage}, coalescing saves made within
+     * {@code debounceDelayMillis} of each other for at most {@code maxDelayMillis}.
+     */
+    public AsyncInsuraBookStorage(InsuraBookStorage storage, long debounceDelayMillis, long maxDelayMillis) {
+        requireNonNull(storage);
+        this.storage = storage;
+        this.debounceDelayMillis = debounceDelayMillis;
+        this.maxDelayMillis = maxDelayMillis;
+    }
+
+    public AsyncInsuraBookStorage(InsuraBookStorage storage) {
+        this(storage, DEFAULT_DEBOUNCE_DELAY_MILLIS, DEFAULT_MAX_DELAY_MILLIS);
+    }
+
+    @Override
+    public Path getInsuraBookFilePath() {
+        return storage.getInsuraBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyInsuraBook> readInsuraBook() throws DataLoadingException {
+        return storage.readInsuraBook();
+    }
+
+    @Override
+    public Optional<ReadOnlyInsuraBook> readInsuraBook(Path filePath) throws DataLoadingException {
+        return storage.readInsuraBook(filePath);
+    }
+
+    @Override
+    public Optional<List<Claim>> readClaimsOver(BigDecimal amount) throws DataLoadingException {
+        flushForQuery();
+        return storage.readClaimsOver(amount);
+    }
+
+    @Override
+    public Optional<List<Policy>> readPoliciesOfType(PolicyTypeId policyTypeId) throws DataLoadingException {
+        flushForQuery();
+        return storage.readPoliciesOfType(policyTypeId);
+    }
+
+    /**
+     * Schedules a snapshot of {@code insuraBook} to be saved in full.
+     */
+    @Override
+    public void saveInsuraBook(ReadOnlyInsuraBook insuraBook) throws IOException {
+        requireNonNull(insuraBook);
+        InsuraBookSnapshot snapshot = InsuraBookSnapshot.of(insuraBook);
+        synchronized (this) {
+            pendingInsuraBook = snapshot;
+            isFullSavePending = true;
+            scheduleSave();
+        }
+    }
+
+    /**
+     * Schedules a snapshot of {@code insuraBook} to be saved in full if {@code filePath} is where this storage
+     * keeps its data, or saves it to {@code filePath} right away otherwise.
+     */
+    @Override
+    public void saveInsuraBook(ReadOnlyInsuraBook insuraBook, Path filePath) throws IOException {
+        requireNonNull(filePath);
+        if (filePath.equals(getInsuraBookFilePath())) {
+            saveInsuraBook(insuraBook);
+        } else {
+            storage.saveInsuraBook(insuraBook, filePath);
+        }
+    }
+
+    /**
+     * Schedules {@code changes} to be saved along with a snapshot of {@code insuraBook}, after any changes that are
+     * still waiting to be saved.
+     */
+    @Override
+    public void saveInsuraBookChanges(ReadOnlyInsuraBook insuraBook, List<InsuraBook.Change> changes)
+            throws IOException {
+        requireNonNull(insuraBook);
+        requireNonNull(changes);
+        InsuraBookSnapshot snapshot = InsuraBookSnapshot.of(insuraBook);
+        synchronized (this) {
+            pendingInsuraBook = snapshot;
+            pendingChanges.addAll(changes);
+            scheduleSave();
+        }
+    }
+
+    @Override
+    public void backupInsuraBookFile() throws IOException {
+        storage.backupInsuraBookFile();
+    }
+
+    /**
+     * Waits until every save made so far has been written.
+     *
+     * @throws IOException if writing the pending saves failed.
+     */
+    @Override
+    public void flushInsuraBook() throws IOException {
+        try {
+            saver.submit(() -> {
+                savePending();
+                return null;
+            }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for data to be saved");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        }
+        storage.flushInsuraBook();
+    }
+
+    private void flushForQuery() throws DataLoadingException {
+        try {
+            flushInsuraBook();
+        } catch (IOException ioe) {
+            throw new DataLoadingException(ioe);
+        }
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<IOException> saveFailureHandler) {
+        requireNonNull(saveFailureHandler);
+        this.saveFailureHandler = saveFailureHandler;
+    }
+
+    /**
+     * Schedules the pending save to be written once the debounce delay passes without another save,
+     * or once the maximum delay has passed since the first save it covers, whichever comes first.
+     */
+    private void scheduleSave() {
+        assert Thread.holdsLock(this);
+        long now = System.nanoTime();
+        if (scheduledSave == null) {
+            firstPendingNanos = now;
+        } else {
+            scheduledSave.cancel(false);
+        }
+        long untilMaxDelayMillis = maxDelayMillis - TimeUnit.NANOSECONDS.toMillis(now - firstPendingNanos);
+        long delayMillis = Math.max(0, Math.min(debounceDelayMillis, untilMaxDelayMillis));
+        scheduledSave = saver.schedule(this::savePendingInBackground, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void savePendingInBackground() {
+        try {
+            savePending();
+        } catch (IOException e) {
+            saveFailureHandler.accept(e);
+        }
+    }
+
+    /**
+     * Writes the pending save, if any. If that fails, the book will be saved in full on the next write.
+     */
+    private void savePending() throws IOException {
+        ReadOnlyInsuraBook insuraBook;
+        List<InsuraBook.Change> changes;
+        boolean isFullSave;
+        synchronized (this) {
+            if (pendingInsuraBook == null) {
+                return;
+            }
+            insuraBook = pendingInsuraBook;
+            changes = pendingChanges;
+            isFullSave = isFullSavePending;
+            pendingInsuraBook = null;
+            pendingChanges = new ArrayList<>();
+            isFullSavePending = false;
+            scheduledSave = null;
+        }
+
+        try {
+            if (isFullSave) {
+                storage.saveInsuraBook(insuraBook);
+            } else {
+                storage.saveInsuraBookChanges(insuraBook, changes);
+            }
+            logger.fine("Saved data with " + changes.size() + " changes to " + getInsuraBookFilePath());
+        } catch (IOException e) {
+            logger.warning("Unable to save data (IOException occurred): " + e.getMessage());
+            synchronized (this) {
+                if (pendingInsuraBook == null) {
+                    pendingInsuraBook = insuraBook;
+                }
+                isFullSavePending = true;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,396 @@
+package insurabook.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A B+tree mapping byte string keys to byte string values, stored in the pages of a {@link PageFile}.
+ *
+ * Each node takes one page. Internal nodes hold keys and the pages of their children; leaves hold the entries,
+ * and each leaf links to the next one so that all entries can be read in key order. Keys are compared as unsigned
+ * bytes. Values up to {@link #MAX_INLINE_VALUE_SIZE} bytes are kept in the leaf, and longer ones in a blob of their
+ * own, so that a leaf always has room for several entries. Reading or writing one entry touches one page per level
+ * of the tree, plus the pages of its blob if it has one.
+ *
+ * Removing entries does not merge leaves that become sparse or empty; they are used again as entries are added, and
+ * the whole tree is rebuilt compactly whenever the book is saved in full.
+ * Changes are made through the page file, so they become durable together at its next commit.
+ */
+class BPlusTree {
+
+    public static final int MAX_KEY_SIZE = 255;
+    public static final int MAX_INLINE_VALUE_SIZE = 1024;
+
+    private static final byte LEAF = 1;
+    private static final byte INTERNAL = 2;
+    private static final int NODE_HEADER_SIZE = 1 + Short.BYTES + Integer.BYTES;
+
+    private static final byte INLINE_VALUE = 0;
+    private static final byte BLOB_VALUE = 1;
+
+    private final PageFile pageFile;
+    private final int rootSlot;
+
+    /**
+     * Creates a tree in {@code pageFile} whose root page is kept in header slot {@code rootSlot}.
+     * The tree starts out empty if no root page has been kept there yet.
+     */
+    BPlusTree(PageFile pageFile, int rootSlot) {
+        requireNonNull(pageFile);
+        this.pageFile = pageFile;
+        this.rootSlot = rootSlot;
+    }
+
+    /**
+     * Returns the value kept under {@code key}, or null if there is none.
+     */
+    public byte[] get(byte[] key) throws IOException {
+        int pageNumber = pageFile.getHeaderSlot(rootSlot);
+        if (pageNumber == PageFile.NO_PAGE) {
+            return null;
+        }
+        Node node = readNode(pageNumber);
+        while (!node.isLeaf) {
+            node = readNode(node.children.get(findChild(node, key)));
+        }
+        int index = findKey(node, key);
+        return index >= 0 ? readValue(node.values.get(index)) : null;
+    }
+
+    /**
+     * Keeps {@code value} under {@code key}, replacing any value kept under it before.
+     *
+     * @throws IllegalArgumentException if the key is longer than {@link #MAX_KEY_SIZE} bytes.
+     */
+    public void put(byte[] key, byte[] value) throws IOException {
+        if (key.length > MAX_KEY_SIZE) {
+            throw new IllegalArgumentException("Key of " + key.length + " bytes is longer than "
+                    + MAX_KEY_SIZE + " bytes");
+        }
+        byte[] storedValue = storeValue(value);
+        int rootPage = pageFile.getHeaderSlot(rootSlot);
+        if (rootPage == PageFile.NO_PAGE) {
+            rootPage = pageFile.allocatePage();
+            writeNode(rootPage, Node.createLeaf());
+            pageFile.setHeaderSlot(rootSlot, rootPage);
+        }
+
+        Split split = insert(rootPage, key, storedValue);
+        if (split != null) {
+            Node newRoot = Node.createInternal(rootPage);
+            newRoot.keys.add(split.separator);
+            newRoot.children.add(split.rightPage);
+            int newRootPage = pageFile.allocatePage();
+            writeNode(newRootPage, newRoot);
+            pageFile.setHeaderSlot(rootSlot, newRootPage);
+        }
+    }
+
+    /**
+     * Removes the value kept under {@code key}, and returns true if there was one.
+     */
+    public boolean remove(byte[] key) throws IOException {
+        int pageNumber = pageFile.getHeaderSlot(rootSlot);
+        if (pageNumber == PageFile.NO_PAGE) {
+            return false;
+        }
+        Node node = readNode(pageNumber);
+        while (!node.isLeaf) {
+            pageNumber = node.children.get(findChild(node, key));
+            node = readNode(pageNumber);
+        }
+        int index = findKey(node, key);
+        if (index < 0) {
+            return false;
+        }
+        freeValue(node.values.remove(index));
+        node.keys.remove(index);
+        writeNode(pageNumber, node);
+        return true;
+    }
+
+    /**
+     * Calls {@code visitor} with each key and value, in key order.
+     */
+    public void forEach(EntryVisitor visitor) throws IOException {
+        int pageNumber = pageFile.getHeaderSlot(rootSlot);
+        if (pageNumber == PageFile.NO_PAGE) {
+            return;
+        }
+        Node node = readNode(pageNumber);
+        while (!node.isLeaf) {
+            node = readNode(node.children.get(0));
+        }
+        while (true) {
+            for (int i = 0; i < node.keys.size(); i++) {
+                visitor.visit(node.keys.get(i), readValue(node.values.get(i)));
+            }
+            if (node.next == PageFile.NO_PAGE) {
+                return;
+            }
+            node = readNode(node.next);
+        }
+    }
+
+    /**
+     * Inserts the entry into the subtree rooted at {@code pageNumber}, and returns how the root of the subtree was
+     * split to make room for it, or null if it was not.
+     */
+    private Split insert(int pageNumber, byte[] key, byte[] storedValue) throws IOException {
+        Node node = readNode(pageNumber);
+        if (node.isLeaf) {
+            int index = findKey(node, key);
+            if (index >= 0) {
+                freeValue(node.values.get(index));
+                node.values.set(index, storedValue);
+            } else {
+                node.keys.add(-index - 1, key);
+                node.values.add(-index - 1, storedValue);
+            }
+        } else {
+            int childIndex = findChild(node, key);
+            Split childSplit = insert(node.children.get(childIndex), key, storedValue);
+            if (childSplit == null) {
+                return null;
+            }
+            node.keys.add(childIndex, childSplit.separator);
+            node.children.add(childIndex + 1, childSplit.rightPage);
+        }
+
+        if (node.getSize() <= PageFile.PAGE_SIZE) {
+            writeNode(pageNumber, node);
+            return null;
+        }
+        return split(pageNumber, node);
+    }
+
+    /**
+     * Moves the upper half of the entries of the overfull {@code node} into a new node to its right.
+     */
+    private Split split(int pageNumber, Node node) throws IOException {
+        int splitIndex = node.getSplitIndex();
+        int rightPage = pageFile.allocatePage();
+        Node right;
+        byte[] separator;
+        if (node.isLeaf) {
+            right = Node.createLeaf();
+            right.keys.addAll(node.keys.subList(splitIndex, node.keys.size()));
+            right.values.addAll(node.values.subList(splitIndex, node.values.size()));
+            right.next = node.next;
+            node.keys.subList(splitIndex, node.keys.size()).clear();
+            node.values.subList(splitIndex, node.values.size()).clear();
+            node.next = rightPage;
+            separator = right.keys.get(0);
+        } else {
+            // the middle key moves up to the parent instead of staying in either half
+            separator = node.keys.get(splitIndex);
+            right = Node.createInternal(node.children.get(splitIndex + 1));
+            right.keys.addAll(node.keys.subList(splitIndex + 1, node.keys.size()));
+            right.children.addAll(node.children.subList(splitIndex + 2, node.children.size()));
+            node.keys.subList(splitIndex, node.keys.size()).clear();
+            node.children.subList(splitIndex + 1, node.children.size()).clear();
+        }
+        writeNode(pageNumber, node);
+        writeNode(rightPage, right);
+        return new Split(separator, rightPage);
+    }
+
+    /**
+     * Returns the index of the child of the internal {@code node} whose subtree would hold {@code key}.
+     */
+    private static int findChild(Node node, byte[] key) {
+        int index = findKey(node, key);
+        return index >= 0 ? index + 1 : -index - 1;
+    }
+
+    /**
+     * Returns the index of {@code key} among the keys of {@code node}, or {@code -(insertion point) - 1} if it is
+     * not one of them, in the same way as {@link java.util.Collections#binarySearch}.
+     */
+    private static int findKey(Node node, byte[] key) {
+        int low = 0;
+        int high = node.keys.size() - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int comparison = Arrays.compareUnsigned(node.keys.get(middle), key);
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -low - 1;
+    }
+
+    /**
+     * Returns the form {@code value} is kept in within a leaf, writing it to a blob first if it is long.
+     */
+    private byte[] storeValue(byte[] value) throws IOException {
+        if (value.length <= MAX_INLINE_VALUE_SIZE) {
+            return ByteBuffer.allocate(1 + Short.BYTES + value.length)
+                    .put(INLINE_VALUE).putShort((short) value.length).put(value).array();
+        }
+        int blobPage = pageFile.writeBlob(value);
+        return ByteBuffer.allocate(1 + Integer.BYTES).put(BLOB_VALUE).putInt(blobPage).array();
+    }
+
+    private byte[] readValue(byte[] storedValue) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(storedValue);
+        if (buffer.get() == INLINE_VALUE) {
+            return Arrays.copyOfRange(storedValue, 1 + Short.BYTES, storedValue.length);
+        }
+        return pageFile.readBlob(buffer.getInt());
+    }
+
+    private void freeValue(byte[] storedValue) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(storedValue);
+        if (buffer.get() == BLOB_VALUE) {
+            pageFile.freeBlob(buffer.getInt());
+        }
+    }
+
+    private Node readNode(int pageNumber) throws IOException {
+        ByteBuffer page = pageFile.getPage(pageNumber).duplicate().clear();
+        try {
+            return Node.read(page);
+        } catch (RuntimeException e) {
+            throw new IOException("Page " + pageNumber + " is damaged: " + e.getMessage(), e);
+        }
+    }
+
+    private void writeNode(int pageNumber, Node node) throws IOException {
+        node.write(pageFile.getPageForUpdate(pageNumber).duplicate().clear());
+    }
+
+    /**
+     * Receives the entries of a tree.
+     */
+    @FunctionalInterface
+    interface EntryVisitor {
+        void visit(byte[] key, byte[] value) throws IOException;
+    }
+
+    /**
+     * How a node was split: the smallest key of the new node to its right, and the page of that node.
+     */
+    private static class Split {
+        private final byte[] separator;
+        private final int rightPage;
+
+        Split(byte[] separator, int rightPage) {
+            this.separator = separator;
+            this.rightPage = rightPage;
+        }
+    }
+
+    /**
+     * A node read from its page. A page holds the kind of node, the number of keys, and the next leaf for a leaf or
+     * the first child for an internal node, followed by each key with its value or the child to its right.
+     */
+    private static class Node {
+        private final boolean isLeaf;
+        private final List<byte[]> keys = new ArrayList<>();
+        private final List<byte[]> values = new ArrayList<>();
+        private final List<Integer> children = new ArrayList<>();
+        private int next = PageFile.NO_PAGE;
+
+        private Node(boolean isLeaf) {
+            this.isLeaf = isLeaf;
+        }
+
+        static Node createLeaf() {
+            return new Node(true);
+        }
+
+        static Node createInternal(int firstChild) {
+            Node node = new Node(false);
+            node.children.add(firstChild);
+            return node;
+        }
+
+        static Node read(ByteBuffer page) {
+            byte kind = page.get();
+            if (kind != LEAF && kind != INTERNAL) {
+                throw new IllegalArgumentException("it is not a node of the tree");
+            }
+            Node node = new Node(kind == LEAF);
+            int keyCount = page.getShort();
+            int link = page.getInt();
+            if (!node.isLeaf) {
+                node.children.add(link);
+            } else {
+                node.next = link;
+            }
+            for (int i = 0; i < keyCount; i++) {
+                node.keys.add(readBytes(page, Short.toUnsignedInt(page.getShort())));
+                if (node.isLeaf) {
+                    byte valueKind = page.get(page.position());
+                    int length = valueKind == INLINE_VALUE
+                            ? 1 + Short.BYTES + Short.toUnsignedInt(page.getShort(page.position() + 1))
+                            : 1 + Integer.BYTES;
+                    node.values.add(readBytes(page, length));
+                } else {
+                    node.children.add(page.getInt());
+                }
+            }
+            return node;
+        }
+
+        void write(ByteBuffer page) {
+            assert getSize() <= PageFile.PAGE_SIZE;
+            page.put(isLeaf ? LEAF : INTERNAL).putShort((short) keys.size()).putInt(isLeaf ? next : children.get(0));
+            for (int i = 0; i < keys.size(); i++) {
+                page.putShort((short) keys.get(i).length).put(keys.get(i));
+                if (isLeaf) {
+                    page.put(values.get(i));
+                } else {
+                    page.putInt(children.get(i + 1));
+                }
+            }
+        }
+
+        /**
+         * Returns the number of bytes the node takes in its page.
+         */
+        int getSize() {
+            int size = NODE_HEADER_SIZE;
+            for (int i = 0; i < keys.size(); i++) {
+                size += getEntrySize(i);
+            }
+            return size;
+        }
+
+        /**
+         * Returns the index of the first entry to move to the right when splitting the node, leaving about half of
+         * its bytes on each side.
+         */
+        int getSplitIndex() {
+            int half = getSize() / 2;
+            int size = NODE_HEADER_SIZE;
+            for (int i = 0; i < keys.size() - 1; i++) {
+                size += getEntrySize(i);
+                if (size >= half) {
+                    return Math.max(1, i);
+                }
+            }
+            return keys.size() - 1;
+        }
+
+        private int getEntrySize(int index) {
+            return Short.BYTES + keys.get(index).length + (isLeaf ? values.get(index).length : Integer.BYTES);
+        }
+
+        private static byte[] readBytes(ByteBuffer page, int length) {
+            byte[] bytes = new byte[length];
+            page.get(bytes);
+            return bytes;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package insurabook.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import insurabook.commons.core.LogsCenter;
+import insurabook.commons.exceptions.DataLoadingException;
+import insurabook.commons.exceptions.IllegalValueException;
+import insurabook.commons.util.FileUtil;
+import insurabook.model.ReadOnlyInsuraBook;
+
+/**
+ * A class to access InsuraBook data stored as a binary snapshot on the hard disk.
+ *
+ * The snapshot is much smaller than the json file and quicker to load, since there is no text to parse and each
+ * repeated id is read once. See {@link BinarySnapshotWriter} for the layout of the file.
+ */
+public class BinaryInsuraBookStorage implements InsuraBookStorage {
+
+    public static final String FILE_EXTENSION = ".bin";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryInsuraBookStorage.class);
+
+    private final Path filePath;
+
+    public BinaryInsuraBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns the path of the binary snapshot kept in place of the data file at {@code dataFilePath},
+     * e.g. {@code data/insurabook.bin} for {@code data/insurabook.json}.
+     */
+    public static Path getBinaryFilePath(Path dataFilePath) {
+        return dataFilePath.resolveSibling(FileUtil.getBaseName(dataFilePath) + FILE_EXTENSION);
+    }
+
+    @Override
+    public Path getInsuraBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyInsuraBook> readInsuraBook() throws DataLoadingException {
+        return readInsuraBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readInsuraBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyInsuraBook> readInsuraBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(filePath));
+            return Optional.of(new BinarySnapshotReader(buffer).read());
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from binary file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        }
+    }
+
+    @Override
+    public void saveInsuraBook(ReadOnlyInsuraBook insuraBook) throws IOException {
+        saveInsuraBook(insuraBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveInsuraBook(ReadOnlyInsuraBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveInsuraBook(ReadOnlyInsuraBook insuraBook, Path filePath) throws IOException {
+        requireNonNull(insuraBook);
+        requireNonNull(filePath);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        FileUtil.writeToFileAtomically(filePath, out -> new BinarySnapshotWriter().write(insuraBook, out));
+    }
+
+    /**
+     * Creates a copy of current InsuraBook file.
+     */
+    @Override
+    public void backupInsuraBookFile() throws IOException {
+        String formattedDateTime = LocalDateTime.now().format(DateTimeFormatter.ofPattern("YYYYMMdd-kkmmss"));
+        Path backupPath = filePath.resolveSibling("insurabook-backup-" + formattedDateTime + FILE_EXTENSION);
+        if (Files.exists(filePath)) {
+            Files.copy(filePath, backupPath, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
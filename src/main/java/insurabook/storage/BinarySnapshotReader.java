@@ -0,0 +1,255 @@
+package insurabook.storage;
+
+import java.math.BigDecimal;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import insurabook.commons.exceptions.IllegalValueException;
+import insurabook.model.InsuraBook;
+import insurabook.model.claims.Claim;
+import insurabook.model.claims.ClaimAmount;
+import insurabook.model.claims.ClaimId;
+import insurabook.model.claims.ClaimMessage;
+import insurabook.model.claims.InsuraDate;
+import insurabook.model.client.Client;
+import insurabook.model.client.ClientId;
+import insurabook.model.client.Email;
+import insurabook.model.client.Name;
+import insurabook.model.client.Phone;
+import insurabook.model.policies.Policy;
+import insurabook.model.policies.PolicyId;
+import insurabook.model.policies.exceptions.ClaimAfterExpiredDateException;
+import insurabook.model.policies.exceptions.DuplicatePolicyException;
+import insurabook.model.policytype.PolicyType;
+import insurabook.model.policytype.PolicyTypeDescription;
+import insurabook.model.policytype.PolicyTypeId;
+import insurabook.model.policytype.PolicyTypeName;
+import insurabook.model.policytype.PolicyTypePremium;
+
+/**
+ * Reads a binary snapshot written by {@link BinarySnapshotWriter} from a buffer.
+ *
+ * Each entry of the id table is turned into an id object at most once, however often the snapshot refers to it.
+ */
+class BinarySnapshotReader {
+
+    public static final String MESSAGE_NOT_A_SNAPSHOT = "Data file is not an InsuraBook binary snapshot.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Data file is a version %d binary snapshot, "
+            + "which this version of InsuraBook cannot read.";
+    public static final String MESSAGE_CHECKSUM_MISMATCH = "Data file is damaged: its checksum does not match.";
+    public static final String MESSAGE_CORRUPTED = "Data file is damaged: %s";
+
+    private static final int HEADER_SIZE = Integer.BYTES + 1;
+    private static final int CHECKSUM_SIZE = Integer.BYTES;
+
+    private final ByteBuffer buffer;
+    private String[] ids;
+    private ClientId[] clientIds;
+    private PolicyId[] policyIds;
+    private PolicyTypeId[] policyTypeIds;
+
+    /**
+     * Creates a reader for the snapshot held by {@code buffer}, from its position to its limit.
+     */
+    BinarySnapshotReader(ByteBuffer buffer) {
+        this.buffer = buffer.slice();
+    }
+
+    /**
+     * Reads the book held by the snapshot.
+     *
+     * @throws IllegalValueException if the buffer does not hold a snapshot this reader understands, or the
+     *     snapshot is damaged.
+     */
+    public InsuraBook read() throws IllegalValueException {
+        try {
+            readHeader();
+            readIdTable();
+            List<PolicyType> policyTypes = readPolicyTypes();
+
+            List<Client> clients = new ArrayList<>();
+            for (long i = readVarLong(); i > 0; i--) {
+                clients.add(readClient());
+            }
+
+            InsuraBook insuraBook = new InsuraBook();
+            JsonSerializableInsuraBook.loadData(insuraBook, policyTypes, clients);
+            return insuraBook;
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IllegalValueException(String.format(MESSAGE_CORRUPTED, "it ends too early."), e);
+        } catch (IllegalArgumentException | ClaimAfterExpiredDateException | DuplicatePolicyException e) {
+            throw new IllegalValueException(String.format(MESSAGE_CORRUPTED, e.getMessage()), e);
+        }
+    }
+
+    /**
+     * Checks the magic number, version and checksum of the snapshot, and leaves the buffer just after the header.
+     */
+    private void readHeader() throws IllegalValueException {
+        if (buffer.remaining() < HEADER_SIZE + CHECKSUM_SIZE || buffer.getInt() != BinarySnapshotWriter.MAGIC) {
+            throw new IllegalValueException(MESSAGE_NOT_A_SNAPSHOT);
+        }
+        int version = buffer.get();
+        if (version != BinarySnapshotWriter.VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        int checksumPosition = buffer.limit() - CHECKSUM_SIZE;
+        CRC32 crc = new CRC32();
+        crc.update(buffer.duplicate().position(0).limit(checksumPosition));
+        if ((int) crc.getValue() != buffer.getInt(checksumPosition)) {
+            throw new IllegalValueException(MESSAGE_CHECKSUM_MISMATCH);
+        }
+        buffer.limit(checksumPosition);
+    }
+
+    private void readIdTable() {
+        int size = (int) readVarLong();
+        ids = new String[size];
+        for (int i = 0; i < size; i++) {
+            ids[i] = readString();
+        }
+        clientIds = new ClientId[size];
+        policyIds = new PolicyId[size];
+        policyTypeIds = new PolicyTypeId[size];
+    }
+
+    private ClientId readClientId() {
+        int index = (int) readVarLong();
+        if (clientIds[index] == null) {
+            clientIds[index] = new ClientId(ids[index]);
+        }
+        return clientIds[index];
+    }
+
+    private PolicyId readPolicyId() {
+        int index = (int) readVarLong();
+        if (policyIds[index] == null) {
+            policyIds[index] = new PolicyId(ids[index]);
+        }
+        return policyIds[index];
+    }
+
+    private PolicyTypeId readPolicyTypeId() {
+        int index = (int) readVarLong();
+        if (policyTypeIds[index] == null) {
+            policyTypeIds[index] = new PolicyTypeId(ids[index]);
+        }
+        return policyTypeIds[index];
+    }
+
+    private PolicyType readPolicyType() {
+        PolicyTypeName name = new PolicyTypeName(readString());
+        PolicyTypeId id = readPolicyTypeId();
+        int flags = buffer.get();
+        String description = readString();
+        String premium = readString();
+        boolean isDescriptionEmpty = (flags & BinarySnapshotWriter.DESCRIPTION_EMPTY_FLAG) != 0;
+        boolean isPremiumEmpty = (flags & BinarySnapshotWriter.PREMIUM_EMPTY_FLAG) != 0;
+        return new PolicyType(name, id,
+                isDescriptionEmpty ? new PolicyTypeDescription() : new PolicyTypeDescription(description),
+                isPremiumEmpty ? new PolicyTypePremium() : new PolicyTypePremium(premium));
+    }
+
+    private List<PolicyType> readPolicyTypes() {
+        List<PolicyType> policyTypes = new ArrayList<>();
+        for (long i = readVarLong(); i > 0; i--) {
+            policyTypes.add(readPolicyType());
+        }
+        return policyTypes;
+    }
+
+    /**
+     * Reads a client along with its portfolio, checking that the portfolio has the length stored before it.
+     */
+    private Client readClient() throws IllegalValueException {
+        Client client = readClientDetails();
+        int portfolioLength = (int) readVarLong();
+        int portfolioEnd = buffer.position() + portfolioLength;
+        readPortfolio(client);
+        if (buffer.position() != portfolioEnd) {
+            throw new IllegalValueException(String.format(MESSAGE_CORRUPTED,
+                    "the portfolio of client " + client.getClientId() + " has the wrong length."));
+        }
+        return client;
+    }
+
+    private Client readClientDetails() {
+        Name name = new Name(readString());
+        Phone phone = new Phone(readString());
+        Email email = new Email(readString());
+        InsuraDate birthday = readDate();
+        return new Client(name, phone, email, birthday, readClientId());
+    }
+
+    private void readPortfolio(Client client) {
+        for (long i = readVarLong(); i > 0; i--) {
+            PolicyId policyId = readPolicyId();
+            ClientId clientId = readClientId();
+            PolicyTypeId policyTypeId = readPolicyTypeId();
+            InsuraDate expiryDate = readDate();
+            client.addPolicy(new Policy(policyId, clientId, policyTypeId, expiryDate));
+            for (long j = readVarLong(); j > 0; j--) {
+                ClientId claimClientId = readClientId();
+                PolicyId claimPolicyId = readPolicyId();
+                ClaimId claimId = readClaimId();
+                ClaimAmount amount = readAmount();
+                InsuraDate date = readDate();
+                ClaimMessage description = new ClaimMessage(readString());
+                client.addClaim(new Claim(claimId, claimClientId, claimPolicyId, amount, date, description));
+            }
+        }
+    }
+
+    private InsuraDate readDate() {
+        long zigzag = readVarLong();
+        return InsuraDate.ofEpochDay((zigzag >>> 1) ^ -(zigzag & 1));
+    }
+
+    private ClaimId readClaimId() {
+        return new ClaimId(String.format(BinarySnapshotWriter.CLAIM_ID_FORMAT, readVarLong()));
+    }
+
+    private ClaimAmount readAmount() {
+        long value = readVarLong();
+        int scale = (int) (value & 3);
+        if (scale == BinarySnapshotWriter.AMOUNT_AS_STRING) {
+            return new ClaimAmount(readString());
+        }
+        return new ClaimAmount(BigDecimal.valueOf(value >>> 2, scale).toPlainString());
+    }
+
+    private String readString() {
+        int length = (int) readVarLong();
+        if (length > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        String value;
+        if (buffer.hasArray()) {
+            value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length,
+                    StandardCharsets.UTF_8);
+            buffer.position(buffer.position() + length);
+        } else {
+            byte[] bytes = new byte[length];
+            buffer.get(bytes);
+            value = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return value;
+    }
+
+    private long readVarLong() {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("a number is too long.");
+    }
+}
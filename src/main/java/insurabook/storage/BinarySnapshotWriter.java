@@ -0,0 +1,208 @@
+package insurabook.storage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import insurabook.model.ReadOnlyInsuraBook;
+import insurabook.model.claims.Claim;
+import insurabook.model.claims.ClaimAmount;
+import insurabook.model.claims.ClaimId;
+import insurabook.model.claims.InsuraDate;
+import insurabook.model.client.Client;
+import insurabook.model.policies.Policy;
+import insurabook.model.policytype.PolicyType;
+
+/**
+ * Writes an InsuraBook as a binary snapshot.
+ *
+ * A snapshot holds, in order:
+ * <ol>
+ * <li>the magic number {@code IBSN} and a format version byte,</li>
+ * <li>a table of the client, policy and policy type ids in the book, each stored once,</li>
+ * <li>the policy types,</li>
+ * <li>the clients, each followed by the byte length of its portfolio and then the portfolio itself,</li>
+ * <li>a CRC32 checksum of everything before it.</li>
+ * </ol>
+ * Counts and lengths are unsigned varints. Strings are a varint byte length followed by their UTF-8 bytes, and
+ * ids are varint positions in the id table. Dates are zigzag varints counting days from 1970-01-01. Amounts are
+ * varints holding the digits with the number of decimal places in the two lowest bits, or the value 3 in those
+ * bits followed by a string for amounts that would not be written back the same way. Claim ids are varints holding
+ * their number, which determines the id since a claim id has no leading zeros past three digits.
+ */
+class BinarySnapshotWriter {
+
+    static final int MAGIC = 0x4942534e; // "IBSN"
+    static final int VERSION = 1;
+    static final int AMOUNT_AS_STRING = 3;
+    static final String CLAIM_ID_PREFIX = "CL";
+    static final String CLAIM_ID_FORMAT = CLAIM_ID_PREFIX + "%03d";
+
+    static final int DESCRIPTION_EMPTY_FLAG = 1;
+    static final int PREMIUM_EMPTY_FLAG = 2;
+
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    private final Map<String, Integer> idTable = new LinkedHashMap<>();
+
+    /**
+     * Writes {@code insuraBook} to {@code out} as a binary snapshot.
+     */
+    public void write(ReadOnlyInsuraBook insuraBook, OutputStream out) throws IOException {
+        write(insuraBook.getClientList(), insuraBook.getPolicyTypeList(), out);
+    }
+
+    /**
+     * Writes the given clients and policy types to {@code out} as a binary snapshot.
+     */
+    public void write(List<Client> clients, List<PolicyType> policyTypes, OutputStream out) throws IOException {
+        buildIdTable(clients, policyTypes);
+
+        CheckedOutputStream checkedOut = new CheckedOutputStream(out, new CRC32());
+        DataOutputStream dataOut = new DataOutputStream(checkedOut);
+        dataOut.writeInt(MAGIC);
+        dataOut.writeByte(VERSION);
+
+        writeVarLong(dataOut, idTable.size());
+        for (String id : idTable.keySet()) {
+            writeString(dataOut, id);
+        }
+
+        writeVarLong(dataOut, policyTypes.size());
+        for (PolicyType policyType : policyTypes) {
+            writePolicyType(dataOut, policyType);
+        }
+
+        writeVarLong(dataOut, clients.size());
+        ByteArrayOutputStream portfolioBuffer = new ByteArrayOutputStream(BUFFER_SIZE);
+        DataOutputStream portfolioOut = new DataOutputStream(portfolioBuffer);
+        for (Client client : clients) {
+            writeClientDetails(dataOut, client);
+            portfolioBuffer.reset();
+            writePortfolio(portfolioOut, client);
+            writeVarLong(dataOut, portfolioBuffer.size());
+            portfolioBuffer.writeTo(dataOut);
+        }
+
+        dataOut.flush();
+        dataOut.writeInt((int) checkedOut.getChecksum().getValue());
+        dataOut.flush();
+    }
+
+    private void buildIdTable(List<Client> clients, List<PolicyType> policyTypes) {
+        idTable.clear();
+        for (PolicyType policyType : policyTypes) {
+            addId(policyType.getPtId().toString());
+        }
+        for (Client client : clients) {
+            addId(client.getClientId().toString());
+            for (Policy policy : client.getPolicies()) {
+                addId(policy.getPolicyId().toString());
+                addId(policy.getClientId().toString());
+                addId(policy.getPolicyTypeId().toString());
+                for (Claim claim : policy.getClaims()) {
+                    addId(claim.getClientId().toString());
+                    addId(claim.getPolicyId().toString());
+                }
+            }
+        }
+    }
+
+    private void addId(String id) {
+        idTable.putIfAbsent(id, idTable.size());
+    }
+
+    private void writeId(DataOutputStream out, Object id) throws IOException {
+        writeVarLong(out, idTable.get(id.toString()));
+    }
+
+    private void writePolicyType(DataOutputStream out, PolicyType policyType) throws IOException {
+        writeString(out, policyType.getPtName().toString());
+        writeId(out, policyType.getPtId());
+        int flags = (policyType.getPtDescription().isEmpty ? DESCRIPTION_EMPTY_FLAG : 0)
+                | (policyType.getPtPremium().isEmpty ? PREMIUM_EMPTY_FLAG : 0);
+        out.writeByte(flags);
+        writeString(out, policyType.getPtDescription().toString());
+        writeString(out, policyType.getPtPremium().toString());
+    }
+
+    private void writeClientDetails(DataOutputStream out, Client client) throws IOException {
+        writeString(out, client.getName().toString());
+        writeString(out, client.getPhone().toString());
+        writeString(out, client.getEmail().toString());
+        writeDate(out, client.getBirthday());
+        writeId(out, client.getClientId());
+    }
+
+    private void writePortfolio(DataOutputStream out, Client client) throws IOException {
+        List<Policy> policies = client.getPolicies();
+        writeVarLong(out, policies.size());
+        for (Policy policy : policies) {
+            writeId(out, policy.getPolicyId());
+            writeId(out, policy.getClientId());
+            writeId(out, policy.getPolicyTypeId());
+            writeDate(out, policy.getExpiryDate());
+            Collection<Claim> claims = policy.getClaims();
+            writeVarLong(out, claims.size());
+            for (Claim claim : claims) {
+                writeId(out, claim.getClientId());
+                writeId(out, claim.getPolicyId());
+                writeClaimId(out, claim.getClaimId());
+                writeAmount(out, claim.getAmount());
+                writeDate(out, claim.getDate());
+                writeString(out, claim.getDescription().toString());
+            }
+        }
+    }
+
+    private static void writeDate(DataOutputStream out, InsuraDate date) throws IOException {
+        long epochDay = date.toEpochDay();
+        writeVarLong(out, (epochDay << 1) ^ (epochDay >> 63));
+    }
+
+    private static void writeClaimId(DataOutputStream out, ClaimId claimId) throws IOException {
+        writeVarLong(out, Long.parseLong(claimId.toString().substring(CLAIM_ID_PREFIX.length())));
+    }
+
+    private static void writeAmount(DataOutputStream out, ClaimAmount amount) throws IOException {
+        String text = amount.toString();
+        BigDecimal value = new BigDecimal(text);
+        boolean isWrittenBackSame = value.scale() >= 0 && value.scale() < AMOUNT_AS_STRING
+                && value.unscaledValue().bitLength() < Long.SIZE - 3
+                && value.toPlainString().equals(text);
+        if (isWrittenBackSame) {
+            writeVarLong(out, (value.unscaledValue().longValue() << 2) | value.scale());
+        } else {
+            writeVarLong(out, AMOUNT_AS_STRING);
+            writeString(out, text);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(out, bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Writes the non-negative {@code value} seven bits at a time, lowest first, with the top bit of each byte
+     * set if more bytes follow.
+     */
+    static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        assert value >= 0;
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+}
@@ -0,0 +1,108 @@
+package insurabook.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import insurabook.model.InsuraBook;
+import insurabook.model.ReadOnlyInsuraBook;
+import insurabook.model.client.Client;
+import insurabook.model.client.ClientId;
+
+/**
+ * What a batch of changes made to a book touched, for the storages that save just what the changes touched:
+ * the ids of the clients added, removed or replaced, and whether the order of the clients or the policy types
+ * changed.
+ */
+class ChangeSummary {
+
+    private final Set<ClientId> touchedClientIds = new LinkedHashSet<>();
+    private boolean isClientListReplaced;
+    private boolean isOrderChanged;
+    private boolean arePolicyTypesChanged;
+
+    private ChangeSummary() {}
+
+    /**
+     * Summarizes {@code changes}, in the order they were made.
+     */
+    public static ChangeSummary of(List<InsuraBook.Change> changes) {
+        requireNonNull(changes);
+        ChangeSummary summary = new ChangeSummary();
+        for (InsuraBook.Change change : changes) {
+            switch (change.getKind()) {
+            case CLIENT_ADDED:
+            case CLIENT_REMOVED:
+                summary.isOrderChanged = true;
+                break;
+            case CLIENT_REPLACED:
+                summary.isOrderChanged |= !change.getClients().get(0).getClientId()
+                        .equals(change.getClients().get(1).getClientId());
+                break;
+            case CLIENTS_REPLACED:
+                // every client may have changed, so the clients of the change are not worth noting one by one
+                summary.isClientListReplaced = true;
+                summary.isOrderChanged = true;
+                continue;
+            case POLICY_TYPE_ADDED:
+            case POLICY_TYPE_REMOVED:
+            case POLICY_TYPE_REPLACED:
+            case POLICY_TYPES_REPLACED:
+                summary.arePolicyTypesChanged = true;
+                break;
+            default:
+                throw new AssertionError("Unexpected kind of change: " + change.getKind());
+            }
+            for (Client client : change.getClients()) {
+                summary.touchedClientIds.add(client.getClientId());
+            }
+        }
+        return summary;
+    }
+
+    /**
+     * Returns true if a change replaced the whole client list, in which case the touched clients are not noted.
+     */
+    public boolean isClientListReplaced() {
+        return isClientListReplaced;
+    }
+
+    /**
+     * Returns true if clients were added or removed, or changed their id.
+     */
+    public boolean isOrderChanged() {
+        return isOrderChanged;
+    }
+
+    public boolean arePolicyTypesChanged() {
+        return arePolicyTypesChanged;
+    }
+
+    /**
+     * Returns the ids of the clients touched by the changes, both before and after each change, in the order they
+     * were first touched.
+     */
+    public Set<ClientId> getTouchedClientIds() {
+        return Collections.unmodifiableSet(touchedClientIds);
+    }
+
+    /**
+     * Returns the touched clients still in {@code insuraBook}, by id, so that a touched id missing from the result
+     * belongs to a client that is gone. The touched clients are saved as they are now, whatever state the changes
+     * left them in along the way.
+     */
+    public Map<ClientId, Client> getTouchedClients(ReadOnlyInsuraBook insuraBook) {
+        Map<ClientId, Client> touchedClients = new HashMap<>();
+        for (Client client : insuraBook.getClientList()) {
+            if (touchedClientIds.contains(client.getClientId())) {
+                touchedClients.put(client.getClientId(), client);
+            }
+        }
+        return touchedClients;
+    }
+}
@@ -0,0 +1,149 @@
+package insurabook.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import insurabook.model.InsuraBook;
+import insurabook.model.client.Client;
+import insurabook.model.client.ClientId;
+import insurabook.model.util.PositionIndex;
+
+/**
+ * The order keys of the clients of a stored book, which keep the clients in the order they are listed without
+ * storing their positions: the clients are listed in the order of their keys when the book is read.
+ *
+ * A client added between two others is given a key between theirs, so adding or removing a client stores just the
+ * key of that client instead of the positions of every client after it. The keys are {@link #SPACING} apart when
+ * the whole book is saved, which leaves room for 32 clients to be added in turn between the same two clients
+ * before the keys have to be spread out again by saving the whole book.
+ */
+class ClientOrderKeys {
+
+    public static final long SPACING = 1L << 32;
+
+    private final PositionIndex<ClientId> order = PositionIndex.byEquality();
+    private final Map<ClientId, Long> keys = new HashMap<>();
+
+    /**
+     * Gives {@code clients} keys {@link #SPACING} apart, in the order they are listed.
+     */
+    public void spread(List<Client> clients) {
+        clear();
+        long key = 0;
+        for (Client client : clients) {
+            append(client.getClientId(), key);
+            key += SPACING;
+        }
+    }
+
+    public void clear() {
+        order.setAll(List.of());
+        keys.clear();
+    }
+
+    /**
+     * Lists the client with {@code clientId} last, with the stored {@code key}, which must be greater than the key
+     * of every client listed so far.
+     */
+    public void append(ClientId clientId, long key) {
+        requireNonNull(clientId);
+        assert order.size() == 0 || key > keys.get(order.get(order.size() - 1));
+        order.add(clientId);
+        keys.put(clientId, key);
+    }
+
+    public int size() {
+        return order.size();
+    }
+
+    /**
+     * Returns the key of the client listed last, which there must be.
+     */
+    public long getLastKey() {
+        return keys.get(order.get(order.size() - 1));
+    }
+
+    /**
+     * Returns the key of the client with {@code clientId}, or null if it is not listed.
+     */
+    public Long getKey(ClientId clientId) {
+        return keys.get(clientId);
+    }
+
+    /**
+     * Follows the clients added, removed or given a new id by {@code changes}, in the order they were made,
+     * giving each client added a key between those of its neighbours at the time and passing the key of a client
+     * on to its new id. The changes must not replace the whole client list.
+     *
+     * @return false if a client could not be given a key because its neighbours' keys have no key between them,
+     *     in which case the keys no longer follow the book until they are spread out again.
+     */
+    public boolean follow(List<InsuraBook.Change> changes) {
+        for (InsuraBook.Change change : changes) {
+            switch (change.getKind()) {
+            case CLIENT_ADDED:
+                if (!add(change.getPosition(), change.getClients().get(0).getClientId())) {
+                    return false;
+                }
+                break;
+            case CLIENT_REMOVED:
+                ClientId removedId = change.getClients().get(0).getClientId();
+                order.remove(removedId);
+                keys.remove(removedId);
+                break;
+            case CLIENT_REPLACED:
+                ClientId oldId = change.getClients().get(0).getClientId();
+                ClientId newId = change.getClients().get(1).getClientId();
+                if (!oldId.equals(newId)) {
+                    order.replace(oldId, newId);
+                    keys.put(newId, keys.remove(oldId));
+                }
+                break;
+            case CLIENTS_REPLACED:
+                throw new AssertionError("The keys of a replaced client list are spread out instead");
+            default:
+                // the policy types have no order keys
+                break;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Lists the client with {@code clientId} at {@code position}, with a key between those of its neighbours.
+     *
+     * @return false if there is no such key.
+     */
+    private boolean add(int position, ClientId clientId) {
+        long key;
+        if (order.size() == 0) {
+            key = 0;
+        } else if (position == 0) {
+            long after = keys.get(order.get(0));
+            if (after < Long.MIN_VALUE + SPACING) {
+                return false;
+            }
+            key = after - SPACING;
+        } else if (position == order.size()) {
+            long before = keys.get(order.get(position - 1));
+            if (before > Long.MAX_VALUE - SPACING) {
+                return false;
+            }
+            key = before + SPACING;
+        } else {
+            long before = keys.get(order.get(position - 1));
+            long after = keys.get(order.get(position));
+            // the mean of the two keys, rounded down, without overflowing
+            key = (before & after) + ((before ^ after) >> 1);
+            if (key == before) {
+                return false;
+            }
+        }
+        order.add(position, clientId);
+        keys.put(clientId, key);
+        return true;
+    }
+}
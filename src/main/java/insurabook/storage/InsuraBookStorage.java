@@ -1,12 +1,18 @@
 package insurabook.storage;
 
 import java.io.IOException;
+import java.math.BigDecimal;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import insurabook.commons.exceptions.DataLoadingException;
 import insurabook.model.InsuraBook;
 import insurabook.model.ReadOnlyInsuraBook;
+import insurabook.model.claims.Claim;
+import insurabook.model.policies.Policy;
+import insurabook.model.policytype.PolicyTypeId;
 
 /**
  * Represents a storage for {@link InsuraBook}.
@@ -31,6 +37,26 @@ public interface InsuraBookStorage {
      */
     Optional<ReadOnlyInsuraBook> readInsuraBook(Path filePath) throws DataLoadingException;
 
+    /**
+     * Returns the claims of more than {@code amount}, largest first, if the storage can look them up without
+     * reading the whole book. Returns {@code Optional.empty()} otherwise.
+     *
+     * @throws DataLoadingException if loading the claims from storage failed.
+     */
+    default Optional<List<Claim>> readClaimsOver(BigDecimal amount) throws DataLoadingException {
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the policies of the policy type with {@code policyTypeId}, in the order they are listed in, if the
+     * storage can look them up without reading the whole book. Returns {@code Optional.empty()} otherwise.
+     *
+     * @throws DataLoadingException if loading the policies from storage failed.
+     */
+    default Optional<List<Policy>> readPoliciesOfType(PolicyTypeId policyTypeId) throws DataLoadingException {
+        return Optional.empty();
+    }
+
     /**
      * Saves the given {@link ReadOnlyInsuraBook} to the storage.
      *
@@ -44,6 +70,32 @@ public interface InsuraBookStorage {
      */
     void saveInsuraBook(ReadOnlyInsuraBook insuraBook, Path filePath) throws IOException;
 
+    /**
+     * Saves {@code changes}, the changes made to {@code insuraBook} since it was last saved, oldest first.
+     * Storages that cannot save the changes on their own save the whole of {@code insuraBook} instead.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    default void saveInsuraBookChanges(ReadOnlyInsuraBook insuraBook, List<InsuraBook.Change> changes)
+            throws IOException {
+        saveInsuraBook(insuraBook);
+    }
+
+    /**
+     * Waits until all data saved to the storage so far has been written, for storages that write it later.
+     *
+     * @throws IOException if there was any problem writing the data.
+     */
+    default void flushInsuraBook() throws IOException {
+    }
+
+    /**
+     * Sets the handler to be told about failures of saves that are written after the call that made them returned.
+     * The handler may be called on any thread.
+     */
+    default void setSaveFailureHandler(Consumer<IOException> saveFailureHandler) {
+    }
+
     /**
      * Creates a backup copy of current InsuraBook file.
      * @throws IOException if there was any problem copying the file.
@@ -0,0 +1,292 @@
+package insurabook.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import insurabook.commons.core.LogsCenter;
+import insurabook.commons.exceptions.DataLoadingException;
+import insurabook.commons.exceptions.IllegalValueException;
+import insurabook.commons.util.FileUtil;
+import insurabook.commons.util.JsonUtil;
+import insurabook.model.InsuraBook;
+import insurabook.model.ReadOnlyInsuraBook;
+import insurabook.model.client.Client;
+import insurabook.model.policytype.PolicyType;
+
+/**
+ * A class to access InsuraBook data stored as a json snapshot on the hard disk, together with a journal of the
+ * changes made since the snapshot was taken.
+ *
+ * Each save appends one compact record holding just the changes made since the previous save to the journal, which
+ * sits next to the snapshot as {@code <snapshot file name>.journal}. Once the journal grows past the compaction
+ * threshold, a background thread folds it into a new snapshot. Reading the data replays the journal over the
+ * snapshot. Records are numbered and the snapshot notes the last record it holds, so an interrupted compaction
+ * never replays a record twice.
+ */
+public class JournaledInsuraBookStorage extends JsonInsuraBookStorage {
+
+    public static final long DEFAULT_COMPACTION_THRESHOLD = 1024 * 1024;
+
+    private static final String JOURNAL_FILE_SUFFIX = ".journal";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledInsuraBookStorage.class);
+
+    private final long compactionThreshold;
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "insurabook-journal-compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // The fields below are guarded by this storage's lock
+    // Whether the snapshot and journal on disk hold the state the next saved changes were made on
+    private boolean isInSync;
+    private long lastSequence;
+    private long snapshotSequence;
+    private boolean isCompacting;
+
+    /**
+     * Creates a journaled storage for the snapshot at {@code filePath}, compacting the journal once it grows past
+     * {@code compactionThreshold} bytes. The snapshot is written without indentation if {@code isCompact} is set.
+     */
+    public JournaledInsuraBookStorage(Path filePath, long compactionThreshold, boolean isCompact) {
+        super(filePath, isCompact);
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    public JournaledInsuraBookStorage(Path filePath, long compactionThreshold) {
+        this(filePath, compactionThreshold, false);
+    }
+
+    public JournaledInsuraBookStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Returns the path of the journal kept next to the snapshot at {@code snapshotPath}.
+     */
+    public static Path getJournalFilePath(Path snapshotPath) {
+        return snapshotPath.resolveSibling(snapshotPath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    /**
+     * Reads the snapshot at {@code filePath} and replays the records of its journal that it does not hold yet.
+     * A record cut short at the end of the journal, e.g. by a crash while it was being written, is dropped.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyInsuraBook> readInsuraBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        JsonInsuraBookStreamReader reader = new JsonInsuraBookStreamReader();
+        InsuraBook insuraBook;
+        long sequence;
+        try {
+            insuraBook = reader.read(filePath);
+            sequence = replayJournal(getJournalFilePath(filePath), insuraBook, reader.getJournalSequence());
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + " or its journal: " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        } catch (IOException ioe) {
+            logger.warning("Error reading " + filePath + " or its journal: " + ioe);
+            throw new DataLoadingException(ioe);
+        }
+        insuraBook.syncClaimIdCounter();
+
+        if (filePath.equals(getInsuraBookFilePath())) {
+            lastSequence = sequence;
+            snapshotSequence = reader.getJournalSequence();
+            isInSync = true;
+        }
+        return Optional.of(insuraBook);
+    }
+
+    /**
+     * Saves the whole of {@code insuraBook} as a new snapshot at {@code filePath}. If that is where this storage
+     * keeps its data, the journal is emptied, since the snapshot holds all of it.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public synchronized void saveInsuraBook(ReadOnlyInsuraBook insuraBook, Path filePath) throws IOException {
+        requireNonNull(insuraBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(getInsuraBookFilePath())) {
+            super.saveInsuraBook(insuraBook, filePath);
+            return;
+        }
+
+        isInSync = false;
+        FileUtil.createParentDirsOfFile(filePath);
+        getStreamWriter().write(insuraBook.getClientList(), insuraBook.getPolicyTypeList(), lastSequence, filePath);
+        snapshotSequence = lastSequence;
+        Files.deleteIfExists(getJournalFilePath(filePath));
+        isInSync = true;
+    }
+
+    /**
+     * Appends {@code changes} to the journal as one record, or saves the whole book if the journal cannot
+     * hold them, e.g. because the data file does not exist yet or a change replaced a whole list.
+     */
+    @Override
+    public synchronized void saveInsuraBookChanges(ReadOnlyInsuraBook insuraBook, List<InsuraBook.Change> changes)
+            throws IOException {
+        requireNonNull(insuraBook);
+        requireNonNull(changes);
+
+        Path filePath = getInsuraBookFilePath();
+        if (!isInSync || !Files.exists(filePath) || !changes.stream().allMatch(JsonAdaptedChange::isJournalable)) {
+            saveInsuraBook(insuraBook, filePath);
+            return;
+        }
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        Path journalPath = getJournalFilePath(filePath);
+        String record = JsonUtil.toCompactJsonString(new JsonAdaptedJournalRecord(lastSequence + 1, changes)) + "\n";
+        try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            channel.write(ByteBuffer.wrap(record.getBytes(StandardCharsets.UTF_8)));
+            lastSequence++;
+            if (channel.size() > compactionThreshold && !isCompacting) {
+                scheduleCompaction(insuraBook);
+            }
+        } catch (IOException e) {
+            isInSync = false; // a partly written record is dropped on reading, so the next save writes a snapshot
+            throw e;
+        }
+    }
+
+    /**
+     * Waits for any compaction that has been scheduled to finish.
+     */
+    void awaitCompaction() throws InterruptedException, ExecutionException {
+        compactor.submit(() -> { }).get();
+    }
+
+    /**
+     * Schedules the journal to be folded into a new snapshot holding {@code insuraBook} as it is now.
+     * Clients and policy types are never modified once they are in the book, so copying the lists is enough
+     * for the background thread to convert them while the book keeps changing.
+     */
+    private void scheduleCompaction(ReadOnlyInsuraBook insuraBook) {
+        List<Client> clients = List.copyOf(insuraBook.getClientList());
+        List<PolicyType> policyTypes = List.copyOf(insuraBook.getPolicyTypeList());
+        long sequence = lastSequence;
+        isCompacting = true;
+        compactor.execute(() -> compact(clients, policyTypes, sequence));
+    }
+
+    private void compact(List<Client> clients, List<PolicyType> policyTypes, long sequence) {
+        Path filePath = getInsuraBookFilePath();
+        Path tempPath = filePath.resolveSibling(filePath.getFileName() + TEMP_FILE_SUFFIX);
+        if (FileUtil.isCompressed(filePath)) {
+            // so that the snapshot is written compressed like the file it replaces
+            tempPath = FileUtil.getCompressedFilePath(tempPath);
+        }
+        try {
+            getStreamWriter().write(clients, policyTypes, sequence, tempPath);
+            synchronized (this) {
+                if (snapshotSequence >= sequence) {
+                    // a full save has already written a newer snapshot
+                    Files.deleteIfExists(tempPath);
+                    return;
+                }
+                FileUtil.moveAtomically(tempPath, filePath);
+                snapshotSequence = sequence;
+                dropJournalRecordsUpTo(sequence);
+            }
+            logger.fine("Compacted the journal of " + filePath + " up to record " + sequence);
+        } catch (IOException | IllegalValueException e) {
+            logger.warning("Could not compact the journal of " + filePath + ", keeping it as is: " + e.getMessage());
+        } finally {
+            synchronized (this) {
+                isCompacting = false;
+            }
+        }
+    }
+
+    /**
+     * Rewrites the journal without the records up to and including {@code sequence}, which the snapshot now holds.
+     */
+    private void dropJournalRecordsUpTo(long sequence) throws IOException, IllegalValueException {
+        Path journalPath = getJournalFilePath(getInsuraBookFilePath());
+        if (!Files.exists(journalPath)) {
+            return;
+        }
+        StringBuilder remainingRecords = new StringBuilder();
+        for (String line : Files.readAllLines(journalPath, StandardCharsets.UTF_8)) {
+            if (!line.isBlank() && parseRecord(line).getSequence() > sequence) {
+                remainingRecords.append(line).append('\n');
+            }
+        }
+        Path tempPath = journalPath.resolveSibling(journalPath.getFileName() + TEMP_FILE_SUFFIX);
+        FileUtil.writeToFile(tempPath, remainingRecords.toString());
+        FileUtil.moveAtomically(tempPath, journalPath);
+    }
+
+    /**
+     * Replays the records of the journal at {@code journalPath} that come after record {@code sequence} over
+     * {@code insuraBook}, and returns the sequence number of the last record in the journal.
+     * A record only counts once the line break after it has been written, so a last line without one is cut off.
+     */
+    private static long replayJournal(Path journalPath, InsuraBook insuraBook, long sequence)
+            throws IOException, IllegalValueException {
+        if (!Files.exists(journalPath)) {
+            return sequence;
+        }
+
+        String[] lines = FileUtil.readFromFile(journalPath).split("\n", -1);
+        long lastSequence = sequence;
+        long completeLength = 0;
+        for (int i = 0; i < lines.length - 1; i++) {
+            completeLength += lines[i].getBytes(StandardCharsets.UTF_8).length + 1;
+            if (lines[i].isBlank()) {
+                continue;
+            }
+            JsonAdaptedJournalRecord record = parseRecord(lines[i]);
+            if (record.getSequence() > lastSequence) {
+                record.applyTo(insuraBook);
+                lastSequence = record.getSequence();
+            }
+        }
+
+        if (!lines[lines.length - 1].isEmpty()) {
+            logger.warning("Dropping the incomplete last record of journal " + journalPath);
+            try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.WRITE)) {
+                channel.truncate(completeLength);
+            }
+        }
+        return lastSequence;
+    }
+
+    private static JsonAdaptedJournalRecord parseRecord(String line) throws IllegalValueException {
+        try {
+            return JsonUtil.fromJsonString(line, JsonAdaptedJournalRecord.class);
+        } catch (IOException e) {
+            throw new IllegalValueException("Journal record could not be read: " + line, e);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package insurabook.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import insurabook.commons.exceptions.IllegalValueException;
+import insurabook.model.InsuraBook;
+import insurabook.model.client.Client;
+import insurabook.model.client.ClientId;
+import insurabook.model.policytype.PolicyType;
+import insurabook.model.policytype.PolicyTypeId;
+
+/**
+ * Jackson-friendly version of an {@link InsuraBook.Change}, holding only what is needed to make the change again:
+ * the entry that was added along with its position, the id of the entry that was removed, or the id of the entry
+ * that was replaced along with its replacement.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedChange {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journaled change's %s field is missing!";
+
+    private final String kind;
+    private final int position;
+    private final String targetId;
+    private final JsonAdaptedClient client;
+    private final JsonAdaptedPolicyType policyType;
+
+    /**
+     * Constructs a {@code JsonAdaptedChange} with the given change details.
+     */
+    @JsonCreator
+    public JsonAdaptedChange(@JsonProperty("kind") String kind, @JsonProperty("position") int position,
+                             @JsonProperty("targetId") String targetId,
+                             @JsonProperty("client") JsonAdaptedClient client,
+                             @JsonProperty("policyType") JsonAdaptedPolicyType policyType) {
+        this.kind = kind;
+        this.position = position;
+        this.targetId = targetId;
+        this.client = client;
+        this.policyType = policyType;
+    }
+
+    /**
+     * Converts a given {@code Change} into this class for Jackson use.
+     *
+     * @throws IllegalArgumentException if the change replaces a whole list, see {@link #isJournalable}.
+     */
+    public JsonAdaptedChange(InsuraBook.Change source) {
+        kind = source.getKind().name();
+        position = source.getPosition();
+
+        String changedId = null;
+        Client changedClient = null;
+        PolicyType changedPolicyType = null;
+        switch (source.getKind()) {
+        case CLIENT_ADDED:
+            changedClient = source.getClients().get(0);
+            break;
+        case CLIENT_REMOVED:
+            changedId = source.getClients().get(0).getClientId().toString();
+            break;
+        case CLIENT_REPLACED:
+            changedId = source.getClients().get(0).getClientId().toString();
+            changedClient = source.getClients().get(1);
+            break;
+        case POLICY_TYPE_ADDED:
+        case POLICY_TYPE_REMOVED:
+            changedPolicyType = source.getPolicyTypes().get(0);
+            break;
+        case POLICY_TYPE_REPLACED:
+            changedId = source.getPolicyTypes().get(0).getPtId().toString();
+            changedPolicyType = source.getPolicyTypes().get(1);
+            break;
+        default:
+            throw new IllegalArgumentException("A change of kind " + kind + " cannot be journaled");
+        }
+        targetId = changedId;
+        client = changedClient == null ? null : new JsonAdaptedClient(changedClient);
+        policyType = changedPolicyType == null ? null : new JsonAdaptedPolicyType(changedPolicyType);
+    }
+
+    /**
+     * Returns true if {@code change} can be journaled on its own. A change that replaces a whole list only holds
+     * the previous contents of the list, so the book has to be saved in full instead.
+     */
+    public static boolean isJournalable(InsuraBook.Change change) {
+        return change.getKind() != InsuraBook.Change.Kind.CLIENTS_REPLACED
+                && change.getKind() != InsuraBook.Change.Kind.POLICY_TYPES_REPLACED;
+    }
+
+    /**
+     * Makes this change again on {@code insuraBook}, which must be in the state the change was first made on.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted change,
+     *     or if the change cannot be made on {@code insuraBook}.
+     */
+    public void applyTo(InsuraBook insuraBook) throws IllegalValueException {
+        if (kind == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "kind"));
+        }
+        final InsuraBook.Change.Kind modelKind;
+        try {
+            modelKind = InsuraBook.Change.Kind.valueOf(kind);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException("Unknown kind of journaled change: " + kind);
+        }
+
+        try {
+            switch (modelKind) {
+            case CLIENT_ADDED:
+                insuraBook.addClient(position, toModelClient(insuraBook));
+                break;
+            case CLIENT_REMOVED:
+                insuraBook.removeClient(insuraBook.getClient(toModelClientId()));
+                break;
+            case CLIENT_REPLACED:
+                insuraBook.setClient(insuraBook.getClient(toModelClientId()), toModelClient(insuraBook));
+                break;
+            case POLICY_TYPE_ADDED:
+                insuraBook.addPolicyType(position, toModelPolicyType());
+                break;
+            case POLICY_TYPE_REMOVED:
+                PolicyType removed = toModelPolicyType();
+                insuraBook.deletePolicyType(removed.getPtName(), removed.getPtId());
+                break;
+            case POLICY_TYPE_REPLACED:
+                insuraBook.setPolicyType(insuraBook.getPolicyType(toModelPolicyTypeId()), toModelPolicyType());
+                break;
+            default:
+                throw new IllegalValueException("Journaled change cannot be of kind " + kind);
+            }
+        } catch (RuntimeException e) {
+            throw new IllegalValueException("Journaled change of kind " + kind + " could not be made: "
+                    + e.getMessage(), e);
+        }
+    }
+
+    private Client toModelClient(InsuraBook insuraBook) throws IllegalValueException {
+        if (client == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "client"));
+        }
+        Client modelClient = client.toModelTypeWithoutPolicies();
+        client.addPoliciesToClient(modelClient, insuraBook);
+        return modelClient;
+    }
+
+    private ClientId toModelClientId() throws IllegalValueException {
+        if (targetId == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "targetId"));
+        }
+        if (!ClientId.isValidClientId(targetId)) {
+            throw new IllegalValueException(ClientId.MESSAGE_CONSTRAINTS);
+        }
+        return new ClientId(targetId);
+    }
+
+    private PolicyType toModelPolicyType() throws IllegalValueException {
+        if (policyType == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "policyType"));
+        }
+        return policyType.toModelType();
+    }
+
+    private PolicyTypeId toModelPolicyTypeId() throws IllegalValueException {
+        if (targetId == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "targetId"));
+        }
+        if (!PolicyTypeId.isValidPtId(targetId)) {
+            throw new IllegalValueException(PolicyTypeId.MESSAGE_CONSTRAINTS);
+        }
+        return new PolicyTypeId(targetId);
+    }
+}
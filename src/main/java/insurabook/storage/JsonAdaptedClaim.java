@@ -1,5 +1,6 @@
 package insurabook.storage;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import insurabook.commons.exceptions.IllegalValueException;
@@ -29,6 +30,7 @@ public class JsonAdaptedClaim {
     /**
      * Constructs a {@code JsonAdaptedClaim} with the given claim details.
      */
+    @JsonCreator
     public JsonAdaptedClaim(@JsonProperty("clientId") String clientId,
                             @JsonProperty("policyId") String policyId,
                             @JsonProperty("claimId") String claimId,
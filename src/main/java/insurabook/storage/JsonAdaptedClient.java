@@ -117,15 +117,15 @@ class JsonAdaptedClient {
         }
         final List<Policy> modelPolicies = new ArrayList<>();
         for (JsonAdaptedPolicy jsonAdaptedPolicy : policies) {
-            modelPolicies.add(convertToPolicy(jsonAdaptedPolicy, insuraBook));
+            modelPolicies.add(convertToPolicy(jsonAdaptedPolicy, modelClientId));
         }
 
         return new Client(modelName, modelPhone, modelEmail, modelBirthday, modelClientId, modelPolicies);
     }
 
-    private Policy convertToPolicy(JsonAdaptedPolicy jsonAdaptedPolicy, InsuraBook insuraBook)
+    private Policy convertToPolicy(JsonAdaptedPolicy jsonAdaptedPolicy, ClientId ownerId)
             throws IllegalValueException {
-        return jsonAdaptedPolicy.toModelType(insuraBook);
+        return jsonAdaptedPolicy.toModelType(ownerId);
     }
 
     public Client toModelTypeWithoutPolicies() throws IllegalValueException {
@@ -189,7 +189,7 @@ class JsonAdaptedClient {
      */
     public void addPoliciesToClient(Client client, InsuraBook insuraBook) throws IllegalValueException {
         for (JsonAdaptedPolicy jsonPolicy : policies) {
-            Policy modelPolicy = jsonPolicy.toModelType(insuraBook);
+            Policy modelPolicy = jsonPolicy.toModelType(client.getClientId());
             client.addPolicy(modelPolicy);
             jsonPolicy.addClaimsToPolicy(client, insuraBook);
         }
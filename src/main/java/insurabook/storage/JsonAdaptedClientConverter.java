@@ -0,0 +1,182 @@
+package insurabook.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import insurabook.commons.exceptions.IllegalValueException;
+import insurabook.model.InsuraBook;
+import insurabook.model.client.Client;
+import insurabook.model.policies.exceptions.ClaimAfterExpiredDateException;
+import insurabook.model.policies.exceptions.DuplicatePolicyException;
+import insurabook.model.policies.exceptions.PolicyNotFoundException;
+
+/**
+ * Converts {@code JsonAdaptedClient}s to model clients, along with their policies and claims, on the common
+ * fork-join pool, which is sized to the machine and needs no shutting down.
+ *
+ * Clients are handed over one at a time in the order they are stored, and converted a batch at a time so that the
+ * adapted clients of a whole file need not be held at once. The converted clients are returned in the order they
+ * were handed over, and every client that could not be converted is reported, not just the first.
+ * If the calling thread is interrupted while waiting for the pool, the conversion fails with a
+ * {@code CancellationException} and the thread's interrupt status is kept.
+ */
+class JsonAdaptedClientConverter {
+
+    public static final String MESSAGE_INVALID_CLIENTS = "%d of the stored clients are invalid:";
+    public static final String MESSAGE_INVALID_CLIENT = "Client %d: %s";
+
+    /** Number of clients converted by one task of the worker pool. */
+    static final int CHUNK_SIZE = 256;
+    private static final int BATCH_SIZE = CHUNK_SIZE * 16;
+
+    private final InsuraBook insuraBook;
+    private final List<JsonAdaptedClient> pending = new ArrayList<>();
+    private final List<Client> clients = new ArrayList<>();
+    private final List<String> failures = new ArrayList<>();
+    private int handedOverCount;
+
+    /**
+     * Creates a converter for clients that are to be loaded into {@code insuraBook}.
+     */
+    JsonAdaptedClientConverter(InsuraBook insuraBook) {
+        requireNonNull(insuraBook);
+        this.insuraBook = insuraBook;
+    }
+
+    /**
+     * Hands over the next client to convert.
+     *
+     * @throws CancellationException if interrupted while converting a batch of clients.
+     */
+    public void add(JsonAdaptedClient jsonClient) {
+        requireNonNull(jsonClient);
+        pending.add(jsonClient);
+        if (pending.size() >= BATCH_SIZE) {
+            convertPending();
+        }
+    }
+
+    /**
+     * Hands over each of {@code jsonClients} in turn.
+     *
+     * @throws CancellationException if interrupted while converting a batch of clients.
+     */
+    public void addAll(List<JsonAdaptedClient> jsonClients) {
+        for (JsonAdaptedClient jsonClient : jsonClients) {
+            add(jsonClient);
+        }
+    }
+
+    /**
+     * Returns the converted clients, in the order they were handed over.
+     *
+     * @throws IllegalValueException if any client violates the data constraints, listing every such client.
+     * @throws CancellationException if interrupted while converting the last batch of clients.
+     */
+    public List<Client> getClients() throws IllegalValueException {
+        convertPending();
+        if (!failures.isEmpty()) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_CLIENTS, failures.size())
+                    + "\n" + String.join("\n", failures));
+        }
+        return clients;
+    }
+
+    /**
+     * Converts the clients handed over since the last batch, splitting them among the workers if there are
+     * enough of them to be worth it.
+     */
+    private void convertPending() {
+        List<Chunk> chunks = createChunks();
+        if (chunks.size() <= 1) {
+            chunks.forEach(Chunk::call);
+        } else {
+            List<Future<Chunk>> futures = new ArrayList<>(chunks.size());
+            chunks.forEach(chunk -> futures.add(ForkJoinPool.commonPool().submit(chunk)));
+            try {
+                for (Future<Chunk> future : futures) {
+                    getResult(future);
+                }
+            } catch (InterruptedException e) {
+                futures.forEach(future -> future.cancel(true));
+                Thread.currentThread().interrupt();
+                throw new CancellationException("Interrupted while converting clients");
+            }
+        }
+
+        for (Chunk chunk : chunks) {
+            clients.addAll(chunk.clients);
+            failures.addAll(chunk.failures);
+        }
+        handedOverCount += pending.size();
+        pending.clear();
+    }
+
+    private List<Chunk> createChunks() {
+        List<Chunk> chunks = new ArrayList<>();
+        for (int start = 0; start < pending.size(); start += CHUNK_SIZE) {
+            int end = Math.min(start + CHUNK_SIZE, pending.size());
+            chunks.add(new Chunk(handedOverCount + start + 1, pending.subList(start, end)));
+        }
+        return chunks;
+    }
+
+    /**
+     * Waits for the task {@code future}, rethrowing the exception it failed with.
+     */
+    private static void getResult(Future<Chunk> future) throws InterruptedException {
+        try {
+            future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            } else if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Converts a run of consecutive clients, noting the ones that are invalid instead of stopping at the first.
+     */
+    private class Chunk implements Callable<Chunk> {
+        private final int firstPosition;
+        private final List<JsonAdaptedClient> jsonClients;
+        private final List<Client> clients = new ArrayList<>();
+        private final List<String> failures = new ArrayList<>();
+
+        /**
+         * Creates a chunk of {@code jsonClients}, the first of which is the {@code firstPosition}-th client
+         * handed over, counting from 1.
+         */
+        Chunk(int firstPosition, List<JsonAdaptedClient> jsonClients) {
+            this.firstPosition = firstPosition;
+            this.jsonClients = jsonClients;
+        }
+
+        @Override
+        public Chunk call() {
+            int position = firstPosition;
+            for (JsonAdaptedClient jsonClient : jsonClients) {
+                try {
+                    Client client = jsonClient.toModelTypeWithoutPolicies();
+                    jsonClient.addPoliciesToClient(client, insuraBook);
+                    clients.add(client);
+                } catch (IllegalValueException | IllegalArgumentException | DuplicatePolicyException
+                         | PolicyNotFoundException | ClaimAfterExpiredDateException e) {
+                    failures.add(String.format(MESSAGE_INVALID_CLIENT, position, e.getMessage()));
+                }
+                position++;
+            }
+            return this;
+        }
+    }
+}
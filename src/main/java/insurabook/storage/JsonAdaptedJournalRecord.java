@@ -0,0 +1,57 @@
+package insurabook.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import insurabook.commons.exceptions.IllegalValueException;
+import insurabook.model.InsuraBook;
+
+/**
+ * Jackson-friendly version of one record in the journal of an {@link InsuraBook}:
+ * the changes saved together, numbered so that a snapshot can tell which records it already holds.
+ */
+class JsonAdaptedJournalRecord {
+
+    private final long sequence;
+    private final List<JsonAdaptedChange> changes = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given sequence number and changes.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("sequence") long sequence,
+                                    @JsonProperty("changes") List<JsonAdaptedChange> changes) {
+        this.sequence = sequence;
+        if (changes != null) {
+            this.changes.addAll(changes);
+        }
+    }
+
+    /**
+     * Converts the given changes, oldest first, into a record with sequence number {@code sequence}.
+     */
+    public JsonAdaptedJournalRecord(long sequence, Iterable<InsuraBook.Change> changes) {
+        this.sequence = sequence;
+        for (InsuraBook.Change change : changes) {
+            this.changes.add(new JsonAdaptedChange(change));
+        }
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Makes the changes in this record again on {@code insuraBook}, oldest first.
+     *
+     * @throws IllegalValueException if any of the changes could not be made.
+     */
+    public void applyTo(InsuraBook insuraBook) throws IllegalValueException {
+        for (JsonAdaptedChange change : changes) {
+            change.applyTo(insuraBook);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package insurabook.storage;
 
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import insurabook.commons.exceptions.IllegalValueException;
@@ -30,6 +31,7 @@ public class JsonAdaptedPolicy {
     /**
      * Constructs a {@code JsonAdaptedPolicy} with the given policy details.
      */
+    @JsonCreator
     public JsonAdaptedPolicy(@JsonProperty("policyId") String policyId,
                              @JsonProperty("clientId") String clientId,
                              @JsonProperty("policyTypeId") String policyTypeId,
@@ -57,10 +59,11 @@ public class JsonAdaptedPolicy {
 
     /**
      * Converts this Jackson-friendly adapted policy object into the model's {@code Policy} object.
+     * The policy is stored under the client with {@code ownerId}, so its own client ID must match it.
      *
      * @throws IllegalValueException if there were any data constraints violated in the adapted policy.
      */
-    public Policy toModelType(InsuraBook insuraBook) throws IllegalValueException {
+    public Policy toModelType(ClientId ownerId) throws IllegalValueException {
         if (clientId == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "clientId"));
         }
@@ -68,9 +71,9 @@ public class JsonAdaptedPolicy {
             throw new IllegalValueException(ClientId.MESSAGE_CONSTRAINTS);
         }
         final ClientId modelClientId = new ClientId(clientId);
-        final Client modelClient = insuraBook.getClient(modelClientId);
-        if (modelClient == null) {
-            throw new IllegalValueException("Client with ID " + clientId + " not found in InsuraBook");
+        if (!modelClientId.equals(ownerId)) {
+            throw new IllegalValueException("Policy with client ID " + clientId
+                    + " is stored under client with ID " + ownerId);
         }
 
         if (policyId == null) {
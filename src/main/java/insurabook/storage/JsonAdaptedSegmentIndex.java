@@ -0,0 +1,38 @@
+package insurabook.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import insurabook.commons.exceptions.IllegalValueException;
+
+/**
+ * Jackson-friendly version of the index of a segmented data directory:
+ * the number of segments the clients are spread over.
+ */
+class JsonAdaptedSegmentIndex {
+
+    public static final String MESSAGE_INVALID_SEGMENT_COUNT =
+            "The segment count of a data directory must be positive.";
+
+    private final int segmentCount;
+
+    /**
+     * Constructs a {@code JsonAdaptedSegmentIndex} with the given segment count.
+     */
+    @JsonCreator
+    public JsonAdaptedSegmentIndex(@JsonProperty("segmentCount") int segmentCount) {
+        this.segmentCount = segmentCount;
+    }
+
+    /**
+     * Returns the number of segments the clients are spread over.
+     *
+     * @throws IllegalValueException if the count is not positive.
+     */
+    public int getSegmentCount() throws IllegalValueException {
+        if (segmentCount <= 0) {
+            throw new IllegalValueException(MESSAGE_INVALID_SEGMENT_COUNT);
+        }
+        return segmentCount;
+    }
+}
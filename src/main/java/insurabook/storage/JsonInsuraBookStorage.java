@@ -3,6 +3,7 @@ package insurabook.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -18,15 +19,26 @@ import insurabook.model.ReadOnlyInsuraBook;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * The file is stored gzip compressed if its name ends with {@link FileUtil#COMPRESSED_FILE_EXTENSION}.
  */
 public class JsonInsuraBookStorage implements InsuraBookStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonInsuraBookStorage.class);
 
     private Path filePath;
+    private final JsonInsuraBookStreamWriter streamWriter;
 
-    public JsonInsuraBookStorage(Path filePath) {
+    /**
+     * Creates a storage for the json file at {@code filePath}, which is written without indentation
+     * if {@code isCompact} is set.
+     */
+    public JsonInsuraBookStorage(Path filePath, boolean isCompact) {
         this.filePath = filePath;
+        this.streamWriter = new JsonInsuraBookStreamWriter(isCompact);
+    }
+
+    public JsonInsuraBookStorage(Path filePath) {
+        this(filePath, false);
     }
 
     public Path getInsuraBookFilePath() {
@@ -47,17 +59,18 @@ public class JsonInsuraBookStorage implements InsuraBookStorage {
     public Optional<ReadOnlyInsuraBook> readInsuraBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableInsuraBook> jsonInsuraBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableInsuraBook.class);
-        if (jsonInsuraBook.isEmpty()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
 
         try {
-            return Optional.of(jsonInsuraBook.get().toModelType());
+            return Optional.of(new JsonInsuraBookStreamReader().read(filePath));
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from json file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
         }
     }
 
@@ -75,12 +88,19 @@ public class JsonInsuraBookStorage implements InsuraBookStorage {
         requireNonNull(insuraBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableInsuraBook(insuraBook), filePath);
+        FileUtil.createParentDirsOfFile(filePath);
+        streamWriter.write(insuraBook, filePath);
     }
 
     /**
-     * Creates a copy of current InsuraBook file.
+     * Returns the writer this storage saves its data with.
+     */
+    JsonInsuraBookStreamWriter getStreamWriter() {
+        return streamWriter;
+    }
+
+    /**
+     * Creates a copy of current InsuraBook file, which is compressed if the file is.
      */
     @Override
     public void backupInsuraBookFile() throws IOException {
@@ -93,6 +113,9 @@ public class JsonInsuraBookStorage implements InsuraBookStorage {
         Path backupParent = filePath.getParent();
         String backupFilename = "insurabook-backup-" + formattedDateTime + ".json";
         Path backupPath = backupParent.resolve(backupFilename);
+        if (FileUtil.isCompressed(filePath)) {
+            backupPath = FileUtil.getCompressedFilePath(backupPath);
+        }
         JsonUtil.copyJsonFile(filePath, backupPath);
     }
 
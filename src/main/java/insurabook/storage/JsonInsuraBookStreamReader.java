@@ -0,0 +1,195 @@
+package insurabook.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import insurabook.commons.exceptions.IllegalValueException;
+import insurabook.commons.util.JsonUtil;
+import insurabook.model.InsuraBook;
+import insurabook.model.client.Client;
+import insurabook.model.policytype.PolicyType;
+
+/**
+ * Reads an InsuraBook json file in a single pass, converting the clients and policy types to model objects soon
+ * after they have been parsed. Clients are converted in batches on the workers of a
+ * {@link JsonAdaptedClientConverter} while parsing goes on.
+ *
+ * Unlike binding the whole file to a {@link JsonSerializableInsuraBook}, neither the file's text nor a tree of
+ * adapted objects for the whole book is ever held in memory, so reading a book takes little more memory than the
+ * book itself.
+ */
+class JsonInsuraBookStreamReader {
+
+    public static final String MISSING_LIST_MESSAGE_FORMAT = "InsuraBook's %s list is missing!";
+    public static final String MISSING_ENTRY_MESSAGE_FORMAT = "InsuraBook's %s list has an empty entry!";
+    public static final String MESSAGE_ORDER_KEYS_MISMATCH = "InsuraBook's clients and order keys do not match up!";
+
+    private static final String CLIENTS_FIELD = "clients";
+    private static final String POLICY_TYPES_FIELD = "policyTypes";
+    private static final String JOURNAL_SEQUENCE_FIELD = "journalSequence";
+    private static final String ORDER_KEYS_FIELD = "orderKeys";
+
+    private List<Client> clients;
+    private List<PolicyType> policyTypes;
+    private long journalSequence;
+    private List<Long> orderKeys;
+
+    /**
+     * Reads the book held by the json file at {@code filePath}.
+     *
+     * @throws IOException if the file could not be read or is not a json object.
+     * @throws IllegalValueException if there were any data constraints violated in the file.
+     */
+    public InsuraBook read(Path filePath) throws IOException, IllegalValueException {
+        InsuraBook insuraBook = new InsuraBook();
+        readLists(filePath, insuraBook);
+        requireList(clients, CLIENTS_FIELD);
+        requireList(policyTypes, POLICY_TYPES_FIELD);
+        JsonSerializableInsuraBook.loadData(insuraBook, policyTypes, clients);
+        return insuraBook;
+    }
+
+    /**
+     * Reads just the clients held by the json file at {@code filePath} along with their order keys, which the file
+     * must hold one of for each client. The file need not hold any other list.
+     *
+     * @throws IOException if the file could not be read or is not a json object.
+     * @throws IllegalValueException if there were any data constraints violated in the file.
+     */
+    public List<Client> readClients(Path filePath) throws IOException, IllegalValueException {
+        readLists(filePath, new InsuraBook());
+        requireList(clients, CLIENTS_FIELD);
+        requireList(orderKeys, ORDER_KEYS_FIELD);
+        if (orderKeys.size() != clients.size()) {
+            throw new IllegalValueException(MESSAGE_ORDER_KEYS_MISMATCH);
+        }
+        return clients;
+    }
+
+    /**
+     * Reads just the policy types held by the json file at {@code filePath}, which need not hold any other list.
+     *
+     * @throws IOException if the file could not be read or is not a json object.
+     * @throws IllegalValueException if there were any data constraints violated in the file.
+     */
+    public List<PolicyType> readPolicyTypes(Path filePath) throws IOException, IllegalValueException {
+        readLists(filePath, new InsuraBook());
+        requireList(policyTypes, POLICY_TYPES_FIELD);
+        return policyTypes;
+    }
+
+    /**
+     * Returns the sequence number of the last journal record folded into the book last read, or 0 if there is none.
+     */
+    public long getJournalSequence() {
+        return journalSequence;
+    }
+
+    /**
+     * Returns the order keys of the clients last read by {@link #readClients(Path)}, in the order of the clients.
+     */
+    public List<Long> getOrderKeys() {
+        return orderKeys;
+    }
+
+    /**
+     * Reads whichever lists the json file at {@code filePath} holds, leaving the others null.
+     */
+    private void readLists(Path filePath, InsuraBook insuraBook) throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+
+        clients = null;
+        policyTypes = null;
+        journalSequence = 0;
+        orderKeys = null;
+
+        try (JsonParser parser = JsonUtil.createJsonParser(filePath)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected the data to start with a json object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                parser.nextToken();
+                switch (fieldName) {
+                case CLIENTS_FIELD:
+                    clients = parseClients(parser, insuraBook);
+                    break;
+                case POLICY_TYPES_FIELD:
+                    policyTypes = parsePolicyTypes(parser);
+                    break;
+                case JOURNAL_SEQUENCE_FIELD:
+                    journalSequence = parser.getValueAsLong();
+                    break;
+                case ORDER_KEYS_FIELD:
+                    orderKeys = parseOrderKeys(parser);
+                    break;
+                default:
+                    parser.skipChildren();
+                }
+            }
+        }
+    }
+
+    private static void requireList(List<?> list, String fieldName) throws IllegalValueException {
+        if (list == null) {
+            throw new IllegalValueException(String.format(MISSING_LIST_MESSAGE_FORMAT, fieldName));
+        }
+    }
+
+    private static List<Client> parseClients(JsonParser parser, InsuraBook insuraBook)
+            throws IOException, IllegalValueException {
+        requireArray(parser, CLIENTS_FIELD);
+        JsonAdaptedClientConverter converter = new JsonAdaptedClientConverter(insuraBook);
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            requireEntry(parser, CLIENTS_FIELD);
+            converter.add(parser.readValueAs(JsonAdaptedClient.class));
+        }
+        return converter.getClients();
+    }
+
+    private static List<PolicyType> parsePolicyTypes(JsonParser parser) throws IOException, IllegalValueException {
+        requireArray(parser, POLICY_TYPES_FIELD);
+        List<PolicyType> policyTypes = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            requireEntry(parser, POLICY_TYPES_FIELD);
+            policyTypes.add(parser.readValueAs(JsonAdaptedPolicyType.class).toModelType());
+        }
+        return policyTypes;
+    }
+
+    private static List<Long> parseOrderKeys(JsonParser parser) throws IOException, IllegalValueException {
+        requireArray(parser, ORDER_KEYS_FIELD);
+        List<Long> orderKeys = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            requireEntry(parser, ORDER_KEYS_FIELD);
+            if (parser.getCurrentToken() != JsonToken.VALUE_NUMBER_INT) {
+                throw new JsonParseException(parser, "Expected the order keys to be whole numbers");
+            }
+            orderKeys.add(parser.getLongValue());
+        }
+        return orderKeys;
+    }
+
+    private static void requireArray(JsonParser parser, String fieldName) throws IOException {
+        if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, "Expected " + fieldName + " to be a json array");
+        }
+    }
+
+    private static void requireEntry(JsonParser parser, String fieldName) throws IOException, IllegalValueException {
+        if (parser.getCurrentToken() == null) {
+            throw new JsonParseException(parser, "Unexpected end of data in the " + fieldName + " list");
+        }
+        if (parser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            throw new IllegalValueException(String.format(MISSING_ENTRY_MESSAGE_FORMAT, fieldName));
+        }
+    }
+}
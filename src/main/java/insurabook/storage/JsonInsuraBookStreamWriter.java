@@ -0,0 +1,185 @@
+package insurabook.storage;
+
+import static insurabook.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import insurabook.commons.util.FileUtil;
+import insurabook.commons.util.JsonUtil;
+import insurabook.model.ReadOnlyInsuraBook;
+import insurabook.model.claims.Claim;
+import insurabook.model.client.Client;
+import insurabook.model.policies.Policy;
+import insurabook.model.policytype.PolicyType;
+
+/**
+ * Writes an InsuraBook json file straight from the model, one field at a time.
+ *
+ * The output holds the same fields as a {@link JsonSerializableInsuraBook} of the book, in the same order, but
+ * neither the adapted objects nor the text of the whole file are ever built, so saving takes about the same
+ * memory however large the book is. The file is replaced in one step once it has been written in full.
+ */
+class JsonInsuraBookStreamWriter {
+
+    private final boolean isCompact;
+
+    /**
+     * Creates a writer that indents its output, unless {@code isCompact} is set.
+     */
+    public JsonInsuraBookStreamWriter(boolean isCompact) {
+        this.isCompact = isCompact;
+    }
+
+    /**
+     * Writes {@code insuraBook} to the file at {@code filePath}.
+     */
+    public void write(ReadOnlyInsuraBook insuraBook, Path filePath) throws IOException {
+        requireAllNonNull(insuraBook, filePath);
+        write(insuraBook.getClientList(), insuraBook.getPolicyTypeList(), null, filePath);
+    }
+
+    /**
+     * Writes the given clients and policy types to the file at {@code filePath}, noting that they hold the state
+     * of a book up to and including journal record {@code journalSequence} unless it is null.
+     */
+    public void write(List<Client> clients, List<PolicyType> policyTypes, Long journalSequence, Path filePath)
+            throws IOException {
+        requireAllNonNull(clients, policyTypes, filePath);
+        writeObject(filePath, generator -> {
+            writeClientsField(generator, clients);
+            writePolicyTypesField(generator, policyTypes);
+            if (journalSequence != null) {
+                generator.writeNumberField("journalSequence", journalSequence);
+            }
+        });
+    }
+
+    /**
+     * Writes a file at {@code filePath} holding just {@code clients} and their {@code orderKeys}, in the same order.
+     */
+    public void writeClients(List<Client> clients, List<Long> orderKeys, Path filePath) throws IOException {
+        requireAllNonNull(clients, orderKeys, filePath);
+        assert clients.size() == orderKeys.size();
+        writeObject(filePath, generator -> {
+            writeClientsField(generator, clients);
+            generator.writeArrayFieldStart("orderKeys");
+            for (long orderKey : orderKeys) {
+                generator.writeNumber(orderKey);
+            }
+            generator.writeEndArray();
+        });
+    }
+
+    /**
+     * Writes a file at {@code filePath} holding just {@code policyTypes}.
+     */
+    public void writePolicyTypes(List<PolicyType> policyTypes, Path filePath) throws IOException {
+        requireAllNonNull(policyTypes, filePath);
+        writeObject(filePath, generator -> writePolicyTypesField(generator, policyTypes));
+    }
+
+    /**
+     * Writes a json object holding the fields written by {@code fieldsWriter} to the file at {@code filePath}.
+     */
+    private void writeObject(Path filePath, FieldsWriter fieldsWriter) throws IOException {
+        FileUtil.writeToFileAtomically(filePath, out -> {
+            try (JsonGenerator generator = JsonUtil.createJsonGenerator(out, isCompact)) {
+                generator.writeStartObject();
+                fieldsWriter.writeFields(generator);
+                generator.writeEndObject();
+            }
+        });
+    }
+
+    private static void writeClientsField(JsonGenerator generator, List<Client> clients) throws IOException {
+        generator.writeArrayFieldStart("clients");
+        for (Client client : clients) {
+            writeClient(generator, client);
+        }
+        generator.writeEndArray();
+    }
+
+    private static void writePolicyTypesField(JsonGenerator generator, List<PolicyType> policyTypes)
+            throws IOException {
+        generator.writeArrayFieldStart("policyTypes");
+        for (PolicyType policyType : policyTypes) {
+            writePolicyType(generator, policyType);
+        }
+        generator.writeEndArray();
+    }
+
+    /**
+     * Writes {@code client} the way {@link JsonAdaptedClient} holds it.
+     */
+    private static void writeClient(JsonGenerator generator, Client client) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("name", client.getName().toString());
+        generator.writeStringField("phone", client.getPhone().toString());
+        generator.writeStringField("email", client.getEmail().toString());
+        generator.writeStringField("birthday", client.getBirthday().toString());
+        generator.writeStringField("clientId", client.getClientId().toString());
+        generator.writeArrayFieldStart("policies");
+        for (Policy policy : client.getPolicies()) {
+            writePolicy(generator, policy);
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    /**
+     * Writes {@code policy} the way {@link JsonAdaptedPolicy} holds it.
+     */
+    private static void writePolicy(JsonGenerator generator, Policy policy) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("policyId", policy.getPolicyId().toString());
+        generator.writeStringField("clientId", policy.getClientId().toString());
+        generator.writeStringField("policyTypeId", policy.getPolicyTypeId().toString());
+        generator.writeStringField("expiryDate", policy.getExpiryDate().toString());
+        generator.writeArrayFieldStart("claims");
+        for (Claim claim : policy.getClaims()) {
+            writeClaim(generator, claim);
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    /**
+     * Writes {@code claim} the way {@link JsonAdaptedClaim} holds it.
+     */
+    private static void writeClaim(JsonGenerator generator, Claim claim) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("clientId", claim.getClientId().toString());
+        generator.writeStringField("policyId", claim.getPolicyId().toString());
+        generator.writeStringField("claimId", claim.getClaimId().toString());
+        generator.writeStringField("amount", claim.getAmount().toString());
+        generator.writeStringField("date", claim.getDate().toString());
+        generator.writeStringField("description", claim.getDescription().toString());
+        generator.writeEndObject();
+    }
+
+    /**
+     * Writes {@code policyType} the way {@link JsonAdaptedPolicyType} holds it.
+     */
+    private static void writePolicyType(JsonGenerator generator, PolicyType policyType) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("ptName", policyType.getPtName().toString());
+        generator.writeStringField("ptId", policyType.getPtId().toString());
+        generator.writeBooleanField("isDescEmpty", policyType.getPtDescription().isEmpty);
+        generator.writeStringField("ptDescription", policyType.getPtDescription().toString());
+        generator.writeBooleanField("isPremEmpty", policyType.getPtPremium().isEmpty);
+        generator.writeStringField("ptPremium", policyType.getPtPremium().toString());
+        generator.writeEndObject();
+    }
+
+    /**
+     * Writes some of the fields of a json object.
+     */
+    @FunctionalInterface
+    private interface FieldsWriter {
+        void writeFields(JsonGenerator generator) throws IOException;
+    }
+}
@@ -5,6 +5,7 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
@@ -12,7 +13,7 @@ import insurabook.commons.exceptions.IllegalValueException;
 import insurabook.model.InsuraBook;
 import insurabook.model.ReadOnlyInsuraBook;
 import insurabook.model.client.Client;
-import insurabook.model.policies.Policy;
+import insurabook.model.client.exceptions.ClientDuplicateException;
 import insurabook.model.policytype.PolicyType;
 import insurabook.model.policytype.exceptions.PolicyTypeDuplicateException;
 
@@ -28,14 +29,20 @@ class JsonSerializableInsuraBook {
     private final List<JsonAdaptedClient> clients = new ArrayList<>();
     private final List<JsonAdaptedPolicyType> policyTypes = new ArrayList<>();
 
+    // Sequence number of the last journal record folded into this book, only written by journaled storage
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Long journalSequence;
+
     /**
      * Constructs a {@code JsonSerializableAddressBook} with the given clients.
      */
     @JsonCreator
     public JsonSerializableInsuraBook(@JsonProperty("clients") List<JsonAdaptedClient> clients,
-                                      @JsonProperty("policyTypes") List<JsonAdaptedPolicyType> policyTypes) {
+                                      @JsonProperty("policyTypes") List<JsonAdaptedPolicyType> policyTypes,
+                                      @JsonProperty("journalSequence") Long journalSequence) {
         this.clients.addAll(clients);
         this.policyTypes.addAll(policyTypes);
+        this.journalSequence = journalSequence;
     }
 
     /**
@@ -47,43 +54,43 @@ class JsonSerializableInsuraBook {
         policyTypes.addAll(source.getPolicyTypeList().stream()
                 .map(JsonAdaptedPolicyType::new).collect(Collectors.toList()));
         clients.addAll(source.getClientList().stream().map(JsonAdaptedClient::new).collect(Collectors.toList()));
+        journalSequence = null;
     }
 
     /**
      * Converts this address book into the model's {@code InsuraBook} object.
      *
-     * @throws IllegalValueException if there were any data constraints violated.
+     * @throws IllegalValueException if there were any data constraints violated, listing every invalid client.
      */
     public InsuraBook toModelType() throws IllegalValueException {
         InsuraBook insuraBook = new InsuraBook();
+        List<PolicyType> modelPolicyTypes = new ArrayList<>(policyTypes.size());
         for (JsonAdaptedPolicyType jsonAdaptedPolicyType : policyTypes) {
-            PolicyType policyType = jsonAdaptedPolicyType.toModelType();
-            try {
-                insuraBook.addPolicyType(policyType);
-            } catch (PolicyTypeDuplicateException e) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_POLICY_TYPE);
-            }
-        }
-
-        for (JsonAdaptedClient jsonClient : clients) {
-            Client client = jsonClient.toModelTypeWithoutPolicies();
-            if (insuraBook.hasClient(client)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            insuraBook.addClient(client);
-            jsonClient.addPoliciesToClient(client, insuraBook);
+            modelPolicyTypes.add(jsonAdaptedPolicyType.toModelType());
         }
 
-        // Set client policies list in InsuraBook
-        List<Policy> clientPolices = insuraBook.getClientList().stream()
-                        .flatMap(client -> client.getPolicies().stream())
-                        .toList();
-        insuraBook.setClientPolicies(clientPolices);
-
-        // Sync ID counters
-        insuraBook.syncClaimIdCounter();
+        JsonAdaptedClientConverter converter = new JsonAdaptedClientConverter(insuraBook);
+        converter.addAll(clients);
 
+        loadData(insuraBook, modelPolicyTypes, converter.getClients());
         return insuraBook;
     }
 
+    /**
+     * Loads the converted {@code policyTypes} and {@code clients} into {@code insuraBook} all at once,
+     * which also indexes the claims and syncs the claim ID counter.
+     *
+     * @throws IllegalValueException if either list contains duplicates.
+     */
+    static void loadData(InsuraBook insuraBook, List<PolicyType> policyTypes, List<Client> clients)
+            throws IllegalValueException {
+        try {
+            insuraBook.loadData(policyTypes, clients);
+        } catch (PolicyTypeDuplicateException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_POLICY_TYPE);
+        } catch (ClientDuplicateException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        }
+    }
+
 }
@@ -0,0 +1,383 @@
+package insurabook.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import insurabook.commons.core.LogsCenter;
+
+/**
+ * A file of fixed-size pages, read through a cache and changed in transactions that are made durable with a
+ * write-ahead log.
+ *
+ * Pages changed since the last {@link #commit()} are kept in memory until then, and never written to the file
+ * before the log holding all of them has been forced to disk. A commit writes the changed pages to the log
+ * {@code <file>.wal} with a checksum, forces it, then writes the pages in place and empties the log. If the
+ * program stops part way, opening the file again either finds a complete log and writes its pages again, or a
+ * torn one and drops it, so each commit is applied whole or not at all.
+ * Unchanged pages are kept in a cache holding up to a fixed number of pages, dropping the least recently used.
+ *
+ * Page 0 holds the header: the number of pages, the first page of the list of free pages, and a few slots that
+ * the user of the file keeps its own page numbers in. Pages no longer needed are put on the free list and used
+ * again before the file grows.
+ */
+class PageFile implements Closeable {
+
+    public static final int PAGE_SIZE = 4096;
+    public static final int HEADER_SLOT_COUNT = 4;
+    public static final String LOG_FILE_SUFFIX = ".wal";
+
+    /** Page number meaning "no page", e.g. at the end of a chain of pages. */
+    public static final int NO_PAGE = 0;
+
+    static final int DEFAULT_CACHE_SIZE = 1024;
+    static final int LOG_MAGIC = 0x4942574c; // "IBWL"
+
+    private static final int MAGIC = 0x49425047; // "IBPG"
+    private static final int VERSION = 1;
+
+    // Layout of the header page
+    private static final int PAGE_COUNT_OFFSET = 8;
+    private static final int FREE_LIST_OFFSET = 12;
+    private static final int SLOTS_OFFSET = 16;
+
+    // Layout of the pages of a blob, and of free pages, which only use the link to the next page
+    private static final byte BLOB_PAGE = 3;
+    private static final byte FREE_PAGE = 4;
+    private static final int BLOB_HEADER_SIZE = 1 + Short.BYTES + Integer.BYTES;
+    private static final int BLOB_DATA_SIZE = PAGE_SIZE - BLOB_HEADER_SIZE;
+
+    private static final Logger logger = LogsCenter.getLogger(PageFile.class);
+
+    private final Path filePath;
+    private final Path logPath;
+    private final boolean isLogged;
+    private final FileChannel channel;
+    private final Map<Integer, ByteBuffer> cleanPages;
+    private final Map<Integer, ByteBuffer> dirtyPages = new TreeMap<>();
+
+    /**
+     * Opens the page file at {@code filePath}, creating it if it does not exist, and applies any complete commit
+     * left in its log. Changes are logged before they are written unless {@code isLogged} is false, which is
+     * only safe for a file that is thrown away if writing it fails part way.
+     *
+     * @param cacheSize the number of unchanged pages kept in memory.
+     * @throws IOException if the file cannot be opened or is not a page file.
+     */
+    PageFile(Path filePath, boolean isLogged, int cacheSize) throws IOException {
+        requireNonNull(filePath);
+        assert cacheSize > 0;
+        this.filePath = filePath;
+        this.logPath = getLogFilePath(filePath);
+        this.isLogged = isLogged;
+        this.cleanPages = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, ByteBuffer> eldest) {
+                return size() > cacheSize;
+            }
+        };
+        this.channel = FileChannel.open(filePath, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            recover();
+            if (channel.size() == 0) {
+                ByteBuffer header = ByteBuffer.allocate(PAGE_SIZE);
+                header.putInt(0, MAGIC).putInt(4, VERSION).putInt(PAGE_COUNT_OFFSET, 1);
+                dirtyPages.put(0, header);
+                commit();
+            } else if (channel.size() % PAGE_SIZE != 0 || getPage(0).getInt(0) != MAGIC) {
+                throw new IOException(filePath + " is not an InsuraBook page file");
+            } else if (getPage(0).getInt(4) != VERSION) {
+                throw new IOException(filePath + " is a version " + getPage(0).getInt(4)
+                        + " page file, which this version of InsuraBook cannot read");
+            }
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    PageFile(Path filePath) throws IOException {
+        this(filePath, true, DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * Returns the path of the write-ahead log kept next to the page file at {@code filePath}.
+     */
+    public static Path getLogFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + LOG_FILE_SUFFIX);
+    }
+
+    /**
+     * Returns page {@code pageNumber} for reading. The buffer must not be changed; use {@link #getPageForUpdate}.
+     */
+    public ByteBuffer getPage(int pageNumber) throws IOException {
+        ByteBuffer page = dirtyPages.get(pageNumber);
+        if (page == null) {
+            page = cleanPages.get(pageNumber);
+        }
+        if (page == null) {
+            if (pageNumber < 0 || pageNumber >= getPageCount()) {
+                throw new IOException("Page " + pageNumber + " is outside of " + filePath);
+            }
+            page = ByteBuffer.allocate(PAGE_SIZE);
+            while (page.hasRemaining()) {
+                if (channel.read(page, (long) pageNumber * PAGE_SIZE + page.position()) < 0) {
+                    throw new IOException(filePath + " ends in the middle of page " + pageNumber);
+                }
+            }
+            page.clear();
+            cleanPages.put(pageNumber, page);
+        }
+        return page;
+    }
+
+    /**
+     * Returns page {@code pageNumber} for changing, which makes it part of the next commit.
+     */
+    public ByteBuffer getPageForUpdate(int pageNumber) throws IOException {
+        ByteBuffer page = dirtyPages.get(pageNumber);
+        if (page == null) {
+            page = getPage(pageNumber);
+            cleanPages.remove(pageNumber);
+            dirtyPages.put(pageNumber, page);
+        }
+        return page;
+    }
+
+    /**
+     * Returns the number of a page that is not in use, taken off the free list or added at the end of the file.
+     * Its content is cleared.
+     */
+    public int allocatePage() throws IOException {
+        ByteBuffer header = getPageForUpdate(0);
+        int pageNumber = header.getInt(FREE_LIST_OFFSET);
+        if (pageNumber != NO_PAGE) {
+            header.putInt(FREE_LIST_OFFSET, getPage(pageNumber).getInt(1 + Short.BYTES));
+        } else {
+            pageNumber = header.getInt(PAGE_COUNT_OFFSET);
+            header.putInt(PAGE_COUNT_OFFSET, pageNumber + 1);
+            cleanPages.put(pageNumber, ByteBuffer.allocate(PAGE_SIZE));
+        }
+        ByteBuffer page = getPageForUpdate(pageNumber);
+        page.clear();
+        page.put(0, new byte[PAGE_SIZE]);
+        return pageNumber;
+    }
+
+    /**
+     * Puts page {@code pageNumber} on the free list.
+     */
+    public void freePage(int pageNumber) throws IOException {
+        assert pageNumber != 0;
+        ByteBuffer header = getPageForUpdate(0);
+        ByteBuffer page = getPageForUpdate(pageNumber);
+        page.put(0, FREE_PAGE).putInt(1 + Short.BYTES, header.getInt(FREE_LIST_OFFSET));
+        header.putInt(FREE_LIST_OFFSET, pageNumber);
+    }
+
+    /**
+     * Returns the page number kept in header slot {@code slot}, or {@link #NO_PAGE} if none has been kept there.
+     */
+    public int getHeaderSlot(int slot) throws IOException {
+        assert slot >= 0 && slot < HEADER_SLOT_COUNT;
+        return getPage(0).getInt(SLOTS_OFFSET + slot * Integer.BYTES);
+    }
+
+    public void setHeaderSlot(int slot, int pageNumber) throws IOException {
+        assert slot >= 0 && slot < HEADER_SLOT_COUNT;
+        getPageForUpdate(0).putInt(SLOTS_OFFSET + slot * Integer.BYTES, pageNumber);
+    }
+
+    /**
+     * Writes {@code bytes} to a chain of newly allocated pages and returns the number of the first one.
+     */
+    public int writeBlob(byte[] bytes) throws IOException {
+        int firstPage = allocatePage();
+        int pageNumber = firstPage;
+        int offset = 0;
+        do {
+            int length = Math.min(BLOB_DATA_SIZE, bytes.length - offset);
+            int nextPage = offset + length < bytes.length ? allocatePage() : NO_PAGE;
+            ByteBuffer page = getPageForUpdate(pageNumber);
+            page.put(0, BLOB_PAGE).putShort(1, (short) length).putInt(1 + Short.BYTES, nextPage);
+            page.put(BLOB_HEADER_SIZE, bytes, offset, length);
+            offset += length;
+            pageNumber = nextPage;
+        } while (pageNumber != NO_PAGE);
+        return firstPage;
+    }
+
+    /**
+     * Reads the bytes written by {@link #writeBlob(byte[])} to the chain of pages starting at {@code firstPage}.
+     */
+    public byte[] readBlob(int firstPage) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        for (int pageNumber = firstPage; pageNumber != NO_PAGE; ) {
+            ByteBuffer page = getBlobPage(pageNumber);
+            bytes.write(page.array(), page.arrayOffset() + BLOB_HEADER_SIZE, page.getShort(1));
+            pageNumber = page.getInt(1 + Short.BYTES);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Puts the chain of pages starting at {@code firstPage} on the free list.
+     */
+    public void freeBlob(int firstPage) throws IOException {
+        for (int pageNumber = firstPage; pageNumber != NO_PAGE; ) {
+            int nextPage = getBlobPage(pageNumber).getInt(1 + Short.BYTES);
+            freePage(pageNumber);
+            pageNumber = nextPage;
+        }
+    }
+
+    private ByteBuffer getBlobPage(int pageNumber) throws IOException {
+        ByteBuffer page = getPage(pageNumber);
+        if (page.get(0) != BLOB_PAGE || page.getShort(1) < 0 || page.getShort(1) > BLOB_DATA_SIZE) {
+            throw new IOException(filePath + " is damaged: page " + pageNumber + " is not part of a blob");
+        }
+        return page;
+    }
+
+    /**
+     * Makes the changes since the last commit durable: logs the changed pages, then writes them in place.
+     */
+    public void commit() throws IOException {
+        if (dirtyPages.isEmpty()) {
+            return;
+        }
+        if (isLogged) {
+            writeLog();
+        }
+        writePages(dirtyPages);
+        channel.force(false);
+        if (isLogged) {
+            Files.delete(logPath);
+        }
+        for (Map.Entry<Integer, ByteBuffer> page : dirtyPages.entrySet()) {
+            cleanPages.put(page.getKey(), page.getValue());
+        }
+        dirtyPages.clear();
+    }
+
+    /**
+     * Drops the changes since the last commit.
+     */
+    public void rollback() {
+        dirtyPages.clear();
+    }
+
+    /**
+     * Returns the number of pages changed since the last commit.
+     */
+    public int getChangedPageCount() {
+        return dirtyPages.size();
+    }
+
+    @Override
+    public void close() throws IOException {
+        dirtyPages.clear();
+        cleanPages.clear();
+        channel.close();
+    }
+
+    private int getPageCount() throws IOException {
+        ByteBuffer header = dirtyPages.containsKey(0) ? dirtyPages.get(0) : cleanPages.get(0);
+        return header != null ? header.getInt(PAGE_COUNT_OFFSET) : (int) (channel.size() / PAGE_SIZE);
+    }
+
+    /**
+     * Writes the changed pages to the log as its magic number, the number of pages, each page number followed by
+     * the page, and a checksum of all of that, then forces the log to disk.
+     */
+    private void writeLog() throws IOException {
+        int length = 2 * Integer.BYTES + dirtyPages.size() * (Integer.BYTES + PAGE_SIZE) + Integer.BYTES;
+        ByteBuffer log = ByteBuffer.allocate(length);
+        log.putInt(LOG_MAGIC).putInt(dirtyPages.size());
+        for (Map.Entry<Integer, ByteBuffer> page : dirtyPages.entrySet()) {
+            log.putInt(page.getKey()).put(page.getValue().duplicate().clear());
+        }
+        CRC32 crc = new CRC32();
+        crc.update(log.array(), 0, log.position());
+        log.putInt((int) crc.getValue());
+        log.flip();
+
+        try (FileChannel logChannel = FileChannel.open(logPath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (log.hasRemaining()) {
+                logChannel.write(log);
+            }
+            logChannel.force(false);
+        }
+    }
+
+    /**
+     * Writes the pages of a complete log left by an interrupted commit to the file again, and drops the log.
+     */
+    private void recover() throws IOException {
+        if (!Files.exists(logPath)) {
+            return;
+        }
+        ByteBuffer log = ByteBuffer.wrap(Files.readAllBytes(logPath));
+        Map<Integer, ByteBuffer> loggedPages = readLog(log);
+        if (loggedPages == null) {
+            logger.warning("Dropping the incomplete write-ahead log of " + filePath);
+        } else {
+            logger.info("Applying " + loggedPages.size() + " pages from the write-ahead log of " + filePath);
+            writePages(loggedPages);
+            channel.force(false);
+        }
+        Files.delete(logPath);
+    }
+
+    /**
+     * Returns the pages held by {@code log} by page number, or null if the log is incomplete or damaged.
+     */
+    private static Map<Integer, ByteBuffer> readLog(ByteBuffer log) {
+        if (log.remaining() < 3 * Integer.BYTES || log.getInt(0) != LOG_MAGIC) {
+            return null;
+        }
+        int pageCount = log.getInt(Integer.BYTES);
+        long length = 2L * Integer.BYTES + (long) pageCount * (Integer.BYTES + PAGE_SIZE) + Integer.BYTES;
+        if (pageCount < 0 || length != log.remaining()) {
+            return null;
+        }
+        CRC32 crc = new CRC32();
+        crc.update(log.array(), 0, log.limit() - Integer.BYTES);
+        if ((int) crc.getValue() != log.getInt(log.limit() - Integer.BYTES)) {
+            return null;
+        }
+
+        Map<Integer, ByteBuffer> pages = new TreeMap<>();
+        log.position(2 * Integer.BYTES);
+        for (int i = 0; i < pageCount; i++) {
+            int pageNumber = log.getInt();
+            pages.put(pageNumber, log.slice(log.position(), PAGE_SIZE));
+            log.position(log.position() + PAGE_SIZE);
+        }
+        return pages;
+    }
+
+    private void writePages(Map<Integer, ByteBuffer> pages) throws IOException {
+        for (Map.Entry<Integer, ByteBuffer> page : pages.entrySet()) {
+            ByteBuffer content = page.getValue().duplicate().clear();
+            long position = (long) page.getKey() * PAGE_SIZE;
+            while (content.hasRemaining()) {
+                channel.write(content, position + content.position());
+            }
+        }
+    }
+}
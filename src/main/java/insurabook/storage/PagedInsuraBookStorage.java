@@ -0,0 +1,417 @@
+package insurabook.storage;
+
+import static insurabook.commons.util.CollectionUtil.requireAllNonNull;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import insurabook.commons.core.LogsCenter;
+import insurabook.commons.exceptions.DataLoadingException;
+import insurabook.commons.exceptions.IllegalValueException;
+import insurabook.commons.util.FileUtil;
+import insurabook.commons.util.JsonUtil;
+import insurabook.model.InsuraBook;
+import insurabook.model.ReadOnlyInsuraBook;
+import insurabook.model.client.Client;
+import insurabook.model.client.ClientId;
+import insurabook.model.policytype.PolicyType;
+
+/**
+ * A class to access InsuraBook data stored on the hard disk in a page file holding a B+tree of the clients keyed by
+ * client id, so that saving the changes made by a command rewrites just the few pages holding what it changed.
+ *
+ * Each client is kept in the tree along with its policies and claims, in the same json form as in the usual data
+ * file. The page file also holds the policy types, which are only rewritten when they change, and a second tree
+ * mapping the {@link ClientOrderKeys order key} of each client to its id, which lists the clients in the order
+ * they are listed. Adding or removing a client thus touches a few pages of each tree, however many clients there
+ * are. The changes made by a command are applied as one transaction through the write-ahead log of the page file,
+ * so the file holds either all of them or none of them however the program stops. See {@link PageFile} and
+ * {@link BPlusTree} for how the file is laid out.
+ * The tree of clients decides which clients there are, while the order only decides how they are listed, so a
+ * client missing from the order is listed last.
+ */
+public class PagedInsuraBookStorage implements InsuraBookStorage {
+
+    public static final String FILE_EXTENSION = ".db";
+
+    private static final int TREE_SLOT = 0;
+    private static final int ORDER_SLOT = 1;
+    private static final int POLICY_TYPES_SLOT = 2;
+
+    // Number of clients added to a new file between writing out its pages, which bounds the memory a full save uses
+    private static final int FULL_SAVE_BATCH_SIZE = 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(PagedInsuraBookStorage.class);
+
+    private final Path filePath;
+    private final int cacheSize;
+    // The order keys of the clients in the open page file while it is in sync, guarded by this storage's lock
+    private final ClientOrderKeys orderKeys = new ClientOrderKeys();
+
+    // The open page file at filePath, if any, and whether it holds the state the next saved changes were made on;
+    // both guarded by this storage's lock
+    private PageFile pageFile;
+    private boolean isInSync;
+
+    /**
+     * Creates a storage for the page file at {@code filePath}, keeping up to {@code cacheSize} pages of it in memory.
+     */
+    public PagedInsuraBookStorage(Path filePath, int cacheSize) {
+        requireNonNull(filePath);
+        assert cacheSize > 0;
+        this.filePath = filePath;
+        this.cacheSize = cacheSize;
+    }
+
+    public PagedInsuraBookStorage(Path filePath) {
+        this(filePath, PageFile.DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * Returns the path of the page file kept in place of the data file at {@code dataFilePath},
+     * e.g. {@code data/insurabook.db} for {@code data/insurabook.json}.
+     */
+    public static Path getPagedFilePath(Path dataFilePath) {
+        return dataFilePath.resolveSibling(FileUtil.getBaseName(dataFilePath) + FILE_EXTENSION);
+    }
+
+    @Override
+    public Path getInsuraBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyInsuraBook> readInsuraBook() throws DataLoadingException {
+        return readInsuraBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readInsuraBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyInsuraBook> readInsuraBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        boolean isOwnFile = filePath.equals(this.filePath);
+        InsuraBook insuraBook = new InsuraBook();
+        PageFile file = null;
+        boolean isOrderComplete;
+        try {
+            file = isOwnFile ? getPageFile() : new PageFile(filePath, true, cacheSize);
+            Map<String, JsonAdaptedClient> storedClients = new LinkedHashMap<>();
+            BPlusTree tree = new BPlusTree(file, TREE_SLOT);
+            tree.forEach((key, value) -> storedClients.put(new String(key, StandardCharsets.UTF_8),
+                    JsonUtil.fromJsonString(new String(value, StandardCharsets.UTF_8), JsonAdaptedClient.class)));
+
+            List<Long> storedKeys = new ArrayList<>();
+            List<String> storedOrder = new ArrayList<>();
+            new BPlusTree(file, ORDER_SLOT).forEach((key, value) -> {
+                storedKeys.add(readOrderKey(key));
+                storedOrder.add(new String(value, StandardCharsets.UTF_8));
+            });
+
+            JsonAdaptedClientConverter converter = new JsonAdaptedClientConverter(insuraBook);
+            List<Long> listedKeys = new ArrayList<>();
+            for (int i = 0; i < storedOrder.size(); i++) {
+                JsonAdaptedClient jsonClient = storedClients.remove(storedOrder.get(i));
+                if (jsonClient != null) {
+                    converter.add(jsonClient);
+                    listedKeys.add(storedKeys.get(i));
+                }
+            }
+            isOrderComplete = storedClients.isEmpty();
+            if (!isOrderComplete) {
+                logger.warning(storedClients.size() + " clients are missing from the order kept in " + filePath
+                        + " and will be listed last");
+                storedClients.values().forEach(converter::add);
+            }
+
+            List<Client> clients = converter.getClients();
+            JsonSerializableInsuraBook.loadData(insuraBook, readPolicyTypes(file), clients);
+            if (isOwnFile) {
+                orderKeys.clear();
+                for (int i = 0; i < listedKeys.size(); i++) {
+                    orderKeys.append(clients.get(i).getClientId(), listedKeys.get(i));
+                }
+            }
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from page file " + filePath + ": " + ioe);
+            if (isOwnFile) {
+                closePageFile();
+            }
+            throw new DataLoadingException(ioe);
+        } finally {
+            if (!isOwnFile && file != null) {
+                closeQuietly(file);
+            }
+        }
+
+        if (isOwnFile) {
+            // the clients missing from the order have no keys, so they are given some by saving the whole book
+            isInSync = isOrderComplete;
+        }
+        return Optional.of(insuraBook);
+    }
+
+    @Override
+    public void saveInsuraBook(ReadOnlyInsuraBook insuraBook) throws IOException {
+        saveInsuraBook(insuraBook, filePath);
+    }
+
+    /**
+     * Saves the whole of {@code insuraBook} to a new page file, which then replaces the file at {@code filePath}
+     * in one step.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public synchronized void saveInsuraBook(ReadOnlyInsuraBook insuraBook, Path filePath) throws IOException {
+        requireAllNonNull(insuraBook, filePath);
+
+        boolean isOwnFile = filePath.equals(this.filePath);
+        if (isOwnFile) {
+            isInSync = false;
+        }
+
+        ClientOrderKeys keys = isOwnFile ? orderKeys : new ClientOrderKeys();
+        keys.spread(insuraBook.getClientList());
+
+        FileUtil.createParentDirsOfFile(filePath);
+        Path tempPath = Files.createTempFile(filePath.toAbsolutePath().getParent(),
+                filePath.getFileName().toString(), ".tmp");
+        try {
+            // the new file is thrown away if writing it fails, so there is nothing to log
+            try (PageFile newFile = new PageFile(tempPath, false, cacheSize)) {
+                List<Client> clients = new ArrayList<>(insuraBook.getClientList());
+                // adding the clients in key order fills each leaf before moving on to the next
+                clients.sort((first, second) -> first.getClientId().toString()
+                        .compareTo(second.getClientId().toString()));
+                BPlusTree tree = new BPlusTree(newFile, TREE_SLOT);
+                for (int i = 0; i < clients.size(); i++) {
+                    putClient(tree, clients.get(i));
+                    if ((i + 1) % FULL_SAVE_BATCH_SIZE == 0) {
+                        newFile.commit();
+                    }
+                }
+                // the order keys are spread in the order the clients are listed, so they are added in key order
+                BPlusTree order = new BPlusTree(newFile, ORDER_SLOT);
+                List<Client> listedClients = insuraBook.getClientList();
+                for (int i = 0; i < listedClients.size(); i++) {
+                    ClientId clientId = listedClients.get(i).getClientId();
+                    order.put(getOrderKey(keys.getKey(clientId)), getKey(clientId));
+                    if ((i + 1) % FULL_SAVE_BATCH_SIZE == 0) {
+                        newFile.commit();
+                    }
+                }
+                writePolicyTypes(newFile, insuraBook);
+                newFile.commit();
+            }
+
+            if (isOwnFile) {
+                closePageFile();
+            }
+            // a log left next to the old file must not be applied to the new one
+            Files.deleteIfExists(PageFile.getLogFilePath(filePath));
+            FileUtil.moveAtomically(tempPath, filePath);
+        } finally {
+            Files.deleteIfExists(tempPath);
+        }
+
+        if (isOwnFile) {
+            isInSync = true;
+        }
+    }
+
+    /**
+     * Rewrites just the entries of the clients touched by {@code changes} and of their order keys in one
+     * transaction, along with the policy types if the changes touched them. The whole book is saved instead if the
+     * file may not hold the state the changes were made on, a change replaced the whole client list, or a client
+     * added has no room left for its order key.
+     */
+    @Override
+    public synchronized void saveInsuraBookChanges(ReadOnlyInsuraBook insuraBook, List<InsuraBook.Change> changes)
+            throws IOException {
+        requireAllNonNull(insuraBook, changes);
+
+        ChangeSummary summary = ChangeSummary.of(changes);
+        if (!isInSync || summary.isClientListReplaced() || !Files.exists(filePath)) {
+            saveInsuraBook(insuraBook, filePath);
+            return;
+        }
+
+        Map<ClientId, Long> oldKeys = new HashMap<>();
+        for (ClientId clientId : summary.getTouchedClientIds()) {
+            Long oldKey = orderKeys.getKey(clientId);
+            if (oldKey != null) {
+                oldKeys.put(clientId, oldKey);
+            }
+        }
+        isInSync = false;
+        if (!orderKeys.follow(changes)) {
+            logger.fine("Spreading out the order keys of the clients in " + filePath);
+            saveInsuraBook(insuraBook, filePath);
+            return;
+        }
+
+        Map<ClientId, Client> touchedClients = summary.getTouchedClients(insuraBook);
+        try {
+            PageFile file = getPageFile();
+            BPlusTree tree = new BPlusTree(file, TREE_SLOT);
+            for (ClientId clientId : summary.getTouchedClientIds()) {
+                Client client = touchedClients.get(clientId);
+                if (client != null) {
+                    putClient(tree, client);
+                } else {
+                    tree.remove(getKey(clientId));
+                }
+            }
+            if (summary.isOrderChanged()) {
+                writeOrder(file, summary, oldKeys);
+            }
+            if (summary.arePolicyTypesChanged()) {
+                writePolicyTypes(file, insuraBook);
+            }
+            logger.fine("Saving " + file.getChangedPageCount() + " changed pages to " + filePath);
+            file.commit();
+        } catch (IOException ioe) {
+            // the page file is opened again, and recovered from its log if need be, on its next use
+            closePageFile();
+            throw ioe;
+        }
+        isInSync = true;
+    }
+
+    /**
+     * Creates a copy of the current page file.
+     */
+    @Override
+    public synchronized void backupInsuraBookFile() throws IOException {
+        String formattedDateTime = LocalDateTime.now().format(DateTimeFormatter.ofPattern("YYYYMMdd-kkmmss"));
+        Path backupPath = filePath.resolveSibling("insurabook-backup-" + formattedDateTime + FILE_EXTENSION);
+        if (Files.exists(filePath)) {
+            Files.copy(filePath, backupPath, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private PageFile getPageFile() throws IOException {
+        if (pageFile == null) {
+            pageFile = new PageFile(filePath, true, cacheSize);
+        }
+        return pageFile;
+    }
+
+    private void closePageFile() {
+        if (pageFile != null) {
+            closeQuietly(pageFile);
+            pageFile = null;
+        }
+        isInSync = false;
+    }
+
+    private static void closeQuietly(PageFile file) {
+        try {
+            file.close();
+        } catch (IOException ioe) {
+            logger.warning("Could not close page file: " + ioe);
+        }
+    }
+
+    private static byte[] getKey(ClientId clientId) {
+        return clientId.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void putClient(BPlusTree tree, Client client) throws IOException {
+        byte[] key = getKey(client.getClientId());
+        if (key.length > BPlusTree.MAX_KEY_SIZE) {
+            throw new IOException("Client ID " + client.getClientId() + " is too long to be stored in a page file");
+        }
+        tree.put(key, JsonUtil.toCompactJsonString(new JsonAdaptedClient(client)).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Returns the key of the order entry of the client with order key {@code orderKey}, whose bytes compare as
+     * unsigned bytes the way the order keys compare.
+     */
+    private static byte[] getOrderKey(long orderKey) {
+        return ByteBuffer.allocate(Long.BYTES).putLong(orderKey ^ Long.MIN_VALUE).array();
+    }
+
+    private static long readOrderKey(byte[] key) {
+        return ByteBuffer.wrap(key).getLong() ^ Long.MIN_VALUE;
+    }
+
+    /**
+     * Moves the order entries of the clients touched by the changes summed up in {@code summary} in {@code file}
+     * from the order keys in {@code oldKeys} to their order keys now.
+     */
+    private void writeOrder(PageFile file, ChangeSummary summary, Map<ClientId, Long> oldKeys) throws IOException {
+        BPlusTree order = new BPlusTree(file, ORDER_SLOT);
+        // all the old entries go before any new one is added, as a client may have taken over the key of another
+        for (ClientId clientId : summary.getTouchedClientIds()) {
+            Long oldKey = oldKeys.get(clientId);
+            if (oldKey != null && !oldKey.equals(orderKeys.getKey(clientId))) {
+                order.remove(getOrderKey(oldKey));
+            }
+        }
+        for (ClientId clientId : summary.getTouchedClientIds()) {
+            Long newKey = orderKeys.getKey(clientId);
+            if (newKey != null && !newKey.equals(oldKeys.get(clientId))) {
+                order.put(getOrderKey(newKey), getKey(clientId));
+            }
+        }
+    }
+
+    private static void writePolicyTypes(PageFile file, ReadOnlyInsuraBook insuraBook) throws IOException {
+        JsonAdaptedPolicyType[] policyTypes = insuraBook.getPolicyTypeList().stream()
+                .map(JsonAdaptedPolicyType::new)
+                .toArray(JsonAdaptedPolicyType[]::new);
+        replaceBlob(file, POLICY_TYPES_SLOT,
+                JsonUtil.toCompactJsonString(policyTypes).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static List<PolicyType> readPolicyTypes(PageFile file) throws IOException, IllegalValueException {
+        int policyTypesPage = file.getHeaderSlot(POLICY_TYPES_SLOT);
+        if (policyTypesPage == PageFile.NO_PAGE) {
+            return List.of();
+        }
+        JsonAdaptedPolicyType[] jsonPolicyTypes = JsonUtil.fromJsonString(
+                new String(file.readBlob(policyTypesPage), StandardCharsets.UTF_8), JsonAdaptedPolicyType[].class);
+        List<PolicyType> policyTypes = new ArrayList<>(jsonPolicyTypes.length);
+        for (JsonAdaptedPolicyType jsonPolicyType : jsonPolicyTypes) {
+            policyTypes.add(jsonPolicyType.toModelType());
+        }
+        return policyTypes;
+    }
+
+    private static void replaceBlob(PageFile file, int slot, byte[] bytes) throws IOException {
+        int oldPage = file.getHeaderSlot(slot);
+        if (oldPage != PageFile.NO_PAGE) {
+            file.freeBlob(oldPage);
+        }
+        file.setHeaderSlot(slot, file.writeBlob(bytes));
+    }
+}
@@ -0,0 +1,431 @@
+package insurabook.storage;
+
+import static insurabook.commons.util.CollectionUtil.requireAllNonNull;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+
+import insurabook.commons.core.LogsCenter;
+import insurabook.commons.exceptions.DataLoadingException;
+import insurabook.commons.exceptions.IllegalValueException;
+import insurabook.commons.util.FileUtil;
+import insurabook.commons.util.JsonUtil;
+import insurabook.model.InsuraBook;
+import insurabook.model.ReadOnlyInsuraBook;
+import insurabook.model.client.Client;
+import insurabook.model.client.ClientId;
+import insurabook.model.policytype.PolicyType;
+
+/**
+ * A class to access InsuraBook data stored on the hard disk as a directory of small json files, so that saving the
+ * changes made by a command rewrites just the files holding what it changed instead of the whole book.
+ *
+ * The directory holds:
+ * <ul>
+ * <li>{@code policytypes.json}, the policy types,</li>
+ * <li>{@code segment-<n>.json} for each segment, the clients whose id hashes to that segment along with their
+ * policies and claims, and the {@link ClientOrderKeys order keys} of those clients,</li>
+ * <li>{@code index.json}, the number of segments. It is only written when the whole book is saved.</li>
+ * </ul>
+ * The policy type and segment files are in the same format as the usual data file, each holding just its list.
+ * They are read and written in parallel on a pool of worker threads, each segment by a single thread, and the
+ * clients read are put back together in the order of their keys. As each client carries its own key, adding or
+ * removing a client rewrites just its segment, and a crash between writing two segments cannot put the clients of
+ * the segments written out of order. The index is written only once every segment has been written.
+ */
+public class SegmentedInsuraBookStorage implements InsuraBookStorage {
+
+    public static final int DEFAULT_SEGMENT_COUNT = 64;
+    public static final String DIRECTORY_SUFFIX = "-segments";
+
+    static final String INDEX_FILE = "index.json";
+    static final String POLICY_TYPES_FILE = "policytypes.json";
+
+    private static final String SEGMENT_FILE_PREFIX = "segment-";
+    private static final String SEGMENT_FILE_SUFFIX = ".json";
+
+    private static final Logger logger = LogsCenter.getLogger(SegmentedInsuraBookStorage.class);
+
+    private final Path directoryPath;
+    private final int segmentCount;
+    private final JsonInsuraBookStreamWriter writer = new JsonInsuraBookStreamWriter(false);
+    private final ExecutorService workers;
+    // The order keys of the clients in the directory while it is in sync, guarded by this storage's lock
+    private final ClientOrderKeys orderKeys = new ClientOrderKeys();
+
+    // Whether the directory holds the state the next saved changes were made on, guarded by this storage's lock
+    private boolean isInSync;
+
+    /**
+     * Creates a storage for the data directory at {@code directoryPath}, spreading the clients over
+     * {@code segmentCount} segments, which are read and written by up to {@code parallelism} threads at a time.
+     */
+    public SegmentedInsuraBookStorage(Path directoryPath, int segmentCount, int parallelism) {
+        requireNonNull(directoryPath);
+        assert segmentCount > 0 && parallelism > 0;
+        this.directoryPath = directoryPath;
+        this.segmentCount = segmentCount;
+        this.workers = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "insurabook-segment-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public SegmentedInsuraBookStorage(Path directoryPath, int segmentCount) {
+        this(directoryPath, segmentCount, Runtime.getRuntime().availableProcessors());
+    }
+
+    public SegmentedInsuraBookStorage(Path directoryPath) {
+        this(directoryPath, DEFAULT_SEGMENT_COUNT);
+    }
+
+    /**
+     * Returns the path of the data directory kept in place of the data file at {@code dataFilePath},
+     * e.g. {@code data/insurabook-segments} for {@code data/insurabook.json}.
+     */
+    public static Path getSegmentedDirectoryPath(Path dataFilePath) {
+        return dataFilePath.resolveSibling(FileUtil.getBaseName(dataFilePath) + DIRECTORY_SUFFIX);
+    }
+
+    /**
+     * Returns the segment that the client with {@code clientId} is stored in.
+     * The segment only depends on the characters of the id, so it is the same whenever the book is saved.
+     */
+    static int getSegment(ClientId clientId, int segmentCount) {
+        return Math.floorMod(clientId.toString().hashCode(), segmentCount);
+    }
+
+    static Path getSegmentFilePath(Path directoryPath, int segment) {
+        return directoryPath.resolve(SEGMENT_FILE_PREFIX + segment + SEGMENT_FILE_SUFFIX);
+    }
+
+    @Override
+    public Path getInsuraBookFilePath() {
+        return directoryPath;
+    }
+
+    @Override
+    public Optional<ReadOnlyInsuraBook> readInsuraBook() throws DataLoadingException {
+        return readInsuraBook(directoryPath);
+    }
+
+    /**
+     * Similar to {@link #readInsuraBook()}.
+     *
+     * @param directoryPath location of the data directory. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyInsuraBook> readInsuraBook(Path directoryPath) throws DataLoadingException {
+        requireNonNull(directoryPath);
+
+        Optional<JsonAdaptedSegmentIndex> index =
+                JsonUtil.readJsonFile(directoryPath.resolve(INDEX_FILE), JsonAdaptedSegmentIndex.class);
+        if (index.isEmpty()) {
+            return Optional.empty();
+        }
+
+        InsuraBook insuraBook = new InsuraBook();
+        int storedSegmentCount;
+        List<KeyedClient> storedClients = new ArrayList<>();
+        try {
+            storedSegmentCount = index.get().getSegmentCount();
+            List<Callable<List<KeyedClient>>> segmentReads = new ArrayList<>(storedSegmentCount);
+            for (int segment = 0; segment < storedSegmentCount; segment++) {
+                segmentReads.add(readSegment(getSegmentFilePath(directoryPath, segment)));
+            }
+            Future<List<PolicyType>> policyTypesRead = workers.submit(() ->
+                    new JsonInsuraBookStreamReader().readPolicyTypes(directoryPath.resolve(POLICY_TYPES_FILE)));
+            List<List<KeyedClient>> segments = runInParallel(segmentReads);
+            List<PolicyType> policyTypes = getResult(policyTypesRead);
+
+            Set<ClientId> storedClientIds = new HashSet<>();
+            for (List<KeyedClient> segment : segments) {
+                for (KeyedClient keyedClient : segment) {
+                    if (!storedClientIds.add(keyedClient.client().getClientId())) {
+                        throw new IllegalValueException(JsonSerializableInsuraBook.MESSAGE_DUPLICATE_PERSON);
+                    }
+                    storedClients.add(keyedClient);
+                }
+            }
+            storedClients.sort(Comparator.comparingLong(KeyedClient::orderKey));
+
+            List<Client> clients = new ArrayList<>(storedClients.size());
+            for (KeyedClient keyedClient : storedClients) {
+                clients.add(keyedClient.client());
+            }
+            JsonSerializableInsuraBook.loadData(insuraBook, policyTypes, clients);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + directoryPath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from data directory " + directoryPath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        }
+
+        if (directoryPath.equals(this.directoryPath)) {
+            isInSync = storedSegmentCount == segmentCount && followStoredKeys(storedClients);
+        }
+        return Optional.of(insuraBook);
+    }
+
+    @Override
+    public void saveInsuraBook(ReadOnlyInsuraBook insuraBook) throws IOException {
+        saveInsuraBook(insuraBook, directoryPath);
+    }
+
+    /**
+     * Saves the whole of {@code insuraBook}, rewriting every file in the data directory.
+     *
+     * @param directoryPath location of the data directory. Cannot be null.
+     */
+    @Override
+    public synchronized void saveInsuraBook(ReadOnlyInsuraBook insuraBook, Path directoryPath) throws IOException {
+        requireAllNonNull(insuraBook, directoryPath);
+
+        boolean isOwnDirectory = directoryPath.equals(this.directoryPath);
+        if (isOwnDirectory) {
+            isInSync = false;
+        }
+
+        ClientOrderKeys keys = isOwnDirectory ? orderKeys : new ClientOrderKeys();
+        keys.spread(insuraBook.getClientList());
+
+        Files.createDirectories(directoryPath);
+        List<List<Client>> segments = new ArrayList<>(segmentCount);
+        for (int segment = 0; segment < segmentCount; segment++) {
+            segments.add(new ArrayList<>());
+        }
+        for (Client client : insuraBook.getClientList()) {
+            segments.get(getSegment(client.getClientId(), segmentCount)).add(client);
+        }
+        List<Callable<Void>> writes = new ArrayList<>(segmentCount + 1);
+        for (int segment = 0; segment < segmentCount; segment++) {
+            writes.add(writeSegment(segments.get(segment), keys, getSegmentFilePath(directoryPath, segment)));
+        }
+        writes.add(writePolicyTypes(insuraBook.getPolicyTypeList(), directoryPath));
+        writeInParallel(writes);
+        writeIndex(directoryPath);
+        deleteUnusedSegments(directoryPath);
+
+        if (isOwnDirectory) {
+            isInSync = true;
+        }
+    }
+
+    /**
+     * Rewrites just the segments of the clients touched by {@code changes}, and the policy types if the changes
+     * touched them. The whole book is saved instead if the directory may not hold the state the changes were made
+     * on, a change replaced the whole client list, or a client added has no room left for its order key.
+     */
+    @Override
+    public synchronized void saveInsuraBookChanges(ReadOnlyInsuraBook insuraBook, List<InsuraBook.Change> changes)
+            throws IOException {
+        requireAllNonNull(insuraBook, changes);
+
+        ChangeSummary summary = ChangeSummary.of(changes);
+        if (!isInSync || summary.isClientListReplaced() || !Files.exists(directoryPath.resolve(INDEX_FILE))) {
+            saveInsuraBook(insuraBook, directoryPath);
+            return;
+        }
+
+        isInSync = false;
+        if (!orderKeys.follow(changes)) {
+            logger.fine("Spreading out the order keys of the clients in " + directoryPath);
+            saveInsuraBook(insuraBook, directoryPath);
+            return;
+        }
+
+        Map<Integer, List<Client>> dirtySegments = new HashMap<>();
+        for (ClientId clientId : summary.getTouchedClientIds()) {
+            dirtySegments.put(getSegment(clientId, segmentCount), new ArrayList<>());
+        }
+
+        for (Client client : insuraBook.getClientList()) {
+            List<Client> segmentClients = dirtySegments.get(getSegment(client.getClientId(), segmentCount));
+            if (segmentClients != null) {
+                segmentClients.add(client);
+            }
+        }
+
+        List<Callable<Void>> writes = new ArrayList<>(dirtySegments.size() + 1);
+        for (Map.Entry<Integer, List<Client>> segment : dirtySegments.entrySet()) {
+            writes.add(writeSegment(segment.getValue(), orderKeys,
+                    getSegmentFilePath(directoryPath, segment.getKey())));
+        }
+        if (summary.arePolicyTypesChanged()) {
+            writes.add(writePolicyTypes(insuraBook.getPolicyTypeList(), directoryPath));
+        }
+        writeInParallel(writes);
+        isInSync = true;
+    }
+
+    /**
+     * Creates a copy of the current data directory.
+     */
+    @Override
+    public synchronized void backupInsuraBookFile() throws IOException {
+        if (!Files.isDirectory(directoryPath)) {
+            return;
+        }
+        String formattedDateTime = LocalDateTime.now().format(DateTimeFormatter.ofPattern("YYYYMMdd-kkmmss"));
+        Path backupPath = directoryPath.resolveSibling("insurabook-backup-" + formattedDateTime + DIRECTORY_SUFFIX);
+        Files.createDirectories(backupPath);
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directoryPath)) {
+            for (Path file : files) {
+                Files.copy(file, backupPath.resolve(file.getFileName()), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+    }
+
+    private static Callable<List<KeyedClient>> readSegment(Path segmentFilePath) {
+        return () -> {
+            JsonInsuraBookStreamReader reader = new JsonInsuraBookStreamReader();
+            List<Client> clients = reader.readClients(segmentFilePath);
+            List<KeyedClient> keyedClients = new ArrayList<>(clients.size());
+            for (int i = 0; i < clients.size(); i++) {
+                keyedClients.add(new KeyedClient(reader.getOrderKeys().get(i), clients.get(i)));
+            }
+            return keyedClients;
+        };
+    }
+
+    /**
+     * Returns a task writing {@code clients} to the segment at {@code segmentFilePath}, along with their keys
+     * in {@code keys} as they are now.
+     */
+    private Callable<Void> writeSegment(List<Client> clients, ClientOrderKeys keys, Path segmentFilePath) {
+        List<Long> segmentKeys = new ArrayList<>(clients.size());
+        for (Client client : clients) {
+            segmentKeys.add(keys.getKey(client.getClientId()));
+        }
+        return () -> {
+            writer.writeClients(clients, segmentKeys, segmentFilePath);
+            return null;
+        };
+    }
+
+    private Callable<Void> writePolicyTypes(List<PolicyType> policyTypes, Path directoryPath) {
+        return () -> {
+            writer.writePolicyTypes(policyTypes, directoryPath.resolve(POLICY_TYPES_FILE));
+            return null;
+        };
+    }
+
+    private void writeInParallel(List<Callable<Void>> writes) throws IOException {
+        try {
+            runInParallel(writes);
+        } catch (IllegalValueException ive) {
+            throw new AssertionError("Writing data does not check its values", ive);
+        }
+    }
+
+    /**
+     * Runs {@code tasks} on the worker pool and returns their results in the order of the tasks.
+     * Once all of them have finished, the failure of the first task that failed is rethrown.
+     */
+    private <T> List<T> runInParallel(List<Callable<T>> tasks) throws IOException, IllegalValueException {
+        List<Future<T>> futures;
+        try {
+            futures = workers.invokeAll(tasks);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the data directory to be accessed");
+        }
+        List<T> results = new ArrayList<>(futures.size());
+        for (Future<T> future : futures) {
+            results.add(getResult(future));
+        }
+        return results;
+    }
+
+    /**
+     * Returns the result of the finished or running task {@code future}, rethrowing the exception it failed with.
+     */
+    private static <T> T getResult(Future<T> future) throws IOException, IllegalValueException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the data directory to be accessed");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            } else if (e.getCause() instanceof IllegalValueException) {
+                throw (IllegalValueException) e.getCause();
+            } else if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        }
+    }
+
+    private void writeIndex(Path directoryPath) throws IOException {
+        JsonUtil.saveJsonFile(new JsonAdaptedSegmentIndex(segmentCount), directoryPath.resolve(INDEX_FILE));
+    }
+
+    /**
+     * Takes the keys of {@code storedClients}, sorted by key, as the order keys of the clients in the directory.
+     *
+     * @return false if two clients have the same key, e.g. after a crash while writing the segments, in which case
+     *     the keys are left to be spread out again by saving the whole book.
+     */
+    private boolean followStoredKeys(List<KeyedClient> storedClients) {
+        orderKeys.clear();
+        for (KeyedClient keyedClient : storedClients) {
+            if (orderKeys.size() > 0 && keyedClient.orderKey() <= orderKeys.getLastKey()) {
+                return false;
+            }
+            orderKeys.append(keyedClient.client().getClientId(), keyedClient.orderKey());
+        }
+        return true;
+    }
+
+    /**
+     * A client read from a segment, along with its order key.
+     */
+    private record KeyedClient(long orderKey, Client client) {}
+
+    /**
+     * Deletes the segments left over from a time when the clients were spread over more segments.
+     */
+    private void deleteUnusedSegments(Path directoryPath) throws IOException {
+        List<Path> unusedSegments = new ArrayList<>();
+        try (DirectoryStream<Path> segmentFiles = Files.newDirectoryStream(directoryPath,
+                SEGMENT_FILE_PREFIX + "*" + SEGMENT_FILE_SUFFIX)) {
+            for (Path segmentFile : segmentFiles) {
+                String fileName = segmentFile.getFileName().toString();
+                String segment = fileName.substring(SEGMENT_FILE_PREFIX.length(),
+                        fileName.length() - SEGMENT_FILE_SUFFIX.length());
+                if (!segment.matches("\\d{1,9}") || Integer.parseInt(segment) >= segmentCount) {
+                    unusedSegments.add(segmentFile);
+                }
+            }
+        }
+        for (Path segmentFile : unusedSegments) {
+            Files.delete(segmentFile);
+        }
+    }
+}
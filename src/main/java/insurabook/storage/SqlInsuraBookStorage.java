@@ -0,0 +1,665 @@
+package insurabook.storage;
+
+import static insurabook.commons.util.CollectionUtil.requireAllNonNull;
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import insurabook.commons.core.LogsCenter;
+import insurabook.commons.exceptions.DataLoadingException;
+import insurabook.commons.exceptions.IllegalValueException;
+import insurabook.commons.util.FileUtil;
+import insurabook.model.InsuraBook;
+import insurabook.model.ReadOnlyInsuraBook;
+import insurabook.model.claims.Claim;
+import insurabook.model.client.Client;
+import insurabook.model.client.ClientId;
+import insurabook.model.policies.Policy;
+import insurabook.model.policies.exceptions.ClaimAfterExpiredDateException;
+import insurabook.model.policytype.PolicyType;
+import insurabook.model.policytype.PolicyTypeId;
+
+/**
+ * A class to access InsuraBook data stored on the hard disk in an embedded H2 database, which runs within the
+ * program and keeps everything in a single file, e.g. {@code data/insurabook.mv.db}.
+ *
+ * The clients, policies, claims and policy types are each kept in a table of their own, with indexes on the
+ * columns they are looked up by. Each row of a client holds its {@link ClientOrderKeys order key}, and each row of
+ * a policy, claim or policy type its position among its siblings, so that the book is read back in the order it was
+ * listed in.
+ * Saving the changes made by a command deletes and inserts just the rows of the clients it touched, along with
+ * their policies and claims, in one transaction. As a client added between two others gets a key between theirs,
+ * no other client's row is updated. The policy types are rewritten only when they changed.
+ * The book is read back with one ordered query per table, whose rows are put together as they come.
+ * Queries over all the claims or policies, such as {@link #readClaimsOver(BigDecimal)}, are answered by the
+ * database through its indexes, without reading the rest of the book.
+ */
+public class SqlInsuraBookStorage implements InsuraBookStorage {
+
+    public static final String FILE_EXTENSION = ".mv.db";
+
+    private static final String JDBC_URL_PREFIX = "jdbc:h2:file:";
+
+    // Number of rows sent to the database in one batch when saving the whole book
+    private static final int BATCH_SIZE = 1024;
+
+    private static final String[] CREATE_SCHEMA = {
+        "CREATE TABLE IF NOT EXISTS policy_types (pt_id VARCHAR PRIMARY KEY, list_index INT NOT NULL,"
+                + " pt_name VARCHAR NOT NULL, description VARCHAR NOT NULL, is_desc_empty BOOLEAN NOT NULL,"
+                + " premium VARCHAR NOT NULL, is_prem_empty BOOLEAN NOT NULL)",
+        "CREATE TABLE IF NOT EXISTS clients (client_id VARCHAR PRIMARY KEY, sort_key BIGINT NOT NULL,"
+                + " client_name VARCHAR NOT NULL, phone VARCHAR NOT NULL, email VARCHAR NOT NULL,"
+                + " birthday VARCHAR NOT NULL)",
+        // policy ids are only unique among the policies of one client
+        "CREATE TABLE IF NOT EXISTS policies ("
+                + " client_id VARCHAR NOT NULL REFERENCES clients (client_id) ON DELETE CASCADE,"
+                + " policy_id VARCHAR NOT NULL, list_index INT NOT NULL, policy_type_id VARCHAR NOT NULL,"
+                + " expiry_date VARCHAR NOT NULL, PRIMARY KEY (client_id, policy_id))",
+        // amounts are compared exactly, whatever their number of digits
+        "CREATE TABLE IF NOT EXISTS claims (claim_id VARCHAR PRIMARY KEY, client_id VARCHAR NOT NULL,"
+                + " policy_id VARCHAR NOT NULL, list_index INT NOT NULL, amount DECFLOAT NOT NULL,"
+                + " amount_text VARCHAR NOT NULL, claim_date VARCHAR NOT NULL, description VARCHAR NOT NULL,"
+                + " FOREIGN KEY (client_id, policy_id) REFERENCES policies (client_id, policy_id) ON DELETE CASCADE)",
+        "CREATE UNIQUE INDEX IF NOT EXISTS clients_by_sort_key ON clients (sort_key)",
+        "CREATE INDEX IF NOT EXISTS policies_by_client ON policies (client_id, list_index)",
+        "CREATE INDEX IF NOT EXISTS policies_by_type ON policies (policy_type_id)",
+        "CREATE INDEX IF NOT EXISTS claims_by_policy ON claims (client_id, policy_id, list_index)",
+        "CREATE INDEX IF NOT EXISTS claims_by_amount ON claims (amount)"
+    };
+
+    private static final String INSERT_POLICY_TYPE = "INSERT INTO policy_types"
+            + " (pt_id, list_index, pt_name, description, is_desc_empty, premium, is_prem_empty)"
+            + " VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_CLIENT = "INSERT INTO clients"
+            + " (client_id, sort_key, client_name, phone, email, birthday) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_POLICY = "INSERT INTO policies"
+            + " (client_id, policy_id, list_index, policy_type_id, expiry_date) VALUES (?, ?, ?, ?, ?)";
+    private static final String INSERT_CLAIM = "INSERT INTO claims (claim_id, client_id, policy_id, list_index,"
+            + " amount, amount_text, claim_date, description) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String SELECT_POLICY_TYPES = "SELECT pt_name, pt_id, is_desc_empty, description,"
+            + " is_prem_empty, premium FROM policy_types ORDER BY list_index";
+    private static final String SELECT_CLIENTS = "SELECT client_name, phone, email, birthday, client_id, sort_key"
+            + " FROM clients ORDER BY sort_key";
+    private static final String SELECT_POLICIES = "SELECT policies.client_id, policies.policy_id, policy_type_id,"
+            + " expiry_date FROM policies JOIN clients ON policies.client_id = clients.client_id";
+    private static final String SELECT_CLAIMS = "SELECT claims.client_id, claims.policy_id, claim_id, amount_text,"
+            + " claim_date, claims.description FROM claims";
+    private static final String JOIN_CLAIM_POLICIES = " JOIN policies ON claims.client_id = policies.client_id"
+            + " AND claims.policy_id = policies.policy_id JOIN clients ON policies.client_id = clients.client_id";
+    // The order the policies and claims are listed in, which the rows of all the tables are read in
+    private static final String POLICY_ORDER = " ORDER BY clients.sort_key, policies.list_index";
+    private static final String CLAIM_ORDER = POLICY_ORDER + ", claims.list_index";
+
+    private static final Logger logger = LogsCenter.getLogger(SqlInsuraBookStorage.class);
+
+    private final Path filePath;
+    // The order keys of the clients in the database while it is in sync, guarded by this storage's lock
+    private final ClientOrderKeys orderKeys = new ClientOrderKeys();
+
+    // The open connection to the database at filePath, if any, and whether the database holds the state the next
+    // saved changes were made on; both guarded by this storage's lock
+    private Connection connection;
+    private boolean isInSync;
+
+    /**
+     * Creates a storage for the database file at {@code filePath}, whose name should end with
+     * {@link #FILE_EXTENSION}.
+     */
+    public SqlInsuraBookStorage(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns the path of the database file kept in place of the data file at {@code dataFilePath},
+     * e.g. {@code data/insurabook.mv.db} for {@code data/insurabook.json}.
+     */
+    public static Path getSqlFilePath(Path dataFilePath) {
+        return dataFilePath.resolveSibling(FileUtil.getBaseName(dataFilePath) + FILE_EXTENSION);
+    }
+
+    /**
+     * Returns the JDBC url of the database kept in the file at {@code filePath}. H2 adds {@link #FILE_EXTENSION}
+     * to the name of the database itself, so it is left out of the url.
+     */
+    static String getJdbcUrl(Path filePath) {
+        String path = filePath.toAbsolutePath().toString();
+        if (path.endsWith(FILE_EXTENSION)) {
+            path = path.substring(0, path.length() - FILE_EXTENSION.length());
+        }
+        return JDBC_URL_PREFIX + path;
+    }
+
+    @Override
+    public Path getInsuraBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyInsuraBook> readInsuraBook() throws DataLoadingException {
+        return readInsuraBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readInsuraBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyInsuraBook> readInsuraBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        boolean isOwnFile = filePath.equals(this.filePath);
+        InsuraBook insuraBook = new InsuraBook();
+        Connection databaseConnection = null;
+        try {
+            databaseConnection = isOwnFile ? getConnection() : openConnection(filePath);
+            List<PolicyType> policyTypes = readPolicyTypes(databaseConnection);
+            JsonAdaptedClientConverter converter = new JsonAdaptedClientConverter(insuraBook);
+            List<Long> sortKeys = new ArrayList<>();
+            readClients(databaseConnection, converter, sortKeys);
+            databaseConnection.commit();
+
+            List<Client> clients = converter.getClients();
+            JsonSerializableInsuraBook.loadData(insuraBook, policyTypes, clients);
+            if (isOwnFile) {
+                orderKeys.clear();
+                for (int i = 0; i < clients.size(); i++) {
+                    orderKeys.append(clients.get(i).getClientId(), sortKeys.get(i));
+                }
+            }
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        } catch (SQLException sqle) {
+            logger.warning("Error reading from database " + filePath + ": " + sqle);
+            if (isOwnFile) {
+                closeConnection();
+            }
+            throw new DataLoadingException(sqle);
+        } finally {
+            if (!isOwnFile && databaseConnection != null) {
+                closeQuietly(databaseConnection);
+            }
+        }
+
+        if (isOwnFile) {
+            isInSync = true;
+        }
+        return Optional.of(insuraBook);
+    }
+
+    /**
+     * Reads the claims of more than {@code amount}, largest first, using the index on the claim amounts.
+     * Returns an empty {@code Optional} if there is no database file.
+     *
+     * @throws DataLoadingException if loading the claims from storage failed.
+     */
+    @Override
+    public synchronized Optional<List<Claim>> readClaimsOver(BigDecimal amount) throws DataLoadingException {
+        requireNonNull(amount);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        List<Claim> claims = new ArrayList<>();
+        try (PreparedStatement statement = getConnection().prepareStatement(
+                SELECT_CLAIMS + " WHERE amount > ? ORDER BY amount DESC, claim_id")) {
+            statement.setBigDecimal(1, amount);
+            InsuraBook insuraBook = new InsuraBook();
+            try (ResultSet rows = statement.executeQuery()) {
+                while (rows.next()) {
+                    claims.add(readClaim(rows).toModelType(insuraBook));
+                }
+            }
+            connection.commit();
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        } catch (SQLException sqle) {
+            logger.warning("Error reading from database " + filePath + ": " + sqle);
+            closeConnection();
+            throw new DataLoadingException(sqle);
+        }
+        return Optional.of(claims);
+    }
+
+    /**
+     * Reads the policies of the policy type with {@code policyTypeId} along with their claims, in the order they
+     * are listed in, using the index on the policy types of the policies. Returns an empty {@code Optional} if
+     * there is no database file.
+     *
+     * @throws DataLoadingException if loading the policies from storage failed.
+     */
+    @Override
+    public synchronized Optional<List<Policy>> readPoliciesOfType(PolicyTypeId policyTypeId)
+            throws DataLoadingException {
+        requireNonNull(policyTypeId);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        List<Policy> policies = new ArrayList<>();
+        String condition = " WHERE policies.policy_type_id = ?";
+        try {
+            Connection databaseConnection = getConnection();
+            try (PreparedStatement policyStatement = databaseConnection.prepareStatement(
+                         SELECT_POLICIES + condition + POLICY_ORDER);
+                 PreparedStatement claimStatement = databaseConnection.prepareStatement(
+                         SELECT_CLAIMS + JOIN_CLAIM_POLICIES + condition + CLAIM_ORDER)) {
+                policyStatement.setString(1, policyTypeId.toString());
+                claimStatement.setString(1, policyTypeId.toString());
+                InsuraBook insuraBook = new InsuraBook();
+                try (ResultSet policyResults = policyStatement.executeQuery();
+                     ResultSet claimResults = claimStatement.executeQuery()) {
+                    OrderedRows policyRows = new OrderedRows(policyResults);
+                    OrderedRows claimRows = new OrderedRows(claimResults);
+                    while (policyRows.hasRow()) {
+                        ClientId clientId = new ClientId(policyResults.getString(1));
+                        JsonAdaptedPolicy jsonPolicy = takePolicy(policyRows, claimRows);
+                        Policy policy = jsonPolicy.toModelType(clientId);
+                        for (JsonAdaptedClaim jsonClaim : jsonPolicy.getClaims()) {
+                            policy.addClaim(jsonClaim.toModelType(insuraBook));
+                        }
+                        policies.add(policy);
+                    }
+                }
+            }
+            databaseConnection.commit();
+        } catch (IllegalValueException | IllegalArgumentException | ClaimAfterExpiredDateException e) {
+            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+            throw new DataLoadingException(e);
+        } catch (SQLException sqle) {
+            logger.warning("Error reading from database " + filePath + ": " + sqle);
+            closeConnection();
+            throw new DataLoadingException(sqle);
+        }
+        return Optional.of(policies);
+    }
+
+    @Override
+    public void saveInsuraBook(ReadOnlyInsuraBook insuraBook) throws IOException {
+        saveInsuraBook(insuraBook, filePath);
+    }
+
+    /**
+     * Replaces all the rows of the database at {@code filePath} with those of {@code insuraBook} in one
+     * transaction.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public synchronized void saveInsuraBook(ReadOnlyInsuraBook insuraBook, Path filePath) throws IOException {
+        requireAllNonNull(insuraBook, filePath);
+
+        boolean isOwnFile = filePath.equals(this.filePath);
+        if (isOwnFile) {
+            isInSync = false;
+        }
+
+        ClientOrderKeys keys = isOwnFile ? orderKeys : new ClientOrderKeys();
+        keys.spread(insuraBook.getClientList());
+
+        FileUtil.createParentDirsOfFile(filePath);
+        Connection databaseConnection = null;
+        try {
+            databaseConnection = isOwnFile ? getConnection() : openConnection(filePath);
+            try (Statement statement = databaseConnection.createStatement()) {
+                // the claims and policies go along with their clients
+                statement.executeUpdate("DELETE FROM clients");
+                statement.executeUpdate("DELETE FROM policy_types");
+            }
+            writePolicyTypes(databaseConnection, insuraBook);
+            try (PreparedStatement insertClient = databaseConnection.prepareStatement(INSERT_CLIENT);
+                 PreparedStatement insertPolicy = databaseConnection.prepareStatement(INSERT_POLICY);
+                 PreparedStatement insertClaim = databaseConnection.prepareStatement(INSERT_CLAIM)) {
+                List<Client> clients = insuraBook.getClientList();
+                for (int i = 0; i < clients.size(); i++) {
+                    Client client = clients.get(i);
+                    addClient(insertClient, insertPolicy, insertClaim, client, keys.getKey(client.getClientId()));
+                    if ((i + 1) % BATCH_SIZE == 0) {
+                        executeBatches(insertClient, insertPolicy, insertClaim);
+                    }
+                }
+                executeBatches(insertClient, insertPolicy, insertClaim);
+            }
+            databaseConnection.commit();
+        } catch (SQLException sqle) {
+            rollbackQuietly(databaseConnection);
+            if (isOwnFile) {
+                closeConnection();
+            }
+            throw new IOException("Error saving to database " + filePath + ": " + sqle.getMessage(), sqle);
+        } finally {
+            if (!isOwnFile && databaseConnection != null) {
+                closeQuietly(databaseConnection);
+            }
+        }
+
+        if (isOwnFile) {
+            isInSync = true;
+        }
+    }
+
+    /**
+     * Deletes and inserts just the rows of the clients touched by {@code changes} in one transaction, along with
+     * the policy types if the changes touched them. The whole book is saved instead if the database may not hold
+     * the state the changes were made on, a change replaced the whole client list, or a client added has no room
+     * left for its order key.
+     */
+    @Override
+    public synchronized void saveInsuraBookChanges(ReadOnlyInsuraBook insuraBook, List<InsuraBook.Change> changes)
+            throws IOException {
+        requireAllNonNull(insuraBook, changes);
+
+        ChangeSummary summary = ChangeSummary.of(changes);
+        if (!isInSync || summary.isClientListReplaced() || !Files.exists(filePath)) {
+            saveInsuraBook(insuraBook, filePath);
+            return;
+        }
+
+        isInSync = false;
+        if (!orderKeys.follow(changes)) {
+            logger.fine("Spreading out the order keys of the clients in " + filePath);
+            saveInsuraBook(insuraBook, filePath);
+            return;
+        }
+
+        Map<ClientId, Client> touchedClients = summary.getTouchedClients(insuraBook);
+        try {
+            Connection databaseConnection = getConnection();
+            try (PreparedStatement deleteClient = databaseConnection.prepareStatement(
+                    "DELETE FROM clients WHERE client_id = ?")) {
+                // all the touched clients go before any is inserted again, as a policy may have moved between them
+                for (ClientId clientId : summary.getTouchedClientIds()) {
+                    deleteClient.setString(1, clientId.toString());
+                    deleteClient.addBatch();
+                }
+                deleteClient.executeBatch();
+            }
+            try (PreparedStatement insertClient = databaseConnection.prepareStatement(INSERT_CLIENT);
+                 PreparedStatement insertPolicy = databaseConnection.prepareStatement(INSERT_POLICY);
+                 PreparedStatement insertClaim = databaseConnection.prepareStatement(INSERT_CLAIM)) {
+                for (ClientId clientId : summary.getTouchedClientIds()) {
+                    Client client = touchedClients.get(clientId);
+                    if (client != null) {
+                        addClient(insertClient, insertPolicy, insertClaim, client, orderKeys.getKey(clientId));
+                    }
+                }
+                executeBatches(insertClient, insertPolicy, insertClaim);
+            }
+            if (summary.arePolicyTypesChanged()) {
+                try (Statement statement = databaseConnection.createStatement()) {
+                    statement.executeUpdate("DELETE FROM policy_types");
+                }
+                writePolicyTypes(databaseConnection, insuraBook);
+            }
+            databaseConnection.commit();
+        } catch (SQLException sqle) {
+            // the connection is opened again on its next use, and the transaction was never committed
+            closeConnection();
+            throw new IOException("Error saving to database " + filePath + ": " + sqle.getMessage(), sqle);
+        }
+        isInSync = true;
+    }
+
+    /**
+     * Creates a copy of the current database file.
+     */
+    @Override
+    public synchronized void backupInsuraBookFile() throws IOException {
+        String formattedDateTime = LocalDateTime.now().format(DateTimeFormatter.ofPattern("YYYYMMdd-kkmmss"));
+        Path backupPath = filePath.resolveSibling("insurabook-backup-" + formattedDateTime + FILE_EXTENSION);
+        if (Files.exists(filePath)) {
+            // the database writes everything out to its file once its last connection is closed
+            closeConnection();
+            Files.copy(filePath, backupPath, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private Connection getConnection() throws SQLException {
+        if (connection == null) {
+            connection = openConnection(filePath);
+        }
+        return connection;
+    }
+
+    private void closeConnection() {
+        if (connection != null) {
+            closeQuietly(connection);
+            connection = null;
+        }
+        isInSync = false;
+    }
+
+    /**
+     * Opens a connection to the database kept in the file at {@code filePath}, creating its tables if they do not
+     * exist yet. Changes made through the connection are only made durable when it commits.
+     */
+    private static Connection openConnection(Path filePath) throws SQLException {
+        Connection databaseConnection = DriverManager.getConnection(getJdbcUrl(filePath));
+        try (Statement statement = databaseConnection.createStatement()) {
+            for (String sql : CREATE_SCHEMA) {
+                statement.execute(sql);
+            }
+            databaseConnection.setAutoCommit(false);
+        } catch (SQLException sqle) {
+            closeQuietly(databaseConnection);
+            throw sqle;
+        }
+        return databaseConnection;
+    }
+
+    private static void closeQuietly(Connection databaseConnection) {
+        try {
+            databaseConnection.close();
+        } catch (SQLException sqle) {
+            logger.warning("Could not close database connection: " + sqle);
+        }
+    }
+
+    private static void rollbackQuietly(Connection databaseConnection) {
+        if (databaseConnection == null) {
+            return;
+        }
+        try {
+            databaseConnection.rollback();
+        } catch (SQLException sqle) {
+            logger.warning("Could not roll back database transaction: " + sqle);
+        }
+    }
+
+    /**
+     * Adds the rows of {@code client}, with order key {@code sortKey}, and those of its policies and claims to the
+     * batches of the given statements.
+     */
+    private static void addClient(PreparedStatement insertClient, PreparedStatement insertPolicy,
+            PreparedStatement insertClaim, Client client, long sortKey) throws SQLException {
+        insertClient.setString(1, client.getClientId().toString());
+        insertClient.setLong(2, sortKey);
+        insertClient.setString(3, client.getName().toString());
+        insertClient.setString(4, client.getPhone().toString());
+        insertClient.setString(5, client.getEmail().toString());
+        insertClient.setString(6, client.getBirthday().toString());
+        insertClient.addBatch();
+
+        List<Policy> policies = client.getPortfolio().getPolicies().asUnmodifiableObservableList();
+        for (int i = 0; i < policies.size(); i++) {
+            Policy policy = policies.get(i);
+            insertPolicy.setString(1, policy.getClientId().toString());
+            insertPolicy.setString(2, policy.getPolicyId().toString());
+            insertPolicy.setInt(3, i);
+            insertPolicy.setString(4, policy.getPolicyTypeId().toString());
+            insertPolicy.setString(5, policy.getExpiryDate().toString());
+            insertPolicy.addBatch();
+
+            int j = 0;
+            for (Claim claim : policy.getClaims()) {
+                insertClaim.setString(1, claim.getClaimId().toString());
+                insertClaim.setString(2, claim.getClientId().toString());
+                insertClaim.setString(3, claim.getPolicyId().toString());
+                insertClaim.setInt(4, j++);
+                insertClaim.setBigDecimal(5, new BigDecimal(claim.getAmount().toString()));
+                insertClaim.setString(6, claim.getAmount().toString());
+                insertClaim.setString(7, claim.getDate().toString());
+                insertClaim.setString(8, claim.getDescription().toString());
+                insertClaim.addBatch();
+            }
+        }
+    }
+
+    /**
+     * Executes the batches of the given statements, parents before children.
+     */
+    private static void executeBatches(PreparedStatement... statements) throws SQLException {
+        for (PreparedStatement statement : statements) {
+            statement.executeBatch();
+        }
+    }
+
+    private static void writePolicyTypes(Connection databaseConnection, ReadOnlyInsuraBook insuraBook)
+            throws SQLException {
+        try (PreparedStatement insertPolicyType = databaseConnection.prepareStatement(INSERT_POLICY_TYPE)) {
+            List<PolicyType> policyTypes = insuraBook.getPolicyTypeList();
+            for (int i = 0; i < policyTypes.size(); i++) {
+                PolicyType policyType = policyTypes.get(i);
+                insertPolicyType.setString(1, policyType.getPtId().toString());
+                insertPolicyType.setInt(2, i);
+                insertPolicyType.setString(3, policyType.getPtName().toString());
+                insertPolicyType.setString(4, policyType.getPtDescription().toString());
+                insertPolicyType.setBoolean(5, policyType.getPtDescription().isEmpty);
+                insertPolicyType.setString(6, policyType.getPtPremium().toString());
+                insertPolicyType.setBoolean(7, policyType.getPtPremium().isEmpty);
+                insertPolicyType.addBatch();
+            }
+            insertPolicyType.executeBatch();
+        }
+    }
+
+    private static List<PolicyType> readPolicyTypes(Connection databaseConnection)
+            throws SQLException, IllegalValueException {
+        List<PolicyType> policyTypes = new ArrayList<>();
+        try (Statement statement = databaseConnection.createStatement();
+             ResultSet rows = statement.executeQuery(SELECT_POLICY_TYPES)) {
+            while (rows.next()) {
+                policyTypes.add(new JsonAdaptedPolicyType(rows.getString(1), rows.getString(2), rows.getBoolean(3),
+                        rows.getString(4), rows.getBoolean(5), rows.getString(6)).toModelType());
+            }
+        }
+        return policyTypes;
+    }
+
+    /**
+     * Hands over the clients to {@code converter} in the order they are listed in, each with its policies and
+     * claims, and adds their order keys to {@code sortKeys} in the same order. The rows of the clients, policies
+     * and claims are each read in that order, so that the rows of each client can be put together as they come.
+     */
+    private static void readClients(Connection databaseConnection, JsonAdaptedClientConverter converter,
+            List<Long> sortKeys) throws SQLException {
+        try (Statement clientStatement = databaseConnection.createStatement();
+             Statement policyStatement = databaseConnection.createStatement();
+             Statement claimStatement = databaseConnection.createStatement();
+             ResultSet clientResults = clientStatement.executeQuery(SELECT_CLIENTS);
+             ResultSet policyResults = policyStatement.executeQuery(SELECT_POLICIES + POLICY_ORDER);
+             ResultSet claimResults = claimStatement.executeQuery(
+                     SELECT_CLAIMS + JOIN_CLAIM_POLICIES + CLAIM_ORDER)) {
+            OrderedRows policyRows = new OrderedRows(policyResults);
+            OrderedRows claimRows = new OrderedRows(claimResults);
+            while (clientResults.next()) {
+                String clientId = clientResults.getString(5);
+                List<JsonAdaptedPolicy> policies = new ArrayList<>();
+                while (policyRows.isOfClient(clientId)) {
+                    policies.add(takePolicy(policyRows, claimRows));
+                }
+                converter.add(new JsonAdaptedClient(clientResults.getString(1), clientResults.getString(2),
+                        clientResults.getString(3), clientResults.getString(4), clientId, policies));
+                sortKeys.add(clientResults.getLong(6));
+            }
+        }
+    }
+
+    /**
+     * Returns the policy in the current row of {@code policyRows} with its claims, taken from the rows of
+     * {@code claimRows} that belong to it, and moves both past them.
+     */
+    private static JsonAdaptedPolicy takePolicy(OrderedRows policyRows, OrderedRows claimRows)
+            throws SQLException {
+        ResultSet policyRow = policyRows.getResultSet();
+        String clientId = policyRow.getString(1);
+        String policyId = policyRow.getString(2);
+        List<JsonAdaptedClaim> claims = new ArrayList<>();
+        while (claimRows.isOfPolicy(clientId, policyId)) {
+            claims.add(readClaim(claimRows.getResultSet()));
+            claimRows.next();
+        }
+        JsonAdaptedPolicy policy = new JsonAdaptedPolicy(policyId, clientId, policyRow.getString(3),
+                policyRow.getString(4), claims);
+        policyRows.next();
+        return policy;
+    }
+
+    private static JsonAdaptedClaim readClaim(ResultSet rows) throws SQLException {
+        return new JsonAdaptedClaim(rows.getString(1), rows.getString(2), rows.getString(3), rows.getString(4),
+                rows.getString(5), rows.getString(6));
+    }
+
+    /**
+     * The rows of a query for policies or claims, read one row ahead so that the rows of each client or policy can
+     * be taken in turn. The id of the client is in the first column of the rows and that of the policy in the
+     * second.
+     */
+    private static class OrderedRows {
+        private final ResultSet resultSet;
+        private boolean hasRow;
+
+        OrderedRows(ResultSet resultSet) throws SQLException {
+            this.resultSet = resultSet;
+            hasRow = resultSet.next();
+        }
+
+        ResultSet getResultSet() {
+            return resultSet;
+        }
+
+        boolean hasRow() {
+            return hasRow;
+        }
+
+        boolean isOfClient(String clientId) throws SQLException {
+            return hasRow && resultSet.getString(1).equals(clientId);
+        }
+
+        boolean isOfPolicy(String clientId, String policyId) throws SQLException {
+            return isOfClient(clientId) && resultSet.getString(2).equals(policyId);
+        }
+
+        void next() throws SQLException {
+            hasRow = resultSet.next();
+        }
+    }
+}
@@ -1,15 +1,22 @@
 package insurabook.storage;
 
 import java.io.IOException;
+import java.math.BigDecimal;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import insurabook.commons.core.LogsCenter;
 import insurabook.commons.exceptions.DataLoadingException;
+import insurabook.model.InsuraBook;
 import insurabook.model.ReadOnlyInsuraBook;
 import insurabook.model.ReadOnlyUserPrefs;
 import insurabook.model.UserPrefs;
+import insurabook.model.claims.Claim;
+import insurabook.model.policies.Policy;
+import insurabook.model.policytype.PolicyTypeId;
 
 /**
  * Manages storage of InsuraBook data in local storage.
@@ -64,6 +71,19 @@ public class StorageManager implements Storage {
         return insuraBookStorage.readInsuraBook(filePath);
     }
 
+    @Override
+    public Optional<List<Claim>> readClaimsOver(BigDecimal amount) throws DataLoadingException {
+        logger.fine("Attempting to look up claims over " + amount + " in data file: " + getInsuraBookFilePath());
+        return insuraBookStorage.readClaimsOver(amount);
+    }
+
+    @Override
+    public Optional<List<Policy>> readPoliciesOfType(PolicyTypeId policyTypeId) throws DataLoadingException {
+        logger.fine("Attempting to look up policies of type " + policyTypeId + " in data file: "
+                + getInsuraBookFilePath());
+        return insuraBookStorage.readPoliciesOfType(policyTypeId);
+    }
+
     @Override
     public void saveInsuraBook(ReadOnlyInsuraBook insuraBook) throws IOException {
         saveInsuraBook(insuraBook, insuraBookStorage.getInsuraBookFilePath());
@@ -75,6 +95,24 @@ public class StorageManager implements Storage {
         insuraBookStorage.saveInsuraBook(insuraBook, filePath);
     }
 
+    @Override
+    public void saveInsuraBookChanges(ReadOnlyInsuraBook insuraBook, List<InsuraBook.Change> changes)
+            throws IOException {
+        logger.fine("Attempting to write " + changes.size() + " changes to data file: " + getInsuraBookFilePath());
+        insuraBookStorage.saveInsuraBookChanges(insuraBook, changes);
+    }
+
+    @Override
+    public void flushInsuraBook() throws IOException {
+        logger.fine("Waiting for pending writes to data file: " + getInsuraBookFilePath());
+        insuraBookStorage.flushInsuraBook();
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<IOException> saveFailureHandler) {
+        insuraBookStorage.setSaveFailureHandler(saveFailureHandler);
+    }
+
     /**
      * Creates a backup copy of InsuraBook file.
      * @throws IOException if there was any problem copying the file
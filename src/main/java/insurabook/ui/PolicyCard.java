@@ -1,7 +1,7 @@
 package insurabook.ui;
 
+import java.util.Collection;
 import java.util.Comparator;
-import java.util.List;
 
 import insurabook.logic.Logic;
 import insurabook.model.claims.Claim;
@@ -63,7 +63,7 @@ public class PolicyCard extends UiPart<Region> {
                         ? "Expiration Date: " + expiryDate.toUiString()
                         : "");
 
-        List<Claim> claimList = policy.getClaims();
+        Collection<Claim> claimList = policy.getClaims();
         claimList.stream()
                 .sorted(Comparator.comparing(claim -> claim.getClaimId().toString()))
                 .forEach(claim -> claims.getChildren().add(
@@ -12,7 +12,17 @@ public class ConfigTest {
     public void toStringMethod() {
         Config config = new Config();
         String expected = Config.class.getCanonicalName() + "{logLevel=" + config.getLogLevel()
-                + ", userPrefsFilePath=" + config.getUserPrefsFilePath() + "}";
+                + ", userPrefsFilePath=" + config.getUserPrefsFilePath()
+                + ", isJournalEnabled=" + config.isJournalEnabled()
+                + ", journalCompactionThreshold=" + config.getJournalCompactionThreshold()
+                + ", isCompactJsonEnabled=" + config.isCompactJsonEnabled()
+                + ", isBinaryStorageEnabled=" + config.isBinaryStorageEnabled()
+                + ", isSegmentedStorageEnabled=" + config.isSegmentedStorageEnabled()
+                + ", segmentCount=" + config.getSegmentCount()
+                + ", isCompressionEnabled=" + config.isCompressionEnabled()
+                + ", isPagedStorageEnabled=" + config.isPagedStorageEnabled()
+                + ", pageCacheSize=" + config.getPageCacheSize()
+                + ", isSqlStorageEnabled=" + config.isSqlStorageEnabled() + "}";
         assertEquals(expected, config.toString());
     }
 
@@ -1,13 +1,25 @@
 package insurabook.commons.util;
 
 import static insurabook.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.zip.GZIPInputStream;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +32,60 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFileAtomically_existingFile_replacedWithoutLeavingTempFiles() throws Exception {
+        Path file = testFolder.resolve("data.json");
+        FileUtil.writeToFile(file, "old content");
+
+        FileUtil.writeToFileAtomically(file, "new content");
+
+        assertEquals("new content", FileUtil.readFromFile(file));
+        try (var files = Files.list(testFolder)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    public void getCompressedFilePath() {
+        assertEquals(Paths.get("data", "insurabook.json.gz"),
+                FileUtil.getCompressedFilePath(Paths.get("data", "insurabook.json")));
+        assertEquals(Paths.get("insurabook.json.gz"), FileUtil.getCompressedFilePath(Paths.get("insurabook.json.gz")));
+    }
+
+    @Test
+    public void writeToFileAtomically_compressedFile_writtenCompressed() throws Exception {
+        Path file = testFolder.resolve("data.json.gz");
+        String content = "compressed content ".repeat(1000);
+
+        FileUtil.writeToFileAtomically(file, content);
+
+        assertTrue(Files.size(file) < content.length() / 10);
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(file))) {
+            assertEquals(content, new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    public void openContentStream_compressedOrNot_readsContent() throws Exception {
+        Path compressedFile = testFolder.resolve("data.json.gz");
+        FileUtil.writeToFileAtomically(compressedFile, "content");
+        // compressed content is recognised whatever the name of the file
+        Path renamedFile = Files.move(compressedFile, testFolder.resolve("data.json"));
+        try (InputStream in = FileUtil.openContentStream(renamedFile)) {
+            assertEquals("content", new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+
+        Path plainFile = testFolder.resolve("plain.json");
+        FileUtil.writeToFile(plainFile, "content");
+        try (InputStream in = FileUtil.openContentStream(plainFile)) {
+            assertEquals("content", new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+
+        Path emptyFile = testFolder.resolve("empty.json");
+        FileUtil.writeToFile(emptyFile, "");
+        try (InputStream in = FileUtil.openContentStream(emptyFile)) {
+            assertEquals(0, in.readAllBytes().length);
+        }
+    }
+
 }
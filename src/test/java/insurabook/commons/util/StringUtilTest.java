@@ -1,6 +1,7 @@
 package insurabook.commons.util;
 
 import static insurabook.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -123,6 +124,32 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for editDistance --------------------------------------
+
+    @Test
+    public void editDistance_nullGiven_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.editDistance(null, "abc"));
+        assertThrows(NullPointerException.class, () -> StringUtil.editDistance("abc", null));
+    }
+
+    @Test
+    public void editDistance() {
+        // identical and empty strings
+        assertEquals(0, StringUtil.editDistance("", ""));
+        assertEquals(0, StringUtil.editDistance("alice", "alice"));
+        assertEquals(3, StringUtil.editDistance("", "bob"));
+
+        // one substitution, insertion or deletion
+        assertEquals(1, StringUtil.editDistance("alice", "alise"));
+        assertEquals(1, StringUtil.editDistance("alice", "alicee"));
+        assertEquals(1, StringUtil.editDistance("alice", "alce"));
+
+        // case-sensitive, and transpositions count as two edits
+        assertEquals(1, StringUtil.editDistance("Alice", "alice"));
+        assertEquals(2, StringUtil.editDistance("alice", "ailce"));
+        assertEquals(3, StringUtil.editDistance("kitten", "sitting"));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
@@ -9,9 +9,11 @@ import static insurabook.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
 import static insurabook.testutil.Assert.assertThrows;
 import static insurabook.testutil.TypicalClients.AMY;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -70,6 +72,12 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, ListCommand.MESSAGE_SUCCESS, model);
     }
 
+    @Test
+    public void execute_readOnlyCommand_dataNotSaved() throws Exception {
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertFalse(Files.exists(temporaryFolder.resolve("addressBook.json")));
+    }
+
     //@Test
     //public void execute_storageThrowsIoException_throwsCommandException() {
     //    assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
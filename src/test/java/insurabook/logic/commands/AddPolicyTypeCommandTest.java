@@ -8,7 +8,10 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -168,6 +171,26 @@ public class AddPolicyTypeCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateFilteredClientList(Predicate<Client> predicate, Comparator<Client> comparator) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<ClientId> getClientIdsWithNameWords(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<ClientId> getClientIdsWithIdKeywords(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Map<ClientId, Integer> getClientIdsWithSimilarNameWords(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<PolicyType> getFilteredPolicyTypeList() {
             return null;
@@ -255,18 +278,73 @@ public class AddPolicyTypeCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public boolean canRedoInsuraBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void redoInsuraBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<InsuraBook.Change> takeUnsavedChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void commitInsuraBook() {}
 
+        @Override
+        public int getUndoHistorySize() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int getUndoHistorySpilledSize() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int getUndoHistorySpillCount() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getUndoHistoryMemoryUsage() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public List<Client> getBirthdayClients() {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<Client> getUpcomingBirthdayClients(int days) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Client> getBirthdayClientsThisMonth() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public List<Policy> getExpiringPolicies() {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public List<Policy> getPoliciesExpiringBetween(InsuraDate start, InsuraDate end) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Policy> getPoliciesOfType(PolicyTypeId policyTypeId) {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
@@ -0,0 +1,75 @@
+package insurabook.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import insurabook.model.InsuraBook;
+import insurabook.model.Model;
+import insurabook.model.ModelManager;
+import insurabook.model.UserPrefs;
+import insurabook.model.claims.InsuraDate;
+import insurabook.model.client.Client;
+import insurabook.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for BirthdaysCommand.
+ */
+public class BirthdaysCommandTest {
+
+    private Model model;
+    private Client birthdayToday;
+    private Client birthdayInFiveDays;
+
+    @BeforeEach
+    public void setUp() {
+        InsuraDate today = InsuraDate.today();
+        birthdayInFiveDays = new PersonBuilder().withClientId("201")
+                .withBirthday(today.plusDays(5).toString()).build();
+        birthdayToday = new PersonBuilder().withClientId("202")
+                .withBirthday(today.toString()).build();
+        InsuraBook insuraBook = new InsuraBook();
+        insuraBook.addClient(birthdayInFiveDays);
+        insuraBook.addClient(birthdayToday);
+        model = new ModelManager(insuraBook, new UserPrefs());
+    }
+
+    @Test
+    public void execute_today_listsTodaysBirthdays() {
+        CommandResult result = new BirthdaysCommand(0, false).execute(model);
+
+        assertEquals(List.of(birthdayToday), model.getFilteredClientList());
+        assertTrue(result.getFeedbackToUser().startsWith(String.format(BirthdaysCommand.MESSAGE_SUCCESS_TODAY, 1)));
+    }
+
+    @Test
+    public void execute_nextDays_listsUpcomingBirthdaysInOrder() {
+        CommandResult result = new BirthdaysCommand(7, false).execute(model);
+
+        assertEquals(List.of(birthdayToday, birthdayInFiveDays), model.getUpcomingBirthdayClients(7));
+        assertEquals(2, model.getFilteredClientList().size());
+        assertTrue(result.getFeedbackToUser().startsWith(String.format(BirthdaysCommand.MESSAGE_SUCCESS_DAYS, 2, 7)));
+    }
+
+    @Test
+    public void execute_wholeYear_listsEveryClient() {
+        new BirthdaysCommand(365, false).execute(model);
+        assertEquals(2, model.getFilteredClientList().size());
+    }
+
+    @Test
+    public void equals() {
+        BirthdaysCommand nextWeek = new BirthdaysCommand(7, false);
+
+        assertTrue(nextWeek.equals(nextWeek));
+        assertTrue(nextWeek.equals(new BirthdaysCommand(7, false)));
+        assertFalse(nextWeek.equals(new BirthdaysCommand(7, true)));
+        assertFalse(nextWeek.equals(new BirthdaysCommand(0, false)));
+        assertFalse(nextWeek.equals(null));
+    }
+}
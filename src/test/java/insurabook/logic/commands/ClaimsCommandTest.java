@@ -0,0 +1,124 @@
+package insurabook.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import insurabook.logic.Messages;
+import insurabook.model.InsuraBook;
+import insurabook.model.Model;
+import insurabook.model.ModelManager;
+import insurabook.model.UserPrefs;
+import insurabook.model.claims.Claim;
+import insurabook.model.claims.ClaimAmount;
+import insurabook.model.claims.ClaimMessage;
+import insurabook.model.claims.InsuraDate;
+import insurabook.model.client.Client;
+import insurabook.model.policies.PolicyId;
+import insurabook.model.policytype.PolicyType;
+import insurabook.storage.JsonInsuraBookStorage;
+import insurabook.storage.JsonUserPrefsStorage;
+import insurabook.storage.SqlInsuraBookStorage;
+import insurabook.storage.Storage;
+import insurabook.storage.StorageManager;
+import insurabook.testutil.PersonBuilder;
+import insurabook.testutil.PolicyTypeBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model and Storage) for ClaimsCommand.
+ */
+public class ClaimsCommandTest {
+
+    private static final PolicyId POLICY_ID = new PolicyId("P101");
+
+    @TempDir
+    public Path testFolder;
+
+    private InsuraBook insuraBook;
+    private Model model;
+    private Claim largeClaim;
+    private Claim largestClaim;
+
+    @BeforeEach
+    public void setUp() {
+        insuraBook = new InsuraBook();
+        Client first = new PersonBuilder().withClientId("1").build();
+        Client second = new PersonBuilder().withName("Bob Choo").withClientId("2").build();
+        PolicyType policyType = new PolicyTypeBuilder().build();
+        PolicyType otherType = new PolicyTypeBuilder().withName("Other").withId("PT2").build();
+        insuraBook.addClient(first);
+        insuraBook.addClient(second);
+        insuraBook.addPolicyType(policyType);
+        insuraBook.addPolicyType(otherType);
+
+        // both clients have a policy with the same id
+        InsuraDate expiryDate = new InsuraDate("2030-01-01");
+        insuraBook.addPolicy(POLICY_ID, first.getClientId(), policyType.getPtId(), expiryDate);
+        insuraBook.addPolicy(POLICY_ID, second.getClientId(), policyType.getPtId(), expiryDate);
+        insuraBook.addPolicy(new PolicyId("P102"), second.getClientId(), otherType.getPtId(), expiryDate);
+
+        largeClaim = addClaim(first, POLICY_ID, "100.50");
+        addClaim(first, POLICY_ID, "20");
+        largestClaim = addClaim(second, POLICY_ID, "500");
+        model = new ModelManager(insuraBook, new UserPrefs());
+    }
+
+    @Test
+    public void execute_inMemory_listsClaimsLargestFirst() {
+        CommandResult result = new ClaimsCommand(new ClaimAmount("50")).execute(model);
+
+        assertEquals(expectedFeedback("50", List.of(largestClaim, largeClaim)), result.getFeedbackToUser());
+        // the claims are only listed in the result
+        assertEquals(3, model.getClientPolicyList().size());
+    }
+
+    @Test
+    public void execute_storageWithoutQueries_listsClaimsInMemory() throws Exception {
+        Storage storage = new StorageManager(new JsonInsuraBookStorage(testFolder.resolve("insurabook.json")),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs.json")));
+        CommandResult result = new ClaimsCommand(new ClaimAmount("100.50")).execute(model, storage);
+
+        assertEquals(expectedFeedback("100.50", List.of(largestClaim)), result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_databaseStorage_listsClaimsFromDatabase() throws Exception {
+        Storage storage = new StorageManager(new SqlInsuraBookStorage(testFolder.resolve("insurabook.mv.db")),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs.json")));
+        // a claim only the database knows about shows that it was asked
+        Claim savedClaim = addClaim(insuraBook.getClient(largeClaim.getClientId()), POLICY_ID, "70");
+        storage.saveInsuraBook(insuraBook);
+
+        CommandResult result = new ClaimsCommand(new ClaimAmount("50")).execute(model, storage);
+        assertEquals(expectedFeedback("50", List.of(largestClaim, largeClaim, savedClaim)),
+                result.getFeedbackToUser());
+    }
+
+    @Test
+    public void equals() {
+        ClaimsCommand claimsCommand = new ClaimsCommand(new ClaimAmount("1000"));
+
+        assertTrue(claimsCommand.equals(claimsCommand));
+        assertTrue(claimsCommand.equals(new ClaimsCommand(new ClaimAmount("1000"))));
+        assertFalse(claimsCommand.equals(new ClaimsCommand(new ClaimAmount("10"))));
+        assertFalse(claimsCommand.equals(null));
+    }
+
+    private Claim addClaim(Client client, PolicyId policyId, String amount) {
+        return insuraBook.addClaim(client.getClientId(), policyId, new ClaimAmount(amount),
+                new InsuraDate("2026-01-01"), new ClaimMessage("Claim of " + amount));
+    }
+
+    private static String expectedFeedback(String amount, List<Claim> claims) {
+        StringBuilder expected = new StringBuilder(String.format(ClaimsCommand.MESSAGE_SUCCESS, claims.size(), amount));
+        claims.forEach(claim -> expected.append("\n").append(Messages.format(claim, 0)));
+        return expected.toString();
+    }
+}
@@ -2,7 +2,9 @@ package insurabook.logic.commands;
 
 import static insurabook.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
 import static insurabook.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static insurabook.testutil.TypicalClients.BENSON;
 import static insurabook.testutil.TypicalClients.CARL;
+import static insurabook.testutil.TypicalClients.DANIEL;
 import static insurabook.testutil.TypicalClients.ELLE;
 import static insurabook.testutil.TypicalClients.FIONA;
 import static insurabook.testutil.TypicalClients.getTypicalInsuraBook;
@@ -18,7 +20,9 @@ import org.junit.jupiter.api.Test;
 import insurabook.model.Model;
 import insurabook.model.ModelManager;
 import insurabook.model.UserPrefs;
+import insurabook.model.client.IdContainsKeywordsPredicate;
 import insurabook.model.client.NameContainsKeywordsPredicate;
+import insurabook.model.client.NameSimilarToKeywordsPredicate;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -74,6 +78,36 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredClientList());
     }
 
+    @Test
+    public void execute_mixedCaseKeyword_personsFoundInListOrder() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        NameContainsKeywordsPredicate predicate = preparePredicate("mEIER");
+        FindCommand command = new FindCommand(predicate);
+        expectedModel.updateFilteredClientList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(BENSON, DANIEL), model.getFilteredClientList());
+    }
+
+    @Test
+    public void execute_idPrefixKeyword_personsFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        IdContainsKeywordsPredicate predicate = new IdContainsKeywordsPredicate(Arrays.asList("d*", "B2"));
+        FindCommand command = new FindCommand(predicate);
+        expectedModel.updateFilteredClientList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(BENSON, DANIEL), model.getFilteredClientList());
+    }
+
+    @Test
+    public void execute_fuzzyKeyword_closestPersonsFirst() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3);
+        NameSimilarToKeywordsPredicate predicate = new NameSimilarToKeywordsPredicate(Arrays.asList("meyer"));
+        FindCommand command = new FindCommand(predicate);
+        expectedModel.updateFilteredClientList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ELLE, BENSON, DANIEL), model.getFilteredClientList());
+    }
+
     @Test
     public void toStringMethod() {
         NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("keyword"));
@@ -0,0 +1,145 @@
+package insurabook.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import insurabook.logic.Messages;
+import insurabook.model.InsuraBook;
+import insurabook.model.Model;
+import insurabook.model.ModelManager;
+import insurabook.model.UserPrefs;
+import insurabook.model.claims.InsuraDate;
+import insurabook.model.client.Client;
+import insurabook.model.policies.Policy;
+import insurabook.model.policies.PolicyId;
+import insurabook.model.policytype.PolicyType;
+import insurabook.model.policytype.PolicyTypeId;
+import insurabook.storage.JsonUserPrefsStorage;
+import insurabook.storage.SqlInsuraBookStorage;
+import insurabook.storage.Storage;
+import insurabook.storage.StorageManager;
+import insurabook.testutil.PersonBuilder;
+import insurabook.testutil.PolicyTypeBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model and Storage) for PoliciesCommand.
+ */
+public class PoliciesCommandTest {
+
+    private static final InsuraDate EXPIRY_DATE = new InsuraDate("2030-01-01");
+
+    @TempDir
+    public Path testFolder;
+
+    private InsuraBook insuraBook;
+    private Model model;
+    private PolicyType lifeType;
+    private Policy firstLifePolicy;
+    private Policy secondLifePolicy;
+
+    @BeforeEach
+    public void setUp() {
+        insuraBook = new InsuraBook();
+        Client first = new PersonBuilder().withClientId("1").build();
+        Client second = new PersonBuilder().withName("Bob Choo").withClientId("2").build();
+        lifeType = new PolicyTypeBuilder().withName("Life").withId("LIFE1").build();
+        PolicyType carType = new PolicyTypeBuilder().withName("Car").withId("CAR1").build();
+        insuraBook.addClient(first);
+        insuraBook.addClient(second);
+        insuraBook.addPolicyType(lifeType);
+        insuraBook.addPolicyType(carType);
+
+        // both clients have a policy with the same id
+        firstLifePolicy = insuraBook.addPolicy(new PolicyId("P101"), first.getClientId(), lifeType.getPtId(),
+                EXPIRY_DATE);
+        insuraBook.addPolicy(new PolicyId("P102"), first.getClientId(), carType.getPtId(), EXPIRY_DATE);
+        secondLifePolicy = insuraBook.addPolicy(new PolicyId("P101"), second.getClientId(), lifeType.getPtId(),
+                EXPIRY_DATE);
+        model = new ModelManager(insuraBook, new UserPrefs());
+    }
+
+    @Test
+    public void execute_inMemory_listsPoliciesOfType() {
+        CommandResult result = new PoliciesCommand(lifeType.getPtId()).execute(model);
+
+        assertEquals(expectedFeedback(lifeType.getPtId(), List.of(firstLifePolicy, secondLifePolicy)),
+                result.getFeedbackToUser());
+        // the policies are only listed in the result
+        assertEquals(3, model.getClientPolicyList().size());
+    }
+
+    @Test
+    public void execute_morePoliciesThanPreview_listsFirstOnes() {
+        PolicyType homeType = new PolicyTypeBuilder().withName("Home").withId("HOME1").build();
+        insuraBook.addPolicyType(homeType);
+        List<Policy> homePolicies = new ArrayList<>();
+        // a client holds one policy of each type
+        for (int i = 0; i < PoliciesCommand.PREVIEW_SIZE + 3; i++) {
+            Client client = new PersonBuilder().withName("Client " + i).withClientId("1" + i).build();
+            insuraBook.addClient(client);
+            homePolicies.add(insuraBook.addPolicy(new PolicyId("P201"), client.getClientId(), homeType.getPtId(),
+                    EXPIRY_DATE));
+        }
+        model = new ModelManager(insuraBook, new UserPrefs());
+
+        CommandResult result = new PoliciesCommand(homeType.getPtId()).execute(model);
+
+        StringBuilder expected = new StringBuilder(
+                String.format(PoliciesCommand.MESSAGE_SUCCESS, homePolicies.size(), homeType.getPtId()));
+        homePolicies.stream()
+                .limit(PoliciesCommand.PREVIEW_SIZE)
+                .forEach(policy -> expected.append("\n").append(Messages.format(policy, 0)));
+        expected.append("\n").append(String.format(Messages.MESSAGE_MORE_RESULTS, 3));
+        assertEquals(expected.toString(), result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_unknownPolicyType_showsEmptyList() {
+        CommandResult result = new PoliciesCommand(new PolicyTypeId("NONE")).execute(model);
+
+        assertEquals(String.format(PoliciesCommand.MESSAGE_SUCCESS, 0, "NONE"), result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_databaseStorage_listsPoliciesFromDatabase() throws Exception {
+        Storage storage = new StorageManager(new SqlInsuraBookStorage(testFolder.resolve("insurabook.mv.db")),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs.json")));
+        // a policy only the database knows about shows that it was asked
+        Client third = new PersonBuilder().withName("Carl Kurz").withClientId("3").build();
+        insuraBook.addClient(third);
+        Policy savedPolicy = insuraBook.addPolicy(new PolicyId("P101"), third.getClientId(), lifeType.getPtId(),
+                EXPIRY_DATE);
+        storage.saveInsuraBook(insuraBook);
+
+        CommandResult result = new PoliciesCommand(lifeType.getPtId()).execute(model, storage);
+        assertEquals(expectedFeedback(lifeType.getPtId(), List.of(firstLifePolicy, secondLifePolicy, savedPolicy)),
+                result.getFeedbackToUser());
+        assertEquals(3, model.getClientPolicyList().size());
+    }
+
+    @Test
+    public void equals() {
+        PoliciesCommand policiesCommand = new PoliciesCommand(new PolicyTypeId("PT1"));
+
+        assertTrue(policiesCommand.equals(policiesCommand));
+        assertTrue(policiesCommand.equals(new PoliciesCommand(new PolicyTypeId("PT1"))));
+        assertFalse(policiesCommand.equals(new PoliciesCommand(new PolicyTypeId("PT2"))));
+        assertFalse(policiesCommand.equals(null));
+    }
+
+    private static String expectedFeedback(PolicyTypeId policyTypeId, List<Policy> policies) {
+        StringBuilder expected = new StringBuilder(
+                String.format(PoliciesCommand.MESSAGE_SUCCESS, policies.size(), policyTypeId));
+        policies.forEach(policy -> expected.append("\n").append(Messages.format(policy, 0)));
+        return expected.toString();
+    }
+}
@@ -0,0 +1,88 @@
+package insurabook.logic.commands;
+
+import static insurabook.logic.commands.CommandTestUtil.assertCommandFailure;
+import static insurabook.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static insurabook.testutil.TypicalClients.ALICE;
+import static insurabook.testutil.TypicalClients.BENSON;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import insurabook.model.InsuraBook;
+import insurabook.model.Model;
+import insurabook.model.ModelManager;
+import insurabook.model.UserPrefs;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for {@code RedoCommand}
+ */
+public class RedoCommandTest {
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(new InsuraBook(), new UserPrefs());
+        model.addClient(ALICE);
+        model.commitInsuraBook();
+        model.addClient(BENSON);
+        model.commitInsuraBook();
+    }
+
+    @Test
+    public void execute_noCommandsToRedo_throwsCommandException() {
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_NO_HISTORY);
+    }
+
+    @Test
+    public void execute_afterUndo_success() throws Exception {
+        Model expectedModel = new ModelManager(model.getInsuraBook(), new UserPrefs());
+
+        new UndoCommand().execute(model);
+
+        assertCommandSuccess(new RedoCommand(), model, RedoCommand.MESSAGE_SUCCESS, expectedModel);
+    }
+
+    @Test
+    public void execute_multipleSteps_success() throws Exception {
+        Model expectedModel = new ModelManager(model.getInsuraBook(), new UserPrefs());
+
+        new UndoCommand(2).execute(model);
+
+        String expectedMessage = String.format(RedoCommand.MESSAGE_SUCCESS_MULTIPLE, 2);
+        assertCommandSuccess(new RedoCommand(3), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_afterRedo_canUndoAgain() throws Exception {
+        Model expectedModel = new ModelManager(model.getInsuraBook(), new UserPrefs());
+        expectedModel.deleteClient(BENSON);
+
+        new UndoCommand().execute(model);
+        new RedoCommand().execute(model);
+
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+    }
+
+    @Test
+    public void execute_newCommandAfterUndo_clearsRedoHistory() throws Exception {
+        new UndoCommand().execute(model);
+        model.deleteClient(ALICE);
+        model.commitInsuraBook();
+
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_NO_HISTORY);
+    }
+
+    @Test
+    public void equals() {
+        RedoCommand redoCommand = new RedoCommand();
+
+        assertEquals(redoCommand, new RedoCommand());
+        assertEquals(redoCommand, new RedoCommand(1));
+        assertNotEquals(redoCommand, new RedoCommand(2));
+        assertNotEquals(redoCommand, new UndoCommand());
+        assertNotEquals(null, redoCommand);
+    }
+}
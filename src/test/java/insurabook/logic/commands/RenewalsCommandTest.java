@@ -0,0 +1,91 @@
+package insurabook.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import insurabook.logic.Messages;
+import insurabook.model.InsuraBook;
+import insurabook.model.Model;
+import insurabook.model.ModelManager;
+import insurabook.model.UserPrefs;
+import insurabook.model.claims.InsuraDate;
+import insurabook.model.client.Client;
+import insurabook.model.policies.Policy;
+import insurabook.model.policies.PolicyId;
+import insurabook.model.policytype.PolicyType;
+import insurabook.testutil.PersonBuilder;
+import insurabook.testutil.PolicyTypeBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for RenewalsCommand.
+ */
+public class RenewalsCommandTest {
+
+    private Model model;
+    private Policy expiringTomorrow;
+    private Policy expiringNextMonth;
+
+    @BeforeEach
+    public void setUp() {
+        InsuraBook insuraBook = new InsuraBook();
+        Client client = new PersonBuilder().build();
+        PolicyType firstType = new PolicyTypeBuilder().withName("RenewOne").withId("RNW001").build();
+        PolicyType secondType = new PolicyTypeBuilder().withName("RenewTwo").withId("RNW002").build();
+        insuraBook.addClient(client);
+        insuraBook.addPolicyType(firstType);
+        insuraBook.addPolicyType(secondType);
+
+        InsuraDate today = InsuraDate.today();
+        expiringNextMonth = insuraBook.addPolicy(new PolicyId("P102"), client.getClientId(), secondType.getPtId(),
+                today.plusDays(40));
+        expiringTomorrow = insuraBook.addPolicy(new PolicyId("P101"), client.getClientId(), firstType.getPtId(),
+                today.plusDays(1));
+        model = new ModelManager(insuraBook, new UserPrefs());
+    }
+
+    @Test
+    public void execute_defaultDays_listsPoliciesWithinRange() {
+        CommandResult result = new RenewalsCommand(RenewalsCommand.DEFAULT_DAYS).execute(model);
+
+        Policy shown = model.getClientPolicyList().get(0);
+        assertEquals(1, model.getClientPolicyList().size());
+        assertEquals(expiringTomorrow.getPolicyId(), shown.getPolicyId());
+        assertEquals(String.format(RenewalsCommand.MESSAGE_SUCCESS, 1, RenewalsCommand.DEFAULT_DAYS)
+                + "\n" + Messages.formatExpiringPolicies(shown), result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_longerRange_listsPoliciesByExpiryDate() {
+        new RenewalsCommand(60).execute(model);
+
+        InsuraDate today = InsuraDate.today();
+        List<Policy> dueForRenewal = model.getPoliciesExpiringBetween(today, today.plusDays(60));
+        assertEquals(List.of(expiringTomorrow.getPolicyId(), expiringNextMonth.getPolicyId()),
+                dueForRenewal.stream().map(Policy::getPolicyId).toList());
+        assertEquals(2, model.getClientPolicyList().size());
+    }
+
+    @Test
+    public void execute_noPoliciesDue_showsEmptyList() {
+        CommandResult result = new RenewalsCommand(0).execute(model);
+
+        assertTrue(model.getClientPolicyList().isEmpty());
+        assertEquals(String.format(RenewalsCommand.MESSAGE_SUCCESS, 0, 0), result.getFeedbackToUser());
+    }
+
+    @Test
+    public void equals() {
+        RenewalsCommand renewalsCommand = new RenewalsCommand(14);
+
+        assertTrue(renewalsCommand.equals(renewalsCommand));
+        assertTrue(renewalsCommand.equals(new RenewalsCommand(14)));
+        assertFalse(renewalsCommand.equals(new RenewalsCommand(30)));
+        assertFalse(renewalsCommand.equals(null));
+    }
+}
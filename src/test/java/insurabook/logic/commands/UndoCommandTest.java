@@ -16,6 +16,7 @@ import insurabook.model.Model;
 import insurabook.model.ModelManager;
 import insurabook.model.UserPrefs;
 import insurabook.model.client.Client;
+import insurabook.testutil.PersonBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) and unit tests for {@code UndoCommand}
@@ -120,12 +121,58 @@ public class UndoCommandTest {
         assertEquals(initialClientCount, model.getFilteredClientList().size());
     }
 
+    @Test
+    public void execute_multipleSteps_success() {
+        Model expectedModel = new ModelManager(new InsuraBook(), new UserPrefs());
+
+        model.addClient(ALICE);
+        model.commitInsuraBook();
+        model.addClient(BENSON);
+        model.commitInsuraBook();
+        model.deleteClient(ALICE);
+        model.commitInsuraBook();
+
+        String expectedMessage = String.format(UndoCommand.MESSAGE_SUCCESS_MULTIPLE, 3);
+        assertCommandSuccess(new UndoCommand(3), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_moreStepsThanHistory_undoesAll() {
+        Model expectedModel = new ModelManager(new InsuraBook(), new UserPrefs());
+
+        model.addClient(ALICE);
+        model.commitInsuraBook();
+        model.addClient(BENSON);
+        model.commitInsuraBook();
+
+        String expectedMessage = String.format(UndoCommand.MESSAGE_SUCCESS_MULTIPLE, 2);
+        assertCommandSuccess(new UndoCommand(5), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_afterEdit_restoresClientPosition() {
+        model.addClient(ALICE);
+        model.addClient(BENSON);
+        model.addClient(CARL);
+        model.commitInsuraBook();
+
+        Model expectedModel = new ModelManager(model.getInsuraBook(), new UserPrefs());
+
+        model.setClient(BENSON, new PersonBuilder(BENSON).withName("Benson Lee").build());
+        model.deleteClient(ALICE);
+        model.commitInsuraBook();
+
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+    }
+
     @Test
     public void equals_sameType_success() {
         UndoCommand undoCommand1 = new UndoCommand();
         UndoCommand undoCommand2 = new UndoCommand();
 
         assertEquals(undoCommand1, undoCommand2);
+        assertEquals(undoCommand1, new UndoCommand(1));
+        assertNotEquals(undoCommand1, new UndoCommand(2));
         assertNotEquals(null, undoCommand1);
     }
 }
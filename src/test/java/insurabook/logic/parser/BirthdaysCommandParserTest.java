@@ -0,0 +1,33 @@
+package insurabook.logic.parser;
+
+import static insurabook.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static insurabook.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static insurabook.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import insurabook.logic.commands.BirthdaysCommand;
+
+public class BirthdaysCommandParserTest {
+    private final BirthdaysCommandParser parser = new BirthdaysCommandParser();
+
+    @Test
+    public void parse_noArguments_listsToday() {
+        assertParseSuccess(parser, " ", new BirthdaysCommand(0, false));
+    }
+
+    @Test
+    public void parse_validArguments_success() {
+        assertParseSuccess(parser, " -days 7", new BirthdaysCommand(7, false));
+        assertParseSuccess(parser, " -month", new BirthdaysCommand(0, true));
+    }
+
+    @Test
+    public void parse_invalidArguments_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, BirthdaysCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " -days 7 -month", expectedMessage);
+        assertParseFailure(parser, " -month 3", expectedMessage);
+        assertParseFailure(parser, " 7", expectedMessage);
+        assertParseFailure(parser, " -days x", ParserUtil.MESSAGE_INVALID_DAYS);
+    }
+}
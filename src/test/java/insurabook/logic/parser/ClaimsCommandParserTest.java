@@ -0,0 +1,33 @@
+package insurabook.logic.parser;
+
+import static insurabook.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static insurabook.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static insurabook.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import insurabook.logic.commands.ClaimsCommand;
+import insurabook.model.claims.ClaimAmount;
+
+public class ClaimsCommandParserTest {
+    private final ClaimsCommandParser parser = new ClaimsCommandParser();
+
+    @Test
+    public void parse_validAmount_success() {
+        assertParseSuccess(parser, " -amt 1000", new ClaimsCommand(new ClaimAmount("1000")));
+        assertParseSuccess(parser, " -amt 99.50", new ClaimsCommand(new ClaimAmount("99.50")));
+    }
+
+    @Test
+    public void parse_invalidAmount_failure() {
+        assertParseFailure(parser, " -amt 0", ClaimAmount.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " -amt 1.005", ClaimAmount.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_missingAmountOrPreamble_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ClaimsCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " ", expectedMessage);
+        assertParseFailure(parser, " 1000", expectedMessage);
+    }
+}
@@ -10,6 +10,7 @@ import org.junit.jupiter.api.Test;
 
 import insurabook.logic.commands.FindCommand;
 import insurabook.model.client.NameContainsKeywordsPredicate;
+import insurabook.model.client.NameSimilarToKeywordsPredicate;
 
 public class FindCommandParserTest {
 
@@ -31,4 +32,14 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, " \n -n Alice \n \t Bob  \t", expectedFindCommand);
     }
 
+    @Test
+    public void parse_fuzzyArgs_returnsFindCommand() {
+        FindCommand expectedFindCommand =
+                new FindCommand(new NameSimilarToKeywordsPredicate(Arrays.asList("Alise", "Bobb")));
+        assertParseSuccess(parser, " -fuzzy Alise \t Bobb ", expectedFindCommand);
+
+        assertParseFailure(parser, " -fuzzy  ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
+
 }
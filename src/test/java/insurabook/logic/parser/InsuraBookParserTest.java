@@ -15,6 +15,8 @@ import java.util.stream.Collectors;
 import org.junit.jupiter.api.Test;
 
 import insurabook.logic.commands.AddClientCommand;
+import insurabook.logic.commands.BirthdaysCommand;
+import insurabook.logic.commands.ClaimsCommand;
 import insurabook.logic.commands.ClearCommand;
 import insurabook.logic.commands.DeleteClientCommand;
 import insurabook.logic.commands.EditCommand;
@@ -23,11 +25,17 @@ import insurabook.logic.commands.ExitCommand;
 import insurabook.logic.commands.FindCommand;
 import insurabook.logic.commands.HelpCommand;
 import insurabook.logic.commands.ListCommand;
+import insurabook.logic.commands.PoliciesCommand;
+import insurabook.logic.commands.RedoCommand;
+import insurabook.logic.commands.RenewalsCommand;
+import insurabook.logic.commands.UndoCommand;
 import insurabook.logic.commands.ViewCommand;
 import insurabook.logic.parser.exceptions.ParseException;
+import insurabook.model.claims.ClaimAmount;
 import insurabook.model.client.Client;
 import insurabook.model.client.ClientId;
 import insurabook.model.client.NameContainsKeywordsPredicate;
+import insurabook.model.policytype.PolicyTypeId;
 import insurabook.testutil.EditPersonDescriptorBuilder;
 import insurabook.testutil.PersonBuilder;
 import insurabook.testutil.PersonUtil;
@@ -80,6 +88,39 @@ public class InsuraBookParserTest {
         assertTrue(parser.parseCommand(ExitCommand.COMMAND_WORD + " 3") instanceof ExitCommand);
     }
 
+    @Test
+    public void parseCommand_renewals() throws Exception {
+        assertEquals(new RenewalsCommand(RenewalsCommand.DEFAULT_DAYS),
+                parser.parseCommand(RenewalsCommand.COMMAND_WORD));
+        assertEquals(new RenewalsCommand(7), parser.parseCommand(RenewalsCommand.COMMAND_WORD + " -days 7"));
+    }
+
+    @Test
+    public void parseCommand_claims() throws Exception {
+        assertEquals(new ClaimsCommand(new ClaimAmount("1000")),
+                parser.parseCommand(ClaimsCommand.COMMAND_WORD + " -amt 1000"));
+    }
+
+    @Test
+    public void parseCommand_policies() throws Exception {
+        assertEquals(new PoliciesCommand(new PolicyTypeId("PT1")),
+                parser.parseCommand(PoliciesCommand.COMMAND_WORD + " -pt_id PT1"));
+    }
+
+    @Test
+    public void parseCommand_undoRedo() throws Exception {
+        assertEquals(new UndoCommand(), parser.parseCommand(UndoCommand.COMMAND_WORD));
+        assertEquals(new UndoCommand(4), parser.parseCommand(UndoCommand.COMMAND_WORD + " 4"));
+        assertEquals(new RedoCommand(), parser.parseCommand(RedoCommand.COMMAND_WORD));
+        assertEquals(new RedoCommand(2), parser.parseCommand(RedoCommand.COMMAND_WORD + "  2 "));
+    }
+
+    @Test
+    public void parseCommand_birthdays() throws Exception {
+        assertEquals(new BirthdaysCommand(0, false), parser.parseCommand(BirthdaysCommand.COMMAND_WORD));
+        assertEquals(new BirthdaysCommand(0, true), parser.parseCommand(BirthdaysCommand.COMMAND_WORD + " -month"));
+    }
+
     @Test
     public void parseCommand_find() throws Exception {
         List<String> keywords = Arrays.asList("foo", "bar", "baz");
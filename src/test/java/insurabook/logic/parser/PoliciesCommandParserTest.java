@@ -0,0 +1,31 @@
+package insurabook.logic.parser;
+
+import static insurabook.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static insurabook.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static insurabook.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import insurabook.logic.commands.PoliciesCommand;
+import insurabook.model.policytype.PolicyTypeId;
+
+public class PoliciesCommandParserTest {
+    private final PoliciesCommandParser parser = new PoliciesCommandParser();
+
+    @Test
+    public void parse_validPolicyTypeId_success() {
+        assertParseSuccess(parser, " -pt_id PT1", new PoliciesCommand(new PolicyTypeId("PT1")));
+    }
+
+    @Test
+    public void parse_invalidPolicyTypeId_failure() {
+        assertParseFailure(parser, " -pt_id PT#1", PolicyTypeId.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_missingPolicyTypeIdOrPreamble_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, PoliciesCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " ", expectedMessage);
+        assertParseFailure(parser, " PT1", expectedMessage);
+    }
+}
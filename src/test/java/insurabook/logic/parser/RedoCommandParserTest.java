@@ -0,0 +1,38 @@
+package insurabook.logic.parser;
+
+import static insurabook.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static insurabook.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static insurabook.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import insurabook.logic.commands.RedoCommand;
+
+public class RedoCommandParserTest {
+
+    private RedoCommandParser parser = new RedoCommandParser();
+
+    @Test
+    public void parse_emptyArg_success() {
+        assertParseSuccess(parser, "", new RedoCommand());
+    }
+
+    @Test
+    public void parse_validSteps_success() {
+        assertParseSuccess(parser, "1", new RedoCommand());
+        assertParseSuccess(parser, "3", new RedoCommand(3));
+    }
+
+    @Test
+    public void parse_invalidArg_failure() {
+        assertParseFailure(parser, "extra",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, RedoCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "   ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, RedoCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "0",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, RedoCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "-2",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, RedoCommand.MESSAGE_USAGE));
+    }
+
+}
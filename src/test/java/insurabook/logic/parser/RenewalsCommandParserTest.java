@@ -0,0 +1,37 @@
+package insurabook.logic.parser;
+
+import static insurabook.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static insurabook.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static insurabook.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import insurabook.logic.commands.RenewalsCommand;
+
+public class RenewalsCommandParserTest {
+    private final RenewalsCommandParser parser = new RenewalsCommandParser();
+
+    @Test
+    public void parse_noDays_usesDefault() {
+        assertParseSuccess(parser, " ", new RenewalsCommand(RenewalsCommand.DEFAULT_DAYS));
+    }
+
+    @Test
+    public void parse_validDays_success() {
+        assertParseSuccess(parser, " -days 14", new RenewalsCommand(14));
+        assertParseSuccess(parser, " -days 0", new RenewalsCommand(0));
+    }
+
+    @Test
+    public void parse_invalidDays_failure() {
+        assertParseFailure(parser, " -days -1", ParserUtil.MESSAGE_INVALID_DAYS);
+        assertParseFailure(parser, " -days 3651", ParserUtil.MESSAGE_INVALID_DAYS);
+        assertParseFailure(parser, " -days two", ParserUtil.MESSAGE_INVALID_DAYS);
+    }
+
+    @Test
+    public void parse_nonEmptyPreamble_failure() {
+        assertParseFailure(parser, " 14",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, RenewalsCommand.MESSAGE_USAGE));
+    }
+}
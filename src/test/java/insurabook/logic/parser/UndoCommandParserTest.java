@@ -17,12 +17,22 @@ public class UndoCommandParserTest {
         assertParseSuccess(parser, "", new UndoCommand());
     }
 
+    @Test
+    public void parse_validSteps_success() {
+        assertParseSuccess(parser, "1", new UndoCommand());
+        assertParseSuccess(parser, "3", new UndoCommand(3));
+    }
+
     @Test
     public void parse_invalidArg_failure() {
         assertParseFailure(parser, "extra",
                 String.format(MESSAGE_INVALID_COMMAND_FORMAT, UndoCommand.MESSAGE_USAGE));
         assertParseFailure(parser, "   ",
                 String.format(MESSAGE_INVALID_COMMAND_FORMAT, UndoCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "0",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, UndoCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "-2",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, UndoCommand.MESSAGE_USAGE));
     }
 
 }
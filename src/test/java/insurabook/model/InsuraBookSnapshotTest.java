@@ -0,0 +1,33 @@
+package insurabook.model;
+
+import static insurabook.testutil.TypicalClients.ALICE;
+import static insurabook.testutil.TypicalClients.BENSON;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import insurabook.model.policytype.PolicyType;
+import insurabook.testutil.PolicyTypeBuilder;
+
+public class InsuraBookSnapshotTest {
+
+    @Test
+    public void of_bookChangedAfterwards_keepsEarlierContents() {
+        InsuraBook insuraBook = new InsuraBook();
+        PolicyType policyType = new PolicyTypeBuilder().build();
+        insuraBook.addPolicyType(policyType);
+        insuraBook.addClient(ALICE);
+        InsuraBookSnapshot snapshot = InsuraBookSnapshot.of(insuraBook);
+
+        insuraBook.addClient(BENSON);
+        insuraBook.deletePolicyType(policyType.getPtName(), policyType.getPtId());
+
+        assertEquals(List.of(ALICE), snapshot.getClientList());
+        assertEquals(List.of(policyType), snapshot.getPolicyTypeList());
+        assertEquals(ALICE.getPolicies(), snapshot.getClientPolicyList());
+        assertSame(snapshot, InsuraBookSnapshot.of(snapshot));
+    }
+}
@@ -7,6 +7,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -14,12 +15,21 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import insurabook.model.claims.Claim;
+import insurabook.model.claims.ClaimAmount;
+import insurabook.model.claims.ClaimId;
+import insurabook.model.claims.ClaimMessage;
+import insurabook.model.claims.InsuraDate;
+import insurabook.model.claims.exceptions.ClaimNotFoundException;
 import insurabook.model.client.Client;
 import insurabook.model.client.exceptions.ClientDuplicateException;
 import insurabook.model.policies.Policy;
+import insurabook.model.policies.PolicyId;
+import insurabook.model.policies.exceptions.PolicyNotFoundException;
 import insurabook.model.policytype.PolicyType;
 import insurabook.model.policytype.PolicyTypeId;
 import insurabook.testutil.PersonBuilder;
+import insurabook.testutil.PolicyTypeBuilder;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 
@@ -77,17 +87,199 @@ public class InsuraBookTest {
         assertTrue(insuraBook.hasClient(editedAlice));
     }
 
+    @Test
+    public void addClient_clientWithPolicies_policiesListed() {
+        InsuraBook source = new InsuraBook();
+        Claim claim = addClaimToNewPolicy(source);
+        Client client = source.getClient(claim.getClientId());
+
+        insuraBook.addClient(client);
+        assertEquals(client.getPolicies(), insuraBook.getClientPolicyList());
+        assertEquals(claim, insuraBook.getClaim(claim.getClientId(), claim.getPolicyId(), claim.getClaimId()));
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> insuraBook.getClientList().remove(0));
     }
 
+    @Test
+    public void loadData_clientsWithClaims_indexesPoliciesAndClaims() {
+        InsuraBook source = new InsuraBook();
+        Claim claim = addClaimToNewPolicy(source);
+
+        insuraBook.loadData(source.getPolicyTypeList(), source.getClientList());
+
+        assertEquals(source.getClientPolicyList(), insuraBook.getClientPolicyList());
+        assertEquals(claim, insuraBook.getClaim(claim.getClientId(), claim.getPolicyId(), claim.getClaimId()));
+        Claim next = insuraBook.addClaim(claim.getClientId(), claim.getPolicyId(), new ClaimAmount("100"),
+                new InsuraDate("2026-01-01"), new ClaimMessage("Second claim"));
+        assertEquals(new ClaimId("CL002"), next.getClaimId());
+    }
+
+    @Test
+    public void loadData_duplicateClients_throwsClientDuplicateException() {
+        assertThrows(ClientDuplicateException.class, () ->
+                insuraBook.loadData(List.of(), List.of(ALICE, new PersonBuilder(ALICE).build())));
+    }
+
+    @Test
+    public void removeClient_clientWithPolicies_removesPoliciesFromPolicyList() {
+        Claim claim = addClaimToNewPolicy(insuraBook);
+        insuraBook.removeClient(insuraBook.getClient(claim.getClientId()));
+
+        assertTrue(insuraBook.getClientPolicyList().isEmpty());
+        assertEquals(List.of(), insuraBook.getPoliciesExpiringBetween(
+                new InsuraDate("2030-01-01"), new InsuraDate("2030-01-01")));
+    }
+
+    @Test
+    public void getClaim_afterCopy_resolvesCopiedClaim() {
+        InsuraBook original = new InsuraBook();
+        Claim claim = addClaimToNewPolicy(original);
+
+        InsuraBook copy = new InsuraBook(original);
+        original.removeClaim(claim.getClientId(), claim.getPolicyId(), claim.getClaimId());
+
+        assertEquals(claim, copy.getClaim(claim.getClientId(), claim.getPolicyId(), claim.getClaimId()));
+        assertThrows(ClaimNotFoundException.class, () ->
+                original.getClaim(claim.getClientId(), claim.getPolicyId(), claim.getClaimId()));
+    }
+
+    @Test
+    public void getClaim_wrongPolicyId_throwsPolicyNotFoundException() {
+        Claim claim = addClaimToNewPolicy(insuraBook);
+        assertThrows(PolicyNotFoundException.class, () ->
+                insuraBook.getClaim(claim.getClientId(), new PolicyId("P999"), claim.getClaimId()));
+    }
+
+    @Test
+    public void removePolicy_policyWithClaims_claimIdsFreedForCounter() {
+        Claim claim = addClaimToNewPolicy(insuraBook);
+        insuraBook.removePolicy(claim.getClientId(), claim.getPolicyId());
+        insuraBook.syncClaimIdCounter();
+
+        insuraBook.addPolicy(claim.getPolicyId(), claim.getClientId(), new PolicyTypeBuilder().build().getPtId(),
+                new InsuraDate("2030-01-01"));
+        Claim next = insuraBook.addClaim(claim.getClientId(), claim.getPolicyId(), new ClaimAmount("100"),
+                new InsuraDate("2026-01-01"), new ClaimMessage("Second claim"));
+        assertEquals(new ClaimId("CL001"), next.getClaimId());
+    }
+
     @Test
     public void toStringMethod() {
         String expected = InsuraBook.class.getCanonicalName() + "{clients=" + insuraBook.getClientList() + "}";
         assertEquals(expected, insuraBook.toString());
     }
 
+    @Test
+    public void estimateSize_clientsStillInBook_countedAsShared() {
+        InsuraBook typicalBook = getTypicalInsuraBook();
+        List<Client> reordered = new ArrayList<>(typicalBook.getClientList());
+        Collections.reverse(reordered);
+        typicalBook.setClients(reordered);
+        InsuraBook.Change reorder = typicalBook.takeRecordedChanges().get(0);
+
+        typicalBook.setClients(List.of());
+        InsuraBook.Change clear = typicalBook.takeRecordedChanges().get(0);
+
+        assertTrue(reorder.estimateSize() * 10 < clear.estimateSize());
+    }
+
+    /**
+     * Adds a client, a policy type and a policy to {@code book}, then files a claim under that policy.
+     */
+    @Test
+    public void revert_afterClaimAndPolicyChanges_restoresEarlierState() {
+        Claim claim = addClaimToNewPolicy(insuraBook);
+        Client clientBefore = insuraBook.getClient(claim.getClientId());
+        insuraBook.takeRecordedChanges();
+
+        insuraBook.removeClaim(claim.getClientId(), claim.getPolicyId(), claim.getClaimId());
+        insuraBook.removePolicy(claim.getClientId(), claim.getPolicyId());
+        insuraBook.addClient(ALICE);
+
+        // the client referred to by the recorded changes is replaced, never modified
+        assertEquals(List.of(claim), List.copyOf(clientBefore.getPolicies().get(0).getClaims()));
+
+        List<InsuraBook.Change> reverting = insuraBook.revert(insuraBook.takeRecordedChanges());
+        assertEquals(List.of(clientBefore), insuraBook.getClientList());
+        assertEquals(clientBefore.getPolicies(), insuraBook.getClientPolicyList());
+        assertEquals(claim, insuraBook.getClaim(claim.getClientId(), claim.getPolicyId(), claim.getClaimId()));
+        assertTrue(insuraBook.takeRecordedChanges().isEmpty());
+
+        // reverting the revert reapplies the changes
+        insuraBook.revert(reverting);
+        assertEquals(2, insuraBook.getClientList().size());
+        assertEquals(ALICE, insuraBook.getClientList().get(1));
+        assertTrue(insuraBook.getClientPolicyList().isEmpty());
+    }
+
+    @Test
+    public void revert_afterRevert_keepsClaimIdCounter() {
+        Claim claim = addClaimToNewPolicy(insuraBook);
+        insuraBook.takeRecordedChanges();
+        insuraBook.addClaim(claim.getClientId(), claim.getPolicyId(), new ClaimAmount("100"),
+                new InsuraDate("2026-01-01"), new ClaimMessage("Second claim"));
+
+        insuraBook.revert(insuraBook.takeRecordedChanges());
+        Claim next = insuraBook.addClaim(claim.getClientId(), claim.getPolicyId(), new ClaimAmount("100"),
+                new InsuraDate("2026-01-01"), new ClaimMessage("Third claim"));
+        assertEquals(new ClaimId("CL003"), next.getClaimId());
+    }
+
+    @Test
+    public void revert_removedClient_reinsertedAtSamePosition() {
+        InsuraBook typicalBook = new InsuraBook(getTypicalInsuraBook());
+        List<Client> clientsBefore = List.copyOf(typicalBook.getClientList());
+
+        typicalBook.removeClient(clientsBefore.get(1));
+        typicalBook.revert(typicalBook.takeRecordedChanges());
+        assertEquals(clientsBefore, typicalBook.getClientList());
+    }
+
+    @Test
+    public void revert_deletedPolicyType_restoresPolicyTypeAndPolicies() {
+        Claim claim = addClaimToNewPolicy(insuraBook);
+        PolicyType otherType = new PolicyTypeBuilder().withName("Other").withId("OT01").build();
+        insuraBook.addPolicyType(otherType);
+        List<PolicyType> policyTypesBefore = List.copyOf(insuraBook.getPolicyTypeList());
+        Client clientBefore = insuraBook.getClient(claim.getClientId());
+        insuraBook.takeRecordedChanges();
+
+        PolicyType deleted = policyTypesBefore.get(0);
+        insuraBook.deletePolicyType(deleted.getPtName(), deleted.getPtId());
+        assertEquals(List.of(otherType), insuraBook.getPolicyTypeList());
+
+        insuraBook.revert(insuraBook.takeRecordedChanges());
+        assertEquals(policyTypesBefore, insuraBook.getPolicyTypeList());
+        assertEquals(List.of(clientBefore), insuraBook.getClientList());
+        assertEquals(claim, insuraBook.getClaim(claim.getClientId(), claim.getPolicyId(), claim.getClaimId()));
+    }
+
+    @Test
+    public void revert_resetData_restoresAllData() {
+        Claim claim = addClaimToNewPolicy(insuraBook);
+        List<Client> clientsBefore = List.copyOf(insuraBook.getClientList());
+        insuraBook.takeRecordedChanges();
+
+        insuraBook.resetData(new InsuraBook());
+        insuraBook.revert(insuraBook.takeRecordedChanges());
+        assertEquals(clientsBefore, insuraBook.getClientList());
+        assertEquals(1, insuraBook.getPolicyTypeList().size());
+        assertEquals(claim, insuraBook.getClaim(claim.getClientId(), claim.getPolicyId(), claim.getClaimId()));
+    }
+
+    private static Claim addClaimToNewPolicy(InsuraBook book) {
+        Client client = new PersonBuilder().build();
+        PolicyType policyType = new PolicyTypeBuilder().build();
+        book.addClient(client);
+        book.addPolicyType(policyType);
+        book.addPolicy(new PolicyId("P101"), client.getClientId(), policyType.getPtId(),
+                new InsuraDate("2030-01-01"));
+        return book.addClaim(client.getClientId(), new PolicyId("P101"), new ClaimAmount("100"),
+                new InsuraDate("2026-01-01"), new ClaimMessage("First claim"));
+    }
 
     /**
      * A stub ReadOnlyAddressBook whose persons list can violate interface constraints.
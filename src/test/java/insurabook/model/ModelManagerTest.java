@@ -29,6 +29,17 @@ public class ModelManagerTest {
         assertEquals(new InsuraBook(), new InsuraBook(modelManager.getInsuraBook()));
     }
 
+    @Test
+    public void getUndoHistorySize_afterCommittedChange_countsStep() {
+        assertEquals(0, modelManager.getUndoHistorySize());
+        modelManager.addClient(ALICE);
+        modelManager.commitInsuraBook();
+        assertEquals(1, modelManager.getUndoHistorySize());
+        assertEquals(0, modelManager.getUndoHistorySpilledSize());
+        assertEquals(0, modelManager.getUndoHistorySpillCount());
+        assertTrue(modelManager.getUndoHistoryMemoryUsage() > 0);
+    }
+
     @Test
     public void setUserPrefs_nullUserPrefs_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> modelManager.setUserPrefs(null));
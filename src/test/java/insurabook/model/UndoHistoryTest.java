@@ -0,0 +1,129 @@
+package insurabook.model;
+
+import static insurabook.testutil.TypicalClients.ALICE;
+import static insurabook.testutil.TypicalClients.BENSON;
+import static insurabook.testutil.TypicalClients.CARL;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import insurabook.model.claims.Claim;
+import insurabook.model.claims.ClaimAmount;
+import insurabook.model.claims.ClaimMessage;
+import insurabook.model.claims.InsuraDate;
+import insurabook.model.client.Client;
+import insurabook.model.policies.PolicyId;
+import insurabook.model.policytype.PolicyType;
+import insurabook.testutil.PolicyTypeBuilder;
+
+public class UndoHistoryTest {
+
+    private final InsuraBook insuraBook = new InsuraBook();
+
+    @Test
+    public void commit_withinBudget_keepsStepsInMemory() {
+        UndoHistory history = new UndoHistory(insuraBook, UserPrefs.DEFAULT_UNDO_HISTORY_BUDGET);
+
+        insuraBook.addClient(ALICE);
+        history.commit();
+        insuraBook.addClient(BENSON);
+        history.commit();
+
+        assertEquals(2, history.size());
+        assertEquals(0, history.getSpilledSize());
+        assertEquals(0, history.getSpillCount());
+        assertTrue(history.getMemoryUsage() > 0);
+    }
+
+    @Test
+    public void commit_overBudget_spillsAllButLatestStep() {
+        UndoHistory history = new UndoHistory(insuraBook, 0);
+
+        insuraBook.addClient(ALICE);
+        history.commit();
+        insuraBook.addClient(BENSON);
+        history.commit();
+        insuraBook.addClient(CARL);
+        history.commit();
+
+        assertEquals(3, history.size());
+        assertEquals(2, history.getSpilledSize());
+        assertEquals(2, history.getSpillCount());
+    }
+
+    @Test
+    public void undo_spilledSteps_restoresEveryState() {
+        UndoHistory history = new UndoHistory(insuraBook, 0);
+        PolicyType policyType = new PolicyTypeBuilder().build();
+        insuraBook.addPolicyType(policyType);
+        history.commit();
+        insuraBook.addClient(ALICE);
+        history.commit();
+        insuraBook.addPolicy(new PolicyId("P101"), ALICE.getClientId(), policyType.getPtId(),
+                new InsuraDate("2030-01-01"));
+        history.commit();
+        Claim claim = insuraBook.addClaim(ALICE.getClientId(), new PolicyId("P101"), new ClaimAmount("100"),
+                new InsuraDate("2026-01-01"), new ClaimMessage("First claim"));
+        history.commit();
+        Client aliceWithClaim = insuraBook.getClient(ALICE.getClientId());
+        insuraBook.removeClient(aliceWithClaim);
+        history.commit();
+
+        history.undo();
+        assertEquals(List.of(aliceWithClaim), insuraBook.getClientList());
+        assertEquals(claim, insuraBook.getClaim(ALICE.getClientId(), new PolicyId("P101"), claim.getClaimId()));
+
+        history.undo();
+        assertTrue(insuraBook.getClient(ALICE.getClientId()).getPolicies().get(0).getClaims().isEmpty());
+
+        history.undo();
+        assertTrue(insuraBook.getClient(ALICE.getClientId()).getPolicies().isEmpty());
+        assertTrue(insuraBook.getClientPolicyList().isEmpty());
+
+        history.undo();
+        assertTrue(insuraBook.getClientList().isEmpty());
+        assertEquals(List.of(policyType), insuraBook.getPolicyTypeList());
+
+        history.undo();
+        assertTrue(insuraBook.getPolicyTypeList().isEmpty());
+        assertFalse(history.canUndo());
+        assertEquals(0, history.getSpilledSize());
+    }
+
+    @Test
+    public void redo_afterUndoingSpilledSteps_reappliesThem() {
+        UndoHistory history = new UndoHistory(insuraBook, 0);
+        insuraBook.addClient(ALICE);
+        history.commit();
+        insuraBook.addClient(BENSON);
+        history.commit();
+        List<Client> clientsBefore = List.copyOf(insuraBook.getClientList());
+
+        history.undo();
+        history.undo();
+        assertTrue(insuraBook.getClientList().isEmpty());
+
+        history.redo();
+        history.redo();
+        assertEquals(clientsBefore, insuraBook.getClientList());
+        assertEquals(2, history.size());
+        assertFalse(history.canRedo());
+    }
+
+    @Test
+    public void setMemoryBudget_lowered_spillsRightAway() {
+        UndoHistory history = new UndoHistory(insuraBook, UserPrefs.DEFAULT_UNDO_HISTORY_BUDGET);
+        insuraBook.addClient(ALICE);
+        history.commit();
+        insuraBook.addClient(BENSON);
+        history.commit();
+
+        history.setMemoryBudget(0);
+        assertEquals(1, history.getSpilledSize());
+        assertEquals(2, history.size());
+    }
+}
@@ -0,0 +1,69 @@
+package insurabook.model.claims;
+
+import static insurabook.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class ClaimIdTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ClaimId(null));
+    }
+
+    @Test
+    public void constructor_invalidClaimId_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ClaimId("CL0012"));
+    }
+
+    @Test
+    public void isValidClaimId() {
+        // null claim id
+        assertThrows(NullPointerException.class, () -> ClaimId.isValidClaimId(null));
+
+        // invalid claim ids
+        assertFalse(ClaimId.isValidClaimId("")); // empty string
+        assertFalse(ClaimId.isValidClaimId("CL")); // no digits
+        assertFalse(ClaimId.isValidClaimId("CL12")); // less than 3 digits
+        assertFalse(ClaimId.isValidClaimId("cl001")); // lowercase prefix
+        assertFalse(ClaimId.isValidClaimId("C001")); // wrong prefix
+        assertFalse(ClaimId.isValidClaimId("CL0012")); // leading zero past 3 digits
+        assertFalse(ClaimId.isValidClaimId("CL1000000000")); // more than 9 digits
+
+        // valid claim ids
+        assertTrue(ClaimId.isValidClaimId("CL000"));
+        assertTrue(ClaimId.isValidClaimId("CL012")); // leading zeros within 3 digits
+        assertTrue(ClaimId.isValidClaimId("CL1000")); // past CL999
+        assertTrue(ClaimId.isValidClaimId("CL999999999")); // 9 digits
+    }
+
+    @Test
+    public void getNextClaimId_pastThreeDigits_validClaimIds() {
+        UniqueClaimIdCounter counter = new UniqueClaimIdCounter(999);
+        assertEquals(new ClaimId("CL999"), new ClaimId(counter.getNextClaimId()));
+        assertEquals(new ClaimId("CL1000"), new ClaimId(counter.getNextClaimId()));
+    }
+
+    @Test
+    public void equals() {
+        ClaimId claimId = new ClaimId("CL001");
+
+        // same values -> returns true
+        assertTrue(claimId.equals(new ClaimId("CL001")));
+
+        // same object -> returns true
+        assertTrue(claimId.equals(claimId));
+
+        // null -> returns false
+        assertFalse(claimId.equals(null));
+
+        // different types -> returns false
+        assertFalse(claimId.equals(5.0f));
+
+        // different values -> returns false
+        assertFalse(claimId.equals(new ClaimId("CL002")));
+    }
+}
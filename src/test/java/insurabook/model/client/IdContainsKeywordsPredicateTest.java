@@ -0,0 +1,40 @@
+package insurabook.model.client;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import insurabook.testutil.PersonBuilder;
+
+public class IdContainsKeywordsPredicateTest {
+
+    @Test
+    public void test_idMatchesKeywords_returnsTrue() {
+        // Whole id, mixed case
+        IdContainsKeywordsPredicate predicate = new IdContainsKeywordsPredicate(Collections.singletonList("c101"));
+        assertTrue(predicate.test(new PersonBuilder().withClientId("C101").build()));
+
+        // Prefix keyword
+        predicate = new IdContainsKeywordsPredicate(Arrays.asList("999", "c1*"));
+        assertTrue(predicate.test(new PersonBuilder().withClientId("C101").build()));
+
+        // Bare wildcard matches every id
+        predicate = new IdContainsKeywordsPredicate(Collections.singletonList("*"));
+        assertTrue(predicate.test(new PersonBuilder().withClientId("C101").build()));
+    }
+
+    @Test
+    public void test_idDoesNotMatchKeywords_returnsFalse() {
+        // Partial id without wildcard
+        IdContainsKeywordsPredicate predicate = new IdContainsKeywordsPredicate(Collections.singletonList("C1"));
+        assertFalse(predicate.test(new PersonBuilder().withClientId("C101").build()));
+
+        // Prefix that only occurs in the middle of the id
+        predicate = new IdContainsKeywordsPredicate(Collections.singletonList("10*"));
+        assertFalse(predicate.test(new PersonBuilder().withClientId("C101").build()));
+    }
+}
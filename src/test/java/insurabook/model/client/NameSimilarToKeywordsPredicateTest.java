@@ -0,0 +1,58 @@
+package insurabook.model.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import insurabook.testutil.PersonBuilder;
+
+public class NameSimilarToKeywordsPredicateTest {
+
+    @Test
+    public void getTypoAllowance() {
+        assertEquals(0, NameSimilarToKeywordsPredicate.getTypoAllowance("Al"));
+        assertEquals(1, NameSimilarToKeywordsPredicate.getTypoAllowance("Bob"));
+        assertEquals(1, NameSimilarToKeywordsPredicate.getTypoAllowance("Alice"));
+        assertEquals(2, NameSimilarToKeywordsPredicate.getTypoAllowance("Pauline"));
+    }
+
+    @Test
+    public void test_nameWithinTypoAllowance_returnsTrue() {
+        // One typo, mixed case
+        NameSimilarToKeywordsPredicate predicate =
+                new NameSimilarToKeywordsPredicate(Collections.singletonList("aLISE"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+
+        // Two typos in a long keyword
+        predicate = new NameSimilarToKeywordsPredicate(Arrays.asList("Carol", "Powline"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice Pauline").build()));
+    }
+
+    @Test
+    public void test_nameOutsideTypoAllowance_returnsFalse() {
+        // Short keywords must match exactly
+        NameSimilarToKeywordsPredicate predicate = new NameSimilarToKeywordsPredicate(Collections.singletonList("Al"));
+        assertFalse(predicate.test(new PersonBuilder().withName("Ali Bob").build()));
+
+        // Two typos in a short keyword
+        predicate = new NameSimilarToKeywordsPredicate(Collections.singletonList("Alyse"));
+        assertFalse(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+    }
+
+    @Test
+    public void equals() {
+        NameSimilarToKeywordsPredicate firstPredicate =
+                new NameSimilarToKeywordsPredicate(Collections.singletonList("first"));
+
+        assertTrue(firstPredicate.equals(firstPredicate));
+        assertTrue(firstPredicate.equals(new NameSimilarToKeywordsPredicate(Collections.singletonList("first"))));
+        assertFalse(firstPredicate.equals(new NameContainsKeywordsPredicate(Collections.singletonList("first"))));
+        assertFalse(firstPredicate.equals(null));
+        assertFalse(firstPredicate.equals(new NameSimilarToKeywordsPredicate(Arrays.asList("first", "second"))));
+    }
+}
@@ -7,9 +7,12 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.MonthDay;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
@@ -158,6 +161,41 @@ public class UniqueClientListTest {
         assertThrows(ClientDuplicateException.class, () -> uniqueClientList.setClients(listWithDuplicateClients));
     }
 
+    @Test
+    public void getClient_clientInList_returnsClient() {
+        uniqueClientList.add(ALICE);
+        assertEquals(ALICE, uniqueClientList.getClient(ALICE.getClientId()));
+    }
+
+    @Test
+    public void getClient_clientNotInList_throwsClientMissingException() {
+        assertThrows(ClientMissingException.class, () -> uniqueClientList.getClient(ALICE.getClientId()));
+    }
+
+    @Test
+    public void getClient_afterSetClientWithDifferentIdentity_returnsEditedClient() {
+        uniqueClientList.add(ALICE);
+        uniqueClientList.setClient(ALICE, BOB);
+        assertEquals(BOB, uniqueClientList.getClient(BOB.getClientId()));
+        assertThrows(ClientMissingException.class, () -> uniqueClientList.getClient(ALICE.getClientId()));
+    }
+
+    @Test
+    public void getClient_afterRemove_throwsClientMissingException() {
+        uniqueClientList.add(ALICE);
+        uniqueClientList.remove(ALICE);
+        assertFalse(uniqueClientList.contains(ALICE));
+        assertThrows(ClientMissingException.class, () -> uniqueClientList.getClient(ALICE.getClientId()));
+    }
+
+    @Test
+    public void getClient_afterSetClients_usesReplacementClients() {
+        uniqueClientList.add(ALICE);
+        uniqueClientList.setClients(Collections.singletonList(BOB));
+        assertFalse(uniqueClientList.contains(ALICE));
+        assertEquals(BOB, uniqueClientList.getClient(BOB.getClientId()));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -168,4 +206,90 @@ public class UniqueClientListTest {
     public void toStringMethod() {
         assertEquals(uniqueClientList.asUnmodifiableObservableList().toString(), uniqueClientList.toString());
     }
+
+    @Test
+    public void getClientsWithBirthday_afterSetClient_usesEditedBirthday() {
+        Client alice = new PersonBuilder(ALICE).withBirthday("2001-03-15").build();
+        Client editedAlice = new PersonBuilder(ALICE).withBirthday("1999-07-04").build();
+        uniqueClientList.add(alice);
+        uniqueClientList.setClient(alice, editedAlice);
+
+        assertEquals(List.of(), uniqueClientList.getClientsWithBirthday(MonthDay.of(3, 15)));
+        assertEquals(List.of(editedAlice), uniqueClientList.getClientsWithBirthday(MonthDay.of(7, 4)));
+    }
+
+    @Test
+    public void getClientsWithBirthdayBetween_rangeAcrossNewYear_returnsClientsInCalendarOrder() {
+        Client december = new PersonBuilder(ALICE).withBirthday("1990-12-30").build();
+        Client leapDay = new PersonBuilder(BOB).withBirthday("2000-02-29").build();
+        Client january = new PersonBuilder().withClientId("77").withBirthday("1985-01-02").build();
+        uniqueClientList.setClients(List.of(january, leapDay, december));
+
+        assertEquals(List.of(december, january), uniqueClientList.getClientsWithBirthdayBetween(
+                MonthDay.of(12, 25), MonthDay.of(1, 5)));
+        assertEquals(List.of(leapDay), uniqueClientList.getClientsWithBirthdayBetween(
+                MonthDay.of(2, 28), MonthDay.of(3, 1)));
+        assertEquals(List.of(leapDay, december, january), uniqueClientList.getClientsWithBirthdayBetween(
+                MonthDay.of(2, 29), MonthDay.of(2, 28)));
+    }
+
+    @Test
+    public void getClientsWithBirthday_afterRemove_returnsEmptyList() {
+        uniqueClientList.add(ALICE);
+        uniqueClientList.remove(ALICE);
+        assertEquals(List.of(), uniqueClientList.getClientsWithBirthday(ALICE.getBirthday().getMonthDay()));
+    }
+
+    @Test
+    public void getClientIdsWithNameWords_keywordsInAnyCase_returnsUnionOfMatches() {
+        uniqueClientList.setClients(List.of(ALICE, BOB));
+        assertEquals(Set.of(ALICE.getClientId(), BOB.getClientId()),
+                uniqueClientList.getClientIdsWithNameWords(List.of("aLiCe", "BOB")));
+        assertEquals(Set.of(), uniqueClientList.getClientIdsWithNameWords(List.of("Ali", "")));
+    }
+
+    @Test
+    public void getClientIdsWithNameWords_afterSetClientAndRemove_usesCurrentNames() {
+        Client editedAlice = new PersonBuilder(ALICE).withName("Alicia Keys").build();
+        uniqueClientList.add(ALICE);
+        uniqueClientList.setClient(ALICE, editedAlice);
+        assertEquals(Set.of(), uniqueClientList.getClientIdsWithNameWords(List.of("Pauline")));
+        assertEquals(Set.of(ALICE.getClientId()), uniqueClientList.getClientIdsWithNameWords(List.of("keys")));
+
+        uniqueClientList.remove(editedAlice);
+        assertEquals(Set.of(), uniqueClientList.getClientIdsWithNameWords(List.of("keys")));
+    }
+
+    @Test
+    public void getClientIdsWithIdKeywords_wholeAndPrefixKeywords_returnsMatchingIds() {
+        Client c101 = new PersonBuilder().withClientId("C101").build();
+        Client c12 = new PersonBuilder().withClientId("c12").build();
+        Client ac1 = new PersonBuilder().withClientId("AC1").build();
+        uniqueClientList.setClients(List.of(c101, c12, ac1));
+
+        assertEquals(Set.of(c101.getClientId()), uniqueClientList.getClientIdsWithIdKeywords(List.of("c101", "C1")));
+        assertEquals(Set.of(c101.getClientId(), c12.getClientId()),
+                uniqueClientList.getClientIdsWithIdKeywords(List.of("C1*")));
+        assertEquals(Set.of(), uniqueClientList.getClientIdsWithIdKeywords(List.of("C13*")));
+
+        uniqueClientList.remove(c12);
+        assertEquals(Set.of(c101.getClientId()), uniqueClientList.getClientIdsWithIdKeywords(List.of("c1*")));
+    }
+
+    @Test
+    public void getClientIdsWithSimilarNameWords_misspeltKeywords_returnsSmallestDistances() {
+        Client alice = new PersonBuilder(ALICE).withName("Alice Pauline").build();
+        Client alicia = new PersonBuilder(BOB).withName("Alicia Paulina").build();
+        uniqueClientList.setClients(List.of(alice, alicia));
+
+        assertEquals(Map.of(alice.getClientId(), 1),
+                uniqueClientList.getClientIdsWithSimilarNameWords(List.of("alise")));
+        assertEquals(Map.of(alice.getClientId(), 0, alicia.getClientId(), 1),
+                uniqueClientList.getClientIdsWithSimilarNameWords(List.of("PAULINE")));
+        assertEquals(Map.of(), uniqueClientList.getClientIdsWithSimilarNameWords(List.of("Al", " ")));
+
+        uniqueClientList.remove(alice);
+        assertEquals(Map.of(alicia.getClientId(), 1), uniqueClientList.getClientIdsWithSimilarNameWords(
+                List.of("Pauline")));
+    }
 }
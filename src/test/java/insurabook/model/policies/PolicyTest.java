@@ -0,0 +1,67 @@
+package insurabook.model.policies;
+
+import static insurabook.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import insurabook.model.claims.Claim;
+import insurabook.model.claims.ClaimAmount;
+import insurabook.model.claims.ClaimId;
+import insurabook.model.claims.ClaimMessage;
+import insurabook.model.claims.InsuraDate;
+import insurabook.model.claims.exceptions.ClaimNotFoundException;
+import insurabook.model.claims.exceptions.DuplicateClaimException;
+import insurabook.model.client.ClientId;
+import insurabook.model.policytype.PolicyTypeId;
+
+public class PolicyTest {
+
+    private static final ClientId CLIENT = new ClientId("A1");
+    private static final PolicyId POLICY_ID = new PolicyId("P1");
+
+    private static Claim claim(String claimId) {
+        return new Claim(new ClaimId(claimId), CLIENT, POLICY_ID, new ClaimAmount("10"),
+                new InsuraDate("2026-01-01"), new ClaimMessage("Claim " + claimId));
+    }
+
+    private static Policy policyWith(Claim... claims) {
+        return new Policy(POLICY_ID, CLIENT, new PolicyTypeId("X1"), new InsuraDate("2030-01-01"), List.of(claims));
+    }
+
+    @Test
+    public void getClaims_viewOfClaims_unmodifiable() {
+        Policy policy = policyWith(claim("CL001"));
+        Collection<Claim> claims = policy.getClaims();
+        policy.addClaim(claim("CL002"));
+        assertEquals(List.of(claim("CL001"), claim("CL002")), List.copyOf(claims));
+        assertThrows(UnsupportedOperationException.class, () -> claims.add(claim("CL003")));
+    }
+
+    @Test
+    public void setClaim_changedId_keepsPosition() {
+        Policy policy = policyWith(claim("CL001"), claim("CL002"), claim("CL003"));
+        policy.setClaim(claim("CL002"), claim("CL009"));
+        assertEquals(List.of(claim("CL001"), claim("CL009"), claim("CL003")), List.copyOf(policy.getClaims()));
+        assertEquals(claim("CL009"), policy.getClaim(new ClaimId("CL009")));
+        assertThrows(ClaimNotFoundException.class, () -> policy.getClaim(new ClaimId("CL002")));
+    }
+
+    @Test
+    public void setClaim_idOfAnotherClaim_throwsDuplicateClaimException() {
+        Policy policy = policyWith(claim("CL001"), claim("CL002"));
+        assertThrows(DuplicateClaimException.class, () -> policy.setClaim(claim("CL001"), claim("CL002")));
+        assertEquals(List.of(claim("CL001"), claim("CL002")), List.copyOf(policy.getClaims()));
+    }
+
+    @Test
+    public void removeClaim_keepsOrderOfOthers() {
+        Policy policy = policyWith(claim("CL001"), claim("CL002"), claim("CL003"));
+        assertEquals(claim("CL002"), policy.removeClaim(new ClaimId("CL002")));
+        assertEquals(List.of(claim("CL001"), claim("CL003")), List.copyOf(policy.getClaims()));
+        assertThrows(ClaimNotFoundException.class, () -> policy.removeClaim(new ClaimId("CL002")));
+    }
+}
@@ -0,0 +1,166 @@
+package insurabook.model.policies;
+
+import static insurabook.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import insurabook.model.claims.InsuraDate;
+import insurabook.model.client.ClientId;
+import insurabook.model.policies.exceptions.DuplicatePolicyException;
+import insurabook.model.policies.exceptions.PolicyNotFoundException;
+import insurabook.model.policytype.PolicyType;
+import insurabook.model.policytype.PolicyTypeId;
+import insurabook.model.policytype.PolicyTypeName;
+
+public class UniquePolicyListTest {
+
+    private static final ClientId CLIENT_A = new ClientId("A1");
+    private static final ClientId CLIENT_B = new ClientId("B2");
+    private static final PolicyTypeId TYPE_X = new PolicyTypeId("X1");
+    private static final PolicyTypeId TYPE_Y = new PolicyTypeId("Y1");
+    private static final InsuraDate EXPIRY = new InsuraDate("2030-01-01");
+
+    private final UniquePolicyList uniquePolicyList = new UniquePolicyList();
+
+    private static Policy policy(String policyId, ClientId clientId, PolicyTypeId policyTypeId) {
+        return new Policy(new PolicyId(policyId), clientId, policyTypeId, EXPIRY);
+    }
+
+    @Test
+    public void contains_samePolicyIdSameClient_returnsTrue() {
+        uniquePolicyList.add(policy("P1", CLIENT_A, TYPE_X));
+        assertTrue(uniquePolicyList.contains(policy("P1", CLIENT_A, TYPE_Y)));
+    }
+
+    @Test
+    public void contains_samePolicyTypeSameClient_returnsTrue() {
+        uniquePolicyList.add(policy("P1", CLIENT_A, TYPE_X));
+        assertTrue(uniquePolicyList.contains(policy("P2", CLIENT_A, TYPE_X)));
+    }
+
+    @Test
+    public void contains_sameIdsDifferentClient_returnsFalse() {
+        uniquePolicyList.add(policy("P1", CLIENT_A, TYPE_X));
+        assertFalse(uniquePolicyList.contains(policy("P1", CLIENT_B, TYPE_X)));
+    }
+
+    @Test
+    public void constructor_duplicateLastPolicy_throwsDuplicatePolicyException() {
+        List<Policy> policies = List.of(policy("P1", CLIENT_A, TYPE_X), policy("P2", CLIENT_B, TYPE_X),
+                policy("P1", CLIENT_A, TYPE_Y));
+        assertThrows(DuplicatePolicyException.class, () -> new UniquePolicyList(policies));
+    }
+
+    @Test
+    public void add_duplicatePolicy_throwsDuplicatePolicyException() {
+        uniquePolicyList.add(policy("P1", CLIENT_A, TYPE_X));
+        assertThrows(DuplicatePolicyException.class, () -> uniquePolicyList.add(policy("P2", CLIENT_A, TYPE_X)));
+    }
+
+    @Test
+    public void getPolicy_afterRemove_throwsPolicyNotFoundException() {
+        Policy p1 = policy("P1", CLIENT_A, TYPE_X);
+        uniquePolicyList.add(p1);
+        uniquePolicyList.remove(p1);
+        assertThrows(PolicyNotFoundException.class, () -> uniquePolicyList.getPolicy(new PolicyId("P1")));
+        assertFalse(uniquePolicyList.contains(p1));
+    }
+
+    @Test
+    public void remove_samePolicyIdDifferentClients_removesOnlyMatchingClient() {
+        Policy ofA = policy("P1", CLIENT_A, TYPE_X);
+        Policy ofB = policy("P1", CLIENT_B, TYPE_X);
+        uniquePolicyList.add(ofA);
+        uniquePolicyList.add(ofB);
+        uniquePolicyList.remove(policy("P1", CLIENT_B, TYPE_X));
+        assertEquals(List.of(ofA), uniquePolicyList.getPolicies(TYPE_X));
+        assertEquals(List.of(), uniquePolicyList.getPolicies(CLIENT_B));
+    }
+
+    @Test
+    public void getPolicies_byClientId_returnsOnlyClientPolicies() {
+        Policy p1 = policy("P1", CLIENT_A, TYPE_X);
+        Policy p2 = policy("P2", CLIENT_A, TYPE_Y);
+        uniquePolicyList.add(p1);
+        uniquePolicyList.add(policy("P3", CLIENT_B, TYPE_X));
+        uniquePolicyList.add(p2);
+        assertEquals(List.of(p1, p2), uniquePolicyList.getPolicies(CLIENT_A));
+    }
+
+    @Test
+    public void setPolicy_indexesEditedPolicy() {
+        Policy p1 = policy("P1", CLIENT_A, TYPE_X);
+        uniquePolicyList.add(p1);
+        Policy edited = policy("P1", CLIENT_A, TYPE_Y);
+        uniquePolicyList.setPolicy(p1, edited);
+        assertEquals(List.of(), uniquePolicyList.getPolicies(TYPE_X));
+        assertEquals(List.of(edited), uniquePolicyList.getPolicies(TYPE_Y));
+        assertEquals(List.of(edited), uniquePolicyList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setPolicyType_replacesOnlyPoliciesOfTargetType() {
+        uniquePolicyList.add(policy("P1", CLIENT_A, TYPE_X));
+        uniquePolicyList.add(policy("P2", CLIENT_A, TYPE_Y));
+        uniquePolicyList.add(policy("P3", CLIENT_B, TYPE_X));
+        PolicyTypeId typeZ = new PolicyTypeId("Z1");
+        uniquePolicyList.setPolicyType(new PolicyType(new PolicyTypeName("Xcover"), TYPE_X),
+                new PolicyType(new PolicyTypeName("Zcover"), typeZ));
+
+        assertEquals(List.of(), uniquePolicyList.getPolicies(TYPE_X));
+        assertEquals(2, uniquePolicyList.getPolicies(typeZ).size());
+        assertEquals(typeZ, uniquePolicyList.asUnmodifiableObservableList().get(0).getPolicyTypeId());
+        assertEquals(TYPE_Y, uniquePolicyList.asUnmodifiableObservableList().get(1).getPolicyTypeId());
+        assertEquals(typeZ, uniquePolicyList.asUnmodifiableObservableList().get(2).getPolicyTypeId());
+    }
+
+    @Test
+    public void refreshPolicy_replacesPolicyInPlace() {
+        Policy p1 = policy("P1", CLIENT_A, TYPE_X);
+        Policy p2 = policy("P2", CLIENT_B, TYPE_X);
+        Policy p3 = policy("P3", CLIENT_B, TYPE_Y);
+        uniquePolicyList.add(p1);
+        uniquePolicyList.add(p2);
+        uniquePolicyList.add(p3);
+        Policy refreshed = new Policy(p2);
+        uniquePolicyList.refreshPolicy(refreshed);
+        assertEquals(List.of(p1, refreshed, p3), uniquePolicyList.asUnmodifiableObservableList());
+        assertSame(refreshed, uniquePolicyList.asUnmodifiableObservableList().get(1));
+        uniquePolicyList.remove(p1);
+        uniquePolicyList.remove(p3);
+        assertEquals(List.of(refreshed), uniquePolicyList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void getPoliciesExpiringBetween_inclusiveRange_returnsPoliciesByExpiryDate() {
+        Policy early = new Policy(new PolicyId("P1"), CLIENT_A, TYPE_X, new InsuraDate("2030-01-01"));
+        Policy late = new Policy(new PolicyId("P2"), CLIENT_A, TYPE_Y, new InsuraDate("2030-03-01"));
+        Policy outside = new Policy(new PolicyId("P3"), CLIENT_B, TYPE_X, new InsuraDate("2030-03-02"));
+        uniquePolicyList.add(outside);
+        uniquePolicyList.add(late);
+        uniquePolicyList.add(early);
+
+        assertEquals(List.of(early, late), uniquePolicyList.getPoliciesExpiringBetween(
+                new InsuraDate("2030-01-01"), new InsuraDate("2030-03-01")));
+        assertEquals(List.of(), uniquePolicyList.getPoliciesExpiringBetween(
+                new InsuraDate("2030-03-01"), new InsuraDate("2030-01-01")));
+    }
+
+    @Test
+    public void getPoliciesExpiringBetween_afterSetPolicy_usesNewExpiryDate() {
+        Policy original = policy("P1", CLIENT_A, TYPE_X);
+        Policy renewed = new Policy(new PolicyId("P1"), CLIENT_A, TYPE_X, new InsuraDate("2031-01-01"));
+        uniquePolicyList.add(original);
+        uniquePolicyList.setPolicy(original, renewed);
+
+        assertEquals(List.of(), uniquePolicyList.getPoliciesExpiringBetween(EXPIRY, EXPIRY));
+        assertEquals(List.of(renewed), uniquePolicyList.getPoliciesExpiringBetween(
+                EXPIRY, new InsuraDate("2031-01-01")));
+    }
+}
@@ -70,6 +70,17 @@ public class UniquePolicyTypeListTest {
         assertEquals(List.of(1, 2), policyTypes.remove(SING_TWO.getPtName(), AIA_ONE.getPtId()));
     }
 
+    @Test
+    public void removeNameId_afterRemoveIndex_returnsShiftedIndexList() throws IllegalValueException {
+        policyTypes.setPolicyTypes(List.of(SING_ONE, SING_TWO, AIA_ONE, FWD_ONE));
+
+        policyTypes.add(PRU_ONE);
+        policyTypes.remove(1);
+
+        assertFalse(policyTypes.containsId(SING_TWO.getPtId()));
+        assertEquals(List.of(2, 3), policyTypes.remove(FWD_ONE.getPtName(), PRU_ONE.getPtId()));
+    }
+
     @Test
     public void removeNameId_noneMatch_throwsPolicyTypeMissing() {
         policyTypes.setPolicyTypes(List.of(SING_ONE, SING_TWO, AIA_ONE, FWD_ONE));
@@ -87,6 +98,16 @@ public class UniquePolicyTypeListTest {
         assertThrows(NullPointerException.class, () -> policyTypes.setPolicyTypes(nullList));
     }
 
+    @Test
+    public void setPolicyTypes_duplicateId_throwsPolicyTypeDuplicate() {
+        PolicyType sameIdSingTwo = new PolicyTypeBuilder(SING_TWO)
+                .withName("Modified Name")
+                .build();
+
+        assertThrows(PolicyTypeDuplicateException.class, () ->
+                policyTypes.setPolicyTypes(List.of(SING_ONE, SING_TWO, sameIdSingTwo)));
+    }
+
     @Test
     public void setPolicyType_null_throwsNullPointer() {
         assertThrows(NullPointerException.class, () -> policyTypes.setPolicyType(null, SING_TWO));
@@ -115,6 +136,18 @@ public class UniquePolicyTypeListTest {
         assertThrows(PolicyTypeDuplicateException.class, () -> policyTypes.setPolicyType(SING_ONE, sameNameSingTwo));
     }
 
+    @Test
+    public void setPolicyType_sameIdOtherName_throwsPolicyTypeDuplicate() {
+        policyTypes.setPolicyTypes(List.of(SING_ONE, SING_TWO));
+
+        PolicyType singOneWithSingTwoName = new PolicyTypeBuilder(SING_ONE)
+                .withName(SING_TWO.getPtName().toString())
+                .build();
+
+        assertThrows(PolicyTypeDuplicateException.class, () ->
+                policyTypes.setPolicyType(SING_ONE, singOneWithSingTwoName));
+    }
+
     @Test
     public void setPolicyType_valid_successfulChange() {
         policyTypes.setPolicyTypes(List.of(SING_ONE, SING_TWO, AIA_ONE));
@@ -131,6 +164,8 @@ public class UniquePolicyTypeListTest {
 
         policyTypes.setPolicyType(sameIdSingTwo, sameNameSingTwo);
         assertTrue(policyTypes.containsId(sameNameSingTwo.getPtId()));
+        assertFalse(policyTypes.containsName(sameIdSingTwo.getPtName()));
+        assertFalse(policyTypes.containsId(SING_TWO.getPtId()));
     }
 
     @Test
@@ -0,0 +1,77 @@
+package insurabook.model.util;
+
+import static insurabook.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentListTest {
+
+    @Test
+    public void of_elements_keepsOrder() {
+        List<Integer> elements = IntStream.range(0, 100).boxed().toList();
+        PersistentList<Integer> list = PersistentList.of(elements);
+        assertEquals(elements, list.toList());
+        assertEquals(100, list.size());
+        assertEquals(Integer.valueOf(42), list.get(42));
+    }
+
+    @Test
+    public void of_nullElement_throwsNullPointerException() {
+        List<Integer> elements = new ArrayList<>();
+        elements.add(null);
+        assertThrows(NullPointerException.class, () -> PersistentList.of(elements));
+    }
+
+    @Test
+    public void get_indexOutOfBounds_throwsIndexOutOfBoundsException() {
+        assertThrows(IndexOutOfBoundsException.class, () -> PersistentList.empty().get(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> PersistentList.of(List.of(1)).get(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> PersistentList.of(List.of(1)).add(2, 2));
+    }
+
+    @Test
+    public void updates_leaveEarlierVersionsUnchanged() {
+        PersistentList<String> original = PersistentList.of(List.of("a", "b", "c"));
+
+        PersistentList<String> edited = original.set(1, "B").add("d").remove(0);
+
+        assertEquals(List.of("a", "b", "c"), original.toList());
+        assertEquals(List.of("B", "c", "d"), edited.toList());
+        assertTrue(PersistentList.empty().isEmpty());
+    }
+
+    @Test
+    public void randomUpdates_matchArrayList() {
+        Random random = new Random(2103);
+        List<Integer> expected = new ArrayList<>(IntStream.range(0, 50).boxed().toList());
+        PersistentList<Integer> actual = PersistentList.of(expected);
+
+        for (int i = 0; i < 2000; i++) {
+            int operation = random.nextInt(4);
+            if (operation == 0 || expected.isEmpty()) {
+                expected.add(i);
+                actual = actual.add(i);
+            } else if (operation == 1) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                actual = actual.add(index, i);
+            } else if (operation == 2) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, -i);
+                actual = actual.set(index, -i);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                actual = actual.remove(index);
+            }
+        }
+        assertEquals(expected, actual.toList());
+    }
+}
@@ -0,0 +1,95 @@
+package insurabook.model.util;
+
+import static insurabook.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+public class PositionIndexTest {
+
+    @Test
+    public void setAll_elements_positionsInOrder() {
+        PositionIndex<String> index = PositionIndex.byEquality();
+        index.setAll(List.of("a", "b", "c"));
+        assertEquals(3, index.size());
+        assertEquals(0, index.positionOf("a"));
+        assertEquals(2, index.positionOf("c"));
+        assertEquals(-1, index.positionOf("d"));
+    }
+
+    @Test
+    public void replace_keepsPosition() {
+        PositionIndex<String> index = PositionIndex.byEquality();
+        index.setAll(List.of("a", "b", "c"));
+        index.replace("b", "B");
+        assertFalse(index.contains("b"));
+        assertEquals(1, index.positionOf("B"));
+        assertEquals(-1, index.remove("b"));
+    }
+
+    @Test
+    public void byIdentity_equalElements_trackedSeparately() {
+        PositionIndex<String> index = PositionIndex.byIdentity();
+        String first = new String("a");
+        String second = new String("a");
+        index.add(first);
+        index.add(second);
+        assertEquals(1, index.positionOf(second));
+        assertEquals(0, index.remove(first));
+        assertTrue(index.contains(second));
+        assertEquals(0, index.positionOf(second));
+    }
+
+    @Test
+    public void add_positionOutOfBounds_throwsIndexOutOfBoundsException() {
+        assertThrows(IndexOutOfBoundsException.class, () -> PositionIndex.byEquality().add(1, "a"));
+    }
+
+    @Test
+    public void get_positionOutOfBounds_throwsIndexOutOfBoundsException() {
+        PositionIndex<String> index = PositionIndex.byEquality();
+        index.setAll(List.of("a", "b"));
+        assertEquals("b", index.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> index.get(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> index.get(-1));
+    }
+
+    @Test
+    public void randomUpdates_matchArrayList() {
+        Random random = new Random(2103);
+        List<Integer> expected = new ArrayList<>(IntStream.range(0, 50).boxed().toList());
+        PositionIndex<Integer> actual = PositionIndex.byEquality();
+        actual.setAll(expected);
+
+        for (int i = 50; i < 2050; i++) {
+            int operation = random.nextInt(4);
+            if (operation == 0 || expected.isEmpty()) {
+                expected.add(i);
+                actual.add(i);
+            } else if (operation == 1) {
+                int position = random.nextInt(expected.size() + 1);
+                expected.add(position, i);
+                actual.add(position, i);
+            } else if (operation == 2) {
+                int position = random.nextInt(expected.size());
+                actual.replace(expected.set(position, i), i);
+            } else {
+                Integer removed = expected.get(random.nextInt(expected.size()));
+                assertEquals(expected.indexOf(removed), actual.remove(removed));
+                expected.remove(removed);
+            }
+        }
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(i, actual.positionOf(expected.get(i)));
+            assertEquals(expected.get(i), actual.get(i));
+        }
+    }
+}
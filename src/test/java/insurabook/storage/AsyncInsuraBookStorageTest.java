@@ -0,0 +1,163 @@
+package insurabook.storage;
+
+import static insurabook.testutil.Assert.assertThrows;
+import static insurabook.testutil.TypicalClients.ALICE;
+import static insurabook.testutil.TypicalClients.BENSON;
+import static insurabook.testutil.TypicalClients.CARL;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import insurabook.model.InsuraBook;
+import insurabook.model.ReadOnlyInsuraBook;
+
+public class AsyncInsuraBookStorageTest {
+
+    private static final long LONG_DELAY_MILLIS = 60_000;
+
+    private final InsuraBook insuraBook = new InsuraBook();
+    private final InsuraBookStorageStub stub = new InsuraBookStorageStub();
+
+    @Test
+    public void saveInsuraBookChanges_burst_coalescedIntoOneWrite() throws Exception {
+        AsyncInsuraBookStorage storage = new AsyncInsuraBookStorage(stub, LONG_DELAY_MILLIS, LONG_DELAY_MILLIS);
+
+        insuraBook.addClient(ALICE);
+        storage.saveInsuraBookChanges(insuraBook, insuraBook.takeUnsavedChanges());
+        insuraBook.addClient(BENSON);
+        storage.saveInsuraBookChanges(insuraBook, insuraBook.takeUnsavedChanges());
+        assertEquals(0, stub.saves.size());
+
+        storage.flushInsuraBook();
+        assertEquals(List.of(2), stub.saves);
+        assertEquals(List.of(ALICE, BENSON), stub.lastSaved.getClientList());
+
+        // nothing left to write
+        storage.flushInsuraBook();
+        assertEquals(1, stub.saves.size());
+    }
+
+    @Test
+    public void saveInsuraBookChanges_bookChangedAfterwards_savesBookAsItWas() throws Exception {
+        AsyncInsuraBookStorage storage = new AsyncInsuraBookStorage(stub, LONG_DELAY_MILLIS, LONG_DELAY_MILLIS);
+
+        insuraBook.addClient(ALICE);
+        storage.saveInsuraBookChanges(insuraBook, insuraBook.takeUnsavedChanges());
+        insuraBook.addClient(BENSON);
+
+        storage.flushInsuraBook();
+        assertEquals(List.of(ALICE), stub.lastSaved.getClientList());
+    }
+
+    @Test
+    public void saveInsuraBookChanges_withoutFlush_writtenAfterDelay() throws Exception {
+        AsyncInsuraBookStorage storage = new AsyncInsuraBookStorage(stub, 10, 20);
+
+        insuraBook.addClient(ALICE);
+        storage.saveInsuraBookChanges(insuraBook, insuraBook.takeUnsavedChanges());
+
+        assertTrue(stub.written.await(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void saveInsuraBookChanges_writeFails_reportsFailureAndSavesInFullLater() throws Exception {
+        AsyncInsuraBookStorage storage = new AsyncInsuraBookStorage(stub, 10, 20);
+        List<IOException> failures = new ArrayList<>();
+        CountDownLatch reported = new CountDownLatch(1);
+        storage.setSaveFailureHandler(e -> {
+            failures.add(e);
+            reported.countDown();
+        });
+        stub.failuresLeft = 1;
+
+        insuraBook.addClient(ALICE);
+        storage.saveInsuraBookChanges(insuraBook, insuraBook.takeUnsavedChanges());
+        assertTrue(reported.await(10, TimeUnit.SECONDS));
+        assertEquals("dummy IO exception", failures.get(0).getMessage());
+
+        storage.flushInsuraBook();
+        assertEquals(List.of(InsuraBookStorageStub.FULL_SAVE), stub.saves);
+        assertEquals(List.of(ALICE), stub.lastSaved.getClientList());
+    }
+
+    @Test
+    public void flushInsuraBook_writeFails_throwsIoException() {
+        AsyncInsuraBookStorage storage = new AsyncInsuraBookStorage(stub, LONG_DELAY_MILLIS, LONG_DELAY_MILLIS);
+        stub.failuresLeft = 1;
+
+        insuraBook.addClient(CARL);
+        assertThrows(IOException.class, () -> {
+            storage.saveInsuraBookChanges(insuraBook, insuraBook.takeUnsavedChanges());
+            storage.flushInsuraBook();
+        });
+    }
+
+    /**
+     * An {@code InsuraBookStorage} that records what it was asked to save.
+     */
+    private static class InsuraBookStorageStub implements InsuraBookStorage {
+        static final int FULL_SAVE = -1;
+
+        // number of changes in each save, or FULL_SAVE
+        private final List<Integer> saves = new ArrayList<>();
+        private final CountDownLatch written = new CountDownLatch(1);
+        private volatile ReadOnlyInsuraBook lastSaved;
+        private volatile int failuresLeft;
+
+        @Override
+        public Path getInsuraBookFilePath() {
+            return Paths.get("data", "stub.json");
+        }
+
+        @Override
+        public Optional<ReadOnlyInsuraBook> readInsuraBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<ReadOnlyInsuraBook> readInsuraBook(Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void saveInsuraBook(ReadOnlyInsuraBook insuraBook) throws IOException {
+            record(insuraBook, FULL_SAVE);
+        }
+
+        @Override
+        public void saveInsuraBook(ReadOnlyInsuraBook insuraBook, Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void saveInsuraBookChanges(ReadOnlyInsuraBook insuraBook, List<InsuraBook.Change> changes)
+                throws IOException {
+            record(insuraBook, changes.size());
+        }
+
+        @Override
+        public void backupInsuraBookFile() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        private void record(ReadOnlyInsuraBook insuraBook, int changeCount) throws IOException {
+            if (failuresLeft > 0) {
+                failuresLeft--;
+                throw new IOException("dummy IO exception");
+            }
+            saves.add(changeCount);
+            lastSaved = insuraBook;
+            written.countDown();
+        }
+    }
+}
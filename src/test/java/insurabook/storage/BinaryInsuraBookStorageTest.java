@@ -0,0 +1,128 @@
+package insurabook.storage;
+
+import static insurabook.testutil.Assert.assertThrows;
+import static insurabook.testutil.TypicalClaims.ALICE_POLICY_ID;
+import static insurabook.testutil.TypicalClaims.getTypicalInsuraBookWithClaims;
+import static insurabook.testutil.TypicalClients.ALICE;
+import static insurabook.testutil.TypicalClients.getTypicalInsuraBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import insurabook.commons.exceptions.DataLoadingException;
+import insurabook.model.InsuraBook;
+import insurabook.model.ReadOnlyInsuraBook;
+import insurabook.model.claims.Claim;
+import insurabook.model.claims.ClaimAmount;
+import insurabook.model.claims.ClaimId;
+import insurabook.model.claims.ClaimMessage;
+import insurabook.model.claims.InsuraDate;
+import insurabook.model.client.Client;
+import insurabook.model.policies.Policy;
+import insurabook.model.policies.PolicyId;
+import insurabook.model.policytype.PolicyType;
+import insurabook.testutil.PersonBuilder;
+import insurabook.testutil.PolicyTypeBuilder;
+
+public class BinaryInsuraBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getBinaryFilePath() {
+        assertEquals(Paths.get("data", "insurabook.bin"),
+                BinaryInsuraBookStorage.getBinaryFilePath(Paths.get("data", "insurabook.json")));
+        assertEquals(Paths.get("insurabook.bin"), BinaryInsuraBookStorage.getBinaryFilePath(Paths.get("insurabook")));
+    }
+
+    @Test
+    public void readInsuraBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryInsuraBookStorage(testFolder.resolve("missing.bin")).readInsuraBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveInsuraBook_roundTripThroughJson_sameJson() throws Exception {
+        InsuraBook original = getBookWithClaims();
+        Path jsonPath = testFolder.resolve("insurabook.json");
+        Path binaryPath = testFolder.resolve("insurabook.bin");
+        new JsonInsuraBookStorage(jsonPath).saveInsuraBook(original);
+        String json = Files.readString(jsonPath);
+
+        // json -> binary -> json
+        ReadOnlyInsuraBook fromJson = new JsonInsuraBookStorage(jsonPath).readInsuraBook().get();
+        BinaryInsuraBookStorage binaryStorage = new BinaryInsuraBookStorage(binaryPath);
+        binaryStorage.saveInsuraBook(fromJson);
+        ReadOnlyInsuraBook fromBinary = binaryStorage.readInsuraBook().get();
+        new JsonInsuraBookStorage(jsonPath).saveInsuraBook(fromBinary);
+
+        assertEquals(json, Files.readString(jsonPath));
+        assertEquals(original, new InsuraBook(fromBinary));
+    }
+
+    @Test
+    public void readAndSaveInsuraBook_claimIdsOfAnyWidth_success() throws Exception {
+        InsuraBook original = getTypicalInsuraBook();
+        PolicyType policyType = new PolicyTypeBuilder().build();
+        original.addPolicyType(policyType);
+        Client client = new PersonBuilder().withClientId("X1").build();
+        PolicyId policyId = new PolicyId("P101");
+        client.addPolicy(new Policy(policyId, client.getClientId(), policyType.getPtId(),
+                new InsuraDate("2030-01-01")));
+        for (String claimId : new String[] {"CL007", "CL1000", "CL123456789"}) {
+            client.addClaim(new Claim(new ClaimId(claimId), client.getClientId(), policyId, new ClaimAmount("10"),
+                    new InsuraDate("2026-01-01"), new ClaimMessage("Claim " + claimId)));
+        }
+        original.addClient(client);
+
+        BinaryInsuraBookStorage storage = new BinaryInsuraBookStorage(testFolder.resolve("insurabook.bin"));
+        storage.saveInsuraBook(original);
+        InsuraBook read = new InsuraBook(storage.readInsuraBook().get());
+        assertEquals(original, read);
+        assertEquals(List.copyOf(client.getPolicies().get(0).getClaims()),
+                List.copyOf(read.getClient(client.getClientId()).getPolicies().get(0).getClaims()));
+    }
+
+    @Test
+    public void readInsuraBook_damagedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("insurabook.bin");
+        BinaryInsuraBookStorage storage = new BinaryInsuraBookStorage(filePath);
+        storage.saveInsuraBook(getBookWithClaims());
+        byte[] bytes = Files.readAllBytes(filePath);
+
+        // a flipped byte
+        byte[] damaged = bytes.clone();
+        damaged[damaged.length / 2] ^= 1;
+        Files.write(filePath, damaged);
+        assertThrows(DataLoadingException.class, storage::readInsuraBook);
+
+        // cut short
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length / 2));
+        assertThrows(DataLoadingException.class, storage::readInsuraBook);
+
+        // not a snapshot at all
+        Files.writeString(filePath, "{ \"clients\": [] }");
+        assertThrows(DataLoadingException.class, storage::readInsuraBook);
+    }
+
+    /**
+     * Returns the typical book with claims whose amounts are written in the different ways the binary format has to
+     * keep apart.
+     */
+    private static InsuraBook getBookWithClaims() {
+        InsuraBook insuraBook = getTypicalInsuraBookWithClaims();
+        for (String amount : new String[] {"0100.5", "100", "12345678901234567890.25"}) {
+            insuraBook.addClaim(ALICE.getClientId(), ALICE_POLICY_ID, new ClaimAmount(amount),
+                    new InsuraDate("2026-01-01"), new ClaimMessage("Claim of " + amount));
+        }
+        return insuraBook;
+    }
+}
@@ -0,0 +1,237 @@
+package insurabook.storage;
+
+import static insurabook.testutil.Assert.assertThrows;
+import static insurabook.testutil.TypicalClients.ALICE;
+import static insurabook.testutil.TypicalClients.BENSON;
+import static insurabook.testutil.TypicalClients.CARL;
+import static insurabook.testutil.TypicalClients.HOON;
+import static insurabook.testutil.TypicalClients.getTypicalInsuraBook;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import insurabook.commons.exceptions.DataLoadingException;
+import insurabook.model.InsuraBook;
+import insurabook.model.ReadOnlyInsuraBook;
+import insurabook.model.claims.Claim;
+import insurabook.model.claims.ClaimAmount;
+import insurabook.model.claims.ClaimMessage;
+import insurabook.model.claims.InsuraDate;
+import insurabook.model.client.Client;
+import insurabook.model.policies.PolicyId;
+import insurabook.model.policytype.PolicyType;
+import insurabook.testutil.PersonBuilder;
+import insurabook.testutil.PolicyTypeBuilder;
+
+public class JournaledInsuraBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void saveInsuraBookChanges_appendsToJournalOnly() throws Exception {
+        Path filePath = testFolder.resolve("TempInsuraBook.json");
+        InsuraBook original = getTypicalInsuraBook();
+        JournaledInsuraBookStorage storage = new JournaledInsuraBookStorage(filePath);
+        storage.saveInsuraBook(original);
+        original.takeUnsavedChanges();
+        String snapshot = Files.readString(filePath);
+
+        original.addClient(HOON);
+        storage.saveInsuraBookChanges(original, original.takeUnsavedChanges());
+        original.removeClient(ALICE);
+        storage.saveInsuraBookChanges(original, original.takeUnsavedChanges());
+
+        assertEquals(snapshot, Files.readString(filePath));
+        Path journalPath = JournaledInsuraBookStorage.getJournalFilePath(filePath);
+        assertEquals(2, Files.readAllLines(journalPath).size());
+        assertSameData(original, new JournaledInsuraBookStorage(filePath).readInsuraBook().get());
+    }
+
+    @Test
+    public void readInsuraBook_replaysEveryKindOfChange() throws Exception {
+        Path filePath = testFolder.resolve("TempInsuraBook.json");
+        InsuraBook original = getTypicalInsuraBook();
+        JournaledInsuraBookStorage storage = new JournaledInsuraBookStorage(filePath);
+        storage.saveInsuraBook(original);
+        original.takeUnsavedChanges();
+
+        PolicyType policyType = new PolicyTypeBuilder().build();
+        original.addPolicyType(policyType);
+        original.addPolicy(new PolicyId("P101"), ALICE.getClientId(), policyType.getPtId(),
+                new InsuraDate("2030-01-01"));
+        Claim claim = original.addClaim(ALICE.getClientId(), new PolicyId("P101"), new ClaimAmount("100"),
+                new InsuraDate("2026-01-01"), new ClaimMessage("First claim"));
+        original.setClient(BENSON, new PersonBuilder(BENSON).withName("Benson Tan").build());
+        original.setPolicyType(policyType, new PolicyTypeBuilder(policyType).withName("Renamed").build());
+        // undoing a removal puts the client back where it was
+        original.takeRecordedChanges();
+        original.removeClient(CARL);
+        original.revert(original.takeRecordedChanges());
+        storage.saveInsuraBookChanges(original, original.takeUnsavedChanges());
+
+        ReadOnlyInsuraBook readBack = new JournaledInsuraBookStorage(filePath).readInsuraBook().get();
+        assertSameData(original, readBack);
+        InsuraBook readBackBook = new InsuraBook(readBack);
+        assertEquals(claim, readBackBook.getClaim(ALICE.getClientId(), new PolicyId("P101"), claim.getClaimId()));
+        assertEquals("Benson Tan", readBackBook.getClient(BENSON.getClientId()).getName().toString());
+
+        original.deletePolicyType(new PolicyTypeBuilder(policyType).withName("Renamed").build().getPtName(),
+                policyType.getPtId());
+        storage.saveInsuraBookChanges(original, original.takeUnsavedChanges());
+        readBack = new JournaledInsuraBookStorage(filePath).readInsuraBook().get();
+        assertSameData(original, readBack);
+        assertTrue(readBack.getClientPolicyList().isEmpty());
+    }
+
+    @Test
+    public void saveInsuraBookChanges_listReplaced_savesSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("TempInsuraBook.json");
+        InsuraBook original = getTypicalInsuraBook();
+        JournaledInsuraBookStorage storage = new JournaledInsuraBookStorage(filePath);
+        storage.saveInsuraBook(original);
+        original.takeUnsavedChanges();
+
+        original.addClient(HOON);
+        storage.saveInsuraBookChanges(original, original.takeUnsavedChanges());
+        original.setClients(List.of(BENSON));
+        storage.saveInsuraBookChanges(original, original.takeUnsavedChanges());
+
+        assertFalse(Files.exists(JournaledInsuraBookStorage.getJournalFilePath(filePath)));
+        assertSameData(original, new JsonInsuraBookStorage(filePath).readInsuraBook().get());
+        assertSameData(original, new JournaledInsuraBookStorage(filePath).readInsuraBook().get());
+    }
+
+    @Test
+    public void saveInsuraBookChanges_missingSnapshot_savesSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("TempInsuraBook.json");
+        InsuraBook original = getTypicalInsuraBook();
+        JournaledInsuraBookStorage storage = new JournaledInsuraBookStorage(filePath);
+
+        storage.saveInsuraBookChanges(original, original.takeUnsavedChanges());
+
+        assertFalse(Files.exists(JournaledInsuraBookStorage.getJournalFilePath(filePath)));
+        assertSameData(original, new JsonInsuraBookStorage(filePath).readInsuraBook().get());
+    }
+
+    @Test
+    public void saveInsuraBookChanges_overThreshold_compactsJournal() throws Exception {
+        Path filePath = testFolder.resolve("TempInsuraBook.json");
+        InsuraBook original = getTypicalInsuraBook();
+        JournaledInsuraBookStorage storage = new JournaledInsuraBookStorage(filePath, 1);
+        storage.saveInsuraBook(original);
+        original.takeUnsavedChanges();
+
+        original.addClient(HOON);
+        storage.saveInsuraBookChanges(original, original.takeUnsavedChanges());
+        storage.awaitCompaction();
+        original.removeClient(ALICE);
+        storage.saveInsuraBookChanges(original, original.takeUnsavedChanges());
+        storage.awaitCompaction();
+
+        // the snapshot alone now holds the data, so plain json storage reads it back
+        assertSameData(original, new JsonInsuraBookStorage(filePath).readInsuraBook().get());
+        assertEquals("", Files.readString(JournaledInsuraBookStorage.getJournalFilePath(filePath)));
+        assertSameData(original, new JournaledInsuraBookStorage(filePath).readInsuraBook().get());
+    }
+
+    @Test
+    public void saveInsuraBookChanges_compressedFileOverThreshold_compactsCompressed() throws Exception {
+        Path filePath = testFolder.resolve("TempInsuraBook.json.gz");
+        InsuraBook original = getTypicalInsuraBook();
+        JournaledInsuraBookStorage storage = new JournaledInsuraBookStorage(filePath, 1);
+        storage.saveInsuraBook(original);
+        original.takeUnsavedChanges();
+
+        original.addClient(HOON);
+        storage.saveInsuraBookChanges(original, original.takeUnsavedChanges());
+        storage.awaitCompaction();
+
+        try (InputStream in = Files.newInputStream(filePath)) {
+            assertEquals(GZIPInputStream.GZIP_MAGIC, in.read() | (in.read() << 8));
+        }
+        assertSameData(original, new JsonInsuraBookStorage(filePath).readInsuraBook().get());
+    }
+
+    @Test
+    public void readInsuraBook_recordsAlreadyInSnapshot_notReplayedAgain() throws Exception {
+        Path filePath = testFolder.resolve("TempInsuraBook.json");
+        Path journalPath = JournaledInsuraBookStorage.getJournalFilePath(filePath);
+        InsuraBook original = getTypicalInsuraBook();
+        JournaledInsuraBookStorage storage = new JournaledInsuraBookStorage(filePath);
+        storage.saveInsuraBook(original);
+        original.takeUnsavedChanges();
+
+        original.addClient(HOON);
+        storage.saveInsuraBookChanges(original, original.takeUnsavedChanges());
+        String journal = Files.readString(journalPath);
+        // as if saving the snapshot had been interrupted before the journal was emptied
+        storage.saveInsuraBook(original);
+        Files.writeString(journalPath, journal);
+
+        assertSameData(original, new JournaledInsuraBookStorage(filePath).readInsuraBook().get());
+    }
+
+    @Test
+    public void readInsuraBook_incompleteLastRecord_dropsRecord() throws Exception {
+        Path filePath = testFolder.resolve("TempInsuraBook.json");
+        Path journalPath = JournaledInsuraBookStorage.getJournalFilePath(filePath);
+        InsuraBook original = getTypicalInsuraBook();
+        JournaledInsuraBookStorage storage = new JournaledInsuraBookStorage(filePath);
+        storage.saveInsuraBook(original);
+        original.takeUnsavedChanges();
+        original.addClient(HOON);
+        storage.saveInsuraBookChanges(original, original.takeUnsavedChanges());
+        String journal = Files.readString(journalPath);
+
+        Files.writeString(journalPath, "{\"sequence\":2,\"chan", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+        JournaledInsuraBookStorage reopened = new JournaledInsuraBookStorage(filePath);
+
+        assertSameData(original, reopened.readInsuraBook().get());
+        assertEquals(journal, Files.readString(journalPath));
+
+        // later records are appended after the last complete one
+        original.removeClient(ALICE);
+        reopened.saveInsuraBookChanges(original, original.takeUnsavedChanges());
+        assertSameData(original, new JournaledInsuraBookStorage(filePath).readInsuraBook().get());
+    }
+
+    @Test
+    public void readInsuraBook_invalidRecord_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempInsuraBook.json");
+        InsuraBook original = getTypicalInsuraBook();
+        new JournaledInsuraBookStorage(filePath).saveInsuraBook(original);
+
+        Files.writeString(JournaledInsuraBookStorage.getJournalFilePath(filePath),
+                "{\"sequence\":1,\"changes\":[{\"kind\":\"CLIENT_REMOVED\",\"targetId\":\"404\"}]}\n");
+
+        assertThrows(DataLoadingException.class, () -> new JournaledInsuraBookStorage(filePath).readInsuraBook());
+    }
+
+    /**
+     * Asserts that {@code actual} holds the same clients and policy types as {@code expected}, in the same order.
+     */
+    private static void assertSameData(ReadOnlyInsuraBook expected, ReadOnlyInsuraBook actual) {
+        assertEquals(expected.getClientList(), actual.getClientList());
+        for (int i = 0; i < expected.getClientList().size(); i++) {
+            Client expectedClient = expected.getClientList().get(i);
+            Client actualClient = actual.getClientList().get(i);
+            assertEquals(expectedClient.getName(), actualClient.getName());
+            assertEquals(expectedClient.getPolicies(), actualClient.getPolicies());
+        }
+        assertEquals(expected.getPolicyTypeList(), actual.getPolicyTypeList());
+        assertEquals(expected.getPolicyTypeList().stream().map(PolicyType::getPtName).toList(),
+                actual.getPolicyTypeList().stream().map(PolicyType::getPtName).toList());
+    }
+}
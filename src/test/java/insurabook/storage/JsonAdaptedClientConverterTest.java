@@ -0,0 +1,84 @@
+package insurabook.storage;
+
+import static insurabook.testutil.Assert.assertThrows;
+import static insurabook.testutil.TypicalClients.ALICE;
+import static insurabook.testutil.TypicalClients.BENSON;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+
+import org.junit.jupiter.api.Test;
+
+import insurabook.commons.exceptions.IllegalValueException;
+import insurabook.model.InsuraBook;
+import insurabook.model.client.Client;
+import insurabook.model.client.ClientId;
+import insurabook.model.client.Name;
+import insurabook.testutil.PersonBuilder;
+
+public class JsonAdaptedClientConverterTest {
+
+    private static final int CLIENT_COUNT = JsonAdaptedClientConverter.CHUNK_SIZE * 40 + 3;
+
+    @Test
+    public void getClients_manyClients_inOrderHandedOver() throws Exception {
+        List<Client> expected = new ArrayList<>();
+        JsonAdaptedClientConverter converter = new JsonAdaptedClientConverter(new InsuraBook());
+        for (int i = 0; i < CLIENT_COUNT; i++) {
+            Client client = new PersonBuilder(ALICE).withClientId("C" + i).build();
+            expected.add(client);
+            converter.add(new JsonAdaptedClient(client));
+        }
+        assertEquals(expected, converter.getClients());
+    }
+
+    @Test
+    public void getClients_invalidClients_reportsEveryOne() {
+        JsonAdaptedClientConverter converter = new JsonAdaptedClientConverter(new InsuraBook());
+        List<String> expectedFailures = new ArrayList<>();
+        for (int i = 1; i <= CLIENT_COUNT; i++) {
+            if (i % 1000 == 0) {
+                converter.add(new JsonAdaptedClient("R@chel", "12345678", "rachel@example.com", "2000-01-01",
+                        "C" + i, List.of()));
+                expectedFailures.add(String.format(JsonAdaptedClientConverter.MESSAGE_INVALID_CLIENT, i,
+                        Name.MESSAGE_CONSTRAINTS));
+            } else if (i == CLIENT_COUNT) {
+                converter.add(new JsonAdaptedClient("Rachel", "12345678", "rachel@example.com", "2000-01-01",
+                        "-C", List.of()));
+                expectedFailures.add(String.format(JsonAdaptedClientConverter.MESSAGE_INVALID_CLIENT, i,
+                        ClientId.MESSAGE_CONSTRAINTS));
+            } else {
+                converter.add(new JsonAdaptedClient(new PersonBuilder(BENSON).withClientId("C" + i).build()));
+            }
+        }
+
+        String expectedMessage = String.format(JsonAdaptedClientConverter.MESSAGE_INVALID_CLIENTS,
+                expectedFailures.size()) + "\n" + String.join("\n", expectedFailures);
+        assertThrows(IllegalValueException.class, expectedMessage, converter::getClients);
+    }
+
+    @Test
+    public void getClients_interrupted_keepsInterruptStatus() throws Exception {
+        JsonAdaptedClientConverter converter = new JsonAdaptedClientConverter(new InsuraBook());
+        for (int i = 0; i < JsonAdaptedClientConverter.CHUNK_SIZE * 4; i++) {
+            converter.add(new JsonAdaptedClient(new PersonBuilder(ALICE).withClientId("C" + i).build()));
+        }
+        Thread.currentThread().interrupt();
+        try {
+            // the pool may finish the conversion without noticing the interrupt, but must not swallow it
+            assertEquals(JsonAdaptedClientConverter.CHUNK_SIZE * 4, converter.getClients().size());
+        } catch (CancellationException e) {
+            // the conversion was abandoned rather than silently redone
+        } finally {
+            assertTrue(Thread.interrupted());
+        }
+    }
+
+    @Test
+    public void getClients_noClients_emptyList() throws Exception {
+        assertEquals(List.of(), new JsonAdaptedClientConverter(new InsuraBook()).getClients());
+    }
+}
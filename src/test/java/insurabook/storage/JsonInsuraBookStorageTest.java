@@ -7,15 +7,21 @@ import static insurabook.testutil.TypicalClients.IDA;
 import static insurabook.testutil.TypicalClients.getTypicalInsuraBook;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.zip.GZIPInputStream;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import insurabook.commons.exceptions.DataLoadingException;
+import insurabook.commons.util.JsonUtil;
 import insurabook.model.InsuraBook;
 import insurabook.model.ReadOnlyInsuraBook;
 
@@ -60,6 +66,32 @@ public class JsonInsuraBookStorageTest {
         assertThrows(DataLoadingException.class, () -> readInsuraBook("invalidAndValidClientInsuraBook.json"));
     }
 
+    @Test
+    public void readInsuraBook_nullClientEntry_throwDataLoadingException() {
+        assertThrows(DataLoadingException.class, () -> readInsuraBook("nullClientInsuraBook.json"));
+    }
+
+    @Test
+    public void readInsuraBook_truncatedFile_throwDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempInsuraBook.json");
+        JsonInsuraBookStorage jsonInsuraBookStorage = new JsonInsuraBookStorage(filePath);
+        jsonInsuraBookStorage.saveInsuraBook(getTypicalInsuraBook());
+        String json = Files.readString(filePath);
+        Files.writeString(filePath, json.substring(0, json.length() / 2));
+
+        assertThrows(DataLoadingException.class, () -> jsonInsuraBookStorage.readInsuraBook());
+    }
+
+    @Test
+    public void readInsuraBook_unknownFieldsAndListsInAnyOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempInsuraBook.json");
+        Files.writeString(filePath, "{\"policyTypes\":[],\"notes\":{\"a\":[1,{\"b\":2}]},\"clients\":[],"
+                + "\"version\":3}");
+
+        ReadOnlyInsuraBook readBack = new JsonInsuraBookStorage(filePath).readInsuraBook().get();
+        assertEquals(new InsuraBook(), new InsuraBook(readBack));
+    }
+
     @Test
     public void readAndSaveInsuraBook_allInOrder_success() throws Exception {
         Path filePath = testFolder.resolve("TempInsuraBook.json");
@@ -86,6 +118,65 @@ public class JsonInsuraBookStorageTest {
 
     }
 
+    @Test
+    public void saveInsuraBook_sameAsSerializedInsuraBook() throws Exception {
+        Path filePath = testFolder.resolve("TempInsuraBook.json");
+        InsuraBook original = getTypicalInsuraBook();
+
+        new JsonInsuraBookStorage(filePath).saveInsuraBook(original);
+
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableInsuraBook(original)), Files.readString(filePath));
+    }
+
+    @Test
+    public void saveInsuraBook_compact_writtenOnOneLine() throws Exception {
+        Path filePath = testFolder.resolve("TempInsuraBook.json");
+        InsuraBook original = getTypicalInsuraBook();
+        JsonInsuraBookStorage jsonInsuraBookStorage = new JsonInsuraBookStorage(filePath, true);
+
+        jsonInsuraBookStorage.saveInsuraBook(original);
+
+        assertEquals(JsonUtil.toCompactJsonString(new JsonSerializableInsuraBook(original)),
+                Files.readString(filePath));
+        assertEquals(original, new InsuraBook(jsonInsuraBookStorage.readInsuraBook().get()));
+        // compact data files can be read back with indentation turned on, and the other way round
+        assertEquals(original, new InsuraBook(new JsonInsuraBookStorage(filePath).readInsuraBook().get()));
+    }
+
+    @Test
+    public void saveInsuraBook_compressedFile_success() throws Exception {
+        Path filePath = testFolder.resolve("TempInsuraBook.json.gz");
+        InsuraBook original = getTypicalInsuraBook();
+        JsonInsuraBookStorage jsonInsuraBookStorage = new JsonInsuraBookStorage(filePath);
+
+        jsonInsuraBookStorage.saveInsuraBook(original);
+
+        String json = JsonUtil.toJsonString(new JsonSerializableInsuraBook(original));
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(filePath))) {
+            assertEquals(json, new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        assertTrue(Files.size(filePath) < json.length());
+        assertEquals(original, new InsuraBook(jsonInsuraBookStorage.readInsuraBook().get()));
+    }
+
+    @Test
+    public void backupInsuraBookFile_compressedFile_backupCompressed() throws Exception {
+        Path filePath = testFolder.resolve("TempInsuraBook.json.gz");
+        InsuraBook original = getTypicalInsuraBook();
+        JsonInsuraBookStorage jsonInsuraBookStorage = new JsonInsuraBookStorage(filePath);
+        jsonInsuraBookStorage.saveInsuraBook(original);
+
+        jsonInsuraBookStorage.backupInsuraBookFile();
+
+        Path backupPath;
+        try (var files = Files.list(testFolder)) {
+            backupPath = files.filter(file -> file.getFileName().toString().startsWith("insurabook-backup-"))
+                    .findFirst().get();
+        }
+        assertTrue(backupPath.getFileName().toString().endsWith(".json.gz"));
+        assertEquals(original, new InsuraBook(new JsonInsuraBookStorage(backupPath).readInsuraBook().get()));
+    }
+
     @Test
     public void saveInsuraBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveInsuraBook(null, "SomeFile.json"));
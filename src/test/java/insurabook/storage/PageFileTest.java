@@ -0,0 +1,170 @@
+package insurabook.storage;
+
+import static insurabook.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.CRC32;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class PageFileTest {
+
+    private static final int CACHE_SIZE = 4;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void commit_reopened_changesKept() throws Exception {
+        Path filePath = testFolder.resolve("pages.db");
+        int pageNumber = createFileWithPage(filePath, (byte) 1);
+        try (PageFile file = new PageFile(filePath, true, CACHE_SIZE)) {
+            assertPageFilledWith(file, pageNumber, (byte) 1);
+        }
+        assertFalse(Files.exists(PageFile.getLogFilePath(filePath)));
+    }
+
+    @Test
+    public void rollback_changesDropped() throws Exception {
+        Path filePath = testFolder.resolve("pages.db");
+        int pageNumber = createFileWithPage(filePath, (byte) 1);
+        try (PageFile file = new PageFile(filePath, true, CACHE_SIZE)) {
+            fill(file.getPageForUpdate(pageNumber), (byte) 2);
+            file.rollback();
+            assertEquals(0, file.getChangedPageCount());
+            assertPageFilledWith(file, pageNumber, (byte) 1);
+        }
+    }
+
+    @Test
+    public void open_crashAfterLog_logApplied() throws Exception {
+        Path filePath = testFolder.resolve("pages.db");
+        int pageNumber = createFileWithPage(filePath, (byte) 1);
+        writeLog(filePath, Map.of(pageNumber, filled(PageFile.PAGE_SIZE, (byte) 2)));
+        assertTrue(Files.exists(PageFile.getLogFilePath(filePath)));
+
+        try (PageFile file = new PageFile(filePath, true, CACHE_SIZE)) {
+            assertPageFilledWith(file, pageNumber, (byte) 2);
+        }
+        assertFalse(Files.exists(PageFile.getLogFilePath(filePath)));
+    }
+
+    @Test
+    public void open_crashWhileWritingPages_logApplied() throws Exception {
+        Path filePath = testFolder.resolve("pages.db");
+        int pageNumber = createFileWithPage(filePath, (byte) 1);
+        writeLog(filePath, Map.of(pageNumber, filled(PageFile.PAGE_SIZE, (byte) 2)));
+        // only the first half of the page reached the file
+        writeAt(filePath, (long) pageNumber * PageFile.PAGE_SIZE, filled(PageFile.PAGE_SIZE / 2, (byte) 2));
+
+        try (PageFile file = new PageFile(filePath, true, CACHE_SIZE)) {
+            assertPageFilledWith(file, pageNumber, (byte) 2);
+        }
+        assertFalse(Files.exists(PageFile.getLogFilePath(filePath)));
+    }
+
+    @Test
+    public void open_crashWhileWritingLog_logDropped() throws Exception {
+        Path filePath = testFolder.resolve("pages.db");
+        int pageNumber = createFileWithPage(filePath, (byte) 1);
+        writeLog(filePath, Map.of(pageNumber, filled(PageFile.PAGE_SIZE, (byte) 2)));
+        Path logPath = PageFile.getLogFilePath(filePath);
+        byte[] log = Files.readAllBytes(logPath);
+        Files.write(logPath, Arrays.copyOf(log, log.length - 1));
+
+        try (PageFile file = new PageFile(filePath, true, CACHE_SIZE)) {
+            assertPageFilledWith(file, pageNumber, (byte) 1);
+        }
+        assertFalse(Files.exists(logPath));
+    }
+
+    @Test
+    public void open_damagedLog_logDropped() throws Exception {
+        Path filePath = testFolder.resolve("pages.db");
+        int pageNumber = createFileWithPage(filePath, (byte) 1);
+        writeLog(filePath, Map.of(pageNumber, filled(PageFile.PAGE_SIZE, (byte) 2)));
+        Path logPath = PageFile.getLogFilePath(filePath);
+        byte[] log = Files.readAllBytes(logPath);
+        log[log.length / 2] ^= 1;
+        Files.write(logPath, log);
+
+        try (PageFile file = new PageFile(filePath, true, CACHE_SIZE)) {
+            assertPageFilledWith(file, pageNumber, (byte) 1);
+        }
+        assertFalse(Files.exists(logPath));
+    }
+
+    @Test
+    public void open_notPageFile_throwsIoException() throws Exception {
+        Path filePath = testFolder.resolve("pages.db");
+        Files.write(filePath, filled(PageFile.PAGE_SIZE, (byte) 1));
+        assertThrows(IOException.class, () -> new PageFile(filePath, true, CACHE_SIZE));
+    }
+
+    /**
+     * Creates a page file at {@code filePath} with one page filled with {@code value}, and returns its number.
+     */
+    private static int createFileWithPage(Path filePath, byte value) throws IOException {
+        try (PageFile file = new PageFile(filePath, true, CACHE_SIZE)) {
+            int pageNumber = file.allocatePage();
+            fill(file.getPageForUpdate(pageNumber), value);
+            file.commit();
+            return pageNumber;
+        }
+    }
+
+    /**
+     * Writes a log next to the page file at {@code filePath} holding {@code pages} by page number, as a commit cut
+     * off right after forcing its log would leave it.
+     */
+    static void writeLog(Path filePath, Map<Integer, byte[]> pages) throws IOException {
+        ByteBuffer log = ByteBuffer.allocate(
+                2 * Integer.BYTES + pages.size() * (Integer.BYTES + PageFile.PAGE_SIZE) + Integer.BYTES);
+        log.putInt(PageFile.LOG_MAGIC).putInt(pages.size());
+        for (Map.Entry<Integer, byte[]> page : new TreeMap<>(pages).entrySet()) {
+            log.putInt(page.getKey()).put(page.getValue());
+        }
+        CRC32 crc = new CRC32();
+        crc.update(log.array(), 0, log.position());
+        log.putInt((int) crc.getValue());
+        Files.write(PageFile.getLogFilePath(filePath), log.array());
+    }
+
+    private static void assertPageFilledWith(PageFile file, int pageNumber, byte value) throws IOException {
+        byte[] content = new byte[PageFile.PAGE_SIZE];
+        file.getPage(pageNumber).get(0, content);
+        assertTrue(Arrays.equals(filled(PageFile.PAGE_SIZE, value), content),
+                "Page " + pageNumber + " is not filled with " + value);
+    }
+
+    private static void fill(ByteBuffer page, byte value) {
+        page.put(0, filled(PageFile.PAGE_SIZE, value));
+    }
+
+    private static byte[] filled(int length, byte value) {
+        byte[] bytes = new byte[length];
+        Arrays.fill(bytes, value);
+        return bytes;
+    }
+
+    private static void writeAt(Path filePath, long position, byte[] bytes) throws IOException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer, position + buffer.position());
+            }
+        }
+    }
+}
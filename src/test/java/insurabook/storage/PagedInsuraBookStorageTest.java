@@ -0,0 +1,224 @@
+package insurabook.storage;
+
+import static insurabook.testutil.Assert.assertThrows;
+import static insurabook.testutil.TypicalClaims.getTypicalInsuraBookWithClaims;
+import static insurabook.testutil.TypicalClients.ALICE;
+import static insurabook.testutil.TypicalClients.BENSON;
+import static insurabook.testutil.TypicalClients.HOON;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import insurabook.commons.exceptions.DataLoadingException;
+import insurabook.model.InsuraBook;
+import insurabook.model.claims.ClaimAmount;
+import insurabook.model.claims.ClaimMessage;
+import insurabook.model.claims.InsuraDate;
+import insurabook.model.client.ClientId;
+import insurabook.model.policies.PolicyId;
+import insurabook.testutil.PersonBuilder;
+
+public class PagedInsuraBookStorageTest {
+
+    // small enough that the larger books below do not fit in the cache
+    private static final int CACHE_SIZE = 8;
+    private static final int MANY_CLIENTS = 3000;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getPagedFilePath() {
+        assertEquals(Paths.get("data", "insurabook.db"),
+                PagedInsuraBookStorage.getPagedFilePath(Paths.get("data", "insurabook.json")));
+    }
+
+    @Test
+    public void readInsuraBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new PagedInsuraBookStorage(testFolder.resolve("missing.db")).readInsuraBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveInsuraBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("insurabook.db");
+        PagedInsuraBookStorage storage = new PagedInsuraBookStorage(filePath, CACHE_SIZE);
+        InsuraBook original = getTypicalInsuraBookWithClaims();
+        storage.saveInsuraBook(original);
+        assertEquals(original, new InsuraBook(storage.readInsuraBook().get()));
+
+        // many clients, which split the tree over several levels
+        addManyClients(original);
+        storage.saveInsuraBook(original);
+        assertEquals(original, new InsuraBook(new PagedInsuraBookStorage(filePath).readInsuraBook().get()));
+        assertFalse(Files.exists(PageFile.getLogFilePath(filePath)));
+    }
+
+    @Test
+    public void saveInsuraBookChanges_clientChanged_success() throws Exception {
+        Path filePath = testFolder.resolve("insurabook.db");
+        PagedInsuraBookStorage storage = new PagedInsuraBookStorage(filePath, CACHE_SIZE);
+        InsuraBook original = getTypicalInsuraBookWithClaims();
+        addManyClients(original);
+        storage.saveInsuraBook(original);
+        original.takeUnsavedChanges();
+
+        original.addClaim(ALICE.getClientId(), new PolicyId("P101"), new ClaimAmount("20"),
+                new InsuraDate("2026-02-01"), new ClaimMessage("Another claim"));
+        storage.saveInsuraBookChanges(original, original.takeUnsavedChanges());
+
+        assertEquals(original, new InsuraBook(new PagedInsuraBookStorage(filePath).readInsuraBook().get()));
+    }
+
+    @Test
+    public void saveInsuraBookChanges_clientsAddedAndRemoved_keepsOrder() throws Exception {
+        Path filePath = testFolder.resolve("insurabook.db");
+        PagedInsuraBookStorage storage = new PagedInsuraBookStorage(filePath, CACHE_SIZE);
+        InsuraBook original = getTypicalInsuraBookWithClaims();
+        storage.saveInsuraBook(original);
+        original.takeUnsavedChanges();
+
+        original.removeClient(original.getClient(BENSON.getClientId()));
+        original.addClient(0, HOON);
+        addManyClients(original);
+        storage.saveInsuraBookChanges(original, original.takeUnsavedChanges());
+        assertEquals(original, new InsuraBook(storage.readInsuraBook().get()));
+
+        for (int i = 0; i < MANY_CLIENTS; i += 2) {
+            original.removeClient(original.getClient(new ClientId("X" + i)));
+        }
+        storage.saveInsuraBookChanges(original, original.takeUnsavedChanges());
+        assertEquals(original, new InsuraBook(new PagedInsuraBookStorage(filePath).readInsuraBook().get()));
+    }
+
+    @Test
+    public void saveInsuraBookChanges_clientsAddedAtSamePosition_keepsOrder() throws Exception {
+        Path filePath = testFolder.resolve("insurabook.db");
+        PagedInsuraBookStorage storage = new PagedInsuraBookStorage(filePath, CACHE_SIZE);
+        InsuraBook original = getTypicalInsuraBookWithClaims();
+        storage.saveInsuraBook(original);
+        original.takeUnsavedChanges();
+
+        // more clients than there is room for between the keys of the first two, so the keys are spread out again
+        for (int i = 0; i < 40; i++) {
+            original.addClient(1, new PersonBuilder().withClientId("N" + i).build());
+            storage.saveInsuraBookChanges(original, original.takeUnsavedChanges());
+        }
+        assertEquals(original, new InsuraBook(new PagedInsuraBookStorage(filePath).readInsuraBook().get()));
+
+        // a client taking over the place of another by changing its id
+        original.setClient(original.getClient(new ClientId("N0")), new PersonBuilder().withClientId("M0").build());
+        original.addClient(2, HOON);
+        storage.saveInsuraBookChanges(original, original.takeUnsavedChanges());
+        assertEquals(original, new InsuraBook(new PagedInsuraBookStorage(filePath).readInsuraBook().get()));
+    }
+
+    @Test
+    public void readInsuraBook_incompleteLog_dropsLog() throws Exception {
+        Path filePath = testFolder.resolve("insurabook.db");
+        InsuraBook original = getTypicalInsuraBookWithClaims();
+        new PagedInsuraBookStorage(filePath).saveInsuraBook(original);
+
+        Files.write(PageFile.getLogFilePath(filePath), new byte[] {1, 2, 3});
+        assertEquals(original, new InsuraBook(new PagedInsuraBookStorage(filePath).readInsuraBook().get()));
+        assertFalse(Files.exists(PageFile.getLogFilePath(filePath)));
+    }
+
+    @Test
+    public void readInsuraBook_crashWhileSavingChanges_changesApplied() throws Exception {
+        Path filePath = testFolder.resolve("insurabook.db");
+        Path crashedPath = testFolder.resolve("crashed.db");
+        PagedInsuraBookStorage storage = new PagedInsuraBookStorage(filePath, CACHE_SIZE);
+        InsuraBook original = getTypicalInsuraBookWithClaims();
+        storage.saveInsuraBook(original);
+        original.takeUnsavedChanges();
+        Files.copy(filePath, crashedPath);
+
+        original.addClaim(ALICE.getClientId(), new PolicyId("P101"), new ClaimAmount("20"),
+                new InsuraDate("2026-02-01"), new ClaimMessage("Another claim"));
+        original.removeClient(original.getClient(BENSON.getClientId()));
+        storage.saveInsuraBookChanges(original, original.takeUnsavedChanges());
+        logLastCommit(crashedPath, filePath);
+        tearFirstChangedPage(crashedPath, filePath);
+
+        assertEquals(original, new InsuraBook(new PagedInsuraBookStorage(crashedPath).readInsuraBook().get()));
+        assertFalse(Files.exists(PageFile.getLogFilePath(crashedPath)));
+    }
+
+    @Test
+    public void readInsuraBook_crashWhileLoggingChanges_changesDropped() throws Exception {
+        Path filePath = testFolder.resolve("insurabook.db");
+        Path crashedPath = testFolder.resolve("crashed.db");
+        PagedInsuraBookStorage storage = new PagedInsuraBookStorage(filePath, CACHE_SIZE);
+        InsuraBook original = getTypicalInsuraBookWithClaims();
+        storage.saveInsuraBook(original);
+        original.takeUnsavedChanges();
+        Files.copy(filePath, crashedPath);
+        InsuraBook saved = new InsuraBook(original);
+
+        original.removeClient(original.getClient(BENSON.getClientId()));
+        storage.saveInsuraBookChanges(original, original.takeUnsavedChanges());
+        logLastCommit(crashedPath, filePath);
+        Path logPath = PageFile.getLogFilePath(crashedPath);
+        Files.write(logPath, Arrays.copyOf(Files.readAllBytes(logPath), PageFile.PAGE_SIZE));
+
+        assertEquals(saved, new InsuraBook(new PagedInsuraBookStorage(crashedPath).readInsuraBook().get()));
+        assertFalse(Files.exists(logPath));
+    }
+
+    @Test
+    public void readInsuraBook_notPageFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("insurabook.db");
+        Files.writeString(filePath, "not a page file");
+        assertThrows(DataLoadingException.class, () -> new PagedInsuraBookStorage(filePath).readInsuraBook());
+    }
+
+    private static void addManyClients(InsuraBook insuraBook) {
+        for (int i = 0; i < MANY_CLIENTS; i++) {
+            insuraBook.addClient(new PersonBuilder().withClientId("X" + i).withName("Client " + i).build());
+        }
+    }
+
+    /**
+     * Logs the pages that differ between {@code crashedPath}, a copy of the page file at {@code filePath} from
+     * before its last commit, and that file next to the copy, as if the commit was cut off right after its log.
+     */
+    private static void logLastCommit(Path crashedPath, Path filePath) throws IOException {
+        byte[] oldPages = Files.readAllBytes(crashedPath);
+        byte[] pages = Files.readAllBytes(filePath);
+        Map<Integer, byte[]> changedPages = new HashMap<>();
+        for (int position = 0; position < pages.length; position += PageFile.PAGE_SIZE) {
+            if (position >= oldPages.length || !Arrays.equals(oldPages, position, position + PageFile.PAGE_SIZE,
+                    pages, position, position + PageFile.PAGE_SIZE)) {
+                changedPages.put(position / PageFile.PAGE_SIZE,
+                        Arrays.copyOfRange(pages, position, position + PageFile.PAGE_SIZE));
+            }
+        }
+        PageFileTest.writeLog(crashedPath, changedPages);
+    }
+
+    /**
+     * Writes the first half of the first page that differs between {@code crashedPath} and {@code filePath} from the
+     * latter to the former, as a commit cut off while writing its pages in place would.
+     */
+    private static void tearFirstChangedPage(Path crashedPath, Path filePath) throws IOException {
+        byte[] oldPages = Files.readAllBytes(crashedPath);
+        byte[] pages = Files.readAllBytes(filePath);
+        int position = 0;
+        while (Arrays.equals(oldPages, position, position + PageFile.PAGE_SIZE,
+                pages, position, position + PageFile.PAGE_SIZE)) {
+            position += PageFile.PAGE_SIZE;
+        }
+        System.arraycopy(pages, position, oldPages, position, PageFile.PAGE_SIZE / 2);
+        Files.write(crashedPath, oldPages);
+    }
+}
@@ -0,0 +1,171 @@
+package insurabook.storage;
+
+import static insurabook.testutil.Assert.assertThrows;
+import static insurabook.testutil.TypicalClaims.getTypicalInsuraBookWithClaims;
+import static insurabook.testutil.TypicalClients.ALICE;
+import static insurabook.testutil.TypicalClients.BENSON;
+import static insurabook.testutil.TypicalClients.HOON;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import insurabook.commons.exceptions.DataLoadingException;
+import insurabook.model.InsuraBook;
+import insurabook.model.claims.ClaimAmount;
+import insurabook.model.claims.ClaimMessage;
+import insurabook.model.claims.InsuraDate;
+import insurabook.model.client.Client;
+import insurabook.model.policies.PolicyId;
+import insurabook.testutil.PersonBuilder;
+
+public class SegmentedInsuraBookStorageTest {
+
+    private static final int SEGMENT_COUNT = 4;
+    private static final FileTime UNTOUCHED = FileTime.fromMillis(0);
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getSegmentedDirectoryPath() {
+        assertEquals(Paths.get("data", "insurabook-segments"),
+                SegmentedInsuraBookStorage.getSegmentedDirectoryPath(Paths.get("data", "insurabook.json")));
+    }
+
+    @Test
+    public void readInsuraBook_missingDirectory_emptyResult() throws Exception {
+        assertFalse(new SegmentedInsuraBookStorage(testFolder.resolve("missing")).readInsuraBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveInsuraBook_allInOrder_success() throws Exception {
+        SegmentedInsuraBookStorage storage = new SegmentedInsuraBookStorage(testFolder, SEGMENT_COUNT);
+        InsuraBook original = getTypicalInsuraBookWithClaims();
+        storage.saveInsuraBook(original);
+        assertEquals(original, new InsuraBook(storage.readInsuraBook().get()));
+
+        // fewer segments, the unused ones are removed
+        new SegmentedInsuraBookStorage(testFolder, 1).saveInsuraBook(original);
+        assertFalse(Files.exists(SegmentedInsuraBookStorage.getSegmentFilePath(testFolder, 1)));
+        assertEquals(original, new InsuraBook(storage.readInsuraBook().get()));
+    }
+
+    @Test
+    public void readAndSaveInsuraBook_severalWorkers_success() throws Exception {
+        SegmentedInsuraBookStorage storage = new SegmentedInsuraBookStorage(testFolder, SEGMENT_COUNT, 3);
+        InsuraBook original = getTypicalInsuraBookWithClaims();
+        storage.saveInsuraBook(original);
+        assertEquals(original, new InsuraBook(storage.readInsuraBook().get()));
+
+        Files.writeString(SegmentedInsuraBookStorage.getSegmentFilePath(testFolder, 2), "{ \"clients\": [ null ] }");
+        assertThrows(DataLoadingException.class, storage::readInsuraBook);
+    }
+
+    @Test
+    public void saveInsuraBookChanges_clientChanged_rewritesItsSegmentOnly() throws Exception {
+        SegmentedInsuraBookStorage storage = new SegmentedInsuraBookStorage(testFolder, SEGMENT_COUNT);
+        InsuraBook original = getTypicalInsuraBookWithClaims();
+        storage.saveInsuraBook(original);
+        original.takeUnsavedChanges();
+        markAllFilesUntouched();
+
+        original.addClaim(ALICE.getClientId(), new PolicyId("P101"), new ClaimAmount("20"),
+                new InsuraDate("2026-02-01"), new ClaimMessage("Another claim"));
+        storage.saveInsuraBookChanges(original, original.takeUnsavedChanges());
+
+        int aliceSegment = SegmentedInsuraBookStorage.getSegment(ALICE.getClientId(), SEGMENT_COUNT);
+        assertEquals(List.of(SegmentedInsuraBookStorage.getSegmentFilePath(testFolder, aliceSegment)),
+                getTouchedFiles());
+        assertEquals(original, new InsuraBook(storage.readInsuraBook().get()));
+    }
+
+    @Test
+    public void saveInsuraBookChanges_clientAddedAndRemoved_rewritesTheirSegmentsOnly() throws Exception {
+        SegmentedInsuraBookStorage storage = new SegmentedInsuraBookStorage(testFolder, SEGMENT_COUNT);
+        InsuraBook original = getTypicalInsuraBookWithClaims();
+        storage.saveInsuraBook(original);
+        original.takeUnsavedChanges();
+        markAllFilesUntouched();
+
+        original.removeClient(original.getClient(BENSON.getClientId()));
+        original.addClient(1, HOON);
+        storage.saveInsuraBookChanges(original, original.takeUnsavedChanges());
+
+        Set<Path> expectedFiles = new HashSet<>();
+        for (Client client : List.of(BENSON, HOON)) {
+            int segment = SegmentedInsuraBookStorage.getSegment(client.getClientId(), SEGMENT_COUNT);
+            expectedFiles.add(SegmentedInsuraBookStorage.getSegmentFilePath(testFolder, segment));
+        }
+        assertEquals(expectedFiles, new HashSet<>(getTouchedFiles()));
+        assertEquals(original, new InsuraBook(storage.readInsuraBook().get()));
+    }
+
+    @Test
+    public void saveInsuraBookChanges_clientsAddedAtSamePosition_keepsOrder() throws Exception {
+        SegmentedInsuraBookStorage storage = new SegmentedInsuraBookStorage(testFolder, SEGMENT_COUNT);
+        InsuraBook original = getTypicalInsuraBookWithClaims();
+        storage.saveInsuraBook(original);
+        original.takeUnsavedChanges();
+
+        // more clients than there is room for between the keys of the first two, so the keys are spread out again
+        for (int i = 0; i < 40; i++) {
+            original.addClient(1, new PersonBuilder().withClientId("N" + i).build());
+            storage.saveInsuraBookChanges(original, original.takeUnsavedChanges());
+        }
+        assertEquals(original, new InsuraBook(storage.readInsuraBook().get()));
+
+        // a storage that reads the directory picks up the keys where the last one left off
+        SegmentedInsuraBookStorage reopened = new SegmentedInsuraBookStorage(testFolder, SEGMENT_COUNT);
+        reopened.readInsuraBook();
+        original.addClient(2, HOON);
+        reopened.saveInsuraBookChanges(original, original.takeUnsavedChanges());
+        assertEquals(original, new InsuraBook(storage.readInsuraBook().get()));
+    }
+
+    @Test
+    public void readInsuraBook_invalidSegment_throwsDataLoadingException() throws Exception {
+        SegmentedInsuraBookStorage storage = new SegmentedInsuraBookStorage(testFolder, SEGMENT_COUNT);
+        storage.saveInsuraBook(getTypicalInsuraBookWithClaims());
+        Files.writeString(SegmentedInsuraBookStorage.getSegmentFilePath(testFolder, 0), "{ \"clients\": [ null ] }");
+        assertThrows(DataLoadingException.class, storage::readInsuraBook);
+
+        // every client needs an order key
+        Files.writeString(SegmentedInsuraBookStorage.getSegmentFilePath(testFolder, 0),
+                "{ \"clients\": [], \"orderKeys\": [ 1 ] }");
+        assertThrows(DataLoadingException.class, storage::readInsuraBook);
+
+        Files.delete(SegmentedInsuraBookStorage.getSegmentFilePath(testFolder, 0));
+        assertThrows(DataLoadingException.class, storage::readInsuraBook);
+    }
+
+    private void markAllFilesUntouched() throws Exception {
+        try (var files = Files.list(testFolder)) {
+            for (Path file : files.toList()) {
+                Files.setLastModifiedTime(file, UNTOUCHED);
+            }
+        }
+    }
+
+    private List<Path> getTouchedFiles() throws Exception {
+        List<Path> touchedFiles = new ArrayList<>();
+        try (var files = Files.list(testFolder)) {
+            for (Path file : files.toList()) {
+                if (!Files.getLastModifiedTime(file).equals(UNTOUCHED)) {
+                    touchedFiles.add(file);
+                }
+            }
+        }
+        return touchedFiles;
+    }
+}
@@ -0,0 +1,186 @@
+package insurabook.storage;
+
+import static insurabook.testutil.Assert.assertThrows;
+import static insurabook.testutil.TypicalClaims.getTypicalInsuraBookWithClaims;
+import static insurabook.testutil.TypicalClients.ALICE;
+import static insurabook.testutil.TypicalClients.BENSON;
+import static insurabook.testutil.TypicalClients.CARL;
+import static insurabook.testutil.TypicalClients.HOON;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import insurabook.commons.exceptions.DataLoadingException;
+import insurabook.model.InsuraBook;
+import insurabook.model.claims.Claim;
+import insurabook.model.claims.ClaimAmount;
+import insurabook.model.claims.ClaimMessage;
+import insurabook.model.claims.InsuraDate;
+import insurabook.model.client.ClientId;
+import insurabook.model.policies.Policy;
+import insurabook.model.policies.PolicyId;
+import insurabook.model.policytype.PolicyTypeId;
+import insurabook.testutil.PersonBuilder;
+import insurabook.testutil.PolicyTypeBuilder;
+
+public class SqlInsuraBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getSqlFilePath() {
+        assertEquals(Paths.get("data", "insurabook.mv.db"),
+                SqlInsuraBookStorage.getSqlFilePath(Paths.get("data", "insurabook.json")));
+    }
+
+    @Test
+    public void getJdbcUrl() {
+        Path filePath = testFolder.resolve("insurabook.mv.db");
+        assertEquals("jdbc:h2:file:" + testFolder.resolve("insurabook").toAbsolutePath(),
+                SqlInsuraBookStorage.getJdbcUrl(filePath));
+    }
+
+    @Test
+    public void readInsuraBook_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("missing.mv.db");
+        assertFalse(new SqlInsuraBookStorage(filePath).readInsuraBook().isPresent());
+        assertFalse(Files.exists(filePath));
+    }
+
+    @Test
+    public void readAndSaveInsuraBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("insurabook.mv.db");
+        SqlInsuraBookStorage storage = new SqlInsuraBookStorage(filePath);
+        InsuraBook original = getTypicalInsuraBookWithClaims();
+        storage.saveInsuraBook(original);
+        assertEquals(original, new InsuraBook(storage.readInsuraBook().get()));
+
+        // saving again replaces all the rows
+        original.removeClient(original.getClient(BENSON.getClientId()));
+        storage.saveInsuraBook(original);
+        assertEquals(original, new InsuraBook(storage.readInsuraBook().get()));
+
+        // a different file
+        Path otherFilePath = testFolder.resolve("other.mv.db");
+        storage.saveInsuraBook(original, otherFilePath);
+        assertEquals(original, new InsuraBook(storage.readInsuraBook(otherFilePath).get()));
+    }
+
+    @Test
+    public void saveInsuraBookChanges_clientsChanged_success() throws Exception {
+        SqlInsuraBookStorage storage = new SqlInsuraBookStorage(testFolder.resolve("insurabook.mv.db"));
+        InsuraBook original = getTypicalInsuraBookWithClaims();
+        storage.saveInsuraBook(original);
+        original.takeUnsavedChanges();
+
+        original.addClaim(ALICE.getClientId(), new PolicyId("P101"), new ClaimAmount("20"),
+                new InsuraDate("2026-02-01"), new ClaimMessage("Another claim"));
+        original.removeClient(original.getClient(BENSON.getClientId()));
+        original.addClient(0, HOON);
+        original.setClient(original.getClient(CARL.getClientId()),
+                new PersonBuilder(CARL).withClientId("C30").build());
+        original.addPolicyType(new PolicyTypeBuilder().withId("PT2").withName("Other").build());
+        storage.saveInsuraBookChanges(original, original.takeUnsavedChanges());
+
+        assertEquals(original, new InsuraBook(storage.readInsuraBook().get()));
+    }
+
+    @Test
+    public void saveInsuraBookChanges_clientsAddedAtSamePosition_keepsOrder() throws Exception {
+        Path filePath = testFolder.resolve("insurabook.mv.db");
+        SqlInsuraBookStorage storage = new SqlInsuraBookStorage(filePath);
+        InsuraBook original = getTypicalInsuraBookWithClaims();
+        storage.saveInsuraBook(original);
+        original.takeUnsavedChanges();
+
+        // more clients than there is room for between the keys of the first two, so the keys are spread out again
+        for (int i = 0; i < 40; i++) {
+            original.addClient(1, new PersonBuilder().withClientId("N" + i).build());
+            storage.saveInsuraBookChanges(original, original.takeUnsavedChanges());
+        }
+        assertEquals(original, new InsuraBook(storage.readInsuraBook().get()));
+
+        // a client taking over the place of another by changing its id
+        original.setClient(original.getClient(new ClientId("N0")), new PersonBuilder().withClientId("M0").build());
+        original.addClient(2, HOON);
+        storage.saveInsuraBookChanges(original, original.takeUnsavedChanges());
+        assertEquals(original, new InsuraBook(storage.readInsuraBook().get()));
+    }
+
+    @Test
+    public void readAndSaveInsuraBook_samePolicyIdForTwoClients_success() throws Exception {
+        SqlInsuraBookStorage storage = new SqlInsuraBookStorage(testFolder.resolve("insurabook.mv.db"));
+        InsuraBook original = getTypicalInsuraBookWithClaims();
+        original.addPolicy(new PolicyId("P101"), BENSON.getClientId(), new PolicyTypeId(PolicyTypeBuilder.DEFAULT_ID),
+                new InsuraDate("2031-01-01"));
+        original.addClaim(BENSON.getClientId(), new PolicyId("P101"), new ClaimAmount("30"),
+                new InsuraDate("2026-03-01"), new ClaimMessage("Benson's claim"));
+        storage.saveInsuraBook(original);
+        original.takeUnsavedChanges();
+        assertEquals(original, new InsuraBook(storage.readInsuraBook().get()));
+        assertEquals(original.getClient(ALICE.getClientId()).getPolicies(),
+                new InsuraBook(storage.readInsuraBook().get()).getClient(ALICE.getClientId()).getPolicies());
+
+        // removing one of the policies leaves the other and its claims alone
+        original.removePolicy(BENSON.getClientId(), new PolicyId("P101"));
+        storage.saveInsuraBookChanges(original, original.takeUnsavedChanges());
+        InsuraBook read = new InsuraBook(storage.readInsuraBook().get());
+        assertEquals(original, read);
+        assertEquals(1, read.getClient(ALICE.getClientId()).getPolicies().get(0).getClaims().size());
+        assertTrue(read.getClient(BENSON.getClientId()).getPolicies().isEmpty());
+    }
+
+    @Test
+    public void readClaimsOver_success() throws Exception {
+        SqlInsuraBookStorage storage = new SqlInsuraBookStorage(testFolder.resolve("insurabook.mv.db"));
+        assertFalse(storage.readClaimsOver(BigDecimal.ONE).isPresent());
+
+        InsuraBook original = getTypicalInsuraBookWithClaims();
+        original.addClaim(ALICE.getClientId(), new PolicyId("P101"), new ClaimAmount("20"),
+                new InsuraDate("2026-02-01"), new ClaimMessage("Another claim"));
+        storage.saveInsuraBook(original);
+
+        List<Claim> claims = storage.readClaimsOver(new BigDecimal("50")).get();
+        assertEquals(1, claims.size());
+        assertEquals(new ClaimAmount("100.50"), claims.get(0).getAmount());
+        assertEquals(2, storage.readClaimsOver(BigDecimal.ONE).get().size());
+        assertEquals(1, storage.readClaimsOver(new BigDecimal("100.49")).get().size());
+        assertTrue(storage.readClaimsOver(new BigDecimal("100.50")).get().isEmpty());
+    }
+
+    @Test
+    public void readPoliciesOfType_success() throws Exception {
+        SqlInsuraBookStorage storage = new SqlInsuraBookStorage(testFolder.resolve("insurabook.mv.db"));
+        assertFalse(storage.readPoliciesOfType(new PolicyTypeId(PolicyTypeBuilder.DEFAULT_ID)).isPresent());
+
+        InsuraBook original = getTypicalInsuraBookWithClaims();
+        original.addPolicy(new PolicyId("P101"), BENSON.getClientId(), new PolicyTypeId(PolicyTypeBuilder.DEFAULT_ID),
+                new InsuraDate("2031-01-01"));
+        storage.saveInsuraBook(original);
+
+        List<Policy> policies = storage.readPoliciesOfType(new PolicyTypeId(PolicyTypeBuilder.DEFAULT_ID)).get();
+        assertEquals(2, policies.size());
+        assertEquals(ALICE.getClientId(), policies.get(0).getClientId());
+        assertEquals(1, policies.get(0).getClaims().size());
+        assertEquals(BENSON.getClientId(), policies.get(1).getClientId());
+        assertTrue(policies.get(1).getClaims().isEmpty());
+        assertTrue(storage.readPoliciesOfType(new PolicyTypeId("PT99")).get().isEmpty());
+    }
+
+    @Test
+    public void readInsuraBook_notDatabase_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("insurabook.mv.db");
+        Files.writeString(filePath, "not a database");
+        assertThrows(DataLoadingException.class, () -> new SqlInsuraBookStorage(filePath).readInsuraBook());
+    }
+}
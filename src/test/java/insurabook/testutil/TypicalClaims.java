@@ -0,0 +1,35 @@
+package insurabook.testutil;
+
+import static insurabook.testutil.TypicalClients.ALICE;
+import static insurabook.testutil.TypicalClients.BENSON;
+import static insurabook.testutil.TypicalClients.getTypicalInsuraBook;
+
+import insurabook.model.InsuraBook;
+import insurabook.model.claims.ClaimAmount;
+import insurabook.model.claims.ClaimMessage;
+import insurabook.model.claims.InsuraDate;
+import insurabook.model.policies.PolicyId;
+import insurabook.model.policytype.PolicyType;
+
+/**
+ * A utility class containing a book with policies and claims to be used in tests.
+ */
+public class TypicalClaims {
+
+    public static final PolicyId ALICE_POLICY_ID = new PolicyId("P101");
+
+    /**
+     * Returns the typical book with the default policy type, a policy of that type held by {@code ALICE} with one
+     * claim on it, and {@code BENSON} born on a leap day.
+     */
+    public static InsuraBook getTypicalInsuraBookWithClaims() {
+        InsuraBook ib = getTypicalInsuraBook();
+        PolicyType policyType = new PolicyTypeBuilder().build();
+        ib.addPolicyType(policyType);
+        ib.setClient(BENSON, new PersonBuilder(BENSON).withBirthday("1960-02-29").build());
+        ib.addPolicy(ALICE_POLICY_ID, ALICE.getClientId(), policyType.getPtId(), new InsuraDate("2030-01-01"));
+        ib.addClaim(ALICE.getClientId(), ALICE_POLICY_ID, new ClaimAmount("100.50"), new InsuraDate("2026-01-01"),
+                new ClaimMessage("Broken window"));
+        return ib;
+    }
+}